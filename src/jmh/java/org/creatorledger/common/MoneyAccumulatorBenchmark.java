@@ -0,0 +1,64 @@
+package org.creatorledger.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares summing with {@link Money#add} against {@link MoneyAccumulator}.
+ * <p>
+ * Run with {@code gradle jmh -Pjmh.includes=MoneyAccumulator}; the GC profiler
+ * reports {@code gc.alloc.rate.norm}, which should be close to zero per
+ * operation for the accumulator.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoneyAccumulatorBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private List<Money> amounts;
+
+    @Setup
+    public void setUp() {
+        amounts = IntStream.range(0, size)
+                .mapToObj(i -> Money.gbp(BigDecimal.valueOf(100 + (i * 37L) % 100_000, 2)))
+                .toList();
+    }
+
+    @Benchmark
+    public Money reduceWithAdd() {
+        return amounts.stream().reduce(Money.gbp("0.00"), Money::add);
+    }
+
+    @Benchmark
+    public Money loopWithAdd() {
+        Money total = Money.zero("GBP");
+        for (final Money amount : amounts) {
+            total = total.add(amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money accumulate() {
+        final MoneyAccumulator total = MoneyAccumulator.gbp();
+        for (final Money amount : amounts) {
+            total.add(amount);
+        }
+        return total.toMoney();
+    }
+}
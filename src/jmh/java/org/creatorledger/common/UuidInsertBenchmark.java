@@ -0,0 +1,118 @@
+package org.creatorledger.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Insert throughput into a UUID primary key, random v4 against time-ordered v7.
+ * <p>
+ * Each trial starts a Postgres container and preloads the table so its
+ * primary key no longer fits in a few pages; each invocation then inserts
+ * and commits one batch of rows. With v4 keys every batch touches pages
+ * spread across the whole index, while v7 keys append to its right-hand
+ * edge. The index size and the WAL written are printed at the end of each
+ * trial. Needs Docker; run with {@code gradle jmh -Pjmh.includes=UuidInsert}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UuidInsertBenchmark {
+
+    private static final int PRELOADED_ROWS = 1_000_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final String INSERT_SQL = "INSERT INTO uuid_keys (id, payload) VALUES (?, ?)";
+
+    public enum KeyType {
+        RANDOM_V4(UUID::randomUUID),
+        TIME_ORDERED_V7(UuidV7::generate);
+
+        private final Supplier<UUID> generator;
+
+        KeyType(final Supplier<UUID> generator) {
+            this.generator = generator;
+        }
+    }
+
+    @Param({"RANDOM_V4", "TIME_ORDERED_V7"})
+    public KeyType keyType;
+
+    private PostgreSQLContainer<?> postgres;
+    private Connection connection;
+    private PreparedStatement insert;
+    private String walStart;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE uuid_keys (id UUID PRIMARY KEY, payload TEXT NOT NULL)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement(INSERT_SQL);
+        for (int i = 0; i < PRELOADED_ROWS / BATCH_SIZE; i++) {
+            insertBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(true);
+            statement.execute("VACUUM ANALYZE uuid_keys");
+            connection.setAutoCommit(false);
+            walStart = queryForString(statement, "SELECT pg_current_wal_lsn()::TEXT");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            System.out.printf("%n%s: primary key %s, WAL written %s%n",
+                    keyType,
+                    queryForString(statement, "SELECT pg_size_pretty(pg_relation_size('uuid_keys_pkey'))"),
+                    queryForString(statement, "SELECT pg_size_pretty(pg_current_wal_lsn() - '" + walStart + "'::pg_lsn)"));
+        } finally {
+            insert.close();
+            connection.close();
+            postgres.stop();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, keyType.generator.get());
+            insert.setString(2, "row");
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    private static String queryForString(final Statement statement, final String sql) throws SQLException {
+        try (ResultSet result = statement.executeQuery(sql)) {
+            result.next();
+            return result.getString(1);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.creatorledger.income.infrastructure;
+
+import org.creatorledger.income.api.IncomeData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Per-row cost of turning query results into {@link IncomeData}.
+ * <p>
+ * {@code entityToDomainToData} is the old path (entity, then domain
+ * {@code Income} with its validation and status transitions, then the DTO);
+ * {@code rowToData} is the projection path. Hibernate's own savings from not
+ * managing or dirty-checking entities come on top of this and are not
+ * measured here. Run with {@code gradle jmh -Pjmh.includes=IncomeReadPath}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IncomeReadPathBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    private List<IncomeJpaEntity> entities;
+    private List<IncomeDataRow> rows;
+
+    @Setup
+    public void setUp() {
+        final String[] statuses = {"PENDING", "PAID", "OVERDUE", "CANCELLED"};
+        final UUID userId = UUID.randomUUID();
+        rows = IntStream.range(0, ROWS)
+                .mapToObj(i -> new IncomeDataRow(
+                        UUID.randomUUID(),
+                        userId,
+                        UUID.randomUUID(),
+                        BigDecimal.valueOf(10_000 + i, 2),
+                        "GBP",
+                        "Gig " + i,
+                        LocalDate.of(2025, 4, 6).plusDays(i % 365),
+                        statuses[i % statuses.length]
+                ))
+                .toList();
+        entities = rows.stream()
+                .map(row -> new IncomeJpaEntity(
+                        row.id(),
+                        row.userId(),
+                        row.eventId(),
+                        row.amount(),
+                        row.currency(),
+                        row.description(),
+                        row.receivedDate(),
+                        row.status()
+                ))
+                .toList();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void entityToDomainToData(final Blackhole blackhole) {
+        for (final IncomeJpaEntity entity : entities) {
+            blackhole.consume(IncomeData.from(IncomeEntityMapper.toDomain(entity)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void rowToData(final Blackhole blackhole) {
+        for (final IncomeDataRow row : rows) {
+            blackhole.consume(IncomeEntityMapper.toData(row));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.creatorledger.publication.infrastructure;
+
+import org.creatorledger.common.Money;
+import org.creatorledger.event.api.EventId;
+import org.creatorledger.expense.api.ExpenseCategory;
+import org.creatorledger.income.api.IncomeId;
+import org.creatorledger.income.domain.IncomeRecorded;
+import org.creatorledger.income.infrastructure.IncomeRecordedCodec;
+import org.creatorledger.reporting.api.TaxYearSummaryId;
+import org.creatorledger.reporting.domain.CategoryTotals;
+import org.creatorledger.reporting.domain.TaxYear;
+import org.creatorledger.reporting.domain.TaxYearSummaryGenerated;
+import org.creatorledger.reporting.infrastructure.TaxYearSummaryGeneratedCodec;
+import org.creatorledger.user.api.UserId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JSON and compact binary event formats.
+ * <p>
+ * Run with {@code gradle jmh -Pjmh.includes=EventSerializer}. Setup prints the
+ * stored size of each event in each format; the GC profiler reports
+ * {@code gc.alloc.rate.norm} per operation.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventSerializerBenchmark {
+
+    public enum Event { INCOME_RECORDED, TAX_YEAR_SUMMARY_GENERATED }
+
+    @Param({"INCOME_RECORDED", "TAX_YEAR_SUMMARY_GENERATED"})
+    private Event event;
+
+    @Param({"json", "binary"})
+    private String format;
+
+    private CompactEventSerializer serializer;
+    private Object payload;
+    private Object serialized;
+
+    @Setup
+    public void setUp() {
+        serializer = new CompactEventSerializer(
+                List.of(new IncomeRecordedCodec(), new TaxYearSummaryGeneratedCodec()),
+                JsonMapper.builder().build(), format);
+        payload = switch (event) {
+            case INCOME_RECORDED -> incomeRecorded();
+            case TAX_YEAR_SUMMARY_GENERATED -> taxYearSummaryGenerated();
+        };
+        serialized = serializer.serialize(payload);
+        System.out.printf("%n%s as %s: %d bytes per event%n",
+                event, format, serialized.toString().getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Benchmark
+    public Object serialize() {
+        return serializer.serialize(payload);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(serialized, payload.getClass());
+    }
+
+    private static IncomeRecorded incomeRecorded() {
+        return new IncomeRecorded(IncomeId.generate(), UserId.generate(), EventId.generate(),
+                Money.gbp("1500.00"), "Wedding photography", LocalDate.of(2026, 10, 1), Instant.now());
+    }
+
+    private static TaxYearSummaryGenerated taxYearSummaryGenerated() {
+        final Map<ExpenseCategory, Money> totals = new EnumMap<>(ExpenseCategory.class);
+        long minorUnits = 12_345;
+        for (final ExpenseCategory category : ExpenseCategory.values()) {
+            totals.put(category, Money.gbp(BigDecimal.valueOf(minorUnits, 2)));
+            minorUnits += 67_891;
+        }
+        final CategoryTotals categoryTotals = CategoryTotals.of(totals);
+        final Money totalIncome = Money.gbp("84250.00");
+        return new TaxYearSummaryGenerated(TaxYearSummaryId.generate(), UserId.generate(), new TaxYear(2025),
+                totalIncome, categoryTotals.overallTotal(), totalIncome.subtract(categoryTotals.overallTotal()),
+                categoryTotals, Instant.now());
+    }
+}
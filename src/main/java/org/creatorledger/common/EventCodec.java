@@ -0,0 +1,37 @@
+package org.creatorledger.common;
+
+/**
+ * Writes and reads one domain event type in the compact binary event format.
+ * <p>
+ * Each module registers a codec bean for the events it publishes, and the
+ * event serializer picks the codec by event class when writing and by
+ * {@link #typeId()} when reading. Type ids are stored with every event, so an
+ * id is never changed or reused. When the fields of an event change, the
+ * codec raises {@link #schemaVersion()} and keeps reading the older versions.
+ * </p>
+ *
+ * @param <T> the event type
+ */
+public interface EventCodec<T> {
+
+    Class<T> eventType();
+
+    /**
+     * The id that identifies this event type in stored events.
+     */
+    int typeId();
+
+    /**
+     * The schema version written by {@link #write}.
+     */
+    int schemaVersion();
+
+    void write(T event, EventOutput output);
+
+    /**
+     * Reads an event written with the given schema version.
+     *
+     * @throws IllegalArgumentException if the schema version is not known
+     */
+    T read(int schemaVersion, EventInput input);
+}
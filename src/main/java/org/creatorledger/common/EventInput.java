@@ -0,0 +1,120 @@
+package org.creatorledger.common;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Reads the fields of a domain event written by {@link EventOutput}.
+ * <p>
+ * Fields must be read in the order and with the encodings they were
+ * written. Reading past the end, or an encoding that cannot be valid, throws
+ * {@link IllegalArgumentException}.
+ * </p>
+ */
+public final class EventInput {
+
+    private final byte[] buffer;
+    private int position;
+
+    public EventInput(final byte[] buffer, final int offset) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        if (offset < 0 || offset > buffer.length) {
+            throw new IllegalArgumentException("Offset out of range: " + offset);
+        }
+        this.buffer = buffer.clone();
+        this.position = offset;
+    }
+
+    public int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public int readVarInt() {
+        final long value = readUnsignedVarLong();
+        if ((value & ~0x7FFFFFFFL) != 0) {
+            throw new IllegalArgumentException("Variable-length int out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    public long readLong() {
+        final long value = readUnsignedVarLong();
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public UUID readUuid() {
+        return new UUID(readFixedLong(), readFixedLong());
+    }
+
+    public String readString() {
+        final int byteCount = readVarInt();
+        require(byteCount);
+        final String value = new String(buffer, position, byteCount, StandardCharsets.UTF_8);
+        position += byteCount;
+        return value;
+    }
+
+    public LocalDate readLocalDate() {
+        return LocalDate.ofEpochDay(readLong());
+    }
+
+    public Instant readInstant() {
+        final long seconds = readLong();
+        return Instant.ofEpochSecond(seconds, readVarInt());
+    }
+
+    public Money readMoney() {
+        return readAmount(readString());
+    }
+
+    /**
+     * Reads an amount written by {@link EventOutput#writeAmount} in the given currency.
+     */
+    public Money readAmount(final String currency) {
+        return Money.of(BigDecimal.valueOf(readLong(), Money.DECIMAL_PLACES), currency);
+    }
+
+    /**
+     * Whether every byte has been read.
+     */
+    public boolean isExhausted() {
+        return position == buffer.length;
+    }
+
+    private long readUnsignedVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            final int next = readByte();
+            value |= (long) (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Variable-length integer is too long");
+    }
+
+    private long readFixedLong() {
+        require(Long.BYTES);
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = value << 8 | buffer[position++] & 0xFF;
+        }
+        return value;
+    }
+
+    private void require(final int byteCount) {
+        if (byteCount > buffer.length - position) {
+            throw new IllegalArgumentException("Event is truncated at byte " + position);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.creatorledger.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Writes the fields of a domain event in the compact binary event format.
+ * <p>
+ * Integers are written as variable-length quantities, signed ones zigzag
+ * encoded, so small values take one or two bytes. Ids are written as their 16
+ * raw bytes and money as its currency code and a count of minor units.
+ * {@link EventInput} reads the same encodings back.
+ * </p>
+ */
+public final class EventOutput {
+
+    private byte[] buffer;
+    private int length;
+
+    public EventOutput() {
+        this(64);
+    }
+
+    public EventOutput(final int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public EventOutput writeByte(final int value) {
+        ensureCapacity(1);
+        buffer[length++] = (byte) value;
+        return this;
+    }
+
+    /**
+     * Writes a non-negative int in one to five bytes.
+     */
+    public EventOutput writeVarInt(final int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Variable-length int cannot be negative: " + value);
+        }
+        return writeUnsignedVarLong(value);
+    }
+
+    /**
+     * Writes a long of either sign, small magnitudes in few bytes.
+     */
+    public EventOutput writeLong(final long value) {
+        return writeUnsignedVarLong(value << 1 ^ value >> 63);
+    }
+
+    public EventOutput writeBoolean(final boolean value) {
+        return writeByte(value ? 1 : 0);
+    }
+
+    public EventOutput writeUuid(final UUID value) {
+        writeFixedLong(value.getMostSignificantBits());
+        return writeFixedLong(value.getLeastSignificantBits());
+    }
+
+    public EventOutput writeString(final String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+        return this;
+    }
+
+    public EventOutput writeLocalDate(final LocalDate value) {
+        return writeLong(value.toEpochDay());
+    }
+
+    public EventOutput writeInstant(final Instant value) {
+        writeLong(value.getEpochSecond());
+        return writeVarInt(value.getNano());
+    }
+
+    /**
+     * Writes money as its currency code and its amount in minor units.
+     *
+     * @throws ArithmeticException if the amount has more decimal places than {@link Money} keeps
+     */
+    public EventOutput writeMoney(final Money value) {
+        writeString(value.currency());
+        return writeAmount(value);
+    }
+
+    /**
+     * Writes only the amount of money in minor units, for events that write
+     * a currency shared by several amounts once.
+     *
+     * @throws ArithmeticException if the amount has more decimal places than {@link Money} keeps
+     */
+    public EventOutput writeAmount(final Money value) {
+        return writeLong(value.amount().movePointRight(Money.DECIMAL_PLACES).longValueExact());
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, length);
+    }
+
+    public int size() {
+        return length;
+    }
+
+    private EventOutput writeUnsignedVarLong(final long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            writeByte((int) (remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        return writeByte((int) remaining);
+    }
+
+    private EventOutput writeFixedLong(final long value) {
+        ensureCapacity(Long.BYTES);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[length++] = (byte) (value >>> shift);
+        }
+        return this;
+    }
+
+    private void ensureCapacity(final int extra) {
+        if (length + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.creatorledger.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a per-user listing ordered by a date then ID.
+ * <p>
+ * The next page starts strictly after this position, so a page is found by
+ * seeking a {@code (user_id, date, id)} index rather than skipping rows, and
+ * deep pages cost the same as the first. Clients see it as an opaque URL-safe
+ * token.
+ * </p>
+ *
+ * @param date the date of the last row on the page
+ * @param id   the ID of the last row on the page
+ */
+public record KeysetCursor(
+    LocalDate date,
+    UUID id
+) {
+
+    private static final char SEPARATOR = '|';
+
+    public KeysetCursor {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+    }
+
+    public String encode() {
+        final String value = date.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads a token produced by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the token is not a valid cursor
+     */
+    public static KeysetCursor decode(final String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Cursor cannot be null or blank");
+        }
+        try {
+            final String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final int separator = value.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            return new KeysetCursor(
+                    LocalDate.parse(value.substring(0, separator)),
+                    UUID.fromString(value.substring(separator + 1))
+            );
+        } catch (final IllegalArgumentException | DateTimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
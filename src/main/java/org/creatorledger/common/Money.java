@@ -2,11 +2,15 @@ package org.creatorledger.common;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public record Money(BigDecimal amount, String currency) {
 
-    private static final int DECIMAL_PLACES = 2;
-    private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_DOWN;
+    static final int DECIMAL_PLACES = 2;
+    static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_DOWN;
+
+    private static final Map<String, Money> ZEROS = new ConcurrentHashMap<>();
 
     public static Money gbp(final BigDecimal amount) {
         return of(amount, "GBP");
@@ -16,6 +20,27 @@ public record Money(BigDecimal amount, String currency) {
         return gbp(new BigDecimal(amount));
     }
 
+    /**
+     * Returns zero in the given currency.
+     * <p>
+     * One instance is cached per currency, so this is cheap to call as the
+     * seed of a sum or as a default value.
+     * </p>
+     *
+     * @param currency the ISO currency code
+     * @return zero in that currency
+     */
+    public static Money zero(final String currency) {
+        if (currency == null || currency.isBlank()) {
+            throw new IllegalArgumentException("Currency cannot be null or blank");
+        }
+        final Money cached = ZEROS.get(currency);
+        if (cached != null) {
+            return cached;
+        }
+        return ZEROS.computeIfAbsent(currency, key -> of(BigDecimal.ZERO, key));
+    }
+
     public static Money of(final BigDecimal amount, final String currency) {
         if (amount == null) {
             throw new IllegalArgumentException("Money amount cannot be null");
@@ -0,0 +1,122 @@
+package org.creatorledger.common;
+
+import java.math.BigDecimal;
+
+/**
+ * Mutable running total of {@link Money} held as a {@code long} count of
+ * minor units (pence for GBP).
+ * <p>
+ * Adding to an accumulator does not create intermediate {@code Money} or
+ * {@code BigDecimal} results, so it is the preferred way to sum many amounts
+ * in a loop. Convert back with {@link #toMoney()} once the sum is complete.
+ * Instances are not thread-safe.
+ * </p>
+ */
+public final class MoneyAccumulator {
+
+    private static final long MINOR_UNITS_PER_MAJOR = 100L;
+
+    private final String currency;
+    private long minorUnits;
+
+    private MoneyAccumulator(final String currency) {
+        this.currency = currency;
+    }
+
+    public static MoneyAccumulator of(final String currency) {
+        if (currency == null || currency.isBlank()) {
+            throw new IllegalArgumentException("Currency cannot be null or blank");
+        }
+        return new MoneyAccumulator(currency.toUpperCase());
+    }
+
+    public static MoneyAccumulator gbp() {
+        return of("GBP");
+    }
+
+    public MoneyAccumulator add(final Money money) {
+        if (money == null) {
+            throw new IllegalArgumentException("Money cannot be null");
+        }
+        ensureSameCurrency(money.currency());
+        return addMinorUnits(toMinorUnits(money.amount()));
+    }
+
+    public MoneyAccumulator add(final MoneyAccumulator other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Accumulator cannot be null");
+        }
+        ensureSameCurrency(other.currency);
+        return addMinorUnits(other.minorUnits);
+    }
+
+    /**
+     * Adds an amount already expressed in minor units, e.g. pence.
+     * Negative values reduce the total.
+     *
+     * @param amount the amount in minor units
+     * @return this accumulator
+     */
+    public MoneyAccumulator addMinorUnits(final long amount) {
+        minorUnits = Math.addExact(minorUnits, amount);
+        return this;
+    }
+
+    public long minorUnits() {
+        return minorUnits;
+    }
+
+    public String currency() {
+        return currency;
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    public void reset() {
+        minorUnits = 0;
+    }
+
+    /**
+     * Converts the running total to {@link Money}.
+     *
+     * @return the total
+     * @throws IllegalArgumentException if the total is negative
+     */
+    public Money toMoney() {
+        if (minorUnits == 0) {
+            return Money.zero(currency);
+        }
+        return Money.of(BigDecimal.valueOf(minorUnits, Money.DECIMAL_PLACES), currency);
+    }
+
+    /**
+     * Converts an amount to minor units, rounding as {@link Money} does.
+     *
+     * @param amount the amount in major units
+     * @return the amount in minor units
+     */
+    public static long toMinorUnits(final BigDecimal amount) {
+        final BigDecimal scaled = amount.scale() == Money.DECIMAL_PLACES
+                ? amount
+                : amount.setScale(Money.DECIMAL_PLACES, Money.ROUNDING_MODE);
+        if (scaled.precision() < 19) {
+            return scaled.unscaledValue().longValue();
+        }
+        return scaled.unscaledValue().longValueExact();
+    }
+
+    private void ensureSameCurrency(final String otherCurrency) {
+        if (!currency.equals(otherCurrency)) {
+            throw new IllegalArgumentException(
+                "Cannot perform operation on different currencies: " + currency + " and " + otherCurrency
+            );
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MoneyAccumulator[" + currency + " " + BigDecimal.valueOf(minorUnits, Money.DECIMAL_PLACES) + "]";
+    }
+}
@@ -0,0 +1,50 @@
+package org.creatorledger.common;
+
+/**
+ * Converts row versions to and from HTTP entity tags.
+ * <p>
+ * A version is sent to clients as a strong {@code ETag} such as {@code "3"},
+ * and comes back in {@code If-Match} when the client edits what it read.
+ * </p>
+ */
+public final class VersionTags {
+
+    private VersionTags() {
+    }
+
+    /**
+     * Formats a version as a strong entity tag.
+     */
+    public static String of(final long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Reads the version from an {@code If-Match} value.
+     *
+     * @param tag the header value, which may be absent
+     * @return the version, or {@code null} if the header is absent or {@code *}
+     * @throws IllegalArgumentException if the value is not a version tag
+     */
+    public static Long parse(final String tag) {
+        if (tag == null || tag.isBlank() || tag.strip().equals("*")) {
+            return null;
+        }
+        String value = tag.strip();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            final long version = Long.parseLong(value);
+            if (version < 0) {
+                throw new IllegalArgumentException("Version tag cannot be negative: " + tag);
+            }
+            return version;
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Not a version tag: " + tag, e);
+        }
+    }
+}
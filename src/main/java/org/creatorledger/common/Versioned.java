@@ -0,0 +1,24 @@
+package org.creatorledger.common;
+
+/**
+ * A value paired with the version of the row it was read from.
+ * <p>
+ * Clients send the version back with an edit, and the edit only applies if
+ * the row still has that version.
+ * </p>
+ *
+ * @param value   the value as read
+ * @param version the row version at the time of reading
+ * @param <T>     the type of the value
+ */
+public record Versioned<T>(T value, long version) {
+
+    public Versioned {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        if (version < 0) {
+            throw new IllegalArgumentException("Version cannot be negative");
+        }
+    }
+}
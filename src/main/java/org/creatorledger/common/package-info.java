@@ -5,6 +5,10 @@
  * </p>
  * <ul>
  *   <li>{@code Money} - monetary value object used across all financial domains</li>
+ *   <li>{@code UuidV7} - time-ordered identifiers for every aggregate's {@code generate()}</li>
+ *   <li>{@code EventCodec}, {@code EventOutput} and {@code EventInput} - the compact binary format for stored domain events</li>
+ *   <li>{@code Versioned} and {@code VersionTags} - row versions for optimistic updates, and their HTTP entity tags</li>
+ *   <li>{@code KeysetCursor} - the opaque position token of the keyset-paginated income and expense listings</li>
  *   <li>{@code UserId}, {@code EventId}, {@code IncomeId}, {@code ExpenseId}, {@code TaxYearSummaryId}
  *       - module identifiers for cross-module references</li>
  * </ul>
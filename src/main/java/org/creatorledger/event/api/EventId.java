@@ -1,5 +1,7 @@
 package org.creatorledger.event.api;
 
+import org.creatorledger.common.UuidV7;
+
 import java.util.UUID;
 
 /**
@@ -23,12 +25,12 @@ public record EventId(UUID value) {
     }
 
     /**
-     * Generates a new EventId with a random UUID.
+     * Generates a new EventId with a time-ordered UUID.
      *
      * @return a new EventId with a generated UUID
      */
     public static EventId generate() {
-        return new EventId(UUID.randomUUID());
+        return new EventId(UuidV7.generate());
     }
 
     @Override
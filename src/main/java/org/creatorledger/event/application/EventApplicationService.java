@@ -1,5 +1,6 @@
 package org.creatorledger.event.application;
 
+import org.creatorledger.common.Versioned;
 import org.creatorledger.event.api.EventId;
 import org.creatorledger.event.domain.ClientName;
 import org.creatorledger.event.domain.Event;
@@ -7,7 +8,9 @@ import org.creatorledger.event.domain.EventCreated;
 import org.creatorledger.event.domain.EventDate;
 import org.creatorledger.event.domain.EventUpdated;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -45,7 +48,7 @@ public class EventApplicationService {
         final ClientName clientName = ClientName.of(command.clientName());
         final Event event = Event.create(date, clientName, command.description());
 
-        eventRepository.save(event);
+        eventRepository.add(event);
 
         // Publish domain event
         final EventCreated eventCreated = EventCreated.of(
@@ -59,28 +62,57 @@ public class EventApplicationService {
         return event.id();
     }
 
-    public void update(final UpdateEventCommand command) {
+    /**
+     * Edits an event's details with one conditional UPDATE.
+     * <p>
+     * When the command carries the version the client read, the update runs
+     * without reading the event first. Otherwise the event is read to take
+     * its current version. Either way, an edit that lost a race with another
+     * edit is rejected instead of overwriting it.
+     * </p>
+     *
+     * @return the new version of the event
+     * @throws IllegalStateException             if the event does not exist
+     * @throws OptimisticLockingFailureException if the event no longer has the expected version
+     */
+    @Transactional
+    public long update(final UpdateEventCommand command) {
         if (command == null) {
             throw new IllegalArgumentException("Command cannot be null");
         }
 
-        final Event existingEvent = eventRepository.findById(command.eventId())
-            .orElseThrow(() -> new IllegalStateException("Event not found: " + command.eventId()));
-
         final EventDate date = EventDate.of(command.date());
         final ClientName clientName = ClientName.of(command.clientName());
-        final Event updatedEvent = existingEvent.update(date, clientName, command.description());
+        final long expectedVersion;
+        final String description;
+        if (command.expectedVersion() != null) {
+            expectedVersion = command.expectedVersion();
+            description = command.description().trim();
+        } else {
+            final Versioned<Event> existing = eventRepository.findVersionedById(command.eventId())
+                .orElseThrow(() -> new IllegalStateException("Event not found: " + command.eventId()));
+            expectedVersion = existing.version();
+            description = existing.value().update(date, clientName, command.description()).description();
+        }
 
-        eventRepository.save(updatedEvent);
+        final long version = eventRepository.updateIfVersion(
+            command.eventId(),
+            expectedVersion,
+            date,
+            clientName,
+            description
+        ).orElseThrow(() -> updateFailure(command.eventId(), expectedVersion));
 
         // Publish domain event
         final EventUpdated eventUpdated = EventUpdated.of(
-            updatedEvent.id(),
-            updatedEvent.date(),
-            updatedEvent.clientName(),
-            updatedEvent.description()
+            command.eventId(),
+            date,
+            clientName,
+            description
         );
         eventPublisher.publishEvent(eventUpdated);
+
+        return version;
     }
 
     public Optional<Event> findById(final EventId eventId) {
@@ -90,10 +122,25 @@ public class EventApplicationService {
         return eventRepository.findById(eventId);
     }
 
+    public Optional<Versioned<Event>> findVersionedById(final EventId eventId) {
+        if (eventId == null) {
+            throw new IllegalArgumentException("Event ID cannot be null");
+        }
+        return eventRepository.findVersionedById(eventId);
+    }
+
     public boolean existsById(final EventId eventId) {
         if (eventId == null) {
             throw new IllegalArgumentException("Event ID cannot be null");
         }
         return eventRepository.existsById(eventId);
     }
+
+    private RuntimeException updateFailure(final EventId eventId, final long expectedVersion) {
+        if (!eventRepository.existsById(eventId)) {
+            return new IllegalStateException("Event not found: " + eventId);
+        }
+        return new OptimisticLockingFailureException(
+            "Event " + eventId + " was modified concurrently; expected version " + expectedVersion);
+    }
 }
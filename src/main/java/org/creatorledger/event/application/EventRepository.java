@@ -1,6 +1,9 @@
 package org.creatorledger.event.application;
 
+import org.creatorledger.common.Versioned;
+import org.creatorledger.event.domain.ClientName;
 import org.creatorledger.event.domain.Event;
+import org.creatorledger.event.domain.EventDate;
 import org.creatorledger.event.api.EventId;
 
 import java.util.Optional;
@@ -15,8 +18,37 @@ import java.util.Optional;
  */
 public interface EventRepository {
 
+    /**
+     * Inserts a newly created event.
+     * <p>
+     * Unlike {@link #save}, this does not first check whether the event is
+     * already stored, so it costs a single INSERT. Use it only for events that
+     * have just been created.
+     * </p>
+     */
+    void add(Event event);
+
+    /**
+     * Stores changes to an existing event and increments its version,
+     * inserting it if it is not stored yet.
+     */
     Event save(Event event);
     Optional<Event> findById(EventId id);
+
+    /**
+     * Reads an event together with its current version.
+     */
+    Optional<Versioned<Event>> findVersionedById(EventId id);
+
+    /**
+     * Replaces an event's details and increments its version, with a single
+     * {@code UPDATE ... WHERE id = ? AND version = ?} and no prior read.
+     *
+     * @return the new version, or empty if the event does not exist or no
+     *         longer has the expected version
+     */
+    Optional<Long> updateIfVersion(EventId id, long expectedVersion, EventDate date,
+                                   ClientName clientName, String description);
     boolean existsById(EventId id);
     void delete(Event event);
 }
@@ -4,7 +4,19 @@ import org.creatorledger.event.api.EventId;
 
 import java.time.LocalDate;
 
-public record UpdateEventCommand(EventId eventId, LocalDate date, String clientName, String description) {
+/**
+ * Command to edit an event's details.
+ *
+ * @param expectedVersion the version the client read, or {@code null} to edit
+ *                        whatever version is current
+ */
+public record UpdateEventCommand(
+    EventId eventId,
+    LocalDate date,
+    String clientName,
+    String description,
+    Long expectedVersion
+) {
 
     public UpdateEventCommand {
         if (eventId == null) {
@@ -19,11 +31,23 @@ public record UpdateEventCommand(EventId eventId, LocalDate date, String clientN
         if (description == null || description.isBlank()) {
             throw new IllegalArgumentException("Description cannot be null or blank");
         }
+        if (expectedVersion != null && expectedVersion < 0) {
+            throw new IllegalArgumentException("Expected version cannot be negative");
+        }
+    }
+
+    public UpdateEventCommand(
+        final EventId eventId,
+        final LocalDate date,
+        final String clientName,
+        final String description
+    ) {
+        this(eventId, date, clientName, description, null);
     }
 
     @Override
     public String toString() {
-        return "UpdateEventCommand[eventId=%s, date=%s, clientName=%s, description=%s]"
-            .formatted(eventId, date, clientName, description);
+        return "UpdateEventCommand[eventId=%s, date=%s, clientName=%s, description=%s, expectedVersion=%s]"
+            .formatted(eventId, date, clientName, description, expectedVersion);
     }
 }
@@ -0,0 +1,62 @@
+package org.creatorledger.event.infrastructure;
+
+import org.creatorledger.common.EventCodec;
+import org.creatorledger.common.EventInput;
+import org.creatorledger.common.EventOutput;
+import org.creatorledger.event.api.EventId;
+import org.creatorledger.event.domain.ClientName;
+import org.creatorledger.event.domain.EventCreated;
+import org.creatorledger.event.domain.EventDate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binary codec for {@link EventCreated}, type id {@value #TYPE_ID}.
+ * <p>
+ * Values are rebuilt without re-validation: the event records a date that
+ * was valid when it happened, even once it falls outside today's range.
+ * </p>
+ */
+@Component
+public class EventCreatedCodec implements EventCodec<EventCreated> {
+
+    static final int TYPE_ID = 2;
+    private static final int SCHEMA_VERSION = 1;
+
+    @Override
+    public Class<EventCreated> eventType() {
+        return EventCreated.class;
+    }
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public int schemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    public void write(final EventCreated event, final EventOutput output) {
+        output.writeUuid(event.eventId().value())
+                .writeLocalDate(event.date().value())
+                .writeString(event.clientName().value())
+                .writeString(event.description())
+                .writeInstant(event.occurredAt());
+    }
+
+    @Override
+    public EventCreated read(final int schemaVersion, final EventInput input) {
+        if (schemaVersion != SCHEMA_VERSION) {
+            throw new IllegalArgumentException("Unknown EventCreated schema version " + schemaVersion);
+        }
+        return new EventCreated(
+                EventId.of(input.readUuid()),
+                new EventDate(input.readLocalDate()),
+                new ClientName(input.readString()),
+                input.readString(),
+                input.readInstant()
+        );
+    }
+}
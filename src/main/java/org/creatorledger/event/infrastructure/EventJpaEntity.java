@@ -3,7 +3,12 @@ package org.creatorledger.event.infrastructure;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.hibernate.annotations.ColumnDefault;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDate;
 import java.util.UUID;
@@ -17,7 +22,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "events")
-public class EventJpaEntity {
+public class EventJpaEntity implements Persistable<UUID> {
 
     @Id
     @Column(name = "id", nullable = false)
@@ -32,6 +37,19 @@ public class EventJpaEntity {
     @Column(name = "description", nullable = false, length = 1000)
     private String description;
 
+    /**
+     * Row version for optimistic updates. It is read-only here: new rows start
+     * at the column default and only the repository's conditional updates
+     * increment it.
+     */
+    @Column(name = "version", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long version;
+
+    /** New until loaded or persisted; see {@code IncomeJpaEntity#isNew}. */
+    @Transient
+    private boolean isNew = true;
+
     /**
      * Default constructor for JPA.
      */
@@ -72,4 +90,23 @@ public class EventJpaEntity {
     public void setDescription(final String description) {
         this.description = description;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * Marks this entity as already stored, so saving it updates the existing
+     * row instead of inserting.
+     */
+    @PostLoad
+    @PrePersist
+    void markNotNew() {
+        this.isNew = false;
+    }
 }
@@ -1,34 +1,75 @@
 package org.creatorledger.event.infrastructure;
 
+import org.creatorledger.common.Versioned;
 import org.creatorledger.event.application.EventRepository;
+import org.creatorledger.event.domain.ClientName;
 import org.creatorledger.event.domain.Event;
+import org.creatorledger.event.domain.EventDate;
 import org.creatorledger.event.api.EventId;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * JPA implementation of the EventRepository.
  * <p>
  * This is an adapter that bridges the application layer's repository port
  * with Spring Data JPA infrastructure. It handles conversion between domain
- * objects and JPA entities using the EventEntityMapper.
+ * objects and JPA entities using the EventEntityMapper. Every change to a
+ * stored event is a direct UPDATE that increments its version.
  * </p>
  */
 @Repository
 public class JpaEventRepository implements EventRepository {
 
+    private static final String SAVE_SQL = """
+            UPDATE events
+            SET event_date = ?, client_name = ?, description = ?, version = version + 1
+            WHERE id = ?
+            """;
+
+    private static final String UPDATE_IF_VERSION_SQL = """
+            UPDATE events
+            SET event_date = ?, client_name = ?, description = ?, version = version + 1
+            WHERE id = ? AND version = ?
+            RETURNING version
+            """;
+
     private final SpringDataEventRepository springDataRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
-    public JpaEventRepository(SpringDataEventRepository springDataRepository) {
+    public JpaEventRepository(
+            SpringDataEventRepository springDataRepository,
+            EntityManager entityManager,
+            JdbcTemplate jdbcTemplate
+    ) {
         this.springDataRepository = springDataRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
-    public Event save(Event event) {
-        EventJpaEntity entity = EventEntityMapper.toEntity(event);
-        EventJpaEntity saved = springDataRepository.save(entity);
-        return EventEntityMapper.toDomain(saved);
+    public void add(final Event event) {
+        springDataRepository.save(EventEntityMapper.toEntity(event));
+    }
+
+    @Override
+    public Event save(final Event event) {
+        final int updated = bypassingPersistenceContext(() -> jdbcTemplate.update(
+                SAVE_SQL,
+                event.date().value(),
+                event.clientName().value(),
+                event.description(),
+                event.id().value()
+        ));
+        if (updated == 0) {
+            add(event);
+        }
+        return event;
     }
 
     @Override
@@ -37,6 +78,31 @@ public class JpaEventRepository implements EventRepository {
                 .map(EventEntityMapper::toDomain);
     }
 
+    @Override
+    public Optional<Versioned<Event>> findVersionedById(final EventId id) {
+        return springDataRepository.findById(id.value())
+                .map(entity -> new Versioned<>(EventEntityMapper.toDomain(entity), entity.getVersion()));
+    }
+
+    @Override
+    public Optional<Long> updateIfVersion(
+            final EventId id,
+            final long expectedVersion,
+            final EventDate date,
+            final ClientName clientName,
+            final String description
+    ) {
+        return bypassingPersistenceContext(() -> jdbcTemplate.query(
+                UPDATE_IF_VERSION_SQL,
+                (resultSet, rowNum) -> resultSet.getLong(1),
+                date.value(),
+                clientName.value(),
+                description,
+                id.value(),
+                expectedVersion
+        )).stream().findFirst();
+    }
+
     @Override
     public boolean existsById(EventId id) {
         return springDataRepository.existsById(id.value());
@@ -46,4 +112,19 @@ public class JpaEventRepository implements EventRepository {
     public void delete(Event event) {
         springDataRepository.deleteById(event.id().value());
     }
+
+    /**
+     * Runs a statement that bypasses the persistence context. Pending changes
+     * are flushed first so the statement sees them, and the context is cleared
+     * afterwards so later reads in the transaction see its result.
+     */
+    private <T> T bypassingPersistenceContext(final Supplier<T> statement) {
+        if (!entityManager.isJoinedToTransaction()) {
+            return statement.get();
+        }
+        entityManager.flush();
+        final T result = statement.get();
+        entityManager.clear();
+        return result;
+    }
 }
@@ -1,9 +1,13 @@
 package org.creatorledger.event.infrastructure.web;
 
+import org.creatorledger.common.VersionTags;
 import org.creatorledger.event.application.CreateEventCommand;
 import org.creatorledger.event.application.EventApplicationService;
 import org.creatorledger.event.application.UpdateEventCommand;
 import org.creatorledger.event.api.EventId;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -44,8 +48,17 @@ public class EventController {
         }
     }
 
+    /**
+     * Updates an event. Sending the {@code ETag} from a previous read as
+     * {@code If-Match} makes the update apply only if nobody changed the
+     * event since; otherwise it answers 409 Conflict.
+     */
     @PutMapping("/{id}")
-    public ResponseEntity<Void> update(@PathVariable final String id, @RequestBody final UpdateEventRequest request) {
+    public ResponseEntity<Void> update(
+            @PathVariable final String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final String ifMatch,
+            @RequestBody final UpdateEventRequest request
+    ) {
         try {
             UUID uuid = UUID.fromString(id);
             EventId eventId = EventId.of(uuid);
@@ -54,11 +67,14 @@ public class EventController {
                     eventId,
                     request.date(),
                     request.clientName(),
-                    request.description()
+                    request.description(),
+                    VersionTags.parse(ifMatch)
             );
-            eventApplicationService.update(command);
+            long version = eventApplicationService.update(command);
 
-            return ResponseEntity.noContent().build();
+            return ResponseEntity.noContent().eTag(VersionTags.of(version)).build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (IllegalArgumentException | IllegalStateException e) {
             return ResponseEntity.badRequest().build();
         }
@@ -68,7 +84,7 @@ public class EventController {
      * Gets an event by its ID.
      *
      * @param id the event ID
-     * @return 200 OK with event data if found, 404 Not Found otherwise
+     * @return 200 OK with event data and its version as the ETag if found, 404 Not Found otherwise
      */
     @GetMapping("/{id}")
     public ResponseEntity<EventResponse> getEvent(@PathVariable final String id) {
@@ -76,9 +92,10 @@ public class EventController {
             UUID uuid = UUID.fromString(id);
             EventId eventId = EventId.of(uuid);
 
-            return eventApplicationService.findById(eventId)
-                    .map(EventResponse::from)
-                    .map(ResponseEntity::ok)
+            return eventApplicationService.findVersionedById(eventId)
+                    .map(event -> ResponseEntity.ok()
+                            .eTag(VersionTags.of(event.version()))
+                            .body(EventResponse.from(event.value())))
                     .orElse(ResponseEntity.notFound().build());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
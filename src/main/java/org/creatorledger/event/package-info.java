@@ -12,11 +12,12 @@
  * <strong>Dependencies:</strong>
  * </p>
  * <ul>
+ *   <li>{@code common} - Versioned and VersionTags for optimistic updates</li>
  *   <li>{@code user::api} - UserId for event ownership</li>
  * </ul>
  */
 @org.springframework.modulith.ApplicationModule(
     displayName = "Event",
-    allowedDependencies = {"user :: api"}
+    allowedDependencies = {"common", "user :: api"}
 )
 package org.creatorledger.event;
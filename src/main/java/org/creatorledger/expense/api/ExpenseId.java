@@ -1,5 +1,7 @@
 package org.creatorledger.expense.api;
 
+import org.creatorledger.common.UuidV7;
+
 import java.util.UUID;
 
 public record ExpenseId(UUID value) {
@@ -11,7 +13,7 @@ public record ExpenseId(UUID value) {
     }
 
     public static ExpenseId generate() {
-        return new ExpenseId(UUID.randomUUID());
+        return new ExpenseId(UuidV7.generate());
     }
 
     @Override
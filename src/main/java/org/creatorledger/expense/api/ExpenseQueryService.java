@@ -1,9 +1,13 @@
 package org.creatorledger.expense.api;
 
+import org.creatorledger.common.Money;
 import org.creatorledger.user.api.UserId;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Public API for querying expense data across module boundaries.
@@ -15,4 +19,56 @@ import java.util.List;
  */
 public interface ExpenseQueryService {
     List<ExpenseData> findByUserIdAndDateRange(UserId userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Stream all expense records for a user within a date range, ordered by date.
+     * <p>
+     * Unlike {@link #findByUserIdAndDateRange}, the range is never held in
+     * memory at once, so this is the method to use for large or multi-year
+     * ranges. The caller must invoke it inside a transaction (for example a
+     * {@code @Transactional(readOnly = true)} method) and close the stream,
+     * typically with try-with-resources.
+     * </p>
+     *
+     * @param userId the user ID
+     * @param startDate the start date (inclusive)
+     * @param endDate the end date (inclusive)
+     * @return stream of expense data, to be closed by the caller
+     */
+    Stream<ExpenseData> streamByUserIdAndDateRange(UserId userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Sum expense amounts per category for a user within a date range.
+     * <p>
+     * The sums are computed by the database, so the cost does not grow with
+     * the number of expense records in the range. Categories without any
+     * expenses are absent from the result.
+     * </p>
+     *
+     * @param userId the user ID
+     * @param startDate the start date (inclusive)
+     * @param endDate the end date (inclusive)
+     * @return the total per category
+     */
+    Map<ExpenseCategory, Money> totalsByCategoryForUserIdAndDateRange(UserId userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Sum expense amounts per category for each of several users within a date range.
+     * <p>
+     * All users are covered by one grouped query, so batch callers should
+     * pass chunks of users rather than calling
+     * {@link #totalsByCategoryForUserIdAndDateRange} once per user. Users
+     * without any expenses in the range are absent from the result.
+     * </p>
+     *
+     * @param userIds the user IDs
+     * @param startDate the start date (inclusive)
+     * @param endDate the end date (inclusive)
+     * @return the totals per category, per user
+     */
+    Map<UserId, Map<ExpenseCategory, Money>> totalsByCategoryForUserIdsAndDateRange(
+            Collection<UserId> userIds,
+            LocalDate startDate,
+            LocalDate endDate
+    );
 }
@@ -1,14 +1,31 @@
 package org.creatorledger.expense.application;
 
+import org.creatorledger.common.Money;
+import org.creatorledger.expense.api.ExpenseCategory;
 import org.creatorledger.expense.api.ExpenseData;
 import org.creatorledger.expense.api.ExpenseQueryService;
 import org.creatorledger.user.api.UserId;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
 
+/**
+ * Read-only implementation of {@link ExpenseQueryService}.
+ * <p>
+ * Every method runs in a read-only transaction and reads projections
+ * straight into the published DTOs, so no entities are loaded into the
+ * persistence context and nothing is dirty-checked or flushed.
+ * </p>
+ */
 @Service
+@Transactional(readOnly = true)
 public class DefaultExpenseQueryService implements ExpenseQueryService {
 
     private final ExpenseRepository expenseRepository;
@@ -19,9 +36,63 @@ public class DefaultExpenseQueryService implements ExpenseQueryService {
 
     @Override
     public List<ExpenseData> findByUserIdAndDateRange(final UserId userId, final LocalDate startDate, final LocalDate endDate) {
+        validateDateRangeQuery(userId, startDate, endDate);
+
+        return expenseRepository.findDataByUserIdAndDateRange(userId, startDate, endDate);
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<ExpenseData> streamByUserIdAndDateRange(final UserId userId, final LocalDate startDate, final LocalDate endDate) {
+        validateDateRangeQuery(userId, startDate, endDate);
+
+        return expenseRepository.streamDataByUserIdAndDateRange(userId, startDate, endDate);
+    }
+
+    @Override
+    public Map<ExpenseCategory, Money> totalsByCategoryForUserIdAndDateRange(
+            final UserId userId,
+            final LocalDate startDate,
+            final LocalDate endDate
+    ) {
+        validateDateRangeQuery(userId, startDate, endDate);
+
+        return expenseRepository.totalsByCategoryForUserIdAndDateRange(userId, startDate, endDate);
+    }
+
+    @Override
+    public Map<UserId, Map<ExpenseCategory, Money>> totalsByCategoryForUserIdsAndDateRange(
+            final Collection<UserId> userIds,
+            final LocalDate startDate,
+            final LocalDate endDate
+    ) {
+        validateMultiUserDateRangeQuery(userIds, startDate, endDate);
+
+        return expenseRepository.totalsByCategoryForUserIdsAndDateRange(userIds, startDate, endDate);
+    }
+
+    private static void validateDateRangeQuery(final UserId userId, final LocalDate startDate, final LocalDate endDate) {
         if (userId == null) {
             throw new IllegalArgumentException("User ID cannot be null");
         }
+        validateDateRange(startDate, endDate);
+    }
+
+    private static void validateMultiUserDateRangeQuery(
+            final Collection<UserId> userIds,
+            final LocalDate startDate,
+            final LocalDate endDate
+    ) {
+        if (userIds == null) {
+            throw new IllegalArgumentException("User IDs cannot be null");
+        }
+        if (userIds.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("User IDs cannot contain null");
+        }
+        validateDateRange(startDate, endDate);
+    }
+
+    private static void validateDateRange(final LocalDate startDate, final LocalDate endDate) {
         if (startDate == null) {
             throw new IllegalArgumentException("Start date cannot be null");
         }
@@ -31,10 +102,5 @@ public class DefaultExpenseQueryService implements ExpenseQueryService {
         if (startDate.isAfter(endDate)) {
             throw new IllegalArgumentException("Start date cannot be after end date");
         }
-
-        return expenseRepository.findByUserIdAndDateRange(userId, startDate, endDate)
-                .stream()
-                .map(ExpenseData::from)
-                .toList();
     }
 }
@@ -1,13 +1,22 @@
 package org.creatorledger.expense.application;
 
+import org.creatorledger.common.KeysetCursor;
 import org.creatorledger.common.Money;
+import org.creatorledger.common.Versioned;
+import org.creatorledger.expense.api.ExpenseCategory;
+import org.creatorledger.expense.api.ExpenseData;
 import org.creatorledger.expense.api.ExpenseId;
 import org.creatorledger.expense.domain.Expense;
 import org.creatorledger.expense.domain.ExpenseRecorded;
+import org.creatorledger.expense.domain.ExpenseUpdated;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -27,6 +36,7 @@ public class ExpenseApplicationService {
         this.eventPublisher = eventPublisher;
     }
 
+    @Transactional
     public ExpenseId record(final RecordExpenseCommand command) {
         if (command == null) {
             throw new IllegalArgumentException("Command cannot be null");
@@ -41,7 +51,7 @@ public class ExpenseApplicationService {
                 command.incurredDate()
         );
 
-        expenseRepository.save(expense);
+        expenseRepository.add(expense);
 
         // Publish domain event
         final ExpenseRecorded event = ExpenseRecorded.of(
@@ -57,23 +67,92 @@ public class ExpenseApplicationService {
         return expense.id();
     }
 
-    public void update(final UpdateExpenseCommand command) {
+    /**
+     * Edits an expense's details with one conditional UPDATE.
+     * <p>
+     * When the command carries the version the client read, the update runs
+     * without reading the expense first. Otherwise the expense is read to
+     * validate the edit against it and to take its current version. Either
+     * way, an edit that lost a race with another edit is rejected instead of
+     * overwriting it.
+     * </p>
+     *
+     * @return the new version of the expense
+     * @throws IllegalStateException             if the expense does not exist
+     * @throws OptimisticLockingFailureException if the expense no longer has the expected version
+     */
+    @Transactional
+    public long update(final UpdateExpenseCommand command) {
         if (command == null) {
             throw new IllegalArgumentException("Command cannot be null");
         }
 
-        final Expense existingExpense = expenseRepository.findById(command.expenseId())
-                .orElseThrow(() -> new IllegalStateException("Expense not found: " + command.expenseId()));
-
         final Money amount = Money.of(new BigDecimal(command.amount()), command.currency());
-        final Expense updatedExpense = existingExpense.update(
+        final long expectedVersion;
+        final String description;
+        if (command.expectedVersion() != null) {
+            expectedVersion = command.expectedVersion();
+            description = command.description().trim();
+        } else {
+            final Versioned<Expense> existing = expenseRepository.findVersionedById(command.expenseId())
+                    .orElseThrow(() -> new IllegalStateException("Expense not found: " + command.expenseId()));
+            expectedVersion = existing.version();
+            description = existing.value().update(
+                    amount,
+                    command.category(),
+                    command.description(),
+                    command.incurredDate()
+            ).description();
+        }
+
+        final ExpenseChange change = expenseRepository.updateIfVersion(
+                command.expenseId(),
+                expectedVersion,
                 amount,
                 command.category(),
-                command.description(),
+                description,
                 command.incurredDate()
+        ).orElseThrow(() -> updateFailure(command.expenseId(), expectedVersion));
+
+        // Publish domain event
+        final ExpenseUpdated event = ExpenseUpdated.of(
+            command.expenseId(),
+            change.userId(),
+            change.previousAmount(),
+            change.previousCategory(),
+            change.previousIncurredDate(),
+            amount,
+            command.category(),
+            description,
+            command.incurredDate()
         );
+        eventPublisher.publishEvent(event);
+
+        return change.version();
+    }
+
+    /**
+     * Returns one page of a user's expenses matching the query, with the
+     * number of matches in each category.
+     * <p>
+     * One row more than the limit is read to tell whether another page
+     * follows. The category counts come from a single grouped query.
+     * </p>
+     */
+    @Transactional(readOnly = true)
+    public ExpenseSearchResult search(final SearchExpensesQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Query cannot be null");
+        }
 
-        expenseRepository.save(updatedExpense);
+        final List<ExpenseData> rows = expenseRepository.search(query, query.limit() + 1);
+        final Map<ExpenseCategory, Long> categoryCounts = expenseRepository.countByCategory(query);
+        if (rows.size() <= query.limit()) {
+            return new ExpenseSearchResult(rows, null, categoryCounts);
+        }
+        final List<ExpenseData> items = rows.subList(0, query.limit());
+        final ExpenseData last = items.get(items.size() - 1);
+        return new ExpenseSearchResult(items, new KeysetCursor(last.incurredDate(), last.id().value()), categoryCounts);
     }
 
     public Optional<Expense> findById(final ExpenseId expenseId) {
@@ -83,10 +162,25 @@ public class ExpenseApplicationService {
         return expenseRepository.findById(expenseId);
     }
 
+    public Optional<Versioned<Expense>> findVersionedById(final ExpenseId expenseId) {
+        if (expenseId == null) {
+            throw new IllegalArgumentException("Expense ID cannot be null");
+        }
+        return expenseRepository.findVersionedById(expenseId);
+    }
+
     public boolean existsById(final ExpenseId expenseId) {
         if (expenseId == null) {
             throw new IllegalArgumentException("Expense ID cannot be null");
         }
         return expenseRepository.existsById(expenseId);
     }
+
+    private RuntimeException updateFailure(final ExpenseId expenseId, final long expectedVersion) {
+        if (!expenseRepository.existsById(expenseId)) {
+            return new IllegalStateException("Expense not found: " + expenseId);
+        }
+        return new OptimisticLockingFailureException(
+                "Expense " + expenseId + " was modified concurrently; expected version " + expectedVersion);
+    }
 }
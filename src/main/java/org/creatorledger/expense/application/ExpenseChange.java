@@ -0,0 +1,25 @@
+package org.creatorledger.expense.application;
+
+import org.creatorledger.common.Money;
+import org.creatorledger.expense.api.ExpenseCategory;
+import org.creatorledger.user.api.UserId;
+
+import java.time.LocalDate;
+
+/**
+ * What a conditional expense update changed, as returned by the update itself.
+ *
+ * @param userId               the owner of the expense
+ * @param previousAmount       the amount before the update
+ * @param previousCategory     the category before the update
+ * @param previousIncurredDate the incurred date before the update
+ * @param version              the new version of the expense
+ */
+public record ExpenseChange(
+        UserId userId,
+        Money previousAmount,
+        ExpenseCategory previousCategory,
+        LocalDate previousIncurredDate,
+        long version
+) {
+}
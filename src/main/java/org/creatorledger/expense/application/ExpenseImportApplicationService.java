@@ -0,0 +1,218 @@
+package org.creatorledger.expense.application;
+
+import org.creatorledger.common.Money;
+import org.creatorledger.common.MoneyAccumulator;
+import org.creatorledger.expense.api.ExpenseCategory;
+import org.creatorledger.expense.domain.Expense;
+import org.creatorledger.expense.domain.ExpensesImported;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Application service that records a file of expenses in one go.
+ * <p>
+ * Lines are read one at a time and parsed and validated with the same rules
+ * as {@link Expense#record} outside any transaction. Valid expenses are
+ * written in chunks of {@value #CHUNK_SIZE}, each through
+ * {@link ExpenseRepository#addAll} in its own short transaction, so memory use
+ * and transaction length do not grow with the file. Invalid lines are counted
+ * and reported without stopping the import. Each chunk publishes one
+ * {@link ExpensesImported} event in its transaction, in place of one
+ * {@code ExpenseRecorded} per line. A failure part-way through leaves the
+ * chunks already written committed; once a chunk has been committed, the
+ * failure is reported as an {@link ExpenseImportIncompleteException} saying
+ * where the client can resume.
+ * </p>
+ */
+@Service
+public class ExpenseImportApplicationService {
+
+    static final int CHUNK_SIZE = 1_000;
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    private final ExpenseRepository expenseRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionOperations transactionOperations;
+
+    public ExpenseImportApplicationService(
+            final ExpenseRepository expenseRepository,
+            final ApplicationEventPublisher eventPublisher,
+            final TransactionOperations transactionOperations
+    ) {
+        if (expenseRepository == null) {
+            throw new IllegalArgumentException("Expense repository cannot be null");
+        }
+        if (eventPublisher == null) {
+            throw new IllegalArgumentException("Event publisher cannot be null");
+        }
+        if (transactionOperations == null) {
+            throw new IllegalArgumentException("Transaction operations cannot be null");
+        }
+        this.expenseRepository = expenseRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionOperations = transactionOperations;
+    }
+
+    /**
+     * Imports every valid line read from the reader.
+     *
+     * @param command the owning user and the parser for the file format
+     * @param reader  the file contents
+     * @return how many lines were imported and rejected, and why
+     * @throws IllegalArgumentException if a CSV file does not start with the expected header
+     * @throws ExpenseImportIncompleteException if the import fails after a chunk has been committed
+     */
+    public ExpenseImportResult importExpenses(final ImportExpensesCommand command, final Reader reader) {
+        if (command == null) {
+            throw new IllegalArgumentException("Command cannot be null");
+        }
+        if (reader == null) {
+            throw new IllegalArgumentException("Reader cannot be null");
+        }
+
+        final List<Expense> chunk = new ArrayList<>(CHUNK_SIZE);
+        final Map<DailyKey, MoneyAccumulator> dailyTotals = new HashMap<>();
+        final List<ExpenseImportError> errors = new ArrayList<>();
+        int imported = 0;
+        int rejected = 0;
+        int committedImported = 0;
+        int committedRejected = 0;
+        long committedLines = 0;
+        boolean expectHeader = command.parser().hasHeader();
+
+        final BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        try {
+            long lineNumber = 0;
+            String line;
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (expectHeader) {
+                    command.parser().checkHeader(line);
+                    expectHeader = false;
+                    continue;
+                }
+
+                final Expense expense;
+                try {
+                    expense = toExpense(command, command.parser().parse(line));
+                } catch (final IllegalArgumentException | DateTimeException e) {
+                    rejected++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(new ExpenseImportError(lineNumber, e.getMessage()));
+                    }
+                    continue;
+                }
+
+                chunk.add(expense);
+                dailyTotals.computeIfAbsent(
+                        new DailyKey(expense.incurredDate(), expense.category(), expense.amount().currency()),
+                        key -> MoneyAccumulator.of(key.currency())
+                ).add(expense.amount());
+                imported++;
+                if (chunk.size() == CHUNK_SIZE) {
+                    commitChunk(command, chunk, dailyTotals);
+                    committedImported = imported;
+                    committedRejected = rejected;
+                    committedLines = lineNumber;
+                }
+            }
+            if (!chunk.isEmpty()) {
+                commitChunk(command, chunk, dailyTotals);
+            }
+        } catch (final IOException e) {
+            throw incomplete(new UncheckedIOException("Failed to read expense import", e),
+                    committedImported, committedRejected, committedLines);
+        } catch (final RuntimeException e) {
+            throw incomplete(e, committedImported, committedRejected, committedLines);
+        }
+        return new ExpenseImportResult(imported, rejected, errors);
+    }
+
+    private void commitChunk(
+            final ImportExpensesCommand command,
+            final List<Expense> chunk,
+            final Map<DailyKey, MoneyAccumulator> dailyTotals
+    ) {
+        final ExpensesImported event = ExpensesImported.of(command.userId(), chunk.size(), toDailyTotals(dailyTotals));
+        transactionOperations.executeWithoutResult(status -> {
+            expenseRepository.addAll(chunk);
+            eventPublisher.publishEvent(event);
+        });
+        chunk.clear();
+        dailyTotals.clear();
+    }
+
+    private static RuntimeException incomplete(
+            final RuntimeException failure,
+            final int committedImported,
+            final int committedRejected,
+            final long committedLines
+    ) {
+        if (committedLines == 0) {
+            return failure;
+        }
+        return new ExpenseImportIncompleteException(committedImported, committedRejected, committedLines + 1, failure);
+    }
+
+    private static Expense toExpense(final ImportExpensesCommand command, final ExpenseImportRow row) {
+        final Money amount = Money.of(
+                new BigDecimal(required(row.amount(), "Amount")),
+                required(row.currency(), "Currency")
+        );
+        return Expense.record(
+                command.userId(),
+                amount,
+                toCategory(required(row.category(), "Category")),
+                row.description(),
+                LocalDate.parse(required(row.incurredDate(), "Incurred date"))
+        );
+    }
+
+    private static String required(final String value, final String name) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(name + " cannot be null or blank");
+        }
+        return value.strip();
+    }
+
+    private static ExpenseCategory toCategory(final String value) {
+        try {
+            return ExpenseCategory.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown category: " + value, e);
+        }
+    }
+
+    private static List<ExpensesImported.DailyTotal> toDailyTotals(final Map<DailyKey, MoneyAccumulator> dailyTotals) {
+        return dailyTotals.entrySet().stream()
+                .map(entry -> new ExpensesImported.DailyTotal(
+                        entry.getKey().incurredDate(),
+                        entry.getKey().category(),
+                        entry.getValue().toMoney()
+                ))
+                .sorted(Comparator.comparing(ExpensesImported.DailyTotal::incurredDate)
+                        .thenComparing(ExpensesImported.DailyTotal::category))
+                .toList();
+    }
+
+    private record DailyKey(LocalDate incurredDate, ExpenseCategory category, String currency) {
+    }
+}
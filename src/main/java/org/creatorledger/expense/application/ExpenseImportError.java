@@ -0,0 +1,13 @@
+package org.creatorledger.expense.application;
+
+/**
+ * Why one line of an expense import was rejected.
+ *
+ * @param lineNumber the 1-based line number in the uploaded file
+ * @param message    the validation failure
+ */
+public record ExpenseImportError(
+    long lineNumber,
+    String message
+) {
+}
@@ -0,0 +1,50 @@
+package org.creatorledger.expense.application;
+
+/**
+ * Thrown when an expense import fails after some of its chunks have been
+ * committed.
+ * <p>
+ * The committed chunks stay written, so the client can resend the file from
+ * {@link #resumeFromLine()} rather than importing the whole file again.
+ * </p>
+ */
+public class ExpenseImportIncompleteException extends RuntimeException {
+
+    private final int importedCount;
+    private final int rejectedCount;
+    private final long resumeFromLine;
+
+    public ExpenseImportIncompleteException(
+            final int importedCount,
+            final int rejectedCount,
+            final long resumeFromLine,
+            final RuntimeException cause
+    ) {
+        super("Expense import failed after " + importedCount + " expenses were imported; resume from line "
+                + resumeFromLine, cause);
+        this.importedCount = importedCount;
+        this.rejectedCount = rejectedCount;
+        this.resumeFromLine = resumeFromLine;
+    }
+
+    /**
+     * How many expenses were committed before the failure.
+     */
+    public int importedCount() {
+        return importedCount;
+    }
+
+    /**
+     * How many lines before {@link #resumeFromLine()} were rejected.
+     */
+    public int rejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * The 1-based line number of the first line that was not committed.
+     */
+    public long resumeFromLine() {
+        return resumeFromLine;
+    }
+}
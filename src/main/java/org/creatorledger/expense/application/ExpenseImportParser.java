@@ -0,0 +1,30 @@
+package org.creatorledger.expense.application;
+
+/**
+ * Reads the lines of one expense import file format.
+ * <p>
+ * The import service reads the file a line at a time and hands each line to
+ * the parser, so it does not depend on how a format is encoded.
+ * </p>
+ */
+public interface ExpenseImportParser {
+
+    /**
+     * Whether the first non-blank line is a header rather than a row.
+     */
+    boolean hasHeader();
+
+    /**
+     * Checks the header line of a format that has one.
+     *
+     * @throws IllegalArgumentException if it is not the expected header
+     */
+    void checkHeader(String line);
+
+    /**
+     * Parses one non-blank line into a row.
+     *
+     * @throws IllegalArgumentException if the line is malformed
+     */
+    ExpenseImportRow parse(String line);
+}
@@ -0,0 +1,21 @@
+package org.creatorledger.expense.application;
+
+import java.util.List;
+
+/**
+ * Outcome of an expense import.
+ * <p>
+ * {@code errors} holds at most {@link ExpenseImportApplicationService#MAX_REPORTED_ERRORS}
+ * entries; {@code rejectedCount} always counts every rejected line.
+ * </p>
+ */
+public record ExpenseImportResult(
+    int importedCount,
+    int rejectedCount,
+    List<ExpenseImportError> errors
+) {
+
+    public ExpenseImportResult {
+        errors = List.copyOf(errors);
+    }
+}
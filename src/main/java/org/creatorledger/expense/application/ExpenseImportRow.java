@@ -0,0 +1,18 @@
+package org.creatorledger.expense.application;
+
+/**
+ * One line of an expense import, exactly as it appeared in the file.
+ * <p>
+ * Fields are kept as text so that every validation failure, including
+ * unparseable amounts and dates, is reported against its line rather than
+ * failing the whole import.
+ * </p>
+ */
+public record ExpenseImportRow(
+    String amount,
+    String currency,
+    String category,
+    String description,
+    String incurredDate
+) {
+}
@@ -1,17 +1,90 @@
 package org.creatorledger.expense.application;
 
+import org.creatorledger.common.Money;
+import org.creatorledger.common.Versioned;
+import org.creatorledger.expense.api.ExpenseData;
+import org.creatorledger.expense.api.ExpenseCategory;
 import org.creatorledger.expense.domain.Expense;
 import org.creatorledger.expense.api.ExpenseId;
 import org.creatorledger.user.api.UserId;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ExpenseRepository {
+    /**
+     * Inserts a newly created expense.
+     * <p>
+     * Unlike {@link #save}, this does not first check whether the expense is
+     * already stored, so it costs a single INSERT. Use it only for expenses that
+     * have just been created.
+     * </p>
+     */
+    void add(Expense expense);
+
+    /**
+     * Inserts newly created expenses as batched statements.
+     * <p>
+     * Intended for bulk imports; the same caveat as {@link #add} applies.
+     * </p>
+     */
+    void addAll(List<Expense> expenses);
+
+    /**
+     * Stores changes to an existing expense and increments its version,
+     * inserting it if it is not stored yet.
+     */
     Expense save(Expense expense);
     Optional<Expense> findById(ExpenseId id);
+
+    /**
+     * Reads an expense together with its current version.
+     */
+    Optional<Versioned<Expense>> findVersionedById(ExpenseId id);
+
+    /**
+     * Replaces an expense's details and increments its version, with a single
+     * {@code UPDATE ... WHERE id = ? AND version = ?} and no prior read.
+     *
+     * @return the owner, the previous details and the new version, or empty
+     *         if the expense does not exist or no longer has the expected version
+     */
+    Optional<ExpenseChange> updateIfVersion(ExpenseId id, long expectedVersion, Money amount,
+                                            ExpenseCategory category, String description, LocalDate incurredDate);
     boolean existsById(ExpenseId id);
     void delete(Expense expense);
-    List<Expense> findByUserIdAndDateRange(UserId userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Reads a user's expense records within a date range straight into
+     * {@link ExpenseData}, without loading entities or domain objects.
+     */
+    List<ExpenseData> findDataByUserIdAndDateRange(UserId userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Streaming form of {@link #findDataByUserIdAndDateRange}. Must be called
+     * inside a transaction, and the stream must be closed by the caller.
+     */
+    Stream<ExpenseData> streamDataByUserIdAndDateRange(UserId userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Reads up to {@code limit} of a user's expenses matching the query,
+     * ordered by incurred date then ID and starting after the query's cursor.
+     */
+    List<ExpenseData> search(SearchExpensesQuery query, int limit);
+
+    /**
+     * Counts every expense matching the query in each category, ignoring the
+     * query's category filter and cursor. Categories with no matches count zero.
+     */
+    Map<ExpenseCategory, Long> countByCategory(SearchExpensesQuery query);
+    Map<ExpenseCategory, Money> totalsByCategoryForUserIdAndDateRange(UserId userId, LocalDate startDate, LocalDate endDate);
+    Map<UserId, Map<ExpenseCategory, Money>> totalsByCategoryForUserIdsAndDateRange(
+            Collection<UserId> userIds,
+            LocalDate startDate,
+            LocalDate endDate
+    );
 }
@@ -0,0 +1,38 @@
+package org.creatorledger.expense.application;
+
+import org.creatorledger.common.KeysetCursor;
+import org.creatorledger.expense.api.ExpenseCategory;
+import org.creatorledger.expense.api.ExpenseData;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A page of matching expenses, the cursor for the next page and how many
+ * expenses each category would match.
+ * <p>
+ * {@code next} is null on the last page. {@code categoryCounts} has an entry
+ * for every category and counts every match across all pages, applying all
+ * filters except the category filter, so the counts for unselected
+ * categories show what selecting them would add.
+ * </p>
+ */
+public record ExpenseSearchResult(
+    List<ExpenseData> items,
+    KeysetCursor next,
+    Map<ExpenseCategory, Long> categoryCounts
+) {
+
+    public ExpenseSearchResult {
+        items = List.copyOf(items);
+        final Map<ExpenseCategory, Long> counts = new EnumMap<>(ExpenseCategory.class);
+        counts.putAll(categoryCounts);
+        categoryCounts = Collections.unmodifiableMap(counts);
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
@@ -0,0 +1,18 @@
+package org.creatorledger.expense.application;
+
+import org.creatorledger.user.api.UserId;
+
+public record ImportExpensesCommand(
+    UserId userId,
+    ExpenseImportParser parser
+) {
+
+    public ImportExpensesCommand {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (parser == null) {
+            throw new IllegalArgumentException("Parser cannot be null");
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.creatorledger.expense.application;
+
+import org.creatorledger.common.KeysetCursor;
+import org.creatorledger.expense.api.ExpenseCategory;
+import org.creatorledger.user.api.UserId;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Filters for one page of a user's expenses.
+ * <p>
+ * Every filter except the user may be null, and an empty category set means
+ * all categories. {@code text} matches anywhere in the description, ignoring
+ * case. Amount bounds compare the amount alone, whatever its currency.
+ * A null {@code after} asks for the first page.
+ * </p>
+ */
+public record SearchExpensesQuery(
+    UserId userId,
+    LocalDate from,
+    LocalDate to,
+    Set<ExpenseCategory> categories,
+    BigDecimal minAmount,
+    BigDecimal maxAmount,
+    String text,
+    KeysetCursor after,
+    int limit
+) {
+
+    public static final int MAX_LIMIT = 200;
+
+    public SearchExpensesQuery {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("From date cannot be after to date");
+        }
+        if (minAmount != null && maxAmount != null && minAmount.compareTo(maxAmount) > 0) {
+            throw new IllegalArgumentException("Minimum amount cannot be greater than maximum amount");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        categories = categories == null ? Set.of() : Set.copyOf(categories);
+        text = text == null || text.isBlank() ? null : text.strip();
+    }
+}
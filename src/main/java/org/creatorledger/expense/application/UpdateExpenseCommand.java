@@ -5,13 +5,20 @@ import org.creatorledger.expense.api.ExpenseId;
 
 import java.time.LocalDate;
 
+/**
+ * Command to edit an expense's details.
+ *
+ * @param expectedVersion the version the client read, or {@code null} to edit
+ *                        whatever version is current
+ */
 public record UpdateExpenseCommand(
     ExpenseId expenseId,
     String amount,
     String currency,
     ExpenseCategory category,
     String description,
-    LocalDate incurredDate
+    LocalDate incurredDate,
+    Long expectedVersion
 ) {
 
     public UpdateExpenseCommand {
@@ -42,5 +49,19 @@ public record UpdateExpenseCommand(
         if (incurredDate == null) {
             throw new IllegalArgumentException("Incurred date cannot be null");
         }
+        if (expectedVersion != null && expectedVersion < 0) {
+            throw new IllegalArgumentException("Expected version cannot be negative");
+        }
+    }
+
+    public UpdateExpenseCommand(
+            final ExpenseId expenseId,
+            final String amount,
+            final String currency,
+            final ExpenseCategory category,
+            final String description,
+            final LocalDate incurredDate
+    ) {
+        this(expenseId, amount, currency, category, description, incurredDate, null);
     }
 }
@@ -4,10 +4,12 @@ import org.creatorledger.common.Money;
 import org.creatorledger.expense.api.ExpenseId;
 import org.creatorledger.user.api.UserId;
 import org.creatorledger.expense.api.ExpenseCategory;
+import org.springframework.modulith.NamedInterface;
 
 import java.time.Instant;
 import java.time.LocalDate;
 
+@NamedInterface("events")
 public record ExpenseRecorded(
     ExpenseId expenseId,
     UserId userId,
@@ -0,0 +1,49 @@
+package org.creatorledger.expense.domain;
+
+import org.creatorledger.common.Money;
+import org.creatorledger.expense.api.ExpenseCategory;
+import org.creatorledger.expense.api.ExpenseId;
+import org.creatorledger.user.api.UserId;
+import org.springframework.modulith.NamedInterface;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Domain event published when an expense's details are updated.
+ * <p>
+ * Carries the previous amount, category and incurred date alongside the new
+ * values so that listeners maintaining running totals can move the amount
+ * between categories and periods without reloading the expense.
+ * </p>
+ */
+@NamedInterface("events")
+public record ExpenseUpdated(
+    ExpenseId expenseId,
+    UserId userId,
+    Money previousAmount,
+    ExpenseCategory previousCategory,
+    LocalDate previousIncurredDate,
+    Money amount,
+    ExpenseCategory category,
+    String description,
+    LocalDate incurredDate,
+    Instant occurredAt
+) {
+    public static ExpenseUpdated of(final ExpenseId expenseId, final UserId userId, final Money previousAmount,
+                                    final ExpenseCategory previousCategory, final LocalDate previousIncurredDate,
+                                    final Money amount, final ExpenseCategory category, final String description,
+                                    final LocalDate incurredDate) {
+        return new ExpenseUpdated(expenseId, userId, previousAmount, previousCategory, previousIncurredDate,
+                amount, category, description, incurredDate, Instant.now());
+    }
+
+    @Override
+    public String toString() {
+        return "ExpenseUpdated[expenseId=" + expenseId + ", userId=" + userId +
+               ", previousAmount=" + previousAmount + ", previousCategory=" + previousCategory +
+               ", previousIncurredDate=" + previousIncurredDate + ", amount=" + amount +
+               ", category=" + category + ", description=" + description +
+               ", incurredDate=" + incurredDate + ", occurredAt=" + occurredAt + "]";
+    }
+}
@@ -0,0 +1,48 @@
+package org.creatorledger.expense.domain;
+
+import org.creatorledger.common.Money;
+import org.creatorledger.expense.api.ExpenseCategory;
+import org.creatorledger.user.api.UserId;
+import org.springframework.modulith.NamedInterface;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Published once per bulk import instead of one {@link ExpenseRecorded} per row.
+ * <p>
+ * The imported amounts are summed per day, category and currency, which is all
+ * a listener needs to update totals and keeps the event small however many
+ * rows were imported.
+ * </p>
+ */
+@NamedInterface("events")
+public record ExpensesImported(
+    UserId userId,
+    int expenseCount,
+    List<DailyTotal> dailyTotals,
+    Instant occurredAt
+) {
+
+    public ExpensesImported {
+        dailyTotals = List.copyOf(dailyTotals);
+    }
+
+    public static ExpensesImported of(final UserId userId, final int expenseCount, final List<DailyTotal> dailyTotals) {
+        return new ExpensesImported(userId, expenseCount, dailyTotals, Instant.now());
+    }
+
+    /**
+     * The total of the imported expenses incurred on one day in one category.
+     */
+    @NamedInterface("events")
+    public record DailyTotal(LocalDate incurredDate, ExpenseCategory category, Money amount) {
+    }
+
+    @Override
+    public String toString() {
+        return "ExpensesImported[userId=" + userId + ", expenseCount=" + expenseCount +
+               ", dailyTotals=" + dailyTotals.size() + ", occurredAt=" + occurredAt + "]";
+    }
+}
@@ -0,0 +1,17 @@
+package org.creatorledger.expense.infrastructure;
+
+import java.math.BigDecimal;
+
+/**
+ * Row projection for summed expense amounts, one per category and currency.
+ * <p>
+ * Populated directly by a JPQL constructor expression so that aggregation
+ * happens in the database rather than by loading every expense entity.
+ * </p>
+ *
+ * @param category the expense category name
+ * @param currency the ISO currency code
+ * @param total    the summed amount for that category and currency
+ */
+public record ExpenseCategoryTotal(String category, String currency, BigDecimal total) {
+}
@@ -0,0 +1,24 @@
+package org.creatorledger.expense.infrastructure;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Row projection of an expense record for read-only queries.
+ * <p>
+ * Populated directly by a JPQL constructor expression, so no managed
+ * {@link ExpenseJpaEntity} or domain {@code Expense} is created on the way to
+ * {@code ExpenseData}.
+ * </p>
+ */
+public record ExpenseDataRow(
+        UUID id,
+        UUID userId,
+        BigDecimal amount,
+        String currency,
+        String category,
+        String description,
+        LocalDate incurredDate
+) {
+}
@@ -2,6 +2,7 @@ package org.creatorledger.expense.infrastructure;
 
 import org.creatorledger.common.Money;
 import org.creatorledger.expense.api.ExpenseCategory;
+import org.creatorledger.expense.api.ExpenseData;
 import org.creatorledger.expense.api.ExpenseId;
 import org.creatorledger.expense.domain.Expense;
 import org.creatorledger.user.api.UserId;
@@ -39,4 +40,19 @@ public class ExpenseEntityMapper {
                 entity.getIncurredDate()
         );
     }
+
+    /**
+     * Maps a read-only projection row straight to the published DTO, skipping
+     * the domain invariants already enforced when the expense was recorded.
+     */
+    public static ExpenseData toData(final ExpenseDataRow row) {
+        return new ExpenseData(
+                ExpenseId.of(row.id()),
+                UserId.of(row.userId()),
+                Money.of(row.amount(), row.currency()),
+                ExpenseCategory.valueOf(row.category()),
+                row.description(),
+                row.incurredDate()
+        );
+    }
 }
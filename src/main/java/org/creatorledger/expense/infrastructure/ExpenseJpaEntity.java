@@ -3,7 +3,12 @@ package org.creatorledger.expense.infrastructure;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.hibernate.annotations.ColumnDefault;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -11,7 +16,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "expenses")
-public class ExpenseJpaEntity {
+public class ExpenseJpaEntity implements Persistable<UUID> {
 
     @Id
     @Column(name = "id", nullable = false)
@@ -35,6 +40,19 @@ public class ExpenseJpaEntity {
     @Column(name = "incurred_date", nullable = false)
     private LocalDate incurredDate;
 
+    /**
+     * Row version for optimistic updates. It is read-only here: new rows start
+     * at the column default and only the repository's conditional updates
+     * increment it.
+     */
+    @Column(name = "version", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long version;
+
+    /** New until loaded or persisted; see {@code IncomeJpaEntity#isNew}. */
+    @Transient
+    private boolean isNew = true;
+
     protected ExpenseJpaEntity() {
     }
 
@@ -104,4 +122,23 @@ public class ExpenseJpaEntity {
     public void setIncurredDate(LocalDate incurredDate) {
         this.incurredDate = incurredDate;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * Marks this entity as already stored, so saving it updates the existing
+     * row instead of inserting.
+     */
+    @PostLoad
+    @PrePersist
+    void markNotNew() {
+        this.isNew = false;
+    }
 }
@@ -0,0 +1,95 @@
+package org.creatorledger.expense.infrastructure;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Creates the tax year partitions of the expenses table ahead of time.
+ * <p>
+ * The table is range-partitioned by tax year. Each run makes sure the
+ * current tax year and the configured number of following years have a
+ * partition, so rows never fall into the default partition in normal use.
+ * It runs at startup and on a cron schedule, and creating a partition that
+ * already exists is a no-op. The current tax year comes from the same
+ * database function that bounds the partitions. The schedule is configured
+ * under {@code creatorledger.expense.partitions}.
+ * </p>
+ * <p>
+ * Every instance runs it. The database function serializes concurrent calls
+ * with an advisory lock, so only one instance creates a given partition. A
+ * partition that cannot be created is logged and retried on the next run
+ * rather than failing startup, since rows for a missing year still land in the
+ * default partition.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "creatorledger.expense.partitions", name = "enabled", havingValue = "true")
+public class ExpensePartitionScheduler {
+
+    static final String TABLE = "expenses";
+    static final String CURRENT_TAX_YEAR_SQL = "SELECT tax_year_start_year(?)";
+    static final String CREATE_PARTITION_SQL = "SELECT create_tax_year_partition(?, ?)";
+
+    private static final Logger logger = LoggerFactory.getLogger(ExpensePartitionScheduler.class);
+
+    private final JdbcOperations jdbcOperations;
+    private final ZoneId zone;
+    private final int yearsAhead;
+
+    public ExpensePartitionScheduler(
+            final JdbcOperations jdbcOperations,
+            @Value("${creatorledger.expense.partitions.zone}") final String zone,
+            @Value("${creatorledger.expense.partitions.years-ahead}") final int yearsAhead
+    ) {
+        this.jdbcOperations = jdbcOperations;
+        this.zone = ZoneId.of(zone);
+        this.yearsAhead = yearsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            cron = "${creatorledger.expense.partitions.cron}",
+            zone = "${creatorledger.expense.partitions.zone}"
+    )
+    public void createUpcomingPartitions() {
+        final Integer currentStartYear;
+        try {
+            currentStartYear = jdbcOperations.queryForObject(
+                    CURRENT_TAX_YEAR_SQL, Integer.class, LocalDate.now(zone));
+        } catch (final DataAccessException e) {
+            logger.warn("Failed to read the current tax year for expenses partitions: {}", e.getMessage(), e);
+            return;
+        }
+        if (currentStartYear == null) {
+            return;
+        }
+
+        for (int offset = 0; offset <= yearsAhead; offset++) {
+            createPartition(currentStartYear + offset);
+        }
+    }
+
+    private void createPartition(final int startYear) {
+        try {
+            final Boolean created = jdbcOperations.queryForObject(
+                    CREATE_PARTITION_SQL, Boolean.class, TABLE, startYear);
+            if (Boolean.TRUE.equals(created)) {
+                logger.info("Created expenses partition for tax year {}-{}", startYear, startYear + 1);
+            }
+        } catch (final DataAccessException e) {
+            logger.warn("Failed to create expenses partition for tax year {}-{}: {}",
+                    startYear, startYear + 1, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.creatorledger.expense.infrastructure;
+
+import org.creatorledger.common.EventCodec;
+import org.creatorledger.common.EventInput;
+import org.creatorledger.common.EventOutput;
+import org.creatorledger.expense.api.ExpenseCategory;
+import org.creatorledger.expense.api.ExpenseId;
+import org.creatorledger.expense.domain.ExpenseRecorded;
+import org.creatorledger.user.api.UserId;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binary codec for {@link ExpenseRecorded}, type id {@value #TYPE_ID}.
+ * <p>
+ * The category is written by name rather than ordinal, so reordering
+ * {@link ExpenseCategory} cannot change stored events.
+ * </p>
+ */
+@Component
+public class ExpenseRecordedCodec implements EventCodec<ExpenseRecorded> {
+
+    static final int TYPE_ID = 4;
+    private static final int SCHEMA_VERSION = 1;
+
+    @Override
+    public Class<ExpenseRecorded> eventType() {
+        return ExpenseRecorded.class;
+    }
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public int schemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    public void write(final ExpenseRecorded event, final EventOutput output) {
+        output.writeUuid(event.expenseId().value())
+                .writeUuid(event.userId().value())
+                .writeMoney(event.amount())
+                .writeString(event.category().name())
+                .writeString(event.description())
+                .writeLocalDate(event.incurredDate())
+                .writeInstant(event.occurredAt());
+    }
+
+    @Override
+    public ExpenseRecorded read(final int schemaVersion, final EventInput input) {
+        if (schemaVersion != SCHEMA_VERSION) {
+            throw new IllegalArgumentException("Unknown ExpenseRecorded schema version " + schemaVersion);
+        }
+        return new ExpenseRecorded(
+                ExpenseId.of(input.readUuid()),
+                UserId.of(input.readUuid()),
+                input.readMoney(),
+                ExpenseCategory.valueOf(input.readString()),
+                input.readString(),
+                input.readLocalDate(),
+                input.readInstant()
+        );
+    }
+}
@@ -0,0 +1,98 @@
+package org.creatorledger.expense.infrastructure;
+
+import jakarta.persistence.criteria.Predicate;
+import org.creatorledger.common.KeysetCursor;
+import org.creatorledger.expense.api.ExpenseCategory;
+import org.creatorledger.expense.application.SearchExpensesQuery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Criteria predicates for expense search.
+ * <p>
+ * Only the filters that are set become predicates, so every combination
+ * produces a query the planner can match to the user-scoped indexes.
+ * </p>
+ */
+final class ExpenseSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private ExpenseSpecifications() {
+    }
+
+    /**
+     * Every filter in the query, including categories.
+     */
+    static Specification<ExpenseJpaEntity> matching(final SearchExpensesQuery query) {
+        return filters(query, true);
+    }
+
+    /**
+     * Every filter in the query except categories, for counting matches per category.
+     */
+    static Specification<ExpenseJpaEntity> matchingAnyCategory(final SearchExpensesQuery query) {
+        return filters(query, false);
+    }
+
+    /**
+     * Rows that sort strictly after the cursor in (incurred date, ID) order.
+     */
+    static Specification<ExpenseJpaEntity> after(final KeysetCursor cursor) {
+        return (root, criteriaQuery, cb) -> cb.or(
+                cb.greaterThan(root.<LocalDate>get("incurredDate"), cursor.date()),
+                cb.and(
+                        cb.equal(root.get("incurredDate"), cursor.date()),
+                        cb.greaterThan(root.<UUID>get("id"), cursor.id())
+                )
+        );
+    }
+
+    private static Specification<ExpenseJpaEntity> filters(final SearchExpensesQuery query, final boolean byCategory) {
+        return (root, criteriaQuery, cb) -> {
+            final List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("userId"), query.userId().value()));
+            if (query.from() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<LocalDate>get("incurredDate"), query.from()));
+            }
+            if (query.to() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.<LocalDate>get("incurredDate"), query.to()));
+            }
+            if (byCategory && !query.categories().isEmpty()) {
+                predicates.add(root.get("category").in(query.categories().stream().map(ExpenseCategory::name).toList()));
+            }
+            if (query.minAmount() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<BigDecimal>get("amount"), query.minAmount()));
+            }
+            if (query.maxAmount() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.<BigDecimal>get("amount"), query.maxAmount()));
+            }
+            if (query.text() != null) {
+                predicates.add(cb.like(
+                        cb.lower(root.get("description")),
+                        "%" + escapeLike(query.text().toLowerCase(Locale.ROOT)) + "%",
+                        LIKE_ESCAPE
+                ));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    private static String escapeLike(final String value) {
+        final StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,19 @@
+package org.creatorledger.expense.infrastructure;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Row projection for summed expense amounts, one per user, category and currency.
+ * <p>
+ * Used when totals for a whole chunk of users are computed in a single
+ * grouped query.
+ * </p>
+ *
+ * @param userId   the user the expenses belong to
+ * @param category the expense category name
+ * @param currency the ISO currency code
+ * @param total    the summed amount for that user, category and currency
+ */
+public record ExpenseUserCategoryTotal(UUID userId, String category, String currency, BigDecimal total) {
+}
@@ -1,29 +1,142 @@
 package org.creatorledger.expense.infrastructure;
 
+import org.creatorledger.common.Money;
+import org.creatorledger.common.Versioned;
+import org.creatorledger.expense.api.ExpenseData;
+import org.creatorledger.expense.api.ExpenseCategory;
 import org.creatorledger.expense.api.ExpenseId;
+import org.creatorledger.expense.application.ExpenseChange;
 import org.creatorledger.expense.application.ExpenseRepository;
+import org.creatorledger.expense.application.SearchExpensesQuery;
 import org.creatorledger.expense.domain.Expense;
 import org.creatorledger.user.api.UserId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+/**
+ * JPA implementation of the ExpenseRepository.
+ * <p>
+ * New expenses go through Spring Data JPA, and every change to a stored
+ * expense is a direct UPDATE that increments its version. Bulk inserts from
+ * imports bypass the persistence context and are sent as chunked JDBC
+ * batches, which the PostgreSQL driver rewrites into multi-row INSERTs when
+ * {@code reWriteBatchedInserts} is enabled. Searches are built as criteria
+ * queries from {@link ExpenseSpecifications}.
+ * </p>
+ * <p>
+ * The table is partitioned by tax year and its primary key is
+ * {@code (id, incurred_date)}, so the database only keeps ids unique within a
+ * partition. Ids are {@link org.creatorledger.common.UuidV7} values generated
+ * by the application, so inserts do not look for the id in other partitions;
+ * that lookup would cost a query per insert and still race with concurrent
+ * ones.
+ * </p>
+ */
 @Repository
 public class JpaExpenseRepository implements ExpenseRepository {
 
+    static final int JDBC_BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO expenses (id, user_id, amount, currency, category, description, incurred_date)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SAVE_SQL = """
+            UPDATE expenses
+            SET user_id = ?, amount = ?, currency = ?, category = ?, description = ?, incurred_date = ?,
+                version = version + 1
+            WHERE id = ?
+            """;
+
+    private static final Sort SEARCH_ORDER = Sort.by("incurredDate", "id");
+
+    // Joining the row to itself makes RETURNING see the values from before the update
+    private static final String UPDATE_IF_VERSION_SQL = """
+            UPDATE expenses e
+            SET amount = ?, currency = ?, category = ?, description = ?, incurred_date = ?, version = e.version + 1
+            FROM expenses previous
+            WHERE e.id = ? AND e.version = ?
+              AND previous.id = e.id AND previous.incurred_date = e.incurred_date
+            RETURNING e.user_id, previous.amount, previous.currency, previous.category, previous.incurred_date, e.version
+            """;
+
     private final SpringDataExpenseRepository springDataRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
-    public JpaExpenseRepository(final SpringDataExpenseRepository springDataRepository) {
+    public JpaExpenseRepository(
+            final SpringDataExpenseRepository springDataRepository,
+            final EntityManager entityManager,
+            final JdbcTemplate jdbcTemplate
+    ) {
         this.springDataRepository = springDataRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void add(final Expense expense) {
+        springDataRepository.save(ExpenseEntityMapper.toEntity(expense));
+    }
+
+    @Override
+    public void addAll(final List<Expense> expenses) {
+        if (expenses.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                INSERT_SQL,
+                expenses,
+                JDBC_BATCH_SIZE,
+                (statement, expense) -> {
+                    statement.setObject(1, expense.id().value());
+                    statement.setObject(2, expense.userId().value());
+                    statement.setBigDecimal(3, expense.amount().amount());
+                    statement.setString(4, expense.amount().currency());
+                    statement.setString(5, expense.category().name());
+                    statement.setString(6, expense.description());
+                    statement.setObject(7, expense.incurredDate());
+                }
+        );
     }
 
     @Override
     public Expense save(final Expense expense) {
-        final ExpenseJpaEntity entity = ExpenseEntityMapper.toEntity(expense);
-        final ExpenseJpaEntity saved = springDataRepository.save(entity);
-        return ExpenseEntityMapper.toDomain(saved);
+        final int updated = bypassingPersistenceContext(() -> jdbcTemplate.update(
+                SAVE_SQL,
+                expense.userId().value(),
+                expense.amount().amount(),
+                expense.amount().currency(),
+                expense.category().name(),
+                expense.description(),
+                expense.incurredDate(),
+                expense.id().value()
+        ));
+        if (updated == 0) {
+            add(expense);
+        }
+        return expense;
     }
 
     @Override
@@ -32,6 +145,40 @@ public class JpaExpenseRepository implements ExpenseRepository {
                 .map(ExpenseEntityMapper::toDomain);
     }
 
+    @Override
+    public Optional<Versioned<Expense>> findVersionedById(final ExpenseId id) {
+        return springDataRepository.findById(id.value())
+                .map(entity -> new Versioned<>(ExpenseEntityMapper.toDomain(entity), entity.getVersion()));
+    }
+
+    @Override
+    public Optional<ExpenseChange> updateIfVersion(
+            final ExpenseId id,
+            final long expectedVersion,
+            final Money amount,
+            final ExpenseCategory category,
+            final String description,
+            final LocalDate incurredDate
+    ) {
+        return bypassingPersistenceContext(() -> jdbcTemplate.query(
+                UPDATE_IF_VERSION_SQL,
+                (resultSet, rowNum) -> new ExpenseChange(
+                        UserId.of(resultSet.getObject(1, UUID.class)),
+                        Money.of(resultSet.getBigDecimal(2), resultSet.getString(3)),
+                        ExpenseCategory.valueOf(resultSet.getString(4)),
+                        resultSet.getObject(5, LocalDate.class),
+                        resultSet.getLong(6)
+                ),
+                amount.amount(),
+                amount.currency(),
+                category.name(),
+                description,
+                incurredDate,
+                id.value(),
+                expectedVersion
+        )).stream().findFirst();
+    }
+
     @Override
     public boolean existsById(final ExpenseId id) {
         return springDataRepository.existsById(id.value());
@@ -43,14 +190,120 @@ public class JpaExpenseRepository implements ExpenseRepository {
     }
 
     @Override
-    public List<Expense> findByUserIdAndDateRange(final UserId userId, final LocalDate startDate, final LocalDate endDate) {
-        return springDataRepository.findByUserIdAndIncurredDateBetween(
-                        userId.value(),
-                        startDate,
-                        endDate
-                )
+    public List<ExpenseData> findDataByUserIdAndDateRange(final UserId userId, final LocalDate startDate, final LocalDate endDate) {
+        return springDataRepository.findDataByUserIdAndIncurredDateBetween(userId.value(), startDate, endDate)
+                .stream()
+                .map(ExpenseEntityMapper::toData)
+                .toList();
+    }
+
+    @Override
+    public Stream<ExpenseData> streamDataByUserIdAndDateRange(final UserId userId, final LocalDate startDate, final LocalDate endDate) {
+        return springDataRepository.streamDataByUserIdAndIncurredDateBetween(userId.value(), startDate, endDate)
+                .map(ExpenseEntityMapper::toData);
+    }
+
+    @Override
+    public List<ExpenseData> search(final SearchExpensesQuery query, final int limit) {
+        Specification<ExpenseJpaEntity> specification = ExpenseSpecifications.matching(query);
+        if (query.after() != null) {
+            specification = specification.and(ExpenseSpecifications.after(query.after()));
+        }
+        return springDataRepository.findBy(specification, results -> results
+                        .sortBy(SEARCH_ORDER)
+                        .limit(limit)
+                        .all())
                 .stream()
-                .map(ExpenseEntityMapper::toDomain)
+                .map(entity -> {
+                    final ExpenseData expense = ExpenseData.from(ExpenseEntityMapper.toDomain(entity));
+                    entityManager.detach(entity);
+                    return expense;
+                })
                 .toList();
     }
+
+    @Override
+    public Map<ExpenseCategory, Long> countByCategory(final SearchExpensesQuery query) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> counts = cb.createTupleQuery();
+        final Root<ExpenseJpaEntity> root = counts.from(ExpenseJpaEntity.class);
+        final Path<String> category = root.get("category");
+        counts.select(cb.tuple(category, cb.count(root)))
+                .where(ExpenseSpecifications.matchingAnyCategory(query).toPredicate(root, counts, cb))
+                .groupBy(category);
+
+        final Map<ExpenseCategory, Long> result = new EnumMap<>(ExpenseCategory.class);
+        for (final ExpenseCategory each : ExpenseCategory.values()) {
+            result.put(each, 0L);
+        }
+        for (final Tuple row : entityManager.createQuery(counts)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList()) {
+            result.put(ExpenseCategory.valueOf(row.get(0, String.class)), row.get(1, Long.class));
+        }
+        return result;
+    }
+
+    @Override
+    public Map<ExpenseCategory, Money> totalsByCategoryForUserIdAndDateRange(
+            final UserId userId,
+            final LocalDate startDate,
+            final LocalDate endDate
+    ) {
+        final Map<ExpenseCategory, Money> totals = new EnumMap<>(ExpenseCategory.class);
+        for (final ExpenseCategoryTotal row : springDataRepository.sumAmountByCategoryForUserIdAndIncurredDateBetween(
+                userId.value(),
+                startDate,
+                endDate
+        )) {
+            totals.merge(
+                    ExpenseCategory.valueOf(row.category()),
+                    Money.of(row.total(), row.currency()),
+                    Money::add
+            );
+        }
+        return Map.copyOf(totals);
+    }
+
+    @Override
+    public Map<UserId, Map<ExpenseCategory, Money>> totalsByCategoryForUserIdsAndDateRange(
+            final Collection<UserId> userIds,
+            final LocalDate startDate,
+            final LocalDate endDate
+    ) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        final Map<UserId, Map<ExpenseCategory, Money>> totals = new HashMap<>();
+        for (final ExpenseUserCategoryTotal row : springDataRepository.sumAmountByCategoryForUserIdInAndIncurredDateBetween(
+                userIds.stream().map(UserId::value).toList(),
+                startDate,
+                endDate
+        )) {
+            totals.computeIfAbsent(UserId.of(row.userId()), userId -> new EnumMap<>(ExpenseCategory.class))
+                    .merge(
+                            ExpenseCategory.valueOf(row.category()),
+                            Money.of(row.total(), row.currency()),
+                            Money::add
+                    );
+        }
+        final Map<UserId, Map<ExpenseCategory, Money>> result = new HashMap<>();
+        totals.forEach((userId, categoryTotals) -> result.put(userId, Map.copyOf(categoryTotals)));
+        return Map.copyOf(result);
+    }
+
+    /**
+     * Runs a statement that bypasses the persistence context. Pending changes
+     * are flushed first so the statement sees them, and the context is cleared
+     * afterwards so later reads in the transaction see its result.
+     */
+    private <T> T bypassingPersistenceContext(final Supplier<T> statement) {
+        if (!entityManager.isJoinedToTransaction()) {
+            return statement.get();
+        }
+        entityManager.flush();
+        final T result = statement.get();
+        entityManager.clear();
+        return result;
+    }
 }
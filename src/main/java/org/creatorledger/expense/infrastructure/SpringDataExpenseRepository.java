@@ -1,19 +1,68 @@
 package org.creatorledger.expense.infrastructure;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-interface SpringDataExpenseRepository extends JpaRepository<ExpenseJpaEntity, UUID> {
+interface SpringDataExpenseRepository extends JpaRepository<ExpenseJpaEntity, UUID>,
+        JpaSpecificationExecutor<ExpenseJpaEntity> {
 
-    @Query("SELECT e FROM ExpenseJpaEntity e WHERE e.userId = :userId AND e.incurredDate BETWEEN :startDate AND :endDate")
-    List<ExpenseJpaEntity> findByUserIdAndIncurredDateBetween(
+    int STREAM_FETCH_SIZE = 500;
+
+    @Query("SELECT new org.creatorledger.expense.infrastructure.ExpenseDataRow(e.id, e.userId, e.amount, e.currency, e.category, e.description, e.incurredDate) "
+            + "FROM ExpenseJpaEntity e "
+            + "WHERE e.userId = :userId AND e.incurredDate BETWEEN :startDate AND :endDate "
+            + "ORDER BY e.incurredDate, e.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    List<ExpenseDataRow> findDataByUserIdAndIncurredDateBetween(
+            @Param("userId") UUID userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @Query("SELECT new org.creatorledger.expense.infrastructure.ExpenseDataRow(e.id, e.userId, e.amount, e.currency, e.category, e.description, e.incurredDate) "
+            + "FROM ExpenseJpaEntity e "
+            + "WHERE e.userId = :userId AND e.incurredDate BETWEEN :startDate AND :endDate "
+            + "ORDER BY e.incurredDate, e.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ExpenseDataRow> streamDataByUserIdAndIncurredDateBetween(
             @Param("userId") UUID userId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
+
+    @Query("SELECT new org.creatorledger.expense.infrastructure.ExpenseCategoryTotal(e.category, e.currency, SUM(e.amount)) "
+            + "FROM ExpenseJpaEntity e "
+            + "WHERE e.userId = :userId AND e.incurredDate BETWEEN :startDate AND :endDate "
+            + "GROUP BY e.category, e.currency")
+    List<ExpenseCategoryTotal> sumAmountByCategoryForUserIdAndIncurredDateBetween(
+            @Param("userId") UUID userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @Query("SELECT new org.creatorledger.expense.infrastructure.ExpenseUserCategoryTotal(e.userId, e.category, e.currency, SUM(e.amount)) "
+            + "FROM ExpenseJpaEntity e "
+            + "WHERE e.userId IN :userIds AND e.incurredDate BETWEEN :startDate AND :endDate "
+            + "GROUP BY e.userId, e.category, e.currency")
+    List<ExpenseUserCategoryTotal> sumAmountByCategoryForUserIdInAndIncurredDateBetween(
+            @Param("userIds") Collection<UUID> userIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
 }
@@ -1,10 +1,14 @@
 package org.creatorledger.expense.infrastructure.web;
 
+import org.creatorledger.common.VersionTags;
 import org.creatorledger.expense.api.ExpenseId;
 import org.creatorledger.expense.application.ExpenseApplicationService;
 import org.creatorledger.expense.application.RecordExpenseCommand;
 import org.creatorledger.expense.application.UpdateExpenseCommand;
 import org.creatorledger.user.api.UserId;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -41,8 +45,17 @@ public class ExpenseController {
         }
     }
 
+    /**
+     * Updates an expense. Sending the {@code ETag} from a previous read as
+     * {@code If-Match} makes the update apply only if nobody changed the
+     * expense since; otherwise it answers 409 Conflict.
+     */
     @PutMapping("/{id}")
-    public ResponseEntity<Void> update(@PathVariable final String id, @RequestBody final UpdateExpenseRequest request) {
+    public ResponseEntity<Void> update(
+            @PathVariable final String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final String ifMatch,
+            @RequestBody final UpdateExpenseRequest request
+    ) {
         try {
             final UUID uuid = UUID.fromString(id);
             final ExpenseId expenseId = ExpenseId.of(uuid);
@@ -53,11 +66,14 @@ public class ExpenseController {
                     request.currency(),
                     request.category(),
                     request.description(),
-                    request.incurredDate()
+                    request.incurredDate(),
+                    VersionTags.parse(ifMatch)
             );
-            expenseApplicationService.update(command);
+            final long version = expenseApplicationService.update(command);
 
-            return ResponseEntity.noContent().build();
+            return ResponseEntity.noContent().eTag(VersionTags.of(version)).build();
+        } catch (final OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (final IllegalArgumentException | IllegalStateException e) {
             return ResponseEntity.badRequest().build();
         }
@@ -69,9 +85,10 @@ public class ExpenseController {
             final UUID uuid = UUID.fromString(id);
             final ExpenseId expenseId = ExpenseId.of(uuid);
 
-            return expenseApplicationService.findById(expenseId)
-                    .map(ExpenseResponse::from)
-                    .map(ResponseEntity::ok)
+            return expenseApplicationService.findVersionedById(expenseId)
+                    .map(expense -> ResponseEntity.ok()
+                            .eTag(VersionTags.of(expense.version()))
+                            .body(ExpenseResponse.from(expense.value())))
                     .orElse(ResponseEntity.notFound().build());
         } catch (final IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
@@ -0,0 +1,84 @@
+package org.creatorledger.expense.infrastructure.web;
+
+import org.creatorledger.expense.application.ExpenseImportApplicationService;
+import org.creatorledger.expense.application.ExpenseImportIncompleteException;
+import org.creatorledger.expense.application.ImportExpensesCommand;
+import org.creatorledger.user.api.UserId;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Accepts a whole file of expenses as a CSV or NDJSON request body.
+ * <p>
+ * The body is read as it arrives rather than buffered, so large statements
+ * can be uploaded in one request. Rows that fail validation are reported in
+ * the response and do not stop the rest of the file being imported. If the
+ * import fails after part of the file has been committed, the response still
+ * carries the committed counts and the line to resume from.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/expenses")
+public class ExpenseImportController {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final ExpenseImportApplicationService importApplicationService;
+
+    public ExpenseImportController(final ExpenseImportApplicationService importApplicationService) {
+        this.importApplicationService = importApplicationService;
+    }
+
+    @PostMapping(path = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ExpenseImportResponse> importExpenses(
+            @RequestParam final String userId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) final String contentType,
+            final InputStream body
+    ) {
+        try {
+            final MediaType mediaType = MediaType.parseMediaType(contentType);
+            final ImportExpensesCommand command = new ImportExpensesCommand(
+                    UserId.of(UUID.fromString(userId)),
+                    formatFor(mediaType)
+            );
+            final Charset charset = mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+            final Reader reader = new BufferedReader(new InputStreamReader(body, charset), BUFFER_SIZE);
+
+            return ResponseEntity.ok(ExpenseImportResponse.from(
+                    importApplicationService.importExpenses(command, reader)
+            ));
+        } catch (final ExpenseImportIncompleteException e) {
+            final HttpStatus status = e.getCause() instanceof IllegalArgumentException
+                    || e.getCause() instanceof IllegalStateException
+                    ? HttpStatus.BAD_REQUEST
+                    : HttpStatus.INTERNAL_SERVER_ERROR;
+            return ResponseEntity.status(status).body(ExpenseImportResponse.from(e));
+        } catch (final IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private static ExpenseImportFormat formatFor(final MediaType mediaType) {
+        for (final ExpenseImportFormat format : ExpenseImportFormat.values()) {
+            if (MediaType.parseMediaType(format.contentType()).isCompatibleWith(mediaType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported content type: " + mediaType);
+    }
+}
@@ -0,0 +1,119 @@
+package org.creatorledger.expense.infrastructure.web;
+
+import org.creatorledger.expense.application.ExpenseImportParser;
+import org.creatorledger.expense.application.ExpenseImportRow;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * File formats accepted by the expense import, chosen by the upload's
+ * content type.
+ * <p>
+ * Both formats are read one line at a time, so a row cannot span lines.
+ * </p>
+ */
+public enum ExpenseImportFormat implements ExpenseImportParser {
+
+    /**
+     * Comma-separated values with a header row naming the columns
+     * {@value #CSV_HEADER}. Fields may be double-quoted, with {@code ""}
+     * standing for a literal quote.
+     */
+    CSV("text/csv") {
+        @Override
+        public boolean hasHeader() {
+            return true;
+        }
+
+        @Override
+        public ExpenseImportRow parse(final String line) {
+            final List<String> fields = splitCsv(line);
+            if (fields.size() != COLUMN_COUNT) {
+                throw new IllegalArgumentException(
+                        "Expected " + COLUMN_COUNT + " columns but found " + fields.size());
+            }
+            return new ExpenseImportRow(fields.get(0), fields.get(1), fields.get(2), fields.get(3), fields.get(4));
+        }
+    },
+
+    /**
+     * One JSON object per line with the properties {@code amount},
+     * {@code currency}, {@code category}, {@code description} and
+     * {@code incurredDate}.
+     */
+    NDJSON("application/x-ndjson") {
+        @Override
+        public boolean hasHeader() {
+            return false;
+        }
+
+        @Override
+        public ExpenseImportRow parse(final String line) {
+            try {
+                return JSON.readValue(line, ExpenseImportRow.class);
+            } catch (final JacksonException e) {
+                throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage(), e);
+            }
+        }
+    };
+
+    static final String CSV_HEADER = "amount,currency,category,description,incurredDate";
+    private static final int COLUMN_COUNT = 5;
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private final String contentType;
+
+    ExpenseImportFormat(final String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    /**
+     * Checks that the first line of a CSV file is the expected header.
+     *
+     * @throws IllegalArgumentException if it is not
+     */
+    @Override
+    public void checkHeader(final String line) {
+        if (!CSV_HEADER.equalsIgnoreCase(line.strip())) {
+            throw new IllegalArgumentException("CSV header must be: " + CSV_HEADER);
+        }
+    }
+
+    private static List<String> splitCsv(final String line) {
+        final List<String> fields = new ArrayList<>(COLUMN_COUNT);
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,51 @@
+package org.creatorledger.expense.infrastructure.web;
+
+import org.creatorledger.expense.application.ExpenseImportIncompleteException;
+import org.creatorledger.expense.application.ExpenseImportResult;
+
+import java.util.List;
+
+/**
+ * Result of an expense import. {@code resumeFromLine} is only set when the
+ * import stopped part-way, and is the first line the client should resend.
+ */
+public record ExpenseImportResponse(
+        int imported,
+        int rejected,
+        List<RowError> errors,
+        Long resumeFromLine
+) {
+
+    public ExpenseImportResponse {
+        errors = List.copyOf(errors);
+    }
+
+    public static ExpenseImportResponse from(final ExpenseImportResult result) {
+        if (result == null) {
+            throw new IllegalArgumentException("Result cannot be null");
+        }
+        return new ExpenseImportResponse(
+                result.importedCount(),
+                result.rejectedCount(),
+                result.errors().stream()
+                        .map(error -> new RowError(error.lineNumber(), error.message()))
+                        .toList(),
+                null
+        );
+    }
+
+    public static ExpenseImportResponse from(final ExpenseImportIncompleteException failure) {
+        if (failure == null) {
+            throw new IllegalArgumentException("Failure cannot be null");
+        }
+        return new ExpenseImportResponse(
+                failure.importedCount(),
+                failure.rejectedCount(),
+                List.of(),
+                failure.resumeFromLine()
+        );
+    }
+
+    public record RowError(long line, String message) {
+    }
+}
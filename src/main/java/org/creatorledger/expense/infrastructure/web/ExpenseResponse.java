@@ -1,5 +1,6 @@
 package org.creatorledger.expense.infrastructure.web;
 
+import org.creatorledger.expense.api.ExpenseData;
 import org.creatorledger.expense.domain.Expense;
 
 public record ExpenseResponse(
@@ -26,4 +27,19 @@ public record ExpenseResponse(
                 expense.incurredDate().toString()
         );
     }
+
+    public static ExpenseResponse from(final ExpenseData expense) {
+        if (expense == null) {
+            throw new IllegalArgumentException("Expense cannot be null");
+        }
+        return new ExpenseResponse(
+                expense.id().value().toString(),
+                expense.userId().value().toString(),
+                expense.amount().amount().toString(),
+                expense.amount().currency(),
+                expense.category().name(),
+                expense.description(),
+                expense.incurredDate().toString()
+        );
+    }
 }
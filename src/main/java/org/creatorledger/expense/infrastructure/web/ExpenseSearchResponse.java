@@ -0,0 +1,38 @@
+package org.creatorledger.expense.infrastructure.web;
+
+import org.creatorledger.expense.application.ExpenseSearchResult;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A page of matching expenses plus the per-category counts for the filter
+ * sidebar. Pass {@code next} back as {@code after} to fetch the following
+ * page; it is null on the last page.
+ */
+public record ExpenseSearchResponse(
+        List<ExpenseResponse> items,
+        String next,
+        Map<String, Long> categoryCounts
+) {
+
+    public ExpenseSearchResponse {
+        items = List.copyOf(items);
+        categoryCounts = Collections.unmodifiableMap(new LinkedHashMap<>(categoryCounts));
+    }
+
+    public static ExpenseSearchResponse from(final ExpenseSearchResult result) {
+        if (result == null) {
+            throw new IllegalArgumentException("Result cannot be null");
+        }
+        final Map<String, Long> categoryCounts = new LinkedHashMap<>();
+        result.categoryCounts().forEach((category, count) -> categoryCounts.put(category.name(), count));
+        return new ExpenseSearchResponse(
+                result.items().stream().map(ExpenseResponse::from).toList(),
+                result.hasNext() ? result.next().encode() : null,
+                categoryCounts
+        );
+    }
+}
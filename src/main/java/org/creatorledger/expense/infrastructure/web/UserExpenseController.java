@@ -0,0 +1,81 @@
+package org.creatorledger.expense.infrastructure.web;
+
+import org.creatorledger.common.KeysetCursor;
+import org.creatorledger.expense.api.ExpenseCategory;
+import org.creatorledger.expense.application.ExpenseApplicationService;
+import org.creatorledger.expense.application.SearchExpensesQuery;
+import org.creatorledger.user.api.UserId;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Searches a user's expenses a page at a time.
+ * <p>
+ * Results are ordered by incurred date then ID and paged with the opaque
+ * {@code next} cursor. Every response also carries the number of matches in
+ * each category, ignoring the {@code category} filter, for the filter sidebar.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/users/{userId}/expenses")
+public class UserExpenseController {
+
+    static final int DEFAULT_LIMIT = 50;
+
+    private final ExpenseApplicationService expenseApplicationService;
+
+    public UserExpenseController(final ExpenseApplicationService expenseApplicationService) {
+        this.expenseApplicationService = expenseApplicationService;
+    }
+
+    @GetMapping
+    public ResponseEntity<ExpenseSearchResponse> search(
+            @PathVariable final String userId,
+            @RequestParam(required = false) final String from,
+            @RequestParam(required = false) final String to,
+            @RequestParam(name = "category", required = false) final List<String> categories,
+            @RequestParam(required = false) final String minAmount,
+            @RequestParam(required = false) final String maxAmount,
+            @RequestParam(name = "q", required = false) final String text,
+            @RequestParam(required = false) final String after,
+            @RequestParam(required = false) final Integer limit
+    ) {
+        try {
+            final SearchExpensesQuery query = new SearchExpensesQuery(
+                    UserId.of(UUID.fromString(userId)),
+                    from == null ? null : LocalDate.parse(from),
+                    to == null ? null : LocalDate.parse(to),
+                    toCategories(categories),
+                    minAmount == null ? null : new BigDecimal(minAmount),
+                    maxAmount == null ? null : new BigDecimal(maxAmount),
+                    text,
+                    after == null ? null : KeysetCursor.decode(after),
+                    limit == null ? DEFAULT_LIMIT : limit
+            );
+            return ResponseEntity.ok(ExpenseSearchResponse.from(expenseApplicationService.search(query)));
+        } catch (final IllegalArgumentException | IllegalStateException | DateTimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private static Set<ExpenseCategory> toCategories(final List<String> categories) {
+        if (categories == null) {
+            return Set.of();
+        }
+        return categories.stream()
+                .map(ExpenseCategory::valueOf)
+                .collect(Collectors.toSet());
+    }
+}
@@ -1,5 +1,7 @@
 package org.creatorledger.income.api;
 
+import org.creatorledger.common.UuidV7;
+
 import java.util.UUID;
 
 public record IncomeId(UUID value) {
@@ -12,7 +14,7 @@ public record IncomeId(UUID value) {
     }
 
     public static IncomeId generate() {
-        return new IncomeId(UUID.randomUUID());
+        return new IncomeId(UuidV7.generate());
     }
 
     @Override
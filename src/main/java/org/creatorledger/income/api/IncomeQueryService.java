@@ -1,9 +1,13 @@
 package org.creatorledger.income.api;
 
+import org.creatorledger.common.Money;
 import org.creatorledger.user.api.UserId;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Public API for querying income data across module boundaries.
@@ -24,4 +28,51 @@ public interface IncomeQueryService {
      * @return list of income data
      */
     List<IncomeData> findByUserIdAndDateRange(UserId userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Stream all income records for a user within a date range, ordered by date.
+     * <p>
+     * Unlike {@link #findByUserIdAndDateRange}, the range is never held in
+     * memory at once, so this is the method to use for large or multi-year
+     * ranges. The caller must invoke it inside a transaction (for example a
+     * {@code @Transactional(readOnly = true)} method) and close the stream,
+     * typically with try-with-resources.
+     * </p>
+     *
+     * @param userId the user ID
+     * @param startDate the start date (inclusive)
+     * @param endDate the end date (inclusive)
+     * @return stream of income data, to be closed by the caller
+     */
+    Stream<IncomeData> streamByUserIdAndDateRange(UserId userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Sum all income amounts for a user within a date range.
+     * <p>
+     * The sum is computed by the database, so the cost does not grow with
+     * the number of income records in the range.
+     * </p>
+     *
+     * @param userId the user ID
+     * @param startDate the start date (inclusive)
+     * @param endDate the end date (inclusive)
+     * @return the total income, zero GBP if there is none
+     */
+    Money totalByUserIdAndDateRange(UserId userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Sum income amounts for each of several users within a date range.
+     * <p>
+     * All users are covered by one grouped query, so batch callers should
+     * pass chunks of users rather than calling
+     * {@link #totalByUserIdAndDateRange} once per user. Users without any
+     * income in the range are absent from the result.
+     * </p>
+     *
+     * @param userIds the user IDs
+     * @param startDate the start date (inclusive)
+     * @param endDate the end date (inclusive)
+     * @return the total income per user
+     */
+    Map<UserId, Money> totalsByUserIdsAndDateRange(Collection<UserId> userIds, LocalDate startDate, LocalDate endDate);
 }
@@ -1,14 +1,30 @@
 package org.creatorledger.income.application;
 
+import org.creatorledger.common.Money;
 import org.creatorledger.income.api.IncomeData;
 import org.creatorledger.income.api.IncomeQueryService;
 import org.creatorledger.user.api.UserId;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
 
+/**
+ * Read-only implementation of {@link IncomeQueryService}.
+ * <p>
+ * Every method runs in a read-only transaction and reads projections
+ * straight into the published DTOs, so no entities are loaded into the
+ * persistence context and nothing is dirty-checked or flushed.
+ * </p>
+ */
 @Service
+@Transactional(readOnly = true)
 public class DefaultIncomeQueryService implements IncomeQueryService {
 
     private final IncomeRepository incomeRepository;
@@ -19,9 +35,59 @@ public class DefaultIncomeQueryService implements IncomeQueryService {
 
     @Override
     public List<IncomeData> findByUserIdAndDateRange(final UserId userId, final LocalDate startDate, final LocalDate endDate) {
+        validateDateRangeQuery(userId, startDate, endDate);
+
+        return incomeRepository.findDataByUserIdAndDateRange(userId, startDate, endDate);
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<IncomeData> streamByUserIdAndDateRange(final UserId userId, final LocalDate startDate, final LocalDate endDate) {
+        validateDateRangeQuery(userId, startDate, endDate);
+
+        return incomeRepository.streamDataByUserIdAndDateRange(userId, startDate, endDate);
+    }
+
+    @Override
+    public Money totalByUserIdAndDateRange(final UserId userId, final LocalDate startDate, final LocalDate endDate) {
+        validateDateRangeQuery(userId, startDate, endDate);
+
+        return incomeRepository.totalByUserIdAndDateRange(userId, startDate, endDate);
+    }
+
+    @Override
+    public Map<UserId, Money> totalsByUserIdsAndDateRange(
+            final Collection<UserId> userIds,
+            final LocalDate startDate,
+            final LocalDate endDate
+    ) {
+        validateMultiUserDateRangeQuery(userIds, startDate, endDate);
+
+        return incomeRepository.totalsByUserIdsAndDateRange(userIds, startDate, endDate);
+    }
+
+    private static void validateDateRangeQuery(final UserId userId, final LocalDate startDate, final LocalDate endDate) {
         if (userId == null) {
             throw new IllegalArgumentException("User ID cannot be null");
         }
+        validateDateRange(startDate, endDate);
+    }
+
+    private static void validateMultiUserDateRangeQuery(
+            final Collection<UserId> userIds,
+            final LocalDate startDate,
+            final LocalDate endDate
+    ) {
+        if (userIds == null) {
+            throw new IllegalArgumentException("User IDs cannot be null");
+        }
+        if (userIds.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("User IDs cannot contain null");
+        }
+        validateDateRange(startDate, endDate);
+    }
+
+    private static void validateDateRange(final LocalDate startDate, final LocalDate endDate) {
         if (startDate == null) {
             throw new IllegalArgumentException("Start date cannot be null");
         }
@@ -31,10 +97,5 @@ public class DefaultIncomeQueryService implements IncomeQueryService {
         if (startDate.isAfter(endDate)) {
             throw new IllegalArgumentException("Start date cannot be after end date");
         }
-
-        return incomeRepository.findByUserIdAndDateRange(userId, startDate, endDate)
-                .stream()
-                .map(IncomeData::from)
-                .toList();
     }
 }
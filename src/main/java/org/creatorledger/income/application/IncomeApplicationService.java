@@ -1,18 +1,34 @@
 package org.creatorledger.income.application;
 
+import org.creatorledger.common.KeysetCursor;
 import org.creatorledger.income.domain.Income;
 import org.creatorledger.income.domain.IncomeRecorded;
+import org.creatorledger.income.domain.IncomeStatusChanged;
+import org.creatorledger.income.domain.IncomeUpdated;
+import org.creatorledger.income.domain.PaymentStatusTransition;
+import org.creatorledger.income.api.IncomeData;
 import org.creatorledger.income.api.IncomeId;
+import org.creatorledger.income.api.PaymentStatus;
 import org.creatorledger.common.Money;
+import org.creatorledger.common.Versioned;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 @Service
 public class IncomeApplicationService {
 
+    static final int MAX_BATCH_SIZE = 500;
+
     private final IncomeRepository incomeRepository;
     private final ApplicationEventPublisher eventPublisher;
 
@@ -27,89 +43,191 @@ public class IncomeApplicationService {
         this.eventPublisher = eventPublisher;
     }
 
+    @Transactional
     public IncomeId record(final RecordIncomeCommand command) {
         if (command == null) {
             throw new IllegalArgumentException("Command cannot be null");
         }
 
-        final Money amount = Money.of(new BigDecimal(command.amount()), command.currency());
-        final Income income = Income.record(
-                IncomeId.generate(),
-                command.userId(),
-                command.eventId(),
-                amount,
-                command.description(),
-                command.receivedDate()
-        );
+        final Income income = toIncome(command);
 
-        incomeRepository.save(income);
+        incomeRepository.add(income);
 
         // Publish domain event
-        final IncomeRecorded event = IncomeRecorded.of(
-            income.id(),
-            income.userId(),
-            income.eventId(),
-            income.amount(),
-            income.description(),
-            income.receivedDate()
-        );
-        eventPublisher.publishEvent(event);
+        eventPublisher.publishEvent(recorded(income));
 
         return income.id();
     }
 
-    public void update(final UpdateIncomeCommand command) {
+    /**
+     * Records several income lines in one transaction.
+     * <p>
+     * Every line is validated before anything is written, so one invalid line
+     * rejects the whole batch. The lines are then inserted as batched
+     * statements and one {@link IncomeRecorded} event is published per line,
+     * all registered in the same transaction.
+     * </p>
+     *
+     * @param commands the lines to record, at most {@value #MAX_BATCH_SIZE}
+     * @return the new income IDs, in the same order as the commands
+     */
+    @Transactional
+    public List<IncomeId> recordAll(final List<RecordIncomeCommand> commands) {
+        if (commands == null || commands.isEmpty()) {
+            throw new IllegalArgumentException("Commands cannot be null or empty");
+        }
+        if (commands.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Cannot record more than " + MAX_BATCH_SIZE + " income lines at once");
+        }
+
+        final List<Income> incomes = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            final RecordIncomeCommand command = commands.get(i);
+            if (command == null) {
+                throw new IllegalArgumentException("Line " + (i + 1) + ": Command cannot be null");
+            }
+            try {
+                incomes.add(toIncome(command));
+            } catch (final IllegalArgumentException e) {
+                throw new IllegalArgumentException("Line " + (i + 1) + ": " + e.getMessage(), e);
+            }
+        }
+
+        incomeRepository.addAll(incomes);
+
+        // Publish domain events
+        incomes.forEach(income -> eventPublisher.publishEvent(recorded(income)));
+
+        return incomes.stream().map(Income::id).toList();
+    }
+
+    /**
+     * Edits an income's details with one conditional UPDATE.
+     * <p>
+     * When the command carries the version the client read, the update runs
+     * without reading the income first. Otherwise the income is read to
+     * validate the edit against it and to take its current version. Either
+     * way, an edit that lost a race with another edit is rejected instead of
+     * overwriting it.
+     * </p>
+     *
+     * @return the new version of the income
+     * @throws IllegalStateException             if the income does not exist
+     * @throws OptimisticLockingFailureException if the income no longer has the expected version
+     */
+    @Transactional
+    public long update(final UpdateIncomeCommand command) {
         if (command == null) {
             throw new IllegalArgumentException("Command cannot be null");
         }
 
-        final Income existingIncome = incomeRepository.findById(command.incomeId())
-                .orElseThrow(() -> new IllegalStateException("Income not found: " + command.incomeId()));
-
         final Money amount = Money.of(new BigDecimal(command.amount()), command.currency());
-        final Income updatedIncome = existingIncome.update(
+        final long expectedVersion;
+        final String description;
+        if (command.expectedVersion() != null) {
+            expectedVersion = command.expectedVersion();
+            description = command.description().trim();
+        } else {
+            final Versioned<Income> existing = incomeRepository.findVersionedById(command.incomeId())
+                    .orElseThrow(() -> new IllegalStateException("Income not found: " + command.incomeId()));
+            expectedVersion = existing.version();
+            description = existing.value().update(amount, command.description(), command.receivedDate()).description();
+        }
+
+        final IncomeChange change = incomeRepository.updateIfVersion(
+                command.incomeId(),
+                expectedVersion,
                 amount,
-                command.description(),
+                description,
                 command.receivedDate()
+        ).orElseThrow(() -> updateFailure(command.incomeId(), expectedVersion));
+
+        // Publish domain event
+        final IncomeUpdated event = IncomeUpdated.of(
+            command.incomeId(),
+            change.userId(),
+            change.previousAmount(),
+            change.previousReceivedDate(),
+            amount,
+            description,
+            command.receivedDate()
         );
+        eventPublisher.publishEvent(event);
 
-        incomeRepository.save(updatedIncome);
+        return change.version();
     }
 
+    @Transactional
     public void markAsPaid(final IncomeId incomeId) {
-        if (incomeId == null) {
-            throw new IllegalArgumentException("Income ID cannot be null");
-        }
+        changeStatus(incomeId, Income::markAsPaid);
+    }
 
-        Income income = incomeRepository.findById(incomeId)
-                .orElseThrow(() -> new IllegalStateException("Income not found: " + incomeId));
+    @Transactional
+    public void markAsOverdue(final IncomeId incomeId) {
+        changeStatus(incomeId, Income::markAsOverdue);
+    }
 
-        Income paidIncome = income.markAsPaid();
-        incomeRepository.save(paidIncome);
+    @Transactional
+    public void cancel(final IncomeId incomeId) {
+        changeStatus(incomeId, Income::cancel);
     }
 
-    public void markAsOverdue(final IncomeId incomeId) {
-        if (incomeId == null) {
-            throw new IllegalArgumentException("Income ID cannot be null");
+    /**
+     * Applies a status transition to many incomes with one conditional UPDATE.
+     * <p>
+     * Incomes that are not in a source status of the transition, or do not
+     * exist, are left alone and reported as unchanged. A single
+     * {@link IncomeStatusChanged} event lists the incomes that did change, and
+     * none is published if nothing changed.
+     * </p>
+     *
+     * @return the changed and unchanged IDs, each in request order
+     */
+    @Transactional
+    public IncomeStatusTransitionResult transitionStatus(final TransitionIncomeStatusCommand command) {
+        if (command == null) {
+            throw new IllegalArgumentException("Command cannot be null");
         }
 
-        Income income = incomeRepository.findById(incomeId)
-                .orElseThrow(() -> new IllegalStateException("Income not found: " + incomeId));
+        final PaymentStatusTransition transition = command.transition();
+        final List<IncomeId> requested = command.incomeIds().stream().distinct().toList();
+        final Set<IncomeId> changedIds = new HashSet<>(incomeRepository.updateStatus(
+                requested,
+                transition.sourceStatuses(),
+                transition.targetStatus()
+        ));
 
-        Income overdueIncome = income.markAsOverdue();
-        incomeRepository.save(overdueIncome);
-    }
+        final List<IncomeId> changed = requested.stream().filter(changedIds::contains).toList();
+        final List<IncomeId> unchanged = requested.stream().filter(id -> !changedIds.contains(id)).toList();
 
-    public void cancel(final IncomeId incomeId) {
-        if (incomeId == null) {
-            throw new IllegalArgumentException("Income ID cannot be null");
+        if (!changed.isEmpty()) {
+            // Publish domain event
+            eventPublisher.publishEvent(IncomeStatusChanged.of(changed, transition.targetStatus()));
         }
 
-        Income income = incomeRepository.findById(incomeId)
-                .orElseThrow(() -> new IllegalStateException("Income not found: " + incomeId));
+        return new IncomeStatusTransitionResult(changed, unchanged);
+    }
 
-        Income cancelledIncome = income.cancel();
-        incomeRepository.save(cancelledIncome);
+    /**
+     * Returns one page of a user's income, ordered by received date then ID.
+     * <p>
+     * One row more than the limit is read to tell whether another page
+     * follows, so the last page never costs an extra empty request.
+     * </p>
+     */
+    @Transactional(readOnly = true)
+    public IncomePage listByUser(final ListIncomeQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Query cannot be null");
+        }
+
+        final List<IncomeData> rows = incomeRepository.findPage(query, query.limit() + 1);
+        if (rows.size() <= query.limit()) {
+            return new IncomePage(rows, null);
+        }
+        final List<IncomeData> items = rows.subList(0, query.limit());
+        final IncomeData last = items.get(items.size() - 1);
+        return new IncomePage(items, new KeysetCursor(last.receivedDate(), last.id().value()));
     }
 
     public Optional<Income> findById(final IncomeId incomeId) {
@@ -119,6 +237,14 @@ public class IncomeApplicationService {
 
         return incomeRepository.findById(incomeId);
     }
+
+    public Optional<Versioned<Income>> findVersionedById(final IncomeId incomeId) {
+        if (incomeId == null) {
+            throw new IllegalArgumentException("Income ID cannot be null");
+        }
+
+        return incomeRepository.findVersionedById(incomeId);
+    }
     
     public boolean existsById(final IncomeId incomeId) {
         if (incomeId == null) {
@@ -127,4 +253,59 @@ public class IncomeApplicationService {
 
         return incomeRepository.existsById(incomeId);
     }
+
+    /**
+     * Changes one income's status with a conditional UPDATE that increments
+     * its version and only applies while the income still has the status it
+     * was read with, so a concurrent status change is rejected instead of
+     * being overwritten.
+     *
+     * @throws IllegalStateException             if the income does not exist
+     * @throws OptimisticLockingFailureException if the income's status changed concurrently
+     */
+    private void changeStatus(final IncomeId incomeId, final UnaryOperator<Income> change) {
+        if (incomeId == null) {
+            throw new IllegalArgumentException("Income ID cannot be null");
+        }
+
+        final Income income = incomeRepository.findById(incomeId)
+                .orElseThrow(() -> new IllegalStateException("Income not found: " + incomeId));
+        final PaymentStatus status = change.apply(income).status();
+
+        if (incomeRepository.updateStatus(List.of(incomeId), Set.of(income.status()), status).isEmpty()) {
+            throw new OptimisticLockingFailureException(
+                    "Income " + incomeId + " changed status concurrently; expected " + income.status());
+        }
+    }
+
+    private RuntimeException updateFailure(final IncomeId incomeId, final long expectedVersion) {
+        if (!incomeRepository.existsById(incomeId)) {
+            return new IllegalStateException("Income not found: " + incomeId);
+        }
+        return new OptimisticLockingFailureException(
+                "Income " + incomeId + " was modified concurrently; expected version " + expectedVersion);
+    }
+
+    private static Income toIncome(final RecordIncomeCommand command) {
+        final Money amount = Money.of(new BigDecimal(command.amount()), command.currency());
+        return Income.record(
+                IncomeId.generate(),
+                command.userId(),
+                command.eventId(),
+                amount,
+                command.description(),
+                command.receivedDate()
+        );
+    }
+
+    private static IncomeRecorded recorded(final Income income) {
+        return IncomeRecorded.of(
+            income.id(),
+            income.userId(),
+            income.eventId(),
+            income.amount(),
+            income.description(),
+            income.receivedDate()
+        );
+    }
 }
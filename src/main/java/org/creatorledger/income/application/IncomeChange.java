@@ -0,0 +1,22 @@
+package org.creatorledger.income.application;
+
+import org.creatorledger.common.Money;
+import org.creatorledger.user.api.UserId;
+
+import java.time.LocalDate;
+
+/**
+ * What a conditional income update changed, as returned by the update itself.
+ *
+ * @param userId               the owner of the income
+ * @param previousAmount       the amount before the update
+ * @param previousReceivedDate the received date before the update
+ * @param version              the new version of the income
+ */
+public record IncomeChange(
+        UserId userId,
+        Money previousAmount,
+        LocalDate previousReceivedDate,
+        long version
+) {
+}
@@ -0,0 +1,26 @@
+package org.creatorledger.income.application;
+
+import org.creatorledger.common.KeysetCursor;
+import org.creatorledger.income.api.IncomeData;
+
+import java.util.List;
+
+/**
+ * A page of income and the cursor for the page after it.
+ * <p>
+ * {@code next} is null on the last page.
+ * </p>
+ */
+public record IncomePage(
+    List<IncomeData> items,
+    KeysetCursor next
+) {
+
+    public IncomePage {
+        items = List.copyOf(items);
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
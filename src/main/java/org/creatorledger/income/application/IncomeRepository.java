@@ -1,17 +1,107 @@
 package org.creatorledger.income.application;
 
+import org.creatorledger.common.Money;
+import org.creatorledger.common.Versioned;
+import org.creatorledger.income.api.IncomeData;
+import org.creatorledger.income.api.PaymentStatus;
 import org.creatorledger.income.domain.Income;
 import org.creatorledger.income.api.IncomeId;
 import org.creatorledger.user.api.UserId;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface IncomeRepository {
+    /**
+     * Inserts a newly created income.
+     * <p>
+     * Unlike {@link #save}, this does not first check whether the income is
+     * already stored, so it costs a single INSERT. Use it only for incomes that
+     * have just been created.
+     * </p>
+     */
+    void add(Income income);
+
+    /**
+     * Inserts newly created incomes as batched statements, in list order.
+     * <p>
+     * The same caveat as {@link #add} applies.
+     * </p>
+     */
+    void addAll(List<Income> incomes);
+
+    /**
+     * Stores changes to an existing income and increments its version,
+     * inserting it if it is not stored yet.
+     */
     Income save(Income income);
+
+    /**
+     * Moves each listed income whose status is one of {@code fromStatuses} to
+     * {@code toStatus} with a single conditional UPDATE.
+     * <p>
+     * The update goes straight to the database and increments the version of
+     * each income it changes.
+     * </p>
+     *
+     * @return the IDs of the incomes that changed
+     */
+    List<IncomeId> updateStatus(Collection<IncomeId> ids, Set<PaymentStatus> fromStatuses, PaymentStatus toStatus);
+
+    /**
+     * Marks up to {@code limit} PENDING incomes received before the given date
+     * as OVERDUE, oldest first, with a single UPDATE.
+     * <p>
+     * Rows locked by another transaction are skipped rather than waited for,
+     * so several instances can sweep at the same time without blocking each
+     * other or marking the same income twice.
+     * </p>
+     *
+     * @return the IDs of the incomes marked overdue
+     */
+    List<IncomeId> markPendingOverdue(LocalDate receivedBefore, int limit);
+
     Optional<Income> findById(IncomeId id);
+
+    /**
+     * Reads an income together with its current version.
+     */
+    Optional<Versioned<Income>> findVersionedById(IncomeId id);
+
+    /**
+     * Replaces an income's details and increments its version, with a single
+     * {@code UPDATE ... WHERE id = ? AND version = ?} and no prior read.
+     *
+     * @return the owner, the previous details and the new version, or empty
+     *         if the income does not exist or no longer has the expected version
+     */
+    Optional<IncomeChange> updateIfVersion(IncomeId id, long expectedVersion, Money amount,
+                                           String description, LocalDate receivedDate);
     boolean existsById(IncomeId id);
     void delete(Income income);
-    List<Income> findByUserIdAndDateRange(UserId userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Reads a user's income records within a date range straight into
+     * {@link IncomeData}, without loading entities or domain objects.
+     */
+    List<IncomeData> findDataByUserIdAndDateRange(UserId userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Streaming form of {@link #findDataByUserIdAndDateRange}. Must be called
+     * inside a transaction, and the stream must be closed by the caller.
+     */
+    Stream<IncomeData> streamDataByUserIdAndDateRange(UserId userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Reads up to {@code limit} of a user's income records matching the query,
+     * ordered by received date then ID and starting after the query's cursor.
+     */
+    List<IncomeData> findPage(ListIncomeQuery query, int limit);
+    Money totalByUserIdAndDateRange(UserId userId, LocalDate startDate, LocalDate endDate);
+    Map<UserId, Money> totalsByUserIdsAndDateRange(Collection<UserId> userIds, LocalDate startDate, LocalDate endDate);
 }
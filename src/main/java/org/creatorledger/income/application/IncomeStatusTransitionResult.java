@@ -0,0 +1,23 @@
+package org.creatorledger.income.application;
+
+import org.creatorledger.income.api.IncomeId;
+
+import java.util.List;
+
+/**
+ * The outcome of a bulk status transition.
+ * <p>
+ * {@code unchanged} holds the requested incomes that were not in a source
+ * status of the transition, including any that do not exist.
+ * </p>
+ */
+public record IncomeStatusTransitionResult(
+        List<IncomeId> changed,
+        List<IncomeId> unchanged
+) {
+
+    public IncomeStatusTransitionResult {
+        changed = List.copyOf(changed);
+        unchanged = List.copyOf(unchanged);
+    }
+}
@@ -0,0 +1,38 @@
+package org.creatorledger.income.application;
+
+import org.creatorledger.common.KeysetCursor;
+import org.creatorledger.income.api.PaymentStatus;
+import org.creatorledger.user.api.UserId;
+
+import java.time.LocalDate;
+
+/**
+ * One page of a user's income, optionally filtered by received date and status.
+ * <p>
+ * {@code from}, {@code to}, {@code status} and {@code after} may be null;
+ * a null {@code after} asks for the first page.
+ * </p>
+ */
+public record ListIncomeQuery(
+    UserId userId,
+    LocalDate from,
+    LocalDate to,
+    PaymentStatus status,
+    KeysetCursor after,
+    int limit
+) {
+
+    public static final int MAX_LIMIT = 200;
+
+    public ListIncomeQuery {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("From date cannot be after to date");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+}
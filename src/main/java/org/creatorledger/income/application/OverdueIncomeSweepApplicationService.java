@@ -0,0 +1,88 @@
+package org.creatorledger.income.application;
+
+import org.creatorledger.income.api.IncomeId;
+import org.creatorledger.income.api.PaymentStatus;
+import org.creatorledger.income.domain.IncomeStatusChanged;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+/**
+ * Application service that marks late PENDING income as OVERDUE.
+ * <p>
+ * The sweep runs in chunks, each one set-based UPDATE in its own transaction
+ * that also publishes one {@link IncomeStatusChanged} event for the chunk.
+ * Rows locked by a concurrent sweep are skipped, so several instances can run
+ * it at once and share the work. The sweep stops at the first chunk that
+ * comes back short.
+ * </p>
+ */
+@Service
+public class OverdueIncomeSweepApplicationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OverdueIncomeSweepApplicationService.class);
+
+    private final IncomeRepository incomeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionOperations transactionOperations;
+
+    public OverdueIncomeSweepApplicationService(
+            final IncomeRepository incomeRepository,
+            final ApplicationEventPublisher eventPublisher,
+            final TransactionOperations transactionOperations
+    ) {
+        if (incomeRepository == null) {
+            throw new IllegalArgumentException("Income repository cannot be null");
+        }
+        if (eventPublisher == null) {
+            throw new IllegalArgumentException("Event publisher cannot be null");
+        }
+        if (transactionOperations == null) {
+            throw new IllegalArgumentException("Transaction operations cannot be null");
+        }
+        this.incomeRepository = incomeRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionOperations = transactionOperations;
+    }
+
+    /**
+     * Sweeps until no more due PENDING income is left unlocked.
+     *
+     * @return the number of incomes marked overdue by this call
+     */
+    public int sweep(final SweepOverdueIncomeCommand command) {
+        if (command == null) {
+            throw new IllegalArgumentException("Command cannot be null");
+        }
+
+        int markedOverdue = 0;
+        int chunkCount;
+        do {
+            final List<IncomeId> chunk = transactionOperations.execute(status -> sweepChunk(command));
+            chunkCount = chunk == null ? 0 : chunk.size();
+            markedOverdue += chunkCount;
+        } while (chunkCount == command.chunkSize());
+
+        if (markedOverdue > 0) {
+            logger.info("Marked {} incomes received before {} as overdue", markedOverdue, command.receivedBefore());
+        }
+        return markedOverdue;
+    }
+
+    private List<IncomeId> sweepChunk(final SweepOverdueIncomeCommand command) {
+        final List<IncomeId> overdue = incomeRepository.markPendingOverdue(
+                command.receivedBefore(),
+                command.chunkSize()
+        );
+
+        if (!overdue.isEmpty()) {
+            // Publish domain event
+            eventPublisher.publishEvent(IncomeStatusChanged.of(overdue, PaymentStatus.OVERDUE));
+        }
+        return overdue;
+    }
+}
@@ -0,0 +1,24 @@
+package org.creatorledger.income.application;
+
+import java.time.LocalDate;
+
+/**
+ * Command to mark every PENDING income received before a date as OVERDUE.
+ *
+ * @param receivedBefore income received on or after this date is not yet due
+ * @param chunkSize      number of incomes updated per transaction
+ */
+public record SweepOverdueIncomeCommand(
+        LocalDate receivedBefore,
+        int chunkSize
+) {
+
+    public SweepOverdueIncomeCommand {
+        if (receivedBefore == null) {
+            throw new IllegalArgumentException("Received before date cannot be null");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1");
+        }
+    }
+}
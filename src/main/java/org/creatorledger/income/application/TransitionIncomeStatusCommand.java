@@ -0,0 +1,31 @@
+package org.creatorledger.income.application;
+
+import org.creatorledger.income.api.IncomeId;
+import org.creatorledger.income.domain.PaymentStatusTransition;
+
+import java.util.List;
+import java.util.Objects;
+
+public record TransitionIncomeStatusCommand(
+        List<IncomeId> incomeIds,
+        PaymentStatusTransition transition
+) {
+
+    public static final int MAX_INCOMES = 500;
+
+    public TransitionIncomeStatusCommand {
+        if (incomeIds == null || incomeIds.isEmpty()) {
+            throw new IllegalArgumentException("Income IDs cannot be null or empty");
+        }
+        if (incomeIds.size() > MAX_INCOMES) {
+            throw new IllegalArgumentException("Cannot transition more than " + MAX_INCOMES + " incomes at once");
+        }
+        if (incomeIds.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Income IDs cannot contain null");
+        }
+        if (transition == null) {
+            throw new IllegalArgumentException("Transition cannot be null");
+        }
+        incomeIds = List.copyOf(incomeIds);
+    }
+}
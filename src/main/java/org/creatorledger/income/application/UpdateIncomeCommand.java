@@ -4,12 +4,19 @@ import org.creatorledger.income.api.IncomeId;
 
 import java.time.LocalDate;
 
+/**
+ * Command to edit an income's details.
+ *
+ * @param expectedVersion the version the client read, or {@code null} to edit
+ *                        whatever version is current
+ */
 public record UpdateIncomeCommand(
         IncomeId incomeId,
         String amount,
         String currency,
         String description,
-        LocalDate receivedDate
+        LocalDate receivedDate,
+        Long expectedVersion
 ) {
 
     public UpdateIncomeCommand {
@@ -28,11 +35,24 @@ public record UpdateIncomeCommand(
         if (receivedDate == null) {
             throw new IllegalArgumentException("Received date cannot be null");
         }
+        if (expectedVersion != null && expectedVersion < 0) {
+            throw new IllegalArgumentException("Expected version cannot be negative");
+        }
+    }
+
+    public UpdateIncomeCommand(
+            final IncomeId incomeId,
+            final String amount,
+            final String currency,
+            final String description,
+            final LocalDate receivedDate
+    ) {
+        this(incomeId, amount, currency, description, receivedDate, null);
     }
 
     @Override
     public String toString() {
-        return "UpdateIncomeCommand[incomeId=%s, amount=%s, currency=%s, description=%s, receivedDate=%s]"
-                .formatted(incomeId, amount, currency, description, receivedDate);
+        return "UpdateIncomeCommand[incomeId=%s, amount=%s, currency=%s, description=%s, receivedDate=%s, expectedVersion=%s]"
+                .formatted(incomeId, amount, currency, description, receivedDate, expectedVersion);
     }
 }
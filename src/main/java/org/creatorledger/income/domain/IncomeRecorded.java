@@ -4,10 +4,12 @@ import org.creatorledger.common.Money;
 import org.creatorledger.income.api.IncomeId;
 import org.creatorledger.event.api.EventId;
 import org.creatorledger.user.api.UserId;
+import org.springframework.modulith.NamedInterface;
 
 import java.time.Instant;
 import java.time.LocalDate;
 
+@NamedInterface("events")
 public record IncomeRecorded(
     IncomeId incomeId,
     UserId userId,
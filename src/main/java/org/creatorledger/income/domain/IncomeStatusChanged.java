@@ -0,0 +1,37 @@
+package org.creatorledger.income.domain;
+
+import org.creatorledger.income.api.IncomeId;
+import org.creatorledger.income.api.PaymentStatus;
+import org.springframework.modulith.NamedInterface;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Domain event published once per bulk status transition.
+ * <p>
+ * Lists only the incomes whose status actually changed, all of which now have
+ * the given status.
+ * </p>
+ */
+@NamedInterface("events")
+public record IncomeStatusChanged(
+    List<IncomeId> incomeIds,
+    PaymentStatus status,
+    Instant occurredAt
+) {
+
+    public IncomeStatusChanged {
+        incomeIds = List.copyOf(incomeIds);
+    }
+
+    public static IncomeStatusChanged of(final List<IncomeId> incomeIds, final PaymentStatus status) {
+        return new IncomeStatusChanged(incomeIds, status, Instant.now());
+    }
+
+    @Override
+    public String toString() {
+        return "IncomeStatusChanged[incomeIds=" + incomeIds.size() + ", status=" + status +
+               ", occurredAt=" + occurredAt + "]";
+    }
+}
@@ -0,0 +1,42 @@
+package org.creatorledger.income.domain;
+
+import org.creatorledger.common.Money;
+import org.creatorledger.income.api.IncomeId;
+import org.creatorledger.user.api.UserId;
+import org.springframework.modulith.NamedInterface;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Domain event published when an income's details are updated.
+ * <p>
+ * Carries the previous amount and received date alongside the new values so
+ * that listeners maintaining running totals can move the amount between
+ * periods without reloading the income.
+ * </p>
+ */
+@NamedInterface("events")
+public record IncomeUpdated(
+    IncomeId incomeId,
+    UserId userId,
+    Money previousAmount,
+    LocalDate previousReceivedDate,
+    Money amount,
+    String description,
+    LocalDate receivedDate,
+    Instant occurredAt
+) {
+    public static IncomeUpdated of(IncomeId incomeId, UserId userId, Money previousAmount, LocalDate previousReceivedDate,
+                                   Money amount, String description, LocalDate receivedDate) {
+        return new IncomeUpdated(incomeId, userId, previousAmount, previousReceivedDate, amount, description, receivedDate, Instant.now());
+    }
+
+    @Override
+    public String toString() {
+        return "IncomeUpdated[incomeId=" + incomeId + ", userId=" + userId +
+               ", previousAmount=" + previousAmount + ", previousReceivedDate=" + previousReceivedDate +
+               ", amount=" + amount + ", description=" + description +
+               ", receivedDate=" + receivedDate + ", occurredAt=" + occurredAt + "]";
+    }
+}
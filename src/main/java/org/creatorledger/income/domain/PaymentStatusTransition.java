@@ -0,0 +1,40 @@
+package org.creatorledger.income.domain;
+
+import org.creatorledger.income.api.PaymentStatus;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * A change of payment status that can be applied to many incomes at once.
+ * <p>
+ * Each transition only applies to incomes in one of its source statuses, so
+ * repeating a transition, or applying it to a settled income, changes nothing.
+ * </p>
+ */
+public enum PaymentStatusTransition {
+
+    MARK_AS_PAID(PaymentStatus.PAID, EnumSet.of(PaymentStatus.PENDING, PaymentStatus.OVERDUE)),
+    MARK_AS_OVERDUE(PaymentStatus.OVERDUE, EnumSet.of(PaymentStatus.PENDING)),
+    CANCEL(PaymentStatus.CANCELLED, EnumSet.of(PaymentStatus.PENDING, PaymentStatus.OVERDUE));
+
+    private final PaymentStatus targetStatus;
+    private final EnumSet<PaymentStatus> sourceStatuses;
+
+    PaymentStatusTransition(final PaymentStatus targetStatus, final EnumSet<PaymentStatus> sourceStatuses) {
+        this.targetStatus = targetStatus;
+        this.sourceStatuses = EnumSet.copyOf(sourceStatuses);
+    }
+
+    public PaymentStatus targetStatus() {
+        return targetStatus;
+    }
+
+    public Set<PaymentStatus> sourceStatuses() {
+        return EnumSet.copyOf(sourceStatuses);
+    }
+
+    public boolean appliesTo(final PaymentStatus status) {
+        return sourceStatuses.contains(status);
+    }
+}
@@ -0,0 +1,16 @@
+package org.creatorledger.income.infrastructure;
+
+import java.math.BigDecimal;
+
+/**
+ * Row projection for summed income amounts, one per currency.
+ * <p>
+ * Populated directly by a JPQL constructor expression so that aggregation
+ * happens in the database rather than by loading every income entity.
+ * </p>
+ *
+ * @param currency the ISO currency code
+ * @param total    the summed amount for that currency
+ */
+public record IncomeCurrencyTotal(String currency, BigDecimal total) {
+}
@@ -0,0 +1,25 @@
+package org.creatorledger.income.infrastructure;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Row projection of an income record for read-only queries.
+ * <p>
+ * Populated directly by a JPQL constructor expression, so no managed
+ * {@link IncomeJpaEntity} or domain {@code Income} is created on the way to
+ * {@code IncomeData}.
+ * </p>
+ */
+public record IncomeDataRow(
+        UUID id,
+        UUID userId,
+        UUID eventId,
+        BigDecimal amount,
+        String currency,
+        String description,
+        LocalDate receivedDate,
+        String status
+) {
+}
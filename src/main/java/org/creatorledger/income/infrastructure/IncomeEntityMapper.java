@@ -2,6 +2,7 @@ package org.creatorledger.income.infrastructure;
 
 import org.creatorledger.common.Money;
 import org.creatorledger.event.api.EventId;
+import org.creatorledger.income.api.IncomeData;
 import org.creatorledger.income.api.IncomeId;
 import org.creatorledger.income.domain.Income;
 import org.creatorledger.income.api.PaymentStatus;
@@ -50,4 +51,20 @@ public class IncomeEntityMapper {
 
         return income;
     }
+
+    /**
+     * Maps a read-only projection row straight to the published DTO, skipping
+     * the domain invariants already enforced when the income was recorded.
+     */
+    public static IncomeData toData(final IncomeDataRow row) {
+        return new IncomeData(
+                IncomeId.of(row.id()),
+                UserId.of(row.userId()),
+                EventId.of(row.eventId()),
+                Money.of(row.amount(), row.currency()),
+                row.description(),
+                row.receivedDate(),
+                PaymentStatus.valueOf(row.status())
+        );
+    }
 }
@@ -3,7 +3,12 @@ package org.creatorledger.income.infrastructure;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.hibernate.annotations.ColumnDefault;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -18,7 +23,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "income")
-public class IncomeJpaEntity {
+public class IncomeJpaEntity implements Persistable<UUID> {
 
     @Id
     @Column(name = "id", nullable = false)
@@ -45,6 +50,28 @@ public class IncomeJpaEntity {
     @Column(name = "status", nullable = false, length = 20)
     private String status;
 
+    /**
+     * Row version for optimistic updates. It is read-only here: new rows start
+     * at the column default and only the repository's conditional updates
+     * increment it.
+     */
+    @Column(name = "version", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long version;
+
+    /**
+     * Whether this entity has not been persisted yet.
+     * <p>
+     * IDs are assigned by the application, so Spring Data cannot tell new
+     * entities from existing ones by a null ID and would otherwise merge,
+     * issuing a SELECT before every INSERT. Entities built by the mapper start
+     * out new; loading or persisting one marks it as existing. The expense,
+     * event and user entities do the same.
+     * </p>
+     */
+    @Transient
+    private boolean isNew = true;
+
     /**
      * Default constructor for JPA.
      */
@@ -126,4 +153,23 @@ public class IncomeJpaEntity {
     public void setStatus(String status) {
         this.status = status;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * Marks this entity as already stored, so saving it updates the existing
+     * row instead of inserting.
+     */
+    @PostLoad
+    @PrePersist
+    void markNotNew() {
+        this.isNew = false;
+    }
 }
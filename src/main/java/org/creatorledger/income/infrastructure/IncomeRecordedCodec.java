@@ -0,0 +1,62 @@
+package org.creatorledger.income.infrastructure;
+
+import org.creatorledger.common.EventCodec;
+import org.creatorledger.common.EventInput;
+import org.creatorledger.common.EventOutput;
+import org.creatorledger.event.api.EventId;
+import org.creatorledger.income.api.IncomeId;
+import org.creatorledger.income.domain.IncomeRecorded;
+import org.creatorledger.user.api.UserId;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binary codec for {@link IncomeRecorded}, type id {@value #TYPE_ID}.
+ */
+@Component
+public class IncomeRecordedCodec implements EventCodec<IncomeRecorded> {
+
+    static final int TYPE_ID = 3;
+    private static final int SCHEMA_VERSION = 1;
+
+    @Override
+    public Class<IncomeRecorded> eventType() {
+        return IncomeRecorded.class;
+    }
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public int schemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    public void write(final IncomeRecorded event, final EventOutput output) {
+        output.writeUuid(event.incomeId().value())
+                .writeUuid(event.userId().value())
+                .writeUuid(event.eventId().value())
+                .writeMoney(event.amount())
+                .writeString(event.description())
+                .writeLocalDate(event.receivedDate())
+                .writeInstant(event.occurredAt());
+    }
+
+    @Override
+    public IncomeRecorded read(final int schemaVersion, final EventInput input) {
+        if (schemaVersion != SCHEMA_VERSION) {
+            throw new IllegalArgumentException("Unknown IncomeRecorded schema version " + schemaVersion);
+        }
+        return new IncomeRecorded(
+                IncomeId.of(input.readUuid()),
+                UserId.of(input.readUuid()),
+                EventId.of(input.readUuid()),
+                input.readMoney(),
+                input.readString(),
+                input.readLocalDate(),
+                input.readInstant()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package org.creatorledger.income.infrastructure;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Row projection for summed income amounts, one per user and currency.
+ * <p>
+ * Used when totals for a whole chunk of users are computed in a single
+ * grouped query.
+ * </p>
+ *
+ * @param userId   the user the income belongs to
+ * @param currency the ISO currency code
+ * @param total    the summed amount for that user and currency
+ */
+public record IncomeUserCurrencyTotal(UUID userId, String currency, BigDecimal total) {
+}
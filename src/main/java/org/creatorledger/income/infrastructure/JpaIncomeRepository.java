@@ -1,37 +1,188 @@
 package org.creatorledger.income.infrastructure;
 
+import org.creatorledger.common.Money;
+import org.creatorledger.common.Versioned;
+import org.creatorledger.income.api.IncomeData;
+import org.creatorledger.income.api.PaymentStatus;
+import org.creatorledger.income.application.IncomeChange;
 import org.creatorledger.income.application.IncomeRepository;
+import org.creatorledger.income.application.ListIncomeQuery;
 import org.creatorledger.income.domain.Income;
 import org.creatorledger.income.api.IncomeId;
 import org.creatorledger.user.api.UserId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * JPA implementation of the IncomeRepository.
  * <p>
  * This is an adapter that bridges the application layer's repository port
  * with Spring Data JPA infrastructure. It handles conversion between domain
- * objects and JPA entities using the IncomeEntityMapper.
+ * objects and JPA entities using the IncomeEntityMapper. Batches of new
+ * income bypass the persistence context and are sent as chunked JDBC batches.
+ * Every change to stored income is a direct UPDATE that increments its
+ * version, so the version seen by clients changes with every write.
+ * </p>
+ * <p>
+ * The table is partitioned by tax year and its primary key is
+ * {@code (id, received_date)}, so the database only keeps ids unique within a
+ * partition. Ids are {@link org.creatorledger.common.UuidV7} values generated
+ * by the application, so inserts do not look for the id in other partitions;
+ * that lookup would cost a query per insert and still race with concurrent
+ * ones.
  * </p>
  */
 @Repository
 public class JpaIncomeRepository implements IncomeRepository {
 
+    static final int JDBC_BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO income (id, user_id, event_id, amount, currency, description, received_date, status)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SAVE_SQL = """
+            UPDATE income
+            SET user_id = ?, event_id = ?, amount = ?, currency = ?, description = ?, received_date = ?, status = ?,
+                version = version + 1
+            WHERE id = ?
+            """;
+
+    private static final String UPDATE_STATUS_SQL = """
+            UPDATE income SET status = ?, version = version + 1
+            WHERE id = ANY(?) AND status = ANY(?)
+            RETURNING id
+            """;
+
+    private static final String MARK_PENDING_OVERDUE_SQL = """
+            WITH due AS (
+                SELECT id, received_date FROM income
+                WHERE status = 'PENDING' AND received_date < ?
+                ORDER BY received_date
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE income i SET status = 'OVERDUE', version = i.version + 1
+            FROM due
+            WHERE i.id = due.id AND i.received_date = due.received_date
+            RETURNING i.id
+            """;
+
+    // Joining the row to itself makes RETURNING see the values from before the update
+    private static final String UPDATE_IF_VERSION_SQL = """
+            UPDATE income i
+            SET amount = ?, currency = ?, description = ?, received_date = ?, version = i.version + 1
+            FROM income previous
+            WHERE i.id = ? AND i.version = ?
+              AND previous.id = i.id AND previous.received_date = i.received_date
+            RETURNING i.user_id, previous.amount, previous.currency, previous.received_date, i.version
+            """;
+
+    private static final String PAGE_SELECT = "SELECT new org.creatorledger.income.infrastructure.IncomeDataRow("
+            + "i.id, i.userId, i.eventId, i.amount, i.currency, i.description, i.receivedDate, i.status) "
+            + "FROM IncomeJpaEntity i ";
+
     private final SpringDataIncomeRepository springDataRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
-    public JpaIncomeRepository(SpringDataIncomeRepository springDataRepository) {
+    public JpaIncomeRepository(
+            final SpringDataIncomeRepository springDataRepository,
+            final EntityManager entityManager,
+            final JdbcTemplate jdbcTemplate
+    ) {
         this.springDataRepository = springDataRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void add(final Income income) {
+        springDataRepository.save(IncomeEntityMapper.toEntity(income));
+    }
+
+    @Override
+    public void addAll(final List<Income> incomes) {
+        if (incomes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                INSERT_SQL,
+                incomes,
+                JDBC_BATCH_SIZE,
+                (statement, income) -> {
+                    statement.setObject(1, income.id().value());
+                    statement.setObject(2, income.userId().value());
+                    statement.setObject(3, income.eventId().value());
+                    statement.setBigDecimal(4, income.amount().amount());
+                    statement.setString(5, income.amount().currency());
+                    statement.setString(6, income.description());
+                    statement.setObject(7, income.receivedDate());
+                    statement.setString(8, income.status().name());
+                }
+        );
     }
 
     @Override
     public Income save(final Income income) {
-        IncomeJpaEntity entity = IncomeEntityMapper.toEntity(income);
-        IncomeJpaEntity saved = springDataRepository.save(entity);
-        return IncomeEntityMapper.toDomain(saved);
+        final int updated = bypassingPersistenceContext(() -> jdbcTemplate.update(
+                SAVE_SQL,
+                income.userId().value(),
+                income.eventId().value(),
+                income.amount().amount(),
+                income.amount().currency(),
+                income.description(),
+                income.receivedDate(),
+                income.status().name(),
+                income.id().value()
+        ));
+        if (updated == 0) {
+            add(income);
+        }
+        return income;
+    }
+
+    @Override
+    public List<IncomeId> updateStatus(
+            final Collection<IncomeId> ids,
+            final Set<PaymentStatus> fromStatuses,
+            final PaymentStatus toStatus
+    ) {
+        if (ids.isEmpty() || fromStatuses.isEmpty()) {
+            return List.of();
+        }
+        return bypassingPersistenceContext(() -> jdbcTemplate.query(
+                UPDATE_STATUS_SQL,
+                (resultSet, rowNum) -> IncomeId.of(resultSet.getObject(1, UUID.class)),
+                toStatus.name(),
+                ids.stream().map(IncomeId::value).toArray(UUID[]::new),
+                fromStatuses.stream().map(PaymentStatus::name).toArray(String[]::new)
+        ));
+    }
+
+    @Override
+    public List<IncomeId> markPendingOverdue(final LocalDate receivedBefore, final int limit) {
+        return bypassingPersistenceContext(() -> jdbcTemplate.query(
+                MARK_PENDING_OVERDUE_SQL,
+                (resultSet, rowNum) -> IncomeId.of(resultSet.getObject(1, UUID.class)),
+                receivedBefore,
+                limit
+        ));
     }
 
     @Override
@@ -40,6 +191,37 @@ public class JpaIncomeRepository implements IncomeRepository {
                 .map(IncomeEntityMapper::toDomain);
     }
 
+    @Override
+    public Optional<Versioned<Income>> findVersionedById(final IncomeId id) {
+        return springDataRepository.findById(id.value())
+                .map(entity -> new Versioned<>(IncomeEntityMapper.toDomain(entity), entity.getVersion()));
+    }
+
+    @Override
+    public Optional<IncomeChange> updateIfVersion(
+            final IncomeId id,
+            final long expectedVersion,
+            final Money amount,
+            final String description,
+            final LocalDate receivedDate
+    ) {
+        return bypassingPersistenceContext(() -> jdbcTemplate.query(
+                UPDATE_IF_VERSION_SQL,
+                (resultSet, rowNum) -> new IncomeChange(
+                        UserId.of(resultSet.getObject(1, UUID.class)),
+                        Money.of(resultSet.getBigDecimal(2), resultSet.getString(3)),
+                        resultSet.getObject(4, LocalDate.class),
+                        resultSet.getLong(5)
+                ),
+                amount.amount(),
+                amount.currency(),
+                description,
+                receivedDate,
+                id.value(),
+                expectedVersion
+        )).stream().findFirst();
+    }
+
     @Override
     public boolean existsById(final IncomeId id) {
         return springDataRepository.existsById(id.value());
@@ -51,14 +233,102 @@ public class JpaIncomeRepository implements IncomeRepository {
     }
 
     @Override
-    public List<Income> findByUserIdAndDateRange(final UserId userId, final LocalDate startDate, final LocalDate endDate) {
-        return springDataRepository.findByUserIdAndReceivedDateBetween(
+    public List<IncomeData> findDataByUserIdAndDateRange(final UserId userId, final LocalDate startDate, final LocalDate endDate) {
+        return springDataRepository.findDataByUserIdAndReceivedDateBetween(userId.value(), startDate, endDate)
+                .stream()
+                .map(IncomeEntityMapper::toData)
+                .toList();
+    }
+
+    @Override
+    public Stream<IncomeData> streamDataByUserIdAndDateRange(final UserId userId, final LocalDate startDate, final LocalDate endDate) {
+        return springDataRepository.streamDataByUserIdAndReceivedDateBetween(userId.value(), startDate, endDate)
+                .map(IncomeEntityMapper::toData);
+    }
+
+    @Override
+    public List<IncomeData> findPage(final ListIncomeQuery query, final int limit) {
+        final StringBuilder jpql = new StringBuilder(PAGE_SELECT).append("WHERE i.userId = :userId ");
+        if (query.from() != null) {
+            jpql.append("AND i.receivedDate >= :from ");
+        }
+        if (query.to() != null) {
+            jpql.append("AND i.receivedDate <= :to ");
+        }
+        if (query.status() != null) {
+            jpql.append("AND i.status = :status ");
+        }
+        if (query.after() != null) {
+            jpql.append("AND (i.receivedDate, i.id) > (:afterDate, :afterId) ");
+        }
+        jpql.append("ORDER BY i.receivedDate, i.id");
+
+        final TypedQuery<IncomeDataRow> page = entityManager.createQuery(jpql.toString(), IncomeDataRow.class)
+                .setParameter("userId", query.userId().value())
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setMaxResults(limit);
+        if (query.from() != null) {
+            page.setParameter("from", query.from());
+        }
+        if (query.to() != null) {
+            page.setParameter("to", query.to());
+        }
+        if (query.status() != null) {
+            page.setParameter("status", query.status().name());
+        }
+        if (query.after() != null) {
+            page.setParameter("afterDate", query.after().date());
+            page.setParameter("afterId", query.after().id());
+        }
+        return page.getResultList().stream()
+                .map(IncomeEntityMapper::toData)
+                .toList();
+    }
+
+    @Override
+    public Money totalByUserIdAndDateRange(final UserId userId, final LocalDate startDate, final LocalDate endDate) {
+        return springDataRepository.sumAmountByUserIdAndReceivedDateBetween(
                         userId.value(),
                         startDate,
                         endDate
                 )
                 .stream()
-                .map(IncomeEntityMapper::toDomain)
-                .toList();
+                .map(row -> Money.of(row.total(), row.currency()))
+                .reduce(Money.zero("GBP"), Money::add);
+    }
+
+    @Override
+    public Map<UserId, Money> totalsByUserIdsAndDateRange(
+            final Collection<UserId> userIds,
+            final LocalDate startDate,
+            final LocalDate endDate
+    ) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        final Map<UserId, Money> totals = new HashMap<>();
+        for (final IncomeUserCurrencyTotal row : springDataRepository.sumAmountByUserIdInAndReceivedDateBetween(
+                userIds.stream().map(UserId::value).toList(),
+                startDate,
+                endDate
+        )) {
+            totals.merge(UserId.of(row.userId()), Money.of(row.total(), row.currency()), Money::add);
+        }
+        return Map.copyOf(totals);
+    }
+
+    /**
+     * Runs a statement that bypasses the persistence context. Pending changes
+     * are flushed first so the statement sees them, and the context is cleared
+     * afterwards so later reads in the transaction see its result.
+     */
+    private <T> T bypassingPersistenceContext(final Supplier<T> statement) {
+        if (!entityManager.isJoinedToTransaction()) {
+            return statement.get();
+        }
+        entityManager.flush();
+        final T result = statement.get();
+        entityManager.clear();
+        return result;
     }
 }
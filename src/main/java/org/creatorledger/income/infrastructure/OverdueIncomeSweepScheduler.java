@@ -0,0 +1,51 @@
+package org.creatorledger.income.infrastructure;
+
+import org.creatorledger.income.application.OverdueIncomeSweepApplicationService;
+import org.creatorledger.income.application.SweepOverdueIncomeCommand;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Runs the overdue income sweep on a cron schedule.
+ * <p>
+ * Income still PENDING more than the configured number of days after its
+ * received date is marked OVERDUE. The schedule, due window and chunk size
+ * are configured under {@code creatorledger.income.overdue-sweep}.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "creatorledger.income.overdue-sweep", name = "enabled", havingValue = "true")
+public class OverdueIncomeSweepScheduler {
+
+    private final OverdueIncomeSweepApplicationService sweepApplicationService;
+    private final ZoneId zone;
+    private final int dueAfterDays;
+    private final int chunkSize;
+
+    public OverdueIncomeSweepScheduler(
+            final OverdueIncomeSweepApplicationService sweepApplicationService,
+            @Value("${creatorledger.income.overdue-sweep.zone}") final String zone,
+            @Value("${creatorledger.income.overdue-sweep.due-after-days}") final int dueAfterDays,
+            @Value("${creatorledger.income.overdue-sweep.chunk-size}") final int chunkSize
+    ) {
+        this.sweepApplicationService = sweepApplicationService;
+        this.zone = ZoneId.of(zone);
+        this.dueAfterDays = dueAfterDays;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(
+            cron = "${creatorledger.income.overdue-sweep.cron}",
+            zone = "${creatorledger.income.overdue-sweep.zone}"
+    )
+    public void markLateIncomeOverdue() {
+        final LocalDate receivedBefore = LocalDate.now(zone).minusDays(dueAfterDays);
+
+        sweepApplicationService.sweep(new SweepOverdueIncomeCommand(receivedBefore, chunkSize));
+    }
+}
@@ -1,19 +1,66 @@
 package org.creatorledger.income.infrastructure;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 interface SpringDataIncomeRepository extends JpaRepository<IncomeJpaEntity, UUID> {
 
-    @Query("SELECT i FROM IncomeJpaEntity i WHERE i.userId = :userId AND i.receivedDate BETWEEN :startDate AND :endDate")
-    List<IncomeJpaEntity> findByUserIdAndReceivedDateBetween(
+    int STREAM_FETCH_SIZE = 500;
+
+    @Query("SELECT new org.creatorledger.income.infrastructure.IncomeDataRow(i.id, i.userId, i.eventId, i.amount, i.currency, i.description, i.receivedDate, i.status) "
+            + "FROM IncomeJpaEntity i "
+            + "WHERE i.userId = :userId AND i.receivedDate BETWEEN :startDate AND :endDate "
+            + "ORDER BY i.receivedDate, i.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    List<IncomeDataRow> findDataByUserIdAndReceivedDateBetween(
+            @Param("userId") UUID userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @Query("SELECT new org.creatorledger.income.infrastructure.IncomeDataRow(i.id, i.userId, i.eventId, i.amount, i.currency, i.description, i.receivedDate, i.status) "
+            + "FROM IncomeJpaEntity i "
+            + "WHERE i.userId = :userId AND i.receivedDate BETWEEN :startDate AND :endDate "
+            + "ORDER BY i.receivedDate, i.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<IncomeDataRow> streamDataByUserIdAndReceivedDateBetween(
             @Param("userId") UUID userId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
+
+    @Query("SELECT new org.creatorledger.income.infrastructure.IncomeCurrencyTotal(i.currency, SUM(i.amount)) "
+            + "FROM IncomeJpaEntity i "
+            + "WHERE i.userId = :userId AND i.receivedDate BETWEEN :startDate AND :endDate "
+            + "GROUP BY i.currency")
+    List<IncomeCurrencyTotal> sumAmountByUserIdAndReceivedDateBetween(
+            @Param("userId") UUID userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @Query("SELECT new org.creatorledger.income.infrastructure.IncomeUserCurrencyTotal(i.userId, i.currency, SUM(i.amount)) "
+            + "FROM IncomeJpaEntity i "
+            + "WHERE i.userId IN :userIds AND i.receivedDate BETWEEN :startDate AND :endDate "
+            + "GROUP BY i.userId, i.currency")
+    List<IncomeUserCurrencyTotal> sumAmountByUserIdInAndReceivedDateBetween(
+            @Param("userIds") Collection<UUID> userIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
 }
@@ -1,15 +1,24 @@
 package org.creatorledger.income.infrastructure.web;
 
+import org.creatorledger.common.VersionTags;
 import org.creatorledger.event.api.EventId;
 import org.creatorledger.income.api.IncomeId;
 import org.creatorledger.income.application.IncomeApplicationService;
+import org.creatorledger.income.application.IncomeStatusTransitionResult;
 import org.creatorledger.income.application.RecordIncomeCommand;
+import org.creatorledger.income.application.TransitionIncomeStatusCommand;
 import org.creatorledger.income.application.UpdateIncomeCommand;
+import org.creatorledger.income.domain.PaymentStatusTransition;
 import org.creatorledger.user.api.UserId;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -42,8 +51,45 @@ public class IncomeController {
         }
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<RecordIncomeBatchResponse> recordBatch(@RequestBody List<RecordIncomeRequest> requests) {
+        try {
+            if (requests == null) {
+                throw new IllegalArgumentException("Requests cannot be null");
+            }
+            List<RecordIncomeCommand> commands = new ArrayList<>(requests.size());
+            for (RecordIncomeRequest request : requests) {
+                if (request == null) {
+                    throw new IllegalArgumentException("Request cannot be null");
+                }
+                commands.add(new RecordIncomeCommand(
+                        UserId.of(request.userId()),
+                        EventId.of(request.eventId()),
+                        request.amount(),
+                        request.currency(),
+                        request.description(),
+                        request.receivedDate()
+                ));
+            }
+            List<IncomeId> incomeIds = incomeApplicationService.recordAll(commands);
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(RecordIncomeBatchResponse.from(incomeIds));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Updates an income. Sending the {@code ETag} from a previous read as
+     * {@code If-Match} makes the update apply only if nobody changed the
+     * income since; otherwise it answers 409 Conflict.
+     */
     @PutMapping("/{id}")
-    public ResponseEntity<Void> update(@PathVariable String id, @RequestBody UpdateIncomeRequest request) {
+    public ResponseEntity<Void> update(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody UpdateIncomeRequest request
+    ) {
         try {
             UUID uuid = UUID.fromString(id);
             IncomeId incomeId = IncomeId.of(uuid);
@@ -53,11 +99,14 @@ public class IncomeController {
                     request.amount(),
                     request.currency(),
                     request.description(),
-                    request.receivedDate()
+                    request.receivedDate(),
+                    VersionTags.parse(ifMatch)
             );
-            incomeApplicationService.update(command);
+            long version = incomeApplicationService.update(command);
 
-            return ResponseEntity.noContent().build();
+            return ResponseEntity.noContent().eTag(VersionTags.of(version)).build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (IllegalArgumentException | IllegalStateException e) {
             return ResponseEntity.badRequest().build();
         }
@@ -69,9 +118,10 @@ public class IncomeController {
             UUID uuid = UUID.fromString(id);
             IncomeId incomeId = IncomeId.of(uuid);
 
-            return incomeApplicationService.findById(incomeId)
-                    .map(IncomeResponse::from)
-                    .map(ResponseEntity::ok)
+            return incomeApplicationService.findVersionedById(incomeId)
+                    .map(income -> ResponseEntity.ok()
+                            .eTag(VersionTags.of(income.version()))
+                            .body(IncomeResponse.from(income.value())))
                     .orElse(ResponseEntity.notFound().build());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
@@ -91,6 +141,11 @@ public class IncomeController {
         }
     }
 
+    /**
+     * Marks an income as paid. Like the other single status changes, it
+     * increments the income's version, and answers 409 Conflict if the status
+     * changed while the request was being handled.
+     */
     @PutMapping("/{id}/mark-as-paid")
     public ResponseEntity<Void> markAsPaid(@PathVariable String id) {
         try {
@@ -99,6 +154,8 @@ public class IncomeController {
 
             incomeApplicationService.markAsPaid(incomeId);
             return ResponseEntity.noContent().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (IllegalArgumentException | IllegalStateException e) {
             return ResponseEntity.badRequest().build();
         }
@@ -112,6 +169,8 @@ public class IncomeController {
 
             incomeApplicationService.markAsOverdue(incomeId);
             return ResponseEntity.noContent().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (IllegalArgumentException | IllegalStateException e) {
             return ResponseEntity.badRequest().build();
         }
@@ -125,6 +184,45 @@ public class IncomeController {
 
             incomeApplicationService.cancel(incomeId);
             return ResponseEntity.noContent().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PutMapping("/batch/mark-as-paid")
+    public ResponseEntity<IncomeStatusTransitionResponse> markAllAsPaid(@RequestBody List<String> ids) {
+        return transitionAll(ids, PaymentStatusTransition.MARK_AS_PAID);
+    }
+
+    @PutMapping("/batch/mark-as-overdue")
+    public ResponseEntity<IncomeStatusTransitionResponse> markAllAsOverdue(@RequestBody List<String> ids) {
+        return transitionAll(ids, PaymentStatusTransition.MARK_AS_OVERDUE);
+    }
+
+    @PutMapping("/batch/cancel")
+    public ResponseEntity<IncomeStatusTransitionResponse> cancelAll(@RequestBody List<String> ids) {
+        return transitionAll(ids, PaymentStatusTransition.CANCEL);
+    }
+
+    private ResponseEntity<IncomeStatusTransitionResponse> transitionAll(List<String> ids, PaymentStatusTransition transition) {
+        try {
+            if (ids == null) {
+                throw new IllegalArgumentException("IDs cannot be null");
+            }
+            List<IncomeId> incomeIds = new ArrayList<>(ids.size());
+            for (String id : ids) {
+                if (id == null) {
+                    throw new IllegalArgumentException("ID cannot be null");
+                }
+                incomeIds.add(IncomeId.of(UUID.fromString(id)));
+            }
+            IncomeStatusTransitionResult result = incomeApplicationService.transitionStatus(
+                    new TransitionIncomeStatusCommand(incomeIds, transition)
+            );
+
+            return ResponseEntity.ok(IncomeStatusTransitionResponse.from(result));
         } catch (IllegalArgumentException | IllegalStateException e) {
             return ResponseEntity.badRequest().build();
         }
@@ -0,0 +1,29 @@
+package org.creatorledger.income.infrastructure.web;
+
+import org.creatorledger.income.application.IncomePage;
+
+import java.util.List;
+
+/**
+ * A page of income; pass {@code next} back as {@code after} to fetch the
+ * following page. {@code next} is null on the last page.
+ */
+public record IncomePageResponse(
+        List<IncomeResponse> items,
+        String next
+) {
+
+    public IncomePageResponse {
+        items = List.copyOf(items);
+    }
+
+    public static IncomePageResponse from(final IncomePage page) {
+        if (page == null) {
+            throw new IllegalArgumentException("Page cannot be null");
+        }
+        return new IncomePageResponse(
+                page.items().stream().map(IncomeResponse::from).toList(),
+                page.hasNext() ? page.next().encode() : null
+        );
+    }
+}
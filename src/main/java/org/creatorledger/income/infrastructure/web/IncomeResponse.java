@@ -1,5 +1,6 @@
 package org.creatorledger.income.infrastructure.web;
 
+import org.creatorledger.income.api.IncomeData;
 import org.creatorledger.income.domain.Income;
 
 public record IncomeResponse(
@@ -28,4 +29,20 @@ public record IncomeResponse(
                 income.status().name()
         );
     }
+
+    public static IncomeResponse from(IncomeData income) {
+        if (income == null) {
+            throw new IllegalArgumentException("Income cannot be null");
+        }
+        return new IncomeResponse(
+                income.id().value().toString(),
+                income.userId().value().toString(),
+                income.eventId().value().toString(),
+                income.amount().amount().toString(),
+                income.amount().currency(),
+                income.description(),
+                income.receivedDate().toString(),
+                income.status().name()
+        );
+    }
 }
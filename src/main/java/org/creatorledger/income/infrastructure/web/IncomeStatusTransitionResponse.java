@@ -0,0 +1,31 @@
+package org.creatorledger.income.infrastructure.web;
+
+import org.creatorledger.income.api.IncomeId;
+import org.creatorledger.income.application.IncomeStatusTransitionResult;
+
+import java.util.List;
+
+/**
+ * The IDs whose status changed in a bulk transition and those left as they were.
+ */
+public record IncomeStatusTransitionResponse(
+        List<String> changed,
+        List<String> unchanged
+) {
+
+    public IncomeStatusTransitionResponse {
+        changed = List.copyOf(changed);
+        unchanged = List.copyOf(unchanged);
+    }
+
+    public static IncomeStatusTransitionResponse from(final IncomeStatusTransitionResult result) {
+        if (result == null) {
+            throw new IllegalArgumentException("Result cannot be null");
+        }
+        return new IncomeStatusTransitionResponse(toStrings(result.changed()), toStrings(result.unchanged()));
+    }
+
+    private static List<String> toStrings(final List<IncomeId> incomeIds) {
+        return incomeIds.stream().map(incomeId -> incomeId.value().toString()).toList();
+    }
+}
@@ -0,0 +1,26 @@
+package org.creatorledger.income.infrastructure.web;
+
+import org.creatorledger.income.api.IncomeId;
+
+import java.util.List;
+
+/**
+ * The IDs of a recorded batch, in the same order as the request lines.
+ */
+public record RecordIncomeBatchResponse(
+        List<String> ids
+) {
+
+    public RecordIncomeBatchResponse {
+        ids = List.copyOf(ids);
+    }
+
+    public static RecordIncomeBatchResponse from(final List<IncomeId> incomeIds) {
+        if (incomeIds == null) {
+            throw new IllegalArgumentException("Income IDs cannot be null");
+        }
+        return new RecordIncomeBatchResponse(
+                incomeIds.stream().map(incomeId -> incomeId.value().toString()).toList()
+        );
+    }
+}
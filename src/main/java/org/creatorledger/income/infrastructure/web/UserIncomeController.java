@@ -0,0 +1,62 @@
+package org.creatorledger.income.infrastructure.web;
+
+import org.creatorledger.common.KeysetCursor;
+import org.creatorledger.income.api.PaymentStatus;
+import org.creatorledger.income.application.IncomeApplicationService;
+import org.creatorledger.income.application.ListIncomeQuery;
+import org.creatorledger.user.api.UserId;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Lists a user's income a page at a time.
+ * <p>
+ * Pages are ordered by received date then ID and addressed with the opaque
+ * {@code next} cursor from the previous page, so fetching page 100 costs the
+ * same as fetching page 1.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/users/{userId}/income")
+public class UserIncomeController {
+
+    static final int DEFAULT_LIMIT = 50;
+
+    private final IncomeApplicationService incomeApplicationService;
+
+    public UserIncomeController(final IncomeApplicationService incomeApplicationService) {
+        this.incomeApplicationService = incomeApplicationService;
+    }
+
+    @GetMapping
+    public ResponseEntity<IncomePageResponse> list(
+            @PathVariable final String userId,
+            @RequestParam(required = false) final String from,
+            @RequestParam(required = false) final String to,
+            @RequestParam(required = false) final String status,
+            @RequestParam(required = false) final String after,
+            @RequestParam(required = false) final Integer limit
+    ) {
+        try {
+            final ListIncomeQuery query = new ListIncomeQuery(
+                    UserId.of(UUID.fromString(userId)),
+                    from == null ? null : LocalDate.parse(from),
+                    to == null ? null : LocalDate.parse(to),
+                    status == null ? null : PaymentStatus.valueOf(status),
+                    after == null ? null : KeysetCursor.decode(after),
+                    limit == null ? DEFAULT_LIMIT : limit
+            );
+            return ResponseEntity.ok(IncomePageResponse.from(incomeApplicationService.listByUser(query)));
+        } catch (final IllegalArgumentException | IllegalStateException | DateTimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.creatorledger.publication.infrastructure;
+
+import org.creatorledger.common.EventCodec;
+import org.creatorledger.common.EventInput;
+import org.creatorledger.common.EventOutput;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.modulith.events.core.EventSerializer;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Stores domain events in a compact binary format, Base64 encoded to fit the
+ * registry's text column.
+ * <p>
+ * This is the event publication registry's {@link EventSerializer}: as an
+ * application bean it replaces the Jackson serializer Spring Modulith
+ * configures otherwise, so every publication is written and read through it.
+ * </p>
+ * <p>
+ * A stored event is a format byte, the {@link EventCodec#typeId() type id}
+ * and {@link EventCodec#schemaVersion() schema version} of its codec, and the
+ * fields the codec wrote. Events without a registered codec are stored as
+ * JSON, using the application's {@link JsonMapper}.
+ * </p>
+ * <p>
+ * Rows written as JSON before this format, which always start with
+ * {@code '{'}, are still read as JSON, so existing publications need no
+ * migration. Setting {@code creatorledger.event-publication.serializer.format}
+ * to {@code json} writes JSON again while still reading binary rows, which
+ * allows a rollback.
+ * </p>
+ */
+@Component
+public class CompactEventSerializer implements EventSerializer {
+
+    static final int FORMAT = 1;
+
+    private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+
+    enum Format { BINARY, JSON }
+
+    private final Map<Class<?>, EventCodec<?>> codecsByType = new HashMap<>();
+    private final Map<Integer, EventCodec<?>> codecsById = new HashMap<>();
+    private final EventSerializer json;
+    private final Format format;
+
+    public CompactEventSerializer(
+            final List<EventCodec<?>> codecs,
+            final JsonMapper jsonMapper,
+            @Value("${creatorledger.event-publication.serializer.format}") final String format
+    ) {
+        for (final EventCodec<?> codec : codecs) {
+            if (codecsById.putIfAbsent(codec.typeId(), codec) != null) {
+                throw new IllegalArgumentException("Duplicate event type id " + codec.typeId()
+                        + " for " + codec.eventType().getName());
+            }
+            if (codecsByType.putIfAbsent(codec.eventType(), codec) != null) {
+                throw new IllegalArgumentException("Duplicate codec for " + codec.eventType().getName());
+            }
+        }
+        this.json = new JsonEventSerializer(jsonMapper);
+        this.format = Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+    }
+
+    @Override
+    public Object serialize(final Object event) {
+        final EventCodec<?> codec = codecsByType.get(event.getClass());
+        if (codec == null || format == Format.JSON) {
+            return json.serialize(event);
+        }
+        final EventOutput output = new EventOutput();
+        output.writeByte(FORMAT)
+                .writeVarInt(codec.typeId())
+                .writeVarInt(codec.schemaVersion());
+        write(codec, event, output);
+        return ENCODER.encodeToString(output.toByteArray());
+    }
+
+    @Override
+    public <T> T deserialize(final Object serialized, final Class<T> type) {
+        final String text = serialized.toString();
+        if (text.startsWith("{")) {
+            return json.deserialize(text, type);
+        }
+
+        final EventInput input = new EventInput(DECODER.decode(text), 0);
+        final int marker = input.readByte();
+        if (marker != FORMAT) {
+            throw new IllegalArgumentException("Unknown event format " + marker);
+        }
+        final int typeId = input.readVarInt();
+        final EventCodec<?> codec = codecsById.get(typeId);
+        if (codec == null) {
+            throw new IllegalArgumentException("Unknown event type id " + typeId);
+        }
+        if (!type.isAssignableFrom(codec.eventType())) {
+            throw new IllegalArgumentException("Event type id " + typeId + " is a "
+                    + codec.eventType().getSimpleName() + ", not a " + type.getSimpleName());
+        }
+        final Object event = codec.read(input.readVarInt(), input);
+        if (!input.isExhausted()) {
+            throw new IllegalArgumentException("Unread bytes after " + codec.eventType().getSimpleName());
+        }
+        return type.cast(event);
+    }
+
+    private static <T> void write(final EventCodec<T> codec, final Object event, final EventOutput output) {
+        codec.write(codec.eventType().cast(event), output);
+    }
+}
@@ -0,0 +1,145 @@
+package org.creatorledger.publication.infrastructure;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Moves completed event publications out of the registry table.
+ * <p>
+ * Publications completed longer ago than the configured retention are moved
+ * into {@code event_publication_archive}, partitioned by month of completion,
+ * so the registry only holds recent and incomplete publications. Archive
+ * months older than the archive retention are purged by dropping their
+ * partition, and registry rows already that old are deleted instead of
+ * archived. Rows are moved and deleted in batches, each in its own
+ * transaction, skipping rows locked by another instance. The schedule is
+ * configured under {@code creatorledger.event-publication.archive}.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "creatorledger.event-publication.archive", name = "enabled", havingValue = "true")
+public class EventPublicationArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventPublicationArchiver.class);
+
+    static final String OLDEST_COMPLETED_SQL =
+            "SELECT MIN(completion_date) FROM event_publication WHERE completion_date IS NOT NULL";
+    static final String CREATE_PARTITION_SQL = "SELECT create_event_publication_archive_partition(?)";
+    static final String DROP_PARTITIONS_SQL = "SELECT drop_event_publication_archive_partitions(?)";
+    static final String DELETE_BATCH_SQL = """
+            DELETE FROM event_publication
+            WHERE id IN (
+                SELECT id FROM event_publication
+                WHERE completion_date < ?
+                ORDER BY completion_date
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            """;
+    static final String ARCHIVE_BATCH_SQL = """
+            WITH moved AS (
+                DELETE FROM event_publication
+                WHERE id IN (
+                    SELECT id FROM event_publication
+                    WHERE completion_date < ?
+                    ORDER BY completion_date
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING id, event_type, listener_id, publication_date, serialized_event, completion_date
+            )
+            INSERT INTO event_publication_archive
+                (id, event_type, listener_id, publication_date, serialized_event, completion_date)
+            SELECT id, event_type, listener_id, publication_date, serialized_event, completion_date FROM moved
+            """;
+
+    private final JdbcOperations jdbcOperations;
+    private final TransactionOperations transactionOperations;
+    private final Duration completedRetention;
+    private final int archiveRetentionMonths;
+    private final int batchSize;
+
+    public EventPublicationArchiver(
+            final JdbcOperations jdbcOperations,
+            final TransactionOperations transactionOperations,
+            @Value("${creatorledger.event-publication.archive.completed-retention}") final Duration completedRetention,
+            @Value("${creatorledger.event-publication.archive.archive-retention-months}") final int archiveRetentionMonths,
+            @Value("${creatorledger.event-publication.archive.batch-size}") final int batchSize
+    ) {
+        this.jdbcOperations = jdbcOperations;
+        this.transactionOperations = transactionOperations;
+        this.completedRetention = completedRetention;
+        this.archiveRetentionMonths = archiveRetentionMonths;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            cron = "${creatorledger.event-publication.archive.cron}",
+            zone = "${creatorledger.event-publication.archive.zone}"
+    )
+    public void archiveCompletedPublications() {
+        archive(Instant.now());
+    }
+
+    /**
+     * Archives publications completed before {@code now} less the retention.
+     *
+     * @return the number of publications archived
+     */
+    int archive(final Instant now) {
+        final Timestamp archiveBefore = Timestamp.from(now.minus(completedRetention));
+        final LocalDate purgeBefore = archiveBefore.toLocalDateTime().toLocalDate()
+                .withDayOfMonth(1)
+                .minusMonths(archiveRetentionMonths);
+
+        final int purged = inBatches(DELETE_BATCH_SQL, Timestamp.valueOf(purgeBefore.atStartOfDay()));
+        createPartitions(purgeBefore, archiveBefore.toLocalDateTime().toLocalDate());
+        final int archived = inBatches(ARCHIVE_BATCH_SQL, archiveBefore);
+        final Integer dropped = jdbcOperations.queryForObject(DROP_PARTITIONS_SQL, Integer.class, purgeBefore);
+
+        if (archived > 0 || purged > 0 || dropped != null && dropped > 0) {
+            logger.info("Archived {} completed event publications, deleted {} and dropped {} archive partitions",
+                    archived, purged, dropped);
+        }
+        return archived;
+    }
+
+    /**
+     * Makes sure every month with rows about to be archived has a partition.
+     */
+    private void createPartitions(final LocalDate purgeBefore, final LocalDate lastMonth) {
+        final Timestamp oldest = jdbcOperations.queryForObject(OLDEST_COMPLETED_SQL, Timestamp.class);
+        if (oldest == null) {
+            return;
+        }
+        LocalDate month = oldest.toLocalDateTime().toLocalDate().withDayOfMonth(1);
+        if (month.isBefore(purgeBefore)) {
+            month = purgeBefore;
+        }
+        for (; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            jdbcOperations.queryForObject(CREATE_PARTITION_SQL, Boolean.class, month);
+        }
+    }
+
+    private int inBatches(final String sql, final Timestamp before) {
+        int total = 0;
+        int batch;
+        do {
+            final Integer rows = transactionOperations.execute(status -> jdbcOperations.update(sql, before, batchSize));
+            batch = rows == null ? 0 : rows;
+            total += batch;
+        } while (batch == batchSize);
+        return total;
+    }
+}
@@ -0,0 +1,73 @@
+package org.creatorledger.publication.infrastructure;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the size of the event publication registry as gauges.
+ * <p>
+ * {@code event.publication.incomplete} counts publications still waiting for
+ * a listener. The count grows with the backlog, so it is refreshed on a fixed
+ * delay set by {@code creatorledger.event-publication.metrics.refresh-interval}
+ * and scrapes read the last value; it reads NaN until the first refresh.
+ * {@code event.publication.rows} is the planner's row estimate for the
+ * registry table, and {@code event.publication.size} the bytes used by the
+ * registry and by its archive, tagged {@code table}. Those read the catalog
+ * and are cheap enough to query on every scrape. Every gauge reads NaN if the
+ * tables are missing.
+ * </p>
+ */
+@Component
+public class EventPublicationMetrics {
+
+    static final String INCOMPLETE_SQL = "SELECT COUNT(*) FROM event_publication WHERE completion_date IS NULL";
+    static final String ESTIMATED_ROWS_SQL =
+            "SELECT GREATEST(reltuples, 0)::BIGINT FROM pg_class WHERE oid = to_regclass('event_publication')";
+    static final String REGISTRY_SIZE_SQL =
+            "SELECT COALESCE(pg_total_relation_size(to_regclass('event_publication')), 0)";
+    static final String ARCHIVE_SIZE_SQL = """
+            SELECT COALESCE(SUM(pg_total_relation_size(relid)), 0)
+            FROM pg_partition_tree(to_regclass('event_publication_archive'))
+            """;
+
+    private final JdbcOperations jdbcOperations;
+    private volatile double incomplete = Double.NaN;
+
+    public EventPublicationMetrics(final JdbcOperations jdbcOperations, final MeterRegistry meterRegistry) {
+        this.jdbcOperations = jdbcOperations;
+        Gauge.builder("event.publication.incomplete", this, metrics -> metrics.incomplete)
+                .register(meterRegistry);
+        Gauge.builder("event.publication.rows", this, metrics -> metrics.query(ESTIMATED_ROWS_SQL))
+                .tag("table", "event_publication")
+                .register(meterRegistry);
+        Gauge.builder("event.publication.size", this, metrics -> metrics.query(REGISTRY_SIZE_SQL))
+                .tag("table", "event_publication")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("event.publication.size", this, metrics -> metrics.query(ARCHIVE_SIZE_SQL))
+                .tag("table", "event_publication_archive")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${creatorledger.event-publication.metrics.refresh-interval}",
+            initialDelayString = "${creatorledger.event-publication.metrics.refresh-interval}"
+    )
+    public void refreshIncomplete() {
+        incomplete = query(INCOMPLETE_SQL);
+    }
+
+    double query(final String sql) {
+        try {
+            final Long value = jdbcOperations.queryForObject(sql, Long.class);
+            return value == null ? Double.NaN : value;
+        } catch (final DataAccessException e) {
+            return Double.NaN;
+        }
+    }
+}
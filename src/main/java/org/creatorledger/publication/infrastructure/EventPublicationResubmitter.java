@@ -0,0 +1,355 @@
+package org.creatorledger.publication.infrastructure;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.modulith.events.core.EventSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalApplicationListener;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Replays the event publications left incomplete by a previous run.
+ * <p>
+ * Once the application is ready, publications that were incomplete when it
+ * started are read straight from {@code event_publication} in id-ordered
+ * pages, using the partial index on the ids of incomplete rows. Modulith's
+ * {@code IncompleteEventPublications} is not used because every call reloads
+ * the whole backlog.
+ * </p>
+ * <p>
+ * Each page is one task. Its events are deserialized with the registry's
+ * {@link EventSerializer} and handed to the listener each publication names.
+ * The registry marks a publication complete when its listener commits,
+ * matching it by listener and serialized event, so rows stored in an older
+ * format are rewritten in the current one first. The task then waits until
+ * the page has drained, or until the page timeout, before its permit is
+ * released.
+ * </p>
+ * <p>
+ * Tasks run on virtual threads, with a semaphore bounding how many pages are
+ * in flight so listeners and the connection pool are not flooded, and pages
+ * are paced to a maximum rate. The replay runs in the background, so
+ * readiness never waits for the backlog. A publication whose listener fails
+ * again, or whose listener no longer exists, is logged and stays incomplete
+ * for the next run.
+ * </p>
+ * <p>
+ * Progress is published as {@code event.publication.resubmission.remaining}
+ * and {@code event.publication.resubmission.progress}, from 0 to 1. Settings
+ * live under {@code creatorledger.event-publication.resubmission}.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "creatorledger.event-publication.resubmission", name = "enabled", havingValue = "true")
+public class EventPublicationResubmitter {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventPublicationResubmitter.class);
+
+    static final String COUNT_SQL = """
+            SELECT COUNT(*) FROM event_publication
+            WHERE completion_date IS NULL AND publication_date < ?
+            """;
+    static final String PAGE_SQL = """
+            SELECT id, listener_id, event_type, serialized_event FROM event_publication
+            WHERE completion_date IS NULL AND publication_date < ? AND id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+    static final String REWRITE_SQL = """
+            UPDATE event_publication SET serialized_event = ?
+            WHERE id = ? AND completion_date IS NULL
+            """;
+    static final String REMAINING_SQL = """
+            SELECT COUNT(*) FROM event_publication
+            WHERE completion_date IS NULL AND publication_date < ? AND id BETWEEN ? AND ?
+            """;
+    private static final UUID FIRST_ID = new UUID(0, 0);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(200);
+
+    record Publication(UUID id, String listenerId, String eventType, String serializedEvent) {
+    }
+
+    private final JdbcOperations jdbcOperations;
+    private final EventSerializer eventSerializer;
+    private final Supplier<Collection<ApplicationListener<?>>> applicationListeners;
+    private final int pageSize;
+    private final int maxConcurrency;
+    private final int maxPerSecond;
+    private final Duration pageTimeout;
+    private final Clock clock;
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong processed = new AtomicLong();
+
+    @Autowired
+    public EventPublicationResubmitter(
+            final JdbcOperations jdbcOperations,
+            final EventSerializer eventSerializer,
+            final AbstractApplicationContext applicationContext,
+            final MeterRegistry meterRegistry,
+            @Value("${creatorledger.event-publication.resubmission.page-size}") final int pageSize,
+            @Value("${creatorledger.event-publication.resubmission.max-concurrency}") final int maxConcurrency,
+            @Value("${creatorledger.event-publication.resubmission.max-per-second}") final int maxPerSecond,
+            @Value("${creatorledger.event-publication.resubmission.page-timeout}") final Duration pageTimeout
+    ) {
+        this(jdbcOperations, eventSerializer, applicationContext::getApplicationListeners, meterRegistry,
+                pageSize, maxConcurrency, maxPerSecond, pageTimeout, Clock.systemUTC());
+    }
+
+    EventPublicationResubmitter(
+            final JdbcOperations jdbcOperations,
+            final EventSerializer eventSerializer,
+            final Supplier<Collection<ApplicationListener<?>>> applicationListeners,
+            final MeterRegistry meterRegistry,
+            final int pageSize,
+            final int maxConcurrency,
+            final int maxPerSecond,
+            final Duration pageTimeout,
+            final Clock clock
+    ) {
+        this.jdbcOperations = jdbcOperations;
+        this.eventSerializer = eventSerializer;
+        this.applicationListeners = applicationListeners;
+        this.pageSize = pageSize;
+        this.maxConcurrency = maxConcurrency;
+        this.maxPerSecond = maxPerSecond;
+        this.pageTimeout = pageTimeout;
+        this.clock = clock;
+        Gauge.builder("event.publication.resubmission.remaining", this, EventPublicationResubmitter::remaining)
+                .register(meterRegistry);
+        Gauge.builder("event.publication.resubmission.progress", this, EventPublicationResubmitter::progress)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resubmitInBackground() {
+        final Instant startedAt = clock.instant();
+        Thread.ofVirtual()
+                .name("event-publication-resubmission")
+                .start(() -> resubmit(startedAt));
+    }
+
+    /**
+     * Resubmits the publications that were incomplete before {@code publishedBefore}.
+     *
+     * @return the number of publications completed
+     */
+    long resubmit(final Instant publishedBefore) {
+        final Timestamp before = Timestamp.from(publishedBefore);
+        final Long backlog = jdbcOperations.queryForObject(COUNT_SQL, Long.class, before);
+        total.set(backlog == null ? 0 : backlog);
+        processed.set(0);
+        if (total.get() == 0) {
+            return 0;
+        }
+
+        logger.info("Resubmitting {} incomplete event publications in pages of {}", total.get(), pageSize);
+
+        final Map<String, TransactionalApplicationListener<ApplicationEvent>> listeners = listenersById();
+        final long startedAt = System.nanoTime();
+        final AtomicLong completed = new AtomicLong();
+        final Semaphore permits = new Semaphore(maxConcurrency);
+        long submitted = 0;
+        UUID after = FIRST_ID;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Publication> page;
+            do {
+                page = jdbcOperations.query(PAGE_SQL, (rs, rowNum) -> new Publication(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("listener_id"),
+                        rs.getString("event_type"),
+                        rs.getString("serialized_event")
+                ), before, after, pageSize);
+                if (page.isEmpty()) {
+                    break;
+                }
+                after = page.get(page.size() - 1).id();
+
+                if (!acquire(permits)) {
+                    break;
+                }
+                final List<Publication> publications = page;
+                executor.submit(() -> {
+                    try {
+                        completed.addAndGet(resubmitPage(publications, listeners, before));
+                    } catch (final RuntimeException e) {
+                        logger.error("Failed to resubmit a page of {} event publications: {}",
+                                publications.size(), e.getMessage(), e);
+                    } finally {
+                        permits.release();
+                        processed.addAndGet(publications.size());
+                    }
+                });
+
+                submitted += page.size();
+                if (!pace(startedAt, submitted)) {
+                    break;
+                }
+            } while (page.size() == pageSize);
+        }
+
+        logger.info("Completed {} of {} incomplete event publications in {}ms",
+                completed.get(), total.get(), Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        return completed.get();
+    }
+
+    long remaining() {
+        return Math.max(0, total.get() - processed.get());
+    }
+
+    double progress() {
+        final long backlog = total.get();
+        return backlog == 0 ? 1.0 : Math.min(1.0, (double) processed.get() / backlog);
+    }
+
+    /**
+     * Hands each publication on the page to its listener and waits for the
+     * page to drain.
+     *
+     * @return the number of publications completed
+     */
+    private long resubmitPage(
+            final List<Publication> page,
+            final Map<String, TransactionalApplicationListener<ApplicationEvent>> listeners,
+            final Timestamp before
+    ) {
+        final Map<Publication, Object> events = new LinkedHashMap<>();
+        final List<Object[]> rewrites = new ArrayList<>();
+        for (final Publication publication : page) {
+            if (!listeners.containsKey(publication.listenerId())) {
+                logger.warn("No listener {} for event publication {}", publication.listenerId(), publication.id());
+                continue;
+            }
+            try {
+                final Object event = eventSerializer.deserialize(
+                        publication.serializedEvent(), Class.forName(publication.eventType()));
+                final Object serialized = eventSerializer.serialize(event);
+                if (!publication.serializedEvent().equals(serialized)) {
+                    rewrites.add(new Object[]{serialized, publication.id()});
+                }
+                events.put(publication, event);
+            } catch (final RuntimeException | ClassNotFoundException e) {
+                logger.warn("Cannot read event publication {}: {}", publication.id(), e.getMessage(), e);
+            }
+        }
+        if (!rewrites.isEmpty()) {
+            jdbcOperations.batchUpdate(REWRITE_SQL, rewrites);
+        }
+
+        events.forEach((publication, event) -> {
+            try {
+                listeners.get(publication.listenerId()).processEvent(applicationEvent(event));
+            } catch (final RuntimeException e) {
+                logger.warn("Event publication {} failed again: {}", publication.id(), e.getMessage(), e);
+            }
+        });
+
+        final long remaining = awaitDrained(page, before);
+        if (remaining > 0) {
+            logger.warn("{} of {} resubmitted event publications are still incomplete", remaining, page.size());
+        }
+        return page.size() - remaining;
+    }
+
+    /**
+     * Waits until no publication on the page is incomplete, or the page
+     * timeout has passed.
+     *
+     * @return the number of publications on the page still incomplete
+     */
+    private long awaitDrained(final List<Publication> page, final Timestamp before) {
+        final long deadline = System.nanoTime() + pageTimeout.toNanos();
+        while (true) {
+            final Long incomplete = jdbcOperations.queryForObject(REMAINING_SQL, Long.class,
+                    before, page.get(0).id(), page.get(page.size() - 1).id());
+            final long remaining = incomplete == null ? 0 : incomplete;
+            if (remaining == 0 || System.nanoTime() >= deadline) {
+                return remaining;
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return remaining;
+            }
+        }
+    }
+
+    private ApplicationEvent applicationEvent(final Object event) {
+        return event instanceof ApplicationEvent applicationEvent
+                ? applicationEvent
+                : new PayloadApplicationEvent<>(this, event);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, TransactionalApplicationListener<ApplicationEvent>> listenersById() {
+        final Map<String, TransactionalApplicationListener<ApplicationEvent>> listeners = new HashMap<>();
+        for (final ApplicationListener<?> listener : applicationListeners.get()) {
+            if (listener instanceof TransactionalApplicationListener<?> transactional) {
+                listeners.put(transactional.getListenerId(),
+                        (TransactionalApplicationListener<ApplicationEvent>) transactional);
+            }
+        }
+        return listeners;
+    }
+
+    /**
+     * Waits until submitting {@code submitted} publications since
+     * {@code startedAt} is within the maximum rate.
+     *
+     * @return false if interrupted
+     */
+    private boolean pace(final long startedAt, final long submitted) {
+        final long dueAt = startedAt + TimeUnit.SECONDS.toNanos(submitted) / maxPerSecond;
+        final long wait = dueAt - System.nanoTime();
+        if (wait <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(wait);
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean acquire(final Semaphore permits) {
+        try {
+            permits.acquire();
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.creatorledger.publication.infrastructure;
+
+import org.springframework.modulith.events.core.EventSerializer;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Stores events as Jackson JSON, the registry's original format.
+ */
+final class JsonEventSerializer implements EventSerializer {
+
+    private final JsonMapper jsonMapper;
+
+    JsonEventSerializer(final JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public Object serialize(final Object event) {
+        return jsonMapper.writeValueAsString(event);
+    }
+
+    @Override
+    public <T> T deserialize(final Object serialized, final Class<T> type) {
+        try {
+            return jsonMapper.readValue(serialized.toString(), type);
+        } catch (final JacksonException e) {
+            throw new IllegalArgumentException(
+                    "Cannot read " + type.getSimpleName() + " from JSON: " + e.getOriginalMessage(), e);
+        }
+    }
+}
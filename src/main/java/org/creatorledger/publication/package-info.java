@@ -0,0 +1,20 @@
+/**
+ * Event publication module - storage and upkeep of the event publication registry.
+ * <p>
+ * This module serializes the domain events recorded in the registry, resubmits
+ * publications whose listeners failed, archives completed publications and
+ * reports the registry's backlog as metrics. It holds no domain types of its
+ * own, so no other module depends on it.
+ * </p>
+ * <p>
+ * <strong>Dependencies:</strong>
+ * </p>
+ * <ul>
+ *   <li>{@code common} - EventCodec, EventOutput and EventInput for the compact event format</li>
+ * </ul>
+ */
+@org.springframework.modulith.ApplicationModule(
+    displayName = "Event publication",
+    allowedDependencies = {"common"}
+)
+package org.creatorledger.publication;
@@ -1,5 +1,7 @@
 package org.creatorledger.reporting.api;
 
+import org.creatorledger.common.UuidV7;
+
 import java.util.UUID;
 
 public record TaxYearSummaryId(UUID value) {
@@ -12,7 +14,7 @@ public record TaxYearSummaryId(UUID value) {
     }
 
     public static TaxYearSummaryId generate() {
-        return new TaxYearSummaryId(UUID.randomUUID());
+        return new TaxYearSummaryId(UuidV7.generate());
     }
 
     @Override
@@ -0,0 +1,90 @@
+package org.creatorledger.reporting.application;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+
+/**
+ * Runs two independent queries concurrently on virtual threads.
+ * <p>
+ * Both queries are forked into a scope that does not outlive the call. If
+ * either fails, the other is cancelled and the failure is rethrown, so the
+ * caller waits for the slower query on success and for the first failure
+ * otherwise. This follows the shutdown-on-failure policy of structured
+ * concurrency without relying on the preview API.
+ * </p>
+ * <p>
+ * Worker threads cannot join the caller's transaction, so inside one the
+ * queries run one after the other on the calling thread and see its
+ * uncommitted changes.
+ * </p>
+ */
+final class ConcurrentQueries {
+
+    private ConcurrentQueries() {
+    }
+
+    static <A, B, R> R both(
+            final Callable<A> first,
+            final Callable<B> second,
+            final BiFunction<A, B, R> combiner
+    ) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return combiner.apply(call(first), call(second));
+        }
+        try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+            final CompletionService<Object> completion = new ExecutorCompletionService<>(scope);
+            final Future<Object> firstResult = completion.submit(first::call);
+            final Future<Object> secondResult = completion.submit(second::call);
+            try {
+                for (int completed = 0; completed < 2; completed++) {
+                    completion.take().get();
+                }
+                return combine(firstResult, secondResult, combiner);
+            } catch (final ExecutionException e) {
+                firstResult.cancel(true);
+                secondResult.cancel(true);
+                throw propagate(e.getCause());
+            } catch (final InterruptedException e) {
+                firstResult.cancel(true);
+                secondResult.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for concurrent queries", e);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A, B, R> R combine(
+            final Future<Object> first,
+            final Future<Object> second,
+            final BiFunction<A, B, R> combiner
+    ) {
+        return combiner.apply((A) first.resultNow(), (B) second.resultNow());
+    }
+
+    private static <T> T call(final Callable<T> query) {
+        try {
+            return query.call();
+        } catch (final Exception e) {
+            throw propagate(e);
+        }
+    }
+
+    private static RuntimeException propagate(final Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("Concurrent query failed", cause);
+    }
+}
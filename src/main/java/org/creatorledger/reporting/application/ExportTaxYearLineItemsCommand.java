@@ -0,0 +1,19 @@
+package org.creatorledger.reporting.application;
+
+import org.creatorledger.reporting.domain.TaxYear;
+import org.creatorledger.user.api.UserId;
+
+public record ExportTaxYearLineItemsCommand(
+    UserId userId,
+    TaxYear taxYear
+) {
+
+    public ExportTaxYearLineItemsCommand {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (taxYear == null) {
+            throw new IllegalArgumentException("Tax year cannot be null");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.creatorledger.reporting.application;
+
+import org.creatorledger.reporting.domain.TaxYear;
+
+/**
+ * Command to generate tax year summaries for every user in one batch run.
+ *
+ * @param taxYear        the tax year to summarise
+ * @param chunkSize      number of users aggregated and written per chunk
+ * @param maxConcurrency maximum number of chunks processed at the same time
+ */
+public record GenerateTaxYearSummariesCommand(
+    TaxYear taxYear,
+    int chunkSize,
+    int maxConcurrency
+) {
+
+    public GenerateTaxYearSummariesCommand {
+        if (taxYear == null) {
+            throw new IllegalArgumentException("Tax year cannot be null");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1");
+        }
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency must be at least 1");
+        }
+    }
+}
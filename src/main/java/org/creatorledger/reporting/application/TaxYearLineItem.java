@@ -0,0 +1,59 @@
+package org.creatorledger.reporting.application;
+
+import org.creatorledger.common.Money;
+import org.creatorledger.expense.api.ExpenseData;
+import org.creatorledger.income.api.IncomeData;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * One income or expense line behind a tax year summary, as exported.
+ *
+ * @param type        whether the line is income or an expense
+ * @param id          the income or expense ID
+ * @param date        the date received or incurred
+ * @param description the line description
+ * @param category    the expense category, or {@code null} for income
+ * @param status      the payment status, or {@code null} for expenses
+ * @param amount      the line amount
+ */
+public record TaxYearLineItem(
+    Type type,
+    UUID id,
+    LocalDate date,
+    String description,
+    String category,
+    String status,
+    Money amount
+) {
+
+    public enum Type {
+        INCOME,
+        EXPENSE
+    }
+
+    public static TaxYearLineItem from(final IncomeData income) {
+        return new TaxYearLineItem(
+            Type.INCOME,
+            income.id().value(),
+            income.receivedDate(),
+            income.description(),
+            null,
+            income.status().name(),
+            income.amount()
+        );
+    }
+
+    public static TaxYearLineItem from(final ExpenseData expense) {
+        return new TaxYearLineItem(
+            Type.EXPENSE,
+            expense.id().value(),
+            expense.incurredDate(),
+            expense.description(),
+            expense.category().name(),
+            null,
+            expense.amount()
+        );
+    }
+}
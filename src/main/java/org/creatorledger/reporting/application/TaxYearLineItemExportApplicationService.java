@@ -0,0 +1,82 @@
+package org.creatorledger.reporting.application;
+
+import org.creatorledger.expense.api.ExpenseData;
+import org.creatorledger.expense.api.ExpenseQueryService;
+import org.creatorledger.income.api.IncomeData;
+import org.creatorledger.income.api.IncomeQueryService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Application service that exports the income and expense lines behind a
+ * user's tax year summary.
+ * <p>
+ * Lines are read through the streaming query service methods inside one
+ * read-only transaction and handed to the sink one at a time, income first
+ * and then expenses, each in date order. Nothing is collected, so memory use
+ * does not depend on how many lines the tax year has.
+ * </p>
+ */
+@Service
+public class TaxYearLineItemExportApplicationService {
+
+    private final IncomeQueryService incomeQueryService;
+    private final ExpenseQueryService expenseQueryService;
+
+    public TaxYearLineItemExportApplicationService(
+            final IncomeQueryService incomeQueryService,
+            final ExpenseQueryService expenseQueryService
+    ) {
+        if (incomeQueryService == null) {
+            throw new IllegalArgumentException("Income query service cannot be null");
+        }
+        if (expenseQueryService == null) {
+            throw new IllegalArgumentException("Expense query service cannot be null");
+        }
+        this.incomeQueryService = incomeQueryService;
+        this.expenseQueryService = expenseQueryService;
+    }
+
+    /**
+     * Streams every line for the user's tax year to the sink.
+     *
+     * @param command the user and tax year to export
+     * @param sink    receives each line in turn
+     * @return the number of lines exported
+     */
+    @Transactional(readOnly = true)
+    public long export(final ExportTaxYearLineItemsCommand command, final Consumer<TaxYearLineItem> sink) {
+        if (command == null) {
+            throw new IllegalArgumentException("Command cannot be null");
+        }
+        if (sink == null) {
+            throw new IllegalArgumentException("Sink cannot be null");
+        }
+
+        long exported = 0;
+        try (Stream<IncomeData> income = incomeQueryService.streamByUserIdAndDateRange(
+                command.userId(),
+                command.taxYear().startDate(),
+                command.taxYear().endDate()
+        )) {
+            for (final IncomeData line : (Iterable<IncomeData>) income::iterator) {
+                sink.accept(TaxYearLineItem.from(line));
+                exported++;
+            }
+        }
+        try (Stream<ExpenseData> expenses = expenseQueryService.streamByUserIdAndDateRange(
+                command.userId(),
+                command.taxYear().startDate(),
+                command.taxYear().endDate()
+        )) {
+            for (final ExpenseData line : (Iterable<ExpenseData>) expenses::iterator) {
+                sink.accept(TaxYearLineItem.from(line));
+                exported++;
+            }
+        }
+        return exported;
+    }
+}
@@ -1,21 +1,21 @@
 package org.creatorledger.reporting.application;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.creatorledger.common.Money;
 import org.creatorledger.expense.api.ExpenseCategory;
-import org.creatorledger.expense.api.ExpenseData;
 import org.creatorledger.expense.api.ExpenseQueryService;
-import org.creatorledger.income.api.IncomeData;
 import org.creatorledger.income.api.IncomeQueryService;
 import org.creatorledger.reporting.api.TaxYearSummaryId;
 import org.creatorledger.reporting.domain.CategoryTotals;
 import org.creatorledger.reporting.domain.TaxYearSummary;
 import org.creatorledger.reporting.domain.TaxYearSummaryGenerated;
+import org.creatorledger.reporting.domain.TaxYearTotals;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
-import java.util.HashMap;
-import java.util.List;
+import java.time.LocalDate;
 import java.util.Map;
 import java.util.Optional;
 
@@ -25,13 +25,21 @@ public class TaxYearSummaryApplicationService {
     private final IncomeQueryService incomeQueryService;
     private final ExpenseQueryService expenseQueryService;
     private final TaxYearSummaryRepository taxYearSummaryRepository;
+    private final TaxYearTotalsRepository taxYearTotalsRepository;
+    private final TaxYearSummaryCache taxYearSummaryCache;
     private final ApplicationEventPublisher eventPublisher;
+    private final Timer incomeFetchTimer;
+    private final Timer expenseFetchTimer;
+    private final Timer totalsFetchTimer;
 
     public TaxYearSummaryApplicationService(
             final IncomeQueryService incomeQueryService,
             final ExpenseQueryService expenseQueryService,
             final TaxYearSummaryRepository taxYearSummaryRepository,
-            final ApplicationEventPublisher eventPublisher
+            final TaxYearTotalsRepository taxYearTotalsRepository,
+            final TaxYearSummaryCache taxYearSummaryCache,
+            final ApplicationEventPublisher eventPublisher,
+            final MeterRegistry meterRegistry
     ) {
         if (incomeQueryService == null) {
             throw new IllegalArgumentException("Income query service cannot be null");
@@ -42,45 +50,68 @@ public class TaxYearSummaryApplicationService {
         if (taxYearSummaryRepository == null) {
             throw new IllegalArgumentException("Tax year summary repository cannot be null");
         }
+        if (taxYearTotalsRepository == null) {
+            throw new IllegalArgumentException("Tax year totals repository cannot be null");
+        }
+        if (taxYearSummaryCache == null) {
+            throw new IllegalArgumentException("Tax year summary cache cannot be null");
+        }
         if (eventPublisher == null) {
             throw new IllegalArgumentException("Event publisher cannot be null");
         }
+        if (meterRegistry == null) {
+            throw new IllegalArgumentException("Meter registry cannot be null");
+        }
         this.incomeQueryService = incomeQueryService;
         this.expenseQueryService = expenseQueryService;
         this.taxYearSummaryRepository = taxYearSummaryRepository;
+        this.taxYearTotalsRepository = taxYearTotalsRepository;
+        this.taxYearSummaryCache = taxYearSummaryCache;
         this.eventPublisher = eventPublisher;
+        this.incomeFetchTimer = fetchTimer(meterRegistry, "income");
+        this.expenseFetchTimer = fetchTimer(meterRegistry, "expenses");
+        this.totalsFetchTimer = fetchTimer(meterRegistry, "all");
     }
 
+    /**
+     * Generates and stores a summary for a user's tax year.
+     * <p>
+     * The projected totals are always read, as they are shared by every
+     * instance. If this instance's cache holds a current summary built from
+     * those same totals, its ID is returned and nothing is stored or
+     * published, so a change recorded on another instance is never hidden by
+     * a cached summary.
+     * </p>
+     *
+     * @param command the user and tax year to summarise
+     * @return the ID of the current summary
+     */
     public TaxYearSummaryId generate(final GenerateTaxYearSummaryCommand command) {
         if (command == null) {
             throw new IllegalArgumentException("Command cannot be null");
         }
 
-        final List<IncomeData> incomes = incomeQueryService.findByUserIdAndDateRange(
+        final TaxYearTotals totals = taxYearTotalsRepository.findByUserIdAndTaxYear(
                 command.userId(),
-                command.taxYear().startDate(),
-                command.taxYear().endDate()
+                command.taxYear()
         );
 
-        final List<ExpenseData> expenses = expenseQueryService.findByUserIdAndDateRange(
+        final Optional<TaxYearSummary> current = taxYearSummaryCache.findCurrent(
                 command.userId(),
-                command.taxYear().startDate(),
-                command.taxYear().endDate()
-        );
-
-        final Money totalIncome = calculateTotalIncome(incomes);
-        final Money totalExpenses = calculateTotalExpenses(expenses);
-        final CategoryTotals categoryTotals = calculateCategoryTotals(expenses);
+                command.taxYear()
+        ).filter(summary -> summary.hasTotals(totals));
+        if (current.isPresent()) {
+            return current.get().id();
+        }
 
-        final TaxYearSummary summary = TaxYearSummary.generate(
+        final TaxYearSummary summary = taxYearSummaryRepository.save(TaxYearSummary.generate(
                 command.userId(),
                 command.taxYear(),
-                totalIncome,
-                totalExpenses,
-                categoryTotals
-        );
-
-        taxYearSummaryRepository.save(summary);
+                totals.totalIncome(),
+                totals.totalExpenses(),
+                totals.expenseTotals()
+        ));
+        taxYearSummaryCache.putCurrent(summary);
 
         // Publish domain event
         final TaxYearSummaryGenerated event = new TaxYearSummaryGenerated(
@@ -98,37 +129,62 @@ public class TaxYearSummaryApplicationService {
         return summary.id();
     }
 
-    public Optional<TaxYearSummary> findById(final TaxYearSummaryId id) {
-        if (id == null) {
-            throw new IllegalArgumentException("Tax year summary ID cannot be null");
+    /**
+     * Recomputes the running totals for a user's tax year from the income and
+     * expense source data, replacing whatever the projection currently holds.
+     * <p>
+     * The income and expense aggregates are fetched concurrently, so the
+     * fetch takes as long as the slower of the two; if either fails the other
+     * is cancelled. Timings are recorded as {@code reporting.totals.fetch}
+     * tagged by source.
+     * </p>
+     *
+     * @param command the user and tax year to rebuild
+     * @return the rebuilt totals
+     */
+    public TaxYearTotals rebuildTotals(final RebuildTaxYearTotalsCommand command) {
+        if (command == null) {
+            throw new IllegalArgumentException("Command cannot be null");
         }
-        return taxYearSummaryRepository.findById(id);
-    }
-
-    private Money calculateTotalIncome(final List<IncomeData> incomes) {
-        return incomes.stream()
-                .map(IncomeData::amount)
-                .reduce(Money.gbp("0.00"), Money::add);
-    }
 
-    private Money calculateTotalExpenses(final List<ExpenseData> expenses) {
-        return expenses.stream()
-                .map(ExpenseData::amount)
-                .reduce(Money.gbp("0.00"), Money::add);
+        final LocalDate startDate = command.taxYear().startDate();
+        final LocalDate endDate = command.taxYear().endDate();
+        final TaxYearTotals totals = totalsFetchTimer.record(() -> ConcurrentQueries.both(
+                () -> incomeFetchTimer.recordCallable(() -> incomeQueryService.totalByUserIdAndDateRange(
+                        command.userId(),
+                        startDate,
+                        endDate
+                )),
+                () -> expenseFetchTimer.recordCallable(() -> expenseQueryService.totalsByCategoryForUserIdAndDateRange(
+                        command.userId(),
+                        startDate,
+                        endDate
+                )),
+                (final Money totalIncome, final Map<ExpenseCategory, Money> expenseTotals) ->
+                        new TaxYearTotals(totalIncome, CategoryTotals.of(expenseTotals))
+        ));
+        taxYearTotalsRepository.replace(command.userId(), command.taxYear(), totals);
+        taxYearSummaryCache.evict(command.userId(), command.taxYear());
+        return totals;
     }
 
-    private CategoryTotals calculateCategoryTotals(final List<ExpenseData> expenses) {
-        if (expenses.isEmpty()) {
-            return CategoryTotals.empty();
+    public Optional<TaxYearSummary> findById(final TaxYearSummaryId id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Tax year summary ID cannot be null");
         }
-
-        final Map<ExpenseCategory, Money> totals = new HashMap<>();
-        for (final ExpenseData expense : expenses) {
-            final ExpenseCategory category = expense.category();
-            final Money currentTotal = totals.getOrDefault(category, Money.gbp("0.00"));
-            totals.put(category, currentTotal.add(expense.amount()));
+        final Optional<TaxYearSummary> cached = taxYearSummaryCache.findById(id);
+        if (cached.isPresent()) {
+            return cached;
         }
+        final Optional<TaxYearSummary> stored = taxYearSummaryRepository.findById(id);
+        stored.ifPresent(taxYearSummaryCache::put);
+        return stored;
+    }
 
-        return CategoryTotals.of(totals);
+    private static Timer fetchTimer(final MeterRegistry meterRegistry, final String source) {
+        return Timer.builder("reporting.totals.fetch")
+                .description("Time to fetch the source aggregates for a tax-year totals rebuild")
+                .tag("source", source)
+                .register(meterRegistry);
     }
 }
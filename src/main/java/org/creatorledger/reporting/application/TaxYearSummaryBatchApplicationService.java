@@ -0,0 +1,202 @@
+package org.creatorledger.reporting.application;
+
+import org.creatorledger.common.Money;
+import org.creatorledger.expense.api.ExpenseCategory;
+import org.creatorledger.expense.api.ExpenseQueryService;
+import org.creatorledger.income.api.IncomeQueryService;
+import org.creatorledger.reporting.domain.CategoryTotals;
+import org.creatorledger.reporting.domain.TaxYear;
+import org.creatorledger.reporting.domain.TaxYearSummary;
+import org.creatorledger.reporting.domain.TaxYearSummaryGenerated;
+import org.creatorledger.user.api.UserId;
+import org.creatorledger.user.api.UserQueryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Application service that generates tax year summaries for all users in one run.
+ * <p>
+ * Users are partitioned into chunks. Each chunk is aggregated with one income
+ * and one expense query covering all of its users, and its summaries are
+ * written back as a JDBC batch. Chunks run on virtual threads, with a
+ * semaphore bounding how many are in flight so the connection pool is not
+ * exhausted. Users with no income or expenses in the tax year are skipped.
+ * A failed chunk is logged and counted, and does not stop the other chunks.
+ * </p>
+ */
+@Service
+public class TaxYearSummaryBatchApplicationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaxYearSummaryBatchApplicationService.class);
+
+    private final UserQueryService userQueryService;
+    private final IncomeQueryService incomeQueryService;
+    private final ExpenseQueryService expenseQueryService;
+    private final TaxYearSummaryRepository taxYearSummaryRepository;
+    private final TaxYearSummaryCache taxYearSummaryCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TaxYearSummaryBatchApplicationService(
+            final UserQueryService userQueryService,
+            final IncomeQueryService incomeQueryService,
+            final ExpenseQueryService expenseQueryService,
+            final TaxYearSummaryRepository taxYearSummaryRepository,
+            final TaxYearSummaryCache taxYearSummaryCache,
+            final ApplicationEventPublisher eventPublisher
+    ) {
+        if (userQueryService == null) {
+            throw new IllegalArgumentException("User query service cannot be null");
+        }
+        if (incomeQueryService == null) {
+            throw new IllegalArgumentException("Income query service cannot be null");
+        }
+        if (expenseQueryService == null) {
+            throw new IllegalArgumentException("Expense query service cannot be null");
+        }
+        if (taxYearSummaryRepository == null) {
+            throw new IllegalArgumentException("Tax year summary repository cannot be null");
+        }
+        if (taxYearSummaryCache == null) {
+            throw new IllegalArgumentException("Tax year summary cache cannot be null");
+        }
+        if (eventPublisher == null) {
+            throw new IllegalArgumentException("Event publisher cannot be null");
+        }
+        this.userQueryService = userQueryService;
+        this.incomeQueryService = incomeQueryService;
+        this.expenseQueryService = expenseQueryService;
+        this.taxYearSummaryRepository = taxYearSummaryRepository;
+        this.taxYearSummaryCache = taxYearSummaryCache;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public TaxYearSummaryBatchResult generateForAllUsers(final GenerateTaxYearSummariesCommand command) {
+        if (command == null) {
+            throw new IllegalArgumentException("Command cannot be null");
+        }
+
+        final TaxYear taxYear = command.taxYear();
+        final List<UserId> userIds = userQueryService.findAllIds();
+        final List<List<UserId>> chunks = partition(userIds, command.chunkSize());
+        final int totalUsers = userIds.size();
+
+        logger.info("Generating {} summaries for {} users in {} chunks", taxYear, totalUsers, chunks.size());
+
+        final Instant startedAt = Instant.now();
+        final AtomicInteger usersCompleted = new AtomicInteger();
+        final AtomicInteger summariesGenerated = new AtomicInteger();
+        final AtomicInteger usersFailed = new AtomicInteger();
+        final Semaphore permits = new Semaphore(command.maxConcurrency());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (final List<UserId> chunk : chunks) {
+                acquire(permits);
+                executor.submit(() -> {
+                    try {
+                        summariesGenerated.addAndGet(generateChunk(taxYear, chunk));
+                    } catch (final RuntimeException e) {
+                        usersFailed.addAndGet(chunk.size());
+                        logger.error("Failed to generate {} summaries for a chunk of {} users: {}",
+                                taxYear, chunk.size(), e.getMessage(), e);
+                    } finally {
+                        permits.release();
+                        final int completed = usersCompleted.addAndGet(chunk.size());
+                        final Duration elapsed = Duration.between(startedAt, Instant.now());
+                        logger.info("{} summaries: {}/{} users processed ({} users/s)",
+                                taxYear, completed, totalUsers,
+                                "%.1f".formatted(TaxYearSummaryBatchResult.ratePerSecond(completed, elapsed)));
+                    }
+                });
+            }
+        }
+
+        final TaxYearSummaryBatchResult result = new TaxYearSummaryBatchResult(
+                taxYear,
+                totalUsers,
+                summariesGenerated.get(),
+                usersFailed.get(),
+                Duration.between(startedAt, Instant.now())
+        );
+        logger.info("Generated {} {} summaries for {} users in {}ms ({} users/s, {} skipped, {} failed)",
+                result.summariesGenerated(), taxYear, result.usersProcessed(), result.elapsed().toMillis(),
+                "%.1f".formatted(result.usersPerSecond()), result.usersSkipped(), result.usersFailed());
+        return result;
+    }
+
+    private int generateChunk(final TaxYear taxYear, final List<UserId> userIds) {
+        final Map<UserId, Money> incomeTotals = incomeQueryService.totalsByUserIdsAndDateRange(
+                userIds,
+                taxYear.startDate(),
+                taxYear.endDate()
+        );
+        final Map<UserId, Map<ExpenseCategory, Money>> expenseTotals =
+                expenseQueryService.totalsByCategoryForUserIdsAndDateRange(
+                        userIds,
+                        taxYear.startDate(),
+                        taxYear.endDate()
+                );
+
+        final List<TaxYearSummary> summaries = new ArrayList<>();
+        for (final UserId userId : userIds) {
+            if (!incomeTotals.containsKey(userId) && !expenseTotals.containsKey(userId)) {
+                continue;
+            }
+            final CategoryTotals categoryTotals = CategoryTotals.of(expenseTotals.getOrDefault(userId, Map.of()));
+            summaries.add(TaxYearSummary.generate(
+                    userId,
+                    taxYear,
+                    incomeTotals.getOrDefault(userId, Money.zero("GBP")),
+                    categoryTotals.overallTotal(),
+                    categoryTotals
+            ));
+        }
+
+        final List<TaxYearSummary> stored = taxYearSummaryRepository.saveAll(summaries);
+        stored.forEach(taxYearSummaryCache::putCurrent);
+
+        // Publish domain events
+        for (final TaxYearSummary summary : stored) {
+            eventPublisher.publishEvent(new TaxYearSummaryGenerated(
+                summary.id(),
+                summary.userId(),
+                summary.taxYear(),
+                summary.totalIncome(),
+                summary.totalExpenses(),
+                summary.profit(),
+                summary.categoryTotals(),
+                Instant.now()
+            ));
+        }
+
+        return summaries.size();
+    }
+
+    private static void acquire(final Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tax year summary batch was interrupted", e);
+        }
+    }
+
+    private static List<List<UserId>> partition(final List<UserId> userIds, final int chunkSize) {
+        final List<List<UserId>> chunks = new ArrayList<>();
+        for (int from = 0; from < userIds.size(); from += chunkSize) {
+            chunks.add(List.copyOf(userIds.subList(from, Math.min(from + chunkSize, userIds.size()))));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,50 @@
+package org.creatorledger.reporting.application;
+
+import org.creatorledger.reporting.domain.TaxYear;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a batch tax year summary run.
+ *
+ * @param taxYear            the tax year that was summarised
+ * @param usersProcessed     number of users considered
+ * @param summariesGenerated number of summaries written
+ * @param usersFailed        number of users whose chunk failed
+ * @param elapsed            wall-clock time taken by the run
+ */
+public record TaxYearSummaryBatchResult(
+    TaxYear taxYear,
+    int usersProcessed,
+    int summariesGenerated,
+    int usersFailed,
+    Duration elapsed
+) {
+
+    public TaxYearSummaryBatchResult {
+        if (taxYear == null) {
+            throw new IllegalArgumentException("Tax year cannot be null");
+        }
+        if (elapsed == null) {
+            throw new IllegalArgumentException("Elapsed time cannot be null");
+        }
+    }
+
+    /**
+     * Users with no income or expenses in the tax year are skipped.
+     *
+     * @return number of users that did not need a summary
+     */
+    public int usersSkipped() {
+        return usersProcessed - summariesGenerated - usersFailed;
+    }
+
+    public double usersPerSecond() {
+        return ratePerSecond(usersProcessed, elapsed);
+    }
+
+    static double ratePerSecond(final int count, final Duration elapsed) {
+        final long millis = Math.max(elapsed.toMillis(), 1);
+        return count * 1000.0 / millis;
+    }
+}
@@ -0,0 +1,39 @@
+package org.creatorledger.reporting.application;
+
+import org.creatorledger.reporting.api.TaxYearSummaryId;
+import org.creatorledger.reporting.domain.TaxYear;
+import org.creatorledger.reporting.domain.TaxYearSummary;
+import org.creatorledger.user.api.UserId;
+
+import java.util.Optional;
+
+/**
+ * In-process cache of tax year summaries, addressable by summary ID and by
+ * user and tax year.
+ * <p>
+ * A summary put with {@link #putCurrent} matched the user's income and
+ * expenses when it was generated, so generating it again would be a no-op.
+ * Summaries put with {@link #put} were loaded from storage and are only
+ * served by ID. {@link #evict} must be called whenever income or expenses
+ * change for the user and tax year.
+ * </p>
+ * <p>
+ * Each instance has its own cache, and {@link #evict} only reaches the
+ * instance that saw the change. Callers must therefore check a summary from
+ * {@link #findCurrent} against the shared projected totals before relying on
+ * it. A summary served by {@link #findById} may show the totals it had up to
+ * the cache's time-to-live before it was regenerated on another instance.
+ * </p>
+ */
+public interface TaxYearSummaryCache {
+
+    Optional<TaxYearSummary> findById(TaxYearSummaryId id);
+
+    Optional<TaxYearSummary> findCurrent(UserId userId, TaxYear taxYear);
+
+    void put(TaxYearSummary summary);
+
+    void putCurrent(TaxYearSummary summary);
+
+    void evict(UserId userId, TaxYear taxYear);
+}
@@ -0,0 +1,89 @@
+package org.creatorledger.reporting.application;
+
+import org.creatorledger.reporting.api.TaxYearSummaryId;
+import org.creatorledger.reporting.domain.TaxYear;
+import org.creatorledger.user.api.UserId;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Snapshot of an asynchronous summary generation job.
+ * <p>
+ * Jobs are immutable; each state transition returns a new snapshot.
+ * </p>
+ *
+ * @param id          the job ID
+ * @param userId      the user being summarised
+ * @param taxYear     the tax year being summarised
+ * @param status      the current status
+ * @param summaryId   the generated summary, once the job has succeeded
+ * @param failure     the failure reason, once the job has failed
+ * @param submittedAt when the job was accepted
+ * @param completedAt when the job finished, if it has
+ */
+public record TaxYearSummaryJob(
+    TaxYearSummaryJobId id,
+    UserId userId,
+    TaxYear taxYear,
+    TaxYearSummaryJobStatus status,
+    TaxYearSummaryId summaryId,
+    String failure,
+    Instant submittedAt,
+    Instant completedAt
+) {
+
+    public TaxYearSummaryJob {
+        if (id == null) {
+            throw new IllegalArgumentException("Job ID cannot be null");
+        }
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (taxYear == null) {
+            throw new IllegalArgumentException("Tax year cannot be null");
+        }
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+        if (submittedAt == null) {
+            throw new IllegalArgumentException("Submitted time cannot be null");
+        }
+    }
+
+    public static TaxYearSummaryJob queued(final GenerateTaxYearSummaryCommand command, final Instant submittedAt) {
+        return new TaxYearSummaryJob(
+                TaxYearSummaryJobId.generate(),
+                command.userId(),
+                command.taxYear(),
+                TaxYearSummaryJobStatus.QUEUED,
+                null,
+                null,
+                submittedAt,
+                null
+        );
+    }
+
+    public TaxYearSummaryJob running() {
+        return new TaxYearSummaryJob(id, userId, taxYear, TaxYearSummaryJobStatus.RUNNING, null, null, submittedAt, null);
+    }
+
+    public TaxYearSummaryJob succeeded(final TaxYearSummaryId generatedSummaryId, final Instant finishedAt) {
+        if (generatedSummaryId == null) {
+            throw new IllegalArgumentException("Summary ID cannot be null");
+        }
+        return new TaxYearSummaryJob(
+                id, userId, taxYear, TaxYearSummaryJobStatus.SUCCEEDED, generatedSummaryId, null, submittedAt, finishedAt
+        );
+    }
+
+    public TaxYearSummaryJob failed(final String reason, final Instant finishedAt) {
+        return new TaxYearSummaryJob(
+                id, userId, taxYear, TaxYearSummaryJobStatus.FAILED, null, reason, submittedAt, finishedAt
+        );
+    }
+
+    public Optional<TaxYearSummaryId> generatedSummaryId() {
+        return Optional.ofNullable(summaryId);
+    }
+}
@@ -0,0 +1,167 @@
+package org.creatorledger.reporting.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.creatorledger.reporting.api.TaxYearSummaryId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Application service that runs tax year summary generation as background jobs.
+ * <p>
+ * Jobs run on a small dedicated pool of worker threads fed by a bounded
+ * queue, so request threads return immediately and at most {@code workers}
+ * database connections are ever used for summary generation. When the queue
+ * is full new jobs are rejected rather than queued without limit. A job runs
+ * on the instance that accepted it, but its state is stored through
+ * {@link TaxYearSummaryJobRepository}, so it can be polled through any
+ * instance. Finished jobs are deleted after the retention period by
+ * {@link #purgeFinishedJobs}, which runs on a schedule rather than on submit;
+ * a job left unfinished because its instance stopped keeps its last state.
+ * Queue depth and rejections are published as
+ * {@code reporting.summary.jobs.queued} and
+ * {@code reporting.summary.jobs.rejected}.
+ * </p>
+ */
+@Service
+public class TaxYearSummaryJobApplicationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaxYearSummaryJobApplicationService.class);
+
+    private final TaxYearSummaryApplicationService taxYearSummaryApplicationService;
+    private final TaxYearSummaryJobRepository jobRepository;
+    private final ThreadPoolExecutor executor;
+    private final Duration retention;
+    private final Clock clock;
+    private final Counter rejected;
+
+    @Autowired
+    public TaxYearSummaryJobApplicationService(
+            final TaxYearSummaryApplicationService taxYearSummaryApplicationService,
+            final TaxYearSummaryJobRepository jobRepository,
+            final MeterRegistry meterRegistry,
+            @Value("${creatorledger.reporting.summary-jobs.workers}") final int workers,
+            @Value("${creatorledger.reporting.summary-jobs.queue-capacity}") final int queueCapacity,
+            @Value("${creatorledger.reporting.summary-jobs.retention}") final Duration retention
+    ) {
+        this(taxYearSummaryApplicationService, jobRepository, meterRegistry, workers, queueCapacity, retention,
+                Clock.systemUTC());
+    }
+
+    TaxYearSummaryJobApplicationService(
+            final TaxYearSummaryApplicationService taxYearSummaryApplicationService,
+            final TaxYearSummaryJobRepository jobRepository,
+            final MeterRegistry meterRegistry,
+            final int workers,
+            final int queueCapacity,
+            final Duration retention,
+            final Clock clock
+    ) {
+        if (taxYearSummaryApplicationService == null) {
+            throw new IllegalArgumentException("Tax year summary application service cannot be null");
+        }
+        if (jobRepository == null) {
+            throw new IllegalArgumentException("Job repository cannot be null");
+        }
+        if (meterRegistry == null) {
+            throw new IllegalArgumentException("Meter registry cannot be null");
+        }
+        if (workers < 1) {
+            throw new IllegalArgumentException("Workers must be at least 1");
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be at least 1");
+        }
+        if (retention == null || retention.isNegative()) {
+            throw new IllegalArgumentException("Retention cannot be null or negative");
+        }
+        this.taxYearSummaryApplicationService = taxYearSummaryApplicationService;
+        this.jobRepository = jobRepository;
+        this.retention = retention;
+        this.clock = clock;
+        this.executor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("summary-job-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        Gauge.builder("reporting.summary.jobs.queued", executor, pool -> pool.getQueue().size())
+                .description("Summary jobs waiting for a worker")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("reporting.summary.jobs.rejected")
+                .description("Summary jobs rejected because the queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues generation of a summary.
+     *
+     * @param command the user and tax year to summarise
+     * @return the queued job
+     * @throws TaxYearSummaryJobRejectedException if the job queue is full
+     */
+    public TaxYearSummaryJob submit(final GenerateTaxYearSummaryCommand command) {
+        if (command == null) {
+            throw new IllegalArgumentException("Command cannot be null");
+        }
+        final TaxYearSummaryJob job = TaxYearSummaryJob.queued(command, clock.instant());
+        jobRepository.save(job);
+        try {
+            executor.execute(() -> run(job, command));
+        } catch (final RejectedExecutionException e) {
+            jobRepository.deleteById(job.id());
+            rejected.increment();
+            throw new TaxYearSummaryJobRejectedException("Summary job queue is full");
+        }
+        return job;
+    }
+
+    public Optional<TaxYearSummaryJob> findById(final TaxYearSummaryJobId id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Tax year summary job ID cannot be null");
+        }
+        return jobRepository.findById(id);
+    }
+
+    /**
+     * Deletes jobs that finished more than the retention period ago.
+     *
+     * @return the number of jobs deleted
+     */
+    public int purgeFinishedJobs() {
+        return jobRepository.deleteFinishedBefore(clock.instant().minus(retention));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(final TaxYearSummaryJob job, final GenerateTaxYearSummaryCommand command) {
+        try {
+            jobRepository.save(job.running());
+            final TaxYearSummaryId summaryId = taxYearSummaryApplicationService.generate(command);
+            jobRepository.save(job.succeeded(summaryId, clock.instant()));
+        } catch (final RuntimeException e) {
+            logger.error("Summary job {} for {} {} failed: {}",
+                    job.id().value(), command.userId(), command.taxYear(), e.getMessage(), e);
+            jobRepository.save(job.failed(e.getMessage(), clock.instant()));
+        }
+    }
+}
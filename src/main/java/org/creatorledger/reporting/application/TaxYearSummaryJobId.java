@@ -0,0 +1,24 @@
+package org.creatorledger.reporting.application;
+
+import org.creatorledger.common.UuidV7;
+
+import java.util.UUID;
+
+public record TaxYearSummaryJobId(UUID value) {
+
+    public static TaxYearSummaryJobId of(UUID value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Tax year summary job ID cannot be null");
+        }
+        return new TaxYearSummaryJobId(value);
+    }
+
+    public static TaxYearSummaryJobId generate() {
+        return new TaxYearSummaryJobId(UuidV7.generate());
+    }
+
+    @Override
+    public String toString() {
+        return "TaxYearSummaryJobId[%s]".formatted(value);
+    }
+}
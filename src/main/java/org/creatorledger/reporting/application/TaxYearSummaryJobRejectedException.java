@@ -0,0 +1,11 @@
+package org.creatorledger.reporting.application;
+
+/**
+ * Thrown when a summary job cannot be accepted because the job queue is full.
+ */
+public class TaxYearSummaryJobRejectedException extends RuntimeException {
+
+    public TaxYearSummaryJobRejectedException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,26 @@
+package org.creatorledger.reporting.application;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface TaxYearSummaryJobRepository {
+
+    /**
+     * Stores a job snapshot, replacing any stored snapshot with the same ID.
+     *
+     * @param job the job to store
+     */
+    void save(TaxYearSummaryJob job);
+
+    Optional<TaxYearSummaryJob> findById(TaxYearSummaryJobId id);
+
+    void deleteById(TaxYearSummaryJobId id);
+
+    /**
+     * Deletes the finished jobs that completed before the cutoff.
+     *
+     * @param cutoff the completion time before which finished jobs are deleted
+     * @return the number of jobs deleted
+     */
+    int deleteFinishedBefore(Instant cutoff);
+}
@@ -0,0 +1,12 @@
+package org.creatorledger.reporting.application;
+
+public enum TaxYearSummaryJobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
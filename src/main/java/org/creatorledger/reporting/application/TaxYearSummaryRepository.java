@@ -3,10 +3,29 @@ package org.creatorledger.reporting.application;
 import org.creatorledger.reporting.api.TaxYearSummaryId;
 import org.creatorledger.reporting.domain.TaxYearSummary;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface TaxYearSummaryRepository {
+
+    /**
+     * Stores a summary, replacing the totals of any existing summary for the
+     * same user and tax year. A replaced summary keeps its ID.
+     *
+     * @param summary the summary to store
+     * @return the stored summary, carrying the ID it is stored under
+     */
     TaxYearSummary save(TaxYearSummary summary);
+
+    /**
+     * Stores many summaries at once, replacing the totals of any existing
+     * summary for the same user and tax year. Replaced summaries keep their IDs.
+     *
+     * @param summaries the summaries to store
+     * @return the stored summaries in the same order, carrying the IDs they are stored under
+     */
+    List<TaxYearSummary> saveAll(List<TaxYearSummary> summaries);
+
     Optional<TaxYearSummary> findById(TaxYearSummaryId id);
     boolean existsById(TaxYearSummaryId id);
     void delete(TaxYearSummary summary);
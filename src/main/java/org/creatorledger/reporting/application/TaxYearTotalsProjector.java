@@ -0,0 +1,114 @@
+package org.creatorledger.reporting.application;
+
+import org.creatorledger.common.Money;
+import org.creatorledger.expense.api.ExpenseCategory;
+import org.creatorledger.expense.domain.ExpenseRecorded;
+import org.creatorledger.expense.domain.ExpenseUpdated;
+import org.creatorledger.expense.domain.ExpensesImported;
+import org.creatorledger.income.domain.IncomeRecorded;
+import org.creatorledger.income.domain.IncomeUpdated;
+import org.creatorledger.reporting.domain.TaxYear;
+import org.creatorledger.user.api.UserId;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the tax year totals projection up to date from income and expense events.
+ * <p>
+ * Each listener runs in its own transaction after the publishing transaction
+ * commits. The JDBC event publication registry records each event with the
+ * publishing transaction and marks it complete only when the listener
+ * commits, so a failed listener leaves its publication incomplete in
+ * {@code event_publication} instead of dropping the change. Incomplete
+ * publications are resubmitted after the next startup.
+ * Updates remove the previous amount from its old tax year and category before
+ * adding the new amount, so edits that move a line between periods are handled.
+ * Bulk imports arrive as one event carrying daily totals, which are summed
+ * per tax year and category so each is written once.
+ * Every tax year touched is evicted from the {@link TaxYearSummaryCache} once
+ * its totals have been updated, so the next generation recomputes it.
+ * If the projection ever drifts, {@link TaxYearSummaryApplicationService#rebuildTotals}
+ * recomputes it from the source data.
+ * </p>
+ */
+@Component
+public class TaxYearTotalsProjector {
+
+    private final TaxYearTotalsRepository taxYearTotalsRepository;
+    private final TaxYearSummaryCache taxYearSummaryCache;
+
+    public TaxYearTotalsProjector(
+            final TaxYearTotalsRepository taxYearTotalsRepository,
+            final TaxYearSummaryCache taxYearSummaryCache
+    ) {
+        if (taxYearTotalsRepository == null) {
+            throw new IllegalArgumentException("Tax year totals repository cannot be null");
+        }
+        if (taxYearSummaryCache == null) {
+            throw new IllegalArgumentException("Tax year summary cache cannot be null");
+        }
+        this.taxYearTotalsRepository = taxYearTotalsRepository;
+        this.taxYearSummaryCache = taxYearSummaryCache;
+    }
+
+    @ApplicationModuleListener
+    public void onIncomeRecorded(final IncomeRecorded event) {
+        final TaxYear taxYear = TaxYear.containing(event.receivedDate());
+        taxYearTotalsRepository.addIncome(event.userId(), taxYear, event.amount());
+        taxYearSummaryCache.evict(event.userId(), taxYear);
+    }
+
+    @ApplicationModuleListener
+    public void onIncomeUpdated(final IncomeUpdated event) {
+        final TaxYear previousTaxYear = TaxYear.containing(event.previousReceivedDate());
+        final TaxYear taxYear = TaxYear.containing(event.receivedDate());
+        taxYearTotalsRepository.subtractIncome(event.userId(), previousTaxYear, event.previousAmount());
+        taxYearTotalsRepository.addIncome(event.userId(), taxYear, event.amount());
+        evict(event.userId(), previousTaxYear, taxYear);
+    }
+
+    @ApplicationModuleListener
+    public void onExpenseRecorded(final ExpenseRecorded event) {
+        final TaxYear taxYear = TaxYear.containing(event.incurredDate());
+        taxYearTotalsRepository.addExpense(event.userId(), taxYear, event.category(), event.amount());
+        taxYearSummaryCache.evict(event.userId(), taxYear);
+    }
+
+    @ApplicationModuleListener
+    public void onExpenseUpdated(final ExpenseUpdated event) {
+        final TaxYear previousTaxYear = TaxYear.containing(event.previousIncurredDate());
+        final TaxYear taxYear = TaxYear.containing(event.incurredDate());
+        taxYearTotalsRepository.subtractExpense(
+                event.userId(),
+                previousTaxYear,
+                event.previousCategory(),
+                event.previousAmount()
+        );
+        taxYearTotalsRepository.addExpense(event.userId(), taxYear, event.category(), event.amount());
+        evict(event.userId(), previousTaxYear, taxYear);
+    }
+
+    @ApplicationModuleListener
+    public void onExpensesImported(final ExpensesImported event) {
+        final Map<TaxYear, Map<ExpenseCategory, Money>> totals = new LinkedHashMap<>();
+        for (final ExpensesImported.DailyTotal dailyTotal : event.dailyTotals()) {
+            totals.computeIfAbsent(TaxYear.containing(dailyTotal.incurredDate()), taxYear -> new LinkedHashMap<>())
+                    .merge(dailyTotal.category(), dailyTotal.amount(), Money::add);
+        }
+        totals.forEach((taxYear, categoryTotals) -> {
+            categoryTotals.forEach((category, amount) ->
+                    taxYearTotalsRepository.addExpense(event.userId(), taxYear, category, amount));
+            taxYearSummaryCache.evict(event.userId(), taxYear);
+        });
+    }
+
+    private void evict(final UserId userId, final TaxYear previousTaxYear, final TaxYear taxYear) {
+        taxYearSummaryCache.evict(userId, previousTaxYear);
+        if (!taxYear.equals(previousTaxYear)) {
+            taxYearSummaryCache.evict(userId, taxYear);
+        }
+    }
+}
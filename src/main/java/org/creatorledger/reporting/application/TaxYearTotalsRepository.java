@@ -0,0 +1,23 @@
+package org.creatorledger.reporting.application;
+
+import org.creatorledger.common.Money;
+import org.creatorledger.expense.api.ExpenseCategory;
+import org.creatorledger.reporting.domain.TaxYear;
+import org.creatorledger.reporting.domain.TaxYearTotals;
+import org.creatorledger.user.api.UserId;
+
+/**
+ * Port for the incrementally maintained tax year totals projection.
+ * <p>
+ * Increments and decrements are applied atomically in the store, so
+ * concurrent listeners for the same user and tax year do not lose updates.
+ * </p>
+ */
+public interface TaxYearTotalsRepository {
+    void addIncome(UserId userId, TaxYear taxYear, Money amount);
+    void subtractIncome(UserId userId, TaxYear taxYear, Money amount);
+    void addExpense(UserId userId, TaxYear taxYear, ExpenseCategory category, Money amount);
+    void subtractExpense(UserId userId, TaxYear taxYear, ExpenseCategory category, Money amount);
+    TaxYearTotals findByUserIdAndTaxYear(UserId userId, TaxYear taxYear);
+    void replace(UserId userId, TaxYear taxYear, TaxYearTotals totals);
+}
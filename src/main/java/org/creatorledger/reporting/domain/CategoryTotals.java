@@ -1,46 +1,127 @@
 package org.creatorledger.reporting.domain;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import org.creatorledger.common.Money;
+import org.creatorledger.common.MoneyAccumulator;
 import org.creatorledger.expense.api.ExpenseCategory;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.Map;
 import java.util.Set;
 
-public record CategoryTotals(Map<ExpenseCategory, Money> totals) {
+/**
+ * Expense totals per {@link ExpenseCategory}.
+ * <p>
+ * Totals are held in an array indexed by category ordinal, and the overall
+ * total is computed once on construction, so {@link #totalFor} and
+ * {@link #overallTotal} are plain reads. Use {@link #accumulator()} to build
+ * totals from individual expenses without a map lookup per item.
+ * </p>
+ * <p>
+ * As JSON it keeps the shape it had as a record, with the totals map under
+ * {@code totals}, so stored events and API payloads read back unchanged.
+ * </p>
+ */
+public final class CategoryTotals {
+
+    private static final ExpenseCategory[] CATEGORIES = ExpenseCategory.values();
+    private static final String DEFAULT_CURRENCY = "GBP";
+    private static final CategoryTotals EMPTY = new CategoryTotals(
+            new Money[CATEGORIES.length],
+            Money.zero(DEFAULT_CURRENCY)
+    );
+
+    private final Money[] amounts;
+    private final Money overallTotal;
+    private final Map<ExpenseCategory, Money> totals;
+    private final Set<ExpenseCategory> categories;
+
+    private CategoryTotals(final Money[] amounts, final Money overallTotal) {
+        this.amounts = amounts;
+        this.overallTotal = overallTotal;
+        final Map<ExpenseCategory, Money> map = new EnumMap<>(ExpenseCategory.class);
+        for (final ExpenseCategory category : CATEGORIES) {
+            if (amounts[category.ordinal()] != null) {
+                map.put(category, amounts[category.ordinal()]);
+            }
+        }
+        this.totals = Collections.unmodifiableMap(map);
+        this.categories = Collections.unmodifiableSet(
+                map.isEmpty() ? EnumSet.noneOf(ExpenseCategory.class) : EnumSet.copyOf(map.keySet())
+        );
+    }
 
     public static CategoryTotals empty() {
-        return new CategoryTotals(Collections.emptyMap());
+        return EMPTY;
     }
 
-    public static CategoryTotals of(Map<ExpenseCategory, Money> totals) {
+    @JsonCreator
+    public static CategoryTotals of(@JsonProperty("totals") final Map<ExpenseCategory, Money> totals) {
         if (totals == null) {
             throw new IllegalArgumentException("Category totals map cannot be null");
         }
-        return new CategoryTotals(Map.copyOf(totals));
+        if (totals.isEmpty()) {
+            return EMPTY;
+        }
+        final Accumulator accumulator = new Accumulator(currencyOf(totals));
+        totals.forEach(accumulator::add);
+        return accumulator.toCategoryTotals();
+    }
+
+    /**
+     * Starts accumulating GBP expense totals.
+     *
+     * @return an empty accumulator
+     */
+    public static Accumulator accumulator() {
+        return new Accumulator(DEFAULT_CURRENCY);
     }
 
-    public Money totalFor(ExpenseCategory category) {
+    public Money totalFor(final ExpenseCategory category) {
         if (category == null) {
             throw new IllegalArgumentException("Category cannot be null");
         }
-        return totals.getOrDefault(category, Money.gbp("0.00"));
+        final Money amount = amounts[category.ordinal()];
+        return amount != null ? amount : Money.zero(overallTotal.currency());
     }
 
     public Money overallTotal() {
-        return totals.values().stream()
-                .reduce(Money.gbp("0.00"), Money::add);
+        return overallTotal;
     }
 
-    public Set<ExpenseCategory> categories() {
-        return totals.keySet();
+    @JsonProperty("totals")
+    public Map<ExpenseCategory, Money> totals() {
+        return totals;
     }
 
+    public Set<ExpenseCategory> categories() {
+        return categories;
+    }
 
     public boolean isEmpty() {
         return totals.isEmpty();
     }
 
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof CategoryTotals that)) {
+            return false;
+        }
+        return Arrays.equals(amounts, that.amounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(amounts);
+    }
+
     @Override
     public String toString() {
         if (totals.isEmpty()) {
@@ -48,4 +129,70 @@ public record CategoryTotals(Map<ExpenseCategory, Money> totals) {
         }
         return "CategoryTotals%s".formatted(totals);
     }
+
+    private static String currencyOf(final Map<ExpenseCategory, Money> totals) {
+        for (final Money amount : totals.values()) {
+            if (amount != null) {
+                return amount.currency();
+            }
+        }
+        return DEFAULT_CURRENCY;
+    }
+
+    /**
+     * Mutable builder that sums expense amounts into per-category totals.
+     * <p>
+     * Amounts are held as minor units in an array indexed by category
+     * ordinal, so adding does not allocate. Instances are not thread-safe.
+     * </p>
+     */
+    public static final class Accumulator {
+
+        private final String currency;
+        private final long[] minorUnits = new long[CATEGORIES.length];
+        private final boolean[] present = new boolean[CATEGORIES.length];
+
+        private Accumulator(final String currency) {
+            this.currency = currency;
+        }
+
+        public Accumulator add(final ExpenseCategory category, final Money amount) {
+            if (category == null) {
+                throw new IllegalArgumentException("Category cannot be null");
+            }
+            if (amount == null) {
+                throw new IllegalArgumentException("Amount cannot be null");
+            }
+            if (!currency.equals(amount.currency())) {
+                throw new IllegalArgumentException(
+                        "Cannot perform operation on different currencies: " + currency + " and " + amount.currency()
+                );
+            }
+            return addMinorUnits(category, MoneyAccumulator.toMinorUnits(amount.amount()));
+        }
+
+        public Accumulator addMinorUnits(final ExpenseCategory category, final long amount) {
+            if (category == null) {
+                throw new IllegalArgumentException("Category cannot be null");
+            }
+            final int index = category.ordinal();
+            minorUnits[index] = Math.addExact(minorUnits[index], amount);
+            present[index] = true;
+            return this;
+        }
+
+        public CategoryTotals toCategoryTotals() {
+            final Money[] amounts = new Money[CATEGORIES.length];
+            final MoneyAccumulator overall = MoneyAccumulator.of(currency);
+            boolean any = false;
+            for (int i = 0; i < CATEGORIES.length; i++) {
+                if (present[i]) {
+                    amounts[i] = MoneyAccumulator.of(currency).addMinorUnits(minorUnits[i]).toMoney();
+                    overall.addMinorUnits(minorUnits[i]);
+                    any = true;
+                }
+            }
+            return any ? new CategoryTotals(amounts, overall.toMoney()) : EMPTY;
+        }
+    }
 }
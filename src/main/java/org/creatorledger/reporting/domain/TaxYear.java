@@ -15,6 +15,27 @@ public record TaxYear(Integer startYear) {
         return new TaxYear(startYear);
     }
 
+    /**
+     * Returns the tax year a date falls in.
+     * <p>
+     * Unlike {@link #of(Integer)} this does not apply the past/future range check,
+     * because it is used to bucket dates that have already been recorded.
+     * </p>
+     *
+     * @param date the date to place
+     * @return the tax year containing the date
+     */
+    public static TaxYear containing(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        int year = date.getYear();
+        if (date.isBefore(LocalDate.of(year, APRIL, TAX_YEAR_START_DAY))) {
+            return new TaxYear(year - 1);
+        }
+        return new TaxYear(year);
+    }
+
     public LocalDate startDate() {
         return LocalDate.of(startYear, APRIL, TAX_YEAR_START_DAY);
     }
@@ -43,6 +43,14 @@ public record TaxYearSummary(
         return new TaxYearSummary(id, userId, taxYear, totalIncome, totalExpenses, categoryTotals);
     }
 
+    /**
+     * Whether this summary was built from the given totals, so regenerating
+     * it from them would produce the same figures.
+     */
+    public boolean hasTotals(final TaxYearTotals totals) {
+        return totalIncome.equals(totals.totalIncome()) && categoryTotals.equals(totals.expenseTotals());
+    }
+
     public Money profit() {
         if (totalIncome.isGreaterThan(totalExpenses) || totalIncome.equals(totalExpenses)) {
             return totalIncome.subtract(totalExpenses);
@@ -0,0 +1,34 @@
+package org.creatorledger.reporting.domain;
+
+import org.creatorledger.common.Money;
+
+/**
+ * Running income and expense totals for a user's tax year.
+ * <p>
+ * This is the read model maintained incrementally from income and expense
+ * events, from which a {@link TaxYearSummary} can be built without
+ * rescanning the year's line items.
+ * </p>
+ *
+ * @param totalIncome   total income for the tax year
+ * @param expenseTotals expense totals per category for the tax year
+ */
+public record TaxYearTotals(Money totalIncome, CategoryTotals expenseTotals) {
+
+    public TaxYearTotals {
+        if (totalIncome == null) {
+            throw new IllegalArgumentException("Total income cannot be null");
+        }
+        if (expenseTotals == null) {
+            throw new IllegalArgumentException("Expense totals cannot be null");
+        }
+    }
+
+    public static TaxYearTotals empty() {
+        return new TaxYearTotals(Money.zero("GBP"), CategoryTotals.empty());
+    }
+
+    public Money totalExpenses() {
+        return expenseTotals.overallTotal();
+    }
+}
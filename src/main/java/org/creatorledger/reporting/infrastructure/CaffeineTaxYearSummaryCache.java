@@ -0,0 +1,137 @@
+package org.creatorledger.reporting.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.creatorledger.reporting.api.TaxYearSummaryId;
+import org.creatorledger.reporting.application.TaxYearSummaryCache;
+import org.creatorledger.reporting.domain.TaxYear;
+import org.creatorledger.reporting.domain.TaxYearSummary;
+import org.creatorledger.user.api.UserId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Caffeine implementation of the TaxYearSummaryCache.
+ * <p>
+ * Entries are keyed by user and tax year, as there is only ever one stored
+ * summary per pair, with a secondary index from summary ID to that key. A
+ * summary superseded by a newer one for the same pair therefore stops being
+ * served by ID as soon as the newer one is cached. Size and time-to-live are
+ * bounded, and hits, misses, evictions and size are published as the standard
+ * {@code cache.*} meters tagged {@code cache=taxYearSummaries}.
+ * </p>
+ */
+@Component
+public class CaffeineTaxYearSummaryCache implements TaxYearSummaryCache {
+
+    static final String CACHE_NAME = "taxYearSummaries";
+
+    private final Cache<UserTaxYear, CachedSummary> summaries;
+    private final Cache<TaxYearSummaryId, UserTaxYear> keysById;
+    private final Counter hits;
+    private final Counter misses;
+    private final Map<RemovalCause, Counter> evictions = new EnumMap<>(RemovalCause.class);
+
+    public CaffeineTaxYearSummaryCache(
+            final MeterRegistry meterRegistry,
+            @Value("${creatorledger.reporting.summary-cache.maximum-size}") final long maximumSize,
+            @Value("${creatorledger.reporting.summary-cache.time-to-live}") final Duration timeToLive
+    ) {
+        for (final RemovalCause cause : new RemovalCause[] {RemovalCause.EXPLICIT, RemovalCause.SIZE, RemovalCause.EXPIRED}) {
+            evictions.put(cause, Counter.builder("cache.evictions")
+                    .tag("cache", CACHE_NAME)
+                    .tag("cause", cause.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        this.summaries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .executor(Runnable::run)
+                .removalListener((UserTaxYear key, CachedSummary value, RemovalCause cause) -> {
+                    final Counter counter = evictions.get(cause);
+                    if (counter != null) {
+                        counter.increment();
+                    }
+                })
+                .build();
+        this.keysById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+        this.hits = Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", summaries, Cache::estimatedSize)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<TaxYearSummary> findById(final TaxYearSummaryId id) {
+        final UserTaxYear key = keysById.getIfPresent(id);
+        final CachedSummary cached = key == null ? null : summaries.getIfPresent(key);
+        if (cached == null || !cached.summary().id().equals(id)) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(cached.summary());
+    }
+
+    @Override
+    public Optional<TaxYearSummary> findCurrent(final UserId userId, final TaxYear taxYear) {
+        final CachedSummary cached = summaries.getIfPresent(new UserTaxYear(userId, taxYear));
+        if (cached == null || !cached.current()) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(cached.summary());
+    }
+
+    @Override
+    public void put(final TaxYearSummary summary) {
+        final UserTaxYear key = UserTaxYear.of(summary);
+        summaries.asMap().compute(key, (ignored, existing) ->
+                existing != null && existing.summary().id().equals(summary.id())
+                        ? existing
+                        : new CachedSummary(summary, false));
+        keysById.put(summary.id(), key);
+    }
+
+    @Override
+    public void putCurrent(final TaxYearSummary summary) {
+        final UserTaxYear key = UserTaxYear.of(summary);
+        summaries.put(key, new CachedSummary(summary, true));
+        keysById.put(summary.id(), key);
+    }
+
+    @Override
+    public void evict(final UserId userId, final TaxYear taxYear) {
+        summaries.invalidate(new UserTaxYear(userId, taxYear));
+    }
+
+    private record UserTaxYear(UserId userId, TaxYear taxYear) {
+
+        static UserTaxYear of(final TaxYearSummary summary) {
+            return new UserTaxYear(summary.userId(), summary.taxYear());
+        }
+    }
+
+    private record CachedSummary(TaxYearSummary summary, boolean current) {
+    }
+}
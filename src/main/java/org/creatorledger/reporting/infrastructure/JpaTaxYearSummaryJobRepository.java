@@ -0,0 +1,88 @@
+package org.creatorledger.reporting.infrastructure;
+
+import org.creatorledger.reporting.application.TaxYearSummaryJob;
+import org.creatorledger.reporting.application.TaxYearSummaryJobId;
+import org.creatorledger.reporting.application.TaxYearSummaryJobRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+/**
+ * JPA implementation of the TaxYearSummaryJobRepository.
+ * <p>
+ * Each job is written once per state transition, so snapshots are stored as
+ * a single upsert keyed on the job ID rather than a read followed by a
+ * merge. Reads go through Spring Data JPA.
+ * </p>
+ */
+@Repository
+public class JpaTaxYearSummaryJobRepository implements TaxYearSummaryJobRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO tax_year_summary_jobs (
+                id, user_id, tax_year_start, status, summary_id, failure, submitted_at, completed_at
+            )
+            VALUES (?, ?, ?, ?, ?::uuid, ?, ?, ?::timestamptz)
+            ON CONFLICT (id) DO UPDATE SET
+                status = EXCLUDED.status,
+                summary_id = EXCLUDED.summary_id,
+                failure = EXCLUDED.failure,
+                completed_at = EXCLUDED.completed_at
+            """;
+
+    private static final String DELETE_FINISHED_SQL = """
+            DELETE FROM tax_year_summary_jobs
+            WHERE completed_at < ?
+            """;
+
+    private final SpringDataTaxYearSummaryJobRepository springDataRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public JpaTaxYearSummaryJobRepository(
+            final SpringDataTaxYearSummaryJobRepository springDataRepository,
+            final JdbcTemplate jdbcTemplate
+    ) {
+        this.springDataRepository = springDataRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void save(final TaxYearSummaryJob job) {
+        final TaxYearSummaryJobJpaEntity entity = TaxYearSummaryJobEntityMapper.toEntity(job);
+        jdbcTemplate.update(
+                UPSERT_SQL,
+                entity.getId(),
+                entity.getUserId(),
+                entity.getTaxYearStart(),
+                entity.getStatus(),
+                entity.getSummaryId(),
+                entity.getFailure(),
+                atUtc(entity.getSubmittedAt()),
+                atUtc(entity.getCompletedAt())
+        );
+    }
+
+    @Override
+    public Optional<TaxYearSummaryJob> findById(final TaxYearSummaryJobId id) {
+        return springDataRepository.findById(id.value())
+                .map(TaxYearSummaryJobEntityMapper::toDomain);
+    }
+
+    @Override
+    public void deleteById(final TaxYearSummaryJobId id) {
+        jdbcTemplate.update("DELETE FROM tax_year_summary_jobs WHERE id = ?", id.value());
+    }
+
+    @Override
+    public int deleteFinishedBefore(final Instant cutoff) {
+        return jdbcTemplate.update(DELETE_FINISHED_SQL, atUtc(cutoff));
+    }
+
+    private static OffsetDateTime atUtc(final Instant instant) {
+        return instant == null ? null : instant.atOffset(ZoneOffset.UTC);
+    }
+}
@@ -3,24 +3,123 @@ package org.creatorledger.reporting.infrastructure;
 import org.creatorledger.reporting.api.TaxYearSummaryId;
 import org.creatorledger.reporting.application.TaxYearSummaryRepository;
 import org.creatorledger.reporting.domain.TaxYearSummary;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
+/**
+ * JPA implementation of the TaxYearSummaryRepository.
+ * <p>
+ * Summaries are written as upserts keyed on user and tax year, so
+ * regenerating a summary replaces the totals of the previous one. The stored
+ * row keeps the ID it was first written with, so links to a summary stay
+ * valid; the summaries returned carry that ID. Writes are sent as one
+ * multi-row statement per chunk, which returns the stored IDs. Reads go
+ * through Spring Data JPA.
+ * </p>
+ */
 @Repository
 public class JpaTaxYearSummaryRepository implements TaxYearSummaryRepository {
 
+    static final int JDBC_BATCH_SIZE = 100;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO tax_year_summaries (
+                id, user_id, tax_year_start,
+                total_income_amount, total_income_currency,
+                total_expenses_amount, total_expenses_currency,
+                category_totals_json
+            )
+            SELECT * FROM unnest(
+                ?::uuid[], ?::uuid[], ?::integer[],
+                ?::numeric[], ?::varchar[],
+                ?::numeric[], ?::varchar[],
+                ?::text[]
+            )
+            ON CONFLICT (user_id, tax_year_start) DO UPDATE SET
+                total_income_amount = EXCLUDED.total_income_amount,
+                total_income_currency = EXCLUDED.total_income_currency,
+                total_expenses_amount = EXCLUDED.total_expenses_amount,
+                total_expenses_currency = EXCLUDED.total_expenses_currency,
+                category_totals_json = EXCLUDED.category_totals_json
+            RETURNING user_id, tax_year_start, id
+            """;
+
     private final SpringDataTaxYearSummaryRepository springDataRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public JpaTaxYearSummaryRepository(final SpringDataTaxYearSummaryRepository springDataRepository) {
+    public JpaTaxYearSummaryRepository(
+            final SpringDataTaxYearSummaryRepository springDataRepository,
+            final JdbcTemplate jdbcTemplate
+    ) {
         this.springDataRepository = springDataRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
     public TaxYearSummary save(final TaxYearSummary summary) {
-        final TaxYearSummaryJpaEntity entity = TaxYearSummaryEntityMapper.toEntity(summary);
-        final TaxYearSummaryJpaEntity saved = springDataRepository.save(entity);
-        return TaxYearSummaryEntityMapper.toDomain(saved);
+        return saveAll(List.of(summary)).get(0);
+    }
+
+    @Override
+    @Transactional
+    public List<TaxYearSummary> saveAll(final List<TaxYearSummary> summaries) {
+        final List<TaxYearSummary> stored = new ArrayList<>(summaries.size());
+        for (int from = 0; from < summaries.size(); from += JDBC_BATCH_SIZE) {
+            stored.addAll(upsert(summaries.subList(from, Math.min(from + JDBC_BATCH_SIZE, summaries.size()))));
+        }
+        return stored;
+    }
+
+    private List<TaxYearSummary> upsert(final List<TaxYearSummary> summaries) {
+        final List<TaxYearSummaryJpaEntity> entities = summaries.stream()
+                .map(TaxYearSummaryEntityMapper::toEntity)
+                .toList();
+        final Map<StoredKey, UUID> storedIds = new HashMap<>();
+        jdbcTemplate.query(
+                UPSERT_SQL,
+                (final ResultSet resultSet) -> {
+                    storedIds.put(
+                            new StoredKey(resultSet.getObject(1, UUID.class), resultSet.getInt(2)),
+                            resultSet.getObject(3, UUID.class)
+                    );
+                },
+                entities.stream().map(TaxYearSummaryJpaEntity::getId).toArray(UUID[]::new),
+                entities.stream().map(TaxYearSummaryJpaEntity::getUserId).toArray(UUID[]::new),
+                entities.stream().map(TaxYearSummaryJpaEntity::getTaxYearStart).toArray(Integer[]::new),
+                entities.stream().map(TaxYearSummaryJpaEntity::getTotalIncomeAmount).toArray(BigDecimal[]::new),
+                entities.stream().map(TaxYearSummaryJpaEntity::getTotalIncomeCurrency).toArray(String[]::new),
+                entities.stream().map(TaxYearSummaryJpaEntity::getTotalExpensesAmount).toArray(BigDecimal[]::new),
+                entities.stream().map(TaxYearSummaryJpaEntity::getTotalExpensesCurrency).toArray(String[]::new),
+                entities.stream().map(TaxYearSummaryJpaEntity::getCategoryTotalsJson).toArray(String[]::new)
+        );
+        return summaries.stream()
+                .map(summary -> withId(summary, storedIds.get(
+                        new StoredKey(summary.userId().value(), summary.taxYear().startYear()))))
+                .toList();
+    }
+
+    private static TaxYearSummary withId(final TaxYearSummary summary, final UUID storedId) {
+        if (storedId == null || storedId.equals(summary.id().value())) {
+            return summary;
+        }
+        return TaxYearSummary.generate(
+                TaxYearSummaryId.of(storedId),
+                summary.userId(),
+                summary.taxYear(),
+                summary.totalIncome(),
+                summary.totalExpenses(),
+                summary.categoryTotals()
+        );
     }
 
     @Override
@@ -38,4 +137,7 @@ public class JpaTaxYearSummaryRepository implements TaxYearSummaryRepository {
     public void delete(final TaxYearSummary summary) {
         springDataRepository.deleteById(summary.id().value());
     }
+
+    private record StoredKey(UUID userId, int taxYearStart) {
+    }
 }
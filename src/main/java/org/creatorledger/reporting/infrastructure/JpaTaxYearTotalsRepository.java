@@ -0,0 +1,84 @@
+package org.creatorledger.reporting.infrastructure;
+
+import org.creatorledger.common.Money;
+import org.creatorledger.common.UuidV7;
+import org.creatorledger.expense.api.ExpenseCategory;
+import org.creatorledger.reporting.application.TaxYearTotalsRepository;
+import org.creatorledger.reporting.domain.TaxYear;
+import org.creatorledger.reporting.domain.TaxYearTotals;
+import org.creatorledger.user.api.UserId;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+/**
+ * JPA implementation of the TaxYearTotalsRepository.
+ * <p>
+ * Increments are applied with a single PostgreSQL upsert per line, so each
+ * event costs one statement regardless of how much data the user has.
+ * </p>
+ */
+@Repository
+public class JpaTaxYearTotalsRepository implements TaxYearTotalsRepository {
+
+    private final SpringDataTaxYearTotalRepository springDataRepository;
+
+    public JpaTaxYearTotalsRepository(final SpringDataTaxYearTotalRepository springDataRepository) {
+        this.springDataRepository = springDataRepository;
+    }
+
+    @Override
+    public void addIncome(final UserId userId, final TaxYear taxYear, final Money amount) {
+        increment(userId, taxYear, TaxYearTotalJpaEntity.INCOME, TaxYearTotalJpaEntity.NO_CATEGORY, amount, amount.amount());
+    }
+
+    @Override
+    public void subtractIncome(final UserId userId, final TaxYear taxYear, final Money amount) {
+        increment(userId, taxYear, TaxYearTotalJpaEntity.INCOME, TaxYearTotalJpaEntity.NO_CATEGORY, amount, amount.amount().negate());
+    }
+
+    @Override
+    public void addExpense(final UserId userId, final TaxYear taxYear, final ExpenseCategory category, final Money amount) {
+        increment(userId, taxYear, TaxYearTotalJpaEntity.EXPENSE, category.name(), amount, amount.amount());
+    }
+
+    @Override
+    public void subtractExpense(final UserId userId, final TaxYear taxYear, final ExpenseCategory category, final Money amount) {
+        increment(userId, taxYear, TaxYearTotalJpaEntity.EXPENSE, category.name(), amount, amount.amount().negate());
+    }
+
+    @Override
+    public TaxYearTotals findByUserIdAndTaxYear(final UserId userId, final TaxYear taxYear) {
+        return TaxYearTotalsEntityMapper.toDomain(
+                springDataRepository.findByUserIdAndTaxYearStart(userId.value(), taxYear.startYear())
+        );
+    }
+
+    @Override
+    @Transactional
+    public void replace(final UserId userId, final TaxYear taxYear, final TaxYearTotals totals) {
+        springDataRepository.deleteByUserIdAndTaxYearStart(userId.value(), taxYear.startYear());
+        springDataRepository.flush();
+        springDataRepository.saveAll(TaxYearTotalsEntityMapper.toEntities(userId, taxYear, totals));
+    }
+
+    private void increment(
+            final UserId userId,
+            final TaxYear taxYear,
+            final String lineType,
+            final String category,
+            final Money amount,
+            final BigDecimal delta
+    ) {
+        springDataRepository.increment(
+                UuidV7.generate(),
+                userId.value(),
+                taxYear.startYear(),
+                lineType,
+                category,
+                amount.currency(),
+                delta
+        );
+    }
+}
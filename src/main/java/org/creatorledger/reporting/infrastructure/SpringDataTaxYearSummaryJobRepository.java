@@ -0,0 +1,8 @@
+package org.creatorledger.reporting.infrastructure;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+interface SpringDataTaxYearSummaryJobRepository extends JpaRepository<TaxYearSummaryJobJpaEntity, UUID> {
+}
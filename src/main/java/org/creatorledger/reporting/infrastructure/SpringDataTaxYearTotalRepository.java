@@ -0,0 +1,45 @@
+package org.creatorledger.reporting.infrastructure;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+interface SpringDataTaxYearTotalRepository extends JpaRepository<TaxYearTotalJpaEntity, UUID> {
+
+    List<TaxYearTotalJpaEntity> findByUserIdAndTaxYearStart(UUID userId, Integer taxYearStart);
+
+    /**
+     * Atomically adds a (possibly negative) delta to a projection line, creating it if absent.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO tax_year_totals (id, user_id, tax_year_start, line_type, category, currency, total_amount)
+            VALUES (:id, :userId, :taxYearStart, :lineType, :category, :currency, :delta)
+            ON CONFLICT (user_id, tax_year_start, line_type, category, currency)
+            DO UPDATE SET total_amount = tax_year_totals.total_amount + EXCLUDED.total_amount
+            """, nativeQuery = true)
+    void increment(
+            @Param("id") UUID id,
+            @Param("userId") UUID userId,
+            @Param("taxYearStart") Integer taxYearStart,
+            @Param("lineType") String lineType,
+            @Param("category") String category,
+            @Param("currency") String currency,
+            @Param("delta") BigDecimal delta
+    );
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TaxYearTotalJpaEntity t WHERE t.userId = :userId AND t.taxYearStart = :taxYearStart")
+    void deleteByUserIdAndTaxYearStart(
+            @Param("userId") UUID userId,
+            @Param("taxYearStart") Integer taxYearStart
+    );
+}
@@ -0,0 +1,97 @@
+package org.creatorledger.reporting.infrastructure;
+
+import org.creatorledger.reporting.application.GenerateTaxYearSummariesCommand;
+import org.creatorledger.reporting.application.TaxYearSummaryBatchApplicationService;
+import org.creatorledger.reporting.domain.TaxYear;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Runs the batch tax year summary generation on a cron schedule.
+ * <p>
+ * Each run summarises the most recently completed tax year, which is the one
+ * due for filing by 31 January. The schedule, chunk size and concurrency are
+ * configured under {@code creatorledger.reporting.summary-batch}.
+ * </p>
+ * <p>
+ * Every instance fires the schedule, but only one runs the batch. A run
+ * first takes a Postgres session-level advisory lock on a connection it holds
+ * until the batch finishes; an instance that cannot take the lock skips the
+ * run. The lock is released with the connection if the instance dies.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "creatorledger.reporting.summary-batch", name = "enabled", havingValue = "true")
+public class TaxYearSummaryBatchScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaxYearSummaryBatchScheduler.class);
+
+    static final String TRY_LOCK_SQL = "SELECT pg_try_advisory_lock(hashtext('tax_year_summary_batch'))";
+    static final String UNLOCK_SQL = "SELECT pg_advisory_unlock(hashtext('tax_year_summary_batch'))";
+
+    private final TaxYearSummaryBatchApplicationService batchApplicationService;
+    private final JdbcOperations jdbcOperations;
+    private final ZoneId zone;
+    private final int chunkSize;
+    private final int maxConcurrency;
+
+    public TaxYearSummaryBatchScheduler(
+            final TaxYearSummaryBatchApplicationService batchApplicationService,
+            final JdbcOperations jdbcOperations,
+            @Value("${creatorledger.reporting.summary-batch.zone}") final String zone,
+            @Value("${creatorledger.reporting.summary-batch.chunk-size}") final int chunkSize,
+            @Value("${creatorledger.reporting.summary-batch.max-concurrency}") final int maxConcurrency
+    ) {
+        this.batchApplicationService = batchApplicationService;
+        this.jdbcOperations = jdbcOperations;
+        this.zone = ZoneId.of(zone);
+        this.chunkSize = chunkSize;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Scheduled(
+            cron = "${creatorledger.reporting.summary-batch.cron}",
+            zone = "${creatorledger.reporting.summary-batch.zone}"
+    )
+    public void generateForLastCompletedTaxYear() {
+        final TaxYear currentTaxYear = TaxYear.containing(LocalDate.now(zone));
+        final TaxYear lastCompletedTaxYear = TaxYear.of(currentTaxYear.startYear() - 1);
+
+        final Boolean ran = jdbcOperations.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!queryLock(connection, TRY_LOCK_SQL)) {
+                return false;
+            }
+            try {
+                batchApplicationService.generateForAllUsers(
+                        new GenerateTaxYearSummariesCommand(lastCompletedTaxYear, chunkSize, maxConcurrency)
+                );
+                return true;
+            } finally {
+                queryLock(connection, UNLOCK_SQL);
+            }
+        });
+        if (!Boolean.TRUE.equals(ran)) {
+            logger.info("Skipped summary batch for {}: another instance is running it", lastCompletedTaxYear);
+        }
+    }
+
+    private static boolean queryLock(final Connection connection, final String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() && resultSet.getBoolean(1);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.creatorledger.reporting.infrastructure;
+
+import org.creatorledger.common.EventCodec;
+import org.creatorledger.common.EventInput;
+import org.creatorledger.common.EventOutput;
+import org.creatorledger.common.Money;
+import org.creatorledger.expense.api.ExpenseCategory;
+import org.creatorledger.reporting.api.TaxYearSummaryId;
+import org.creatorledger.reporting.domain.CategoryTotals;
+import org.creatorledger.reporting.domain.TaxYear;
+import org.creatorledger.reporting.domain.TaxYearSummaryGenerated;
+import org.creatorledger.user.api.UserId;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Binary codec for {@link TaxYearSummaryGenerated}, type id {@value #TYPE_ID}.
+ * <p>
+ * Category totals, which always share one currency, are written as a count,
+ * the currency, then each category's name and amount; categories without
+ * expenses are left out.
+ * </p>
+ */
+@Component
+public class TaxYearSummaryGeneratedCodec implements EventCodec<TaxYearSummaryGenerated> {
+
+    static final int TYPE_ID = 5;
+    private static final int SCHEMA_VERSION = 1;
+
+    @Override
+    public Class<TaxYearSummaryGenerated> eventType() {
+        return TaxYearSummaryGenerated.class;
+    }
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public int schemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    public void write(final TaxYearSummaryGenerated event, final EventOutput output) {
+        output.writeUuid(event.summaryId().value())
+                .writeUuid(event.userId().value())
+                .writeVarInt(event.taxYear().startYear())
+                .writeMoney(event.totalIncome())
+                .writeMoney(event.totalExpenses())
+                .writeMoney(event.profit());
+
+        final CategoryTotals categoryTotals = event.categoryTotals();
+        output.writeVarInt(categoryTotals.totals().size());
+        if (!categoryTotals.isEmpty()) {
+            output.writeString(categoryTotals.overallTotal().currency());
+            categoryTotals.totals().forEach((category, amount) ->
+                    output.writeString(category.name()).writeAmount(amount));
+        }
+
+        output.writeInstant(event.occurredAt());
+    }
+
+    @Override
+    public TaxYearSummaryGenerated read(final int schemaVersion, final EventInput input) {
+        if (schemaVersion != SCHEMA_VERSION) {
+            throw new IllegalArgumentException("Unknown TaxYearSummaryGenerated schema version " + schemaVersion);
+        }
+        final TaxYearSummaryId summaryId = TaxYearSummaryId.of(input.readUuid());
+        final UserId userId = UserId.of(input.readUuid());
+        final TaxYear taxYear = new TaxYear(input.readVarInt());
+        final Money totalIncome = input.readMoney();
+        final Money totalExpenses = input.readMoney();
+        final Money profit = input.readMoney();
+
+        final int categoryCount = input.readVarInt();
+        final Map<ExpenseCategory, Money> totals = new EnumMap<>(ExpenseCategory.class);
+        if (categoryCount > 0) {
+            final String currency = input.readString();
+            for (int i = 0; i < categoryCount; i++) {
+                totals.put(ExpenseCategory.valueOf(input.readString()), input.readAmount(currency));
+            }
+        }
+
+        return new TaxYearSummaryGenerated(summaryId, userId, taxYear, totalIncome, totalExpenses, profit,
+                CategoryTotals.of(totals), input.readInstant());
+    }
+}
@@ -0,0 +1,43 @@
+package org.creatorledger.reporting.infrastructure;
+
+import org.creatorledger.reporting.api.TaxYearSummaryId;
+import org.creatorledger.reporting.application.TaxYearSummaryJob;
+import org.creatorledger.reporting.application.TaxYearSummaryJobId;
+import org.creatorledger.reporting.application.TaxYearSummaryJobStatus;
+import org.creatorledger.reporting.domain.TaxYear;
+import org.creatorledger.user.api.UserId;
+
+public class TaxYearSummaryJobEntityMapper {
+
+    public static TaxYearSummaryJobJpaEntity toEntity(final TaxYearSummaryJob job) {
+        if (job == null) {
+            return null;
+        }
+        return new TaxYearSummaryJobJpaEntity(
+                job.id().value(),
+                job.userId().value(),
+                job.taxYear().startYear(),
+                job.status().name(),
+                job.generatedSummaryId().map(TaxYearSummaryId::value).orElse(null),
+                job.failure(),
+                job.submittedAt(),
+                job.completedAt()
+        );
+    }
+
+    public static TaxYearSummaryJob toDomain(final TaxYearSummaryJobJpaEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        return new TaxYearSummaryJob(
+                TaxYearSummaryJobId.of(entity.getId()),
+                UserId.of(entity.getUserId()),
+                TaxYear.of(entity.getTaxYearStart()),
+                TaxYearSummaryJobStatus.valueOf(entity.getStatus()),
+                entity.getSummaryId() == null ? null : TaxYearSummaryId.of(entity.getSummaryId()),
+                entity.getFailure(),
+                entity.getSubmittedAt(),
+                entity.getCompletedAt()
+        );
+    }
+}
@@ -0,0 +1,126 @@
+package org.creatorledger.reporting.infrastructure;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "tax_year_summary_jobs")
+public class TaxYearSummaryJobJpaEntity {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "tax_year_start", nullable = false)
+    private Integer taxYearStart;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "summary_id")
+    private UUID summaryId;
+
+    @Column(name = "failure", columnDefinition = "TEXT")
+    private String failure;
+
+    @Column(name = "submitted_at", nullable = false)
+    private Instant submittedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    protected TaxYearSummaryJobJpaEntity() {
+    }
+
+    public TaxYearSummaryJobJpaEntity(
+            UUID id,
+            UUID userId,
+            Integer taxYearStart,
+            String status,
+            UUID summaryId,
+            String failure,
+            Instant submittedAt,
+            Instant completedAt
+    ) {
+        this.id = id;
+        this.userId = userId;
+        this.taxYearStart = taxYearStart;
+        this.status = status;
+        this.summaryId = summaryId;
+        this.failure = failure;
+        this.submittedAt = submittedAt;
+        this.completedAt = completedAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public Integer getTaxYearStart() {
+        return taxYearStart;
+    }
+
+    public void setTaxYearStart(Integer taxYearStart) {
+        this.taxYearStart = taxYearStart;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public UUID getSummaryId() {
+        return summaryId;
+    }
+
+    public void setSummaryId(UUID summaryId) {
+        this.summaryId = summaryId;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    public void setFailure(String failure) {
+        this.failure = failure;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(Instant submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+}
@@ -0,0 +1,37 @@
+package org.creatorledger.reporting.infrastructure;
+
+import org.creatorledger.reporting.application.TaxYearSummaryJobApplicationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes finished summary jobs past their retention period on a cron
+ * schedule, so submitting a job never pays for the housekeeping. The
+ * schedule is configured under {@code creatorledger.reporting.summary-jobs.purge}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "creatorledger.reporting.summary-jobs.purge", name = "enabled", havingValue = "true")
+public class TaxYearSummaryJobPurgeScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaxYearSummaryJobPurgeScheduler.class);
+
+    private final TaxYearSummaryJobApplicationService jobApplicationService;
+
+    public TaxYearSummaryJobPurgeScheduler(final TaxYearSummaryJobApplicationService jobApplicationService) {
+        this.jobApplicationService = jobApplicationService;
+    }
+
+    @Scheduled(
+            cron = "${creatorledger.reporting.summary-jobs.purge.cron}",
+            zone = "${creatorledger.reporting.summary-jobs.purge.zone}"
+    )
+    public void purgeFinishedJobs() {
+        final int purged = jobApplicationService.purgeFinishedJobs();
+        if (purged > 0) {
+            logger.info("Purged {} finished summary jobs", purged);
+        }
+    }
+}
@@ -4,12 +4,19 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 import java.math.BigDecimal;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tax_year_summaries")
+@Table(
+        name = "tax_year_summaries",
+        uniqueConstraints = @UniqueConstraint(
+                name = "idx_tax_summary_user_year",
+                columnNames = {"user_id", "tax_year_start"}
+        )
+)
 public class TaxYearSummaryJpaEntity {
 
     @Id
@@ -0,0 +1,103 @@
+package org.creatorledger.reporting.infrastructure;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * JPA entity for one line of the tax year totals projection.
+ * <p>
+ * Each row holds the running total for a user, tax year, line type and currency.
+ * Expense rows are further split by category; income rows use an empty category.
+ * </p>
+ */
+@Entity
+@Table(
+        name = "tax_year_totals",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_tax_year_totals_line",
+                columnNames = {"user_id", "tax_year_start", "line_type", "category", "currency"}
+        )
+)
+public class TaxYearTotalJpaEntity {
+
+    static final String INCOME = "INCOME";
+    static final String EXPENSE = "EXPENSE";
+    static final String NO_CATEGORY = "";
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "tax_year_start", nullable = false)
+    private Integer taxYearStart;
+
+    @Column(name = "line_type", nullable = false, length = 10)
+    private String lineType;
+
+    @Column(name = "category", nullable = false, length = 50)
+    private String category;
+
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+
+    protected TaxYearTotalJpaEntity() {
+    }
+
+    public TaxYearTotalJpaEntity(
+            UUID id,
+            UUID userId,
+            Integer taxYearStart,
+            String lineType,
+            String category,
+            String currency,
+            BigDecimal totalAmount
+    ) {
+        this.id = id;
+        this.userId = userId;
+        this.taxYearStart = taxYearStart;
+        this.lineType = lineType;
+        this.category = category;
+        this.currency = currency;
+        this.totalAmount = totalAmount;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public Integer getTaxYearStart() {
+        return taxYearStart;
+    }
+
+    public String getLineType() {
+        return lineType;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+}
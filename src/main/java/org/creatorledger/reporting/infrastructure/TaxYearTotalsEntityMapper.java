@@ -0,0 +1,62 @@
+package org.creatorledger.reporting.infrastructure;
+
+import org.creatorledger.common.Money;
+import org.creatorledger.common.MoneyAccumulator;
+import org.creatorledger.common.UuidV7;
+import org.creatorledger.expense.api.ExpenseCategory;
+import org.creatorledger.reporting.domain.CategoryTotals;
+import org.creatorledger.reporting.domain.TaxYear;
+import org.creatorledger.reporting.domain.TaxYearTotals;
+import org.creatorledger.user.api.UserId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TaxYearTotalsEntityMapper {
+
+    public static TaxYearTotals toDomain(final List<TaxYearTotalJpaEntity> entities) {
+        final MoneyAccumulator totalIncome = MoneyAccumulator.gbp();
+        final CategoryTotals.Accumulator expenseTotals = CategoryTotals.accumulator();
+
+        for (final TaxYearTotalJpaEntity entity : entities) {
+            final Money amount = Money.of(entity.getTotalAmount(), entity.getCurrency());
+            if (TaxYearTotalJpaEntity.INCOME.equals(entity.getLineType())) {
+                totalIncome.add(amount);
+            } else if (!amount.isZero()) {
+                expenseTotals.add(ExpenseCategory.valueOf(entity.getCategory()), amount);
+            }
+        }
+
+        return new TaxYearTotals(totalIncome.toMoney(), expenseTotals.toCategoryTotals());
+    }
+
+    public static List<TaxYearTotalJpaEntity> toEntities(
+            final UserId userId,
+            final TaxYear taxYear,
+            final TaxYearTotals totals
+    ) {
+        final List<TaxYearTotalJpaEntity> entities = new ArrayList<>();
+        entities.add(new TaxYearTotalJpaEntity(
+                UuidV7.generate(),
+                userId.value(),
+                taxYear.startYear(),
+                TaxYearTotalJpaEntity.INCOME,
+                TaxYearTotalJpaEntity.NO_CATEGORY,
+                totals.totalIncome().currency(),
+                totals.totalIncome().amount()
+        ));
+        for (final ExpenseCategory category : totals.expenseTotals().categories()) {
+            final Money amount = totals.expenseTotals().totalFor(category);
+            entities.add(new TaxYearTotalJpaEntity(
+                    UuidV7.generate(),
+                    userId.value(),
+                    taxYear.startYear(),
+                    TaxYearTotalJpaEntity.EXPENSE,
+                    category.name(),
+                    amount.currency(),
+                    amount.amount()
+            ));
+        }
+        return entities;
+    }
+}
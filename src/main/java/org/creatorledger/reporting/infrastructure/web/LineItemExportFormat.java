@@ -0,0 +1,145 @@
+package org.creatorledger.reporting.infrastructure.web;
+
+import org.creatorledger.reporting.application.TaxYearLineItem;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Wire formats for the tax year line item export.
+ * <p>
+ * Exports are opened in spreadsheets, so CSV text cells that start with a
+ * formula character are prefixed with {@code '} to be read as text.
+ * </p>
+ */
+public enum LineItemExportFormat {
+
+    CSV("text/csv", "csv") {
+        @Override
+        void writeHeader(final Writer writer) throws IOException {
+            writer.write("type,id,date,description,category,status,amount,currency\n");
+        }
+
+        @Override
+        void writeLine(final Writer writer, final TaxYearLineItem item) throws IOException {
+            writer.write(item.type().name());
+            writer.write(',');
+            writer.write(item.id().toString());
+            writer.write(',');
+            writer.write(item.date().toString());
+            writer.write(',');
+            writeCsvField(writer, item.description());
+            writer.write(',');
+            writeCsvField(writer, item.category());
+            writer.write(',');
+            writeCsvField(writer, item.status());
+            writer.write(',');
+            writer.write(item.amount().amount().toPlainString());
+            writer.write(',');
+            writer.write(item.amount().currency());
+            writer.write('\n');
+        }
+    },
+
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        void writeHeader(final Writer writer) {
+            // NDJSON has no header; every line is self-describing
+        }
+
+        @Override
+        void writeLine(final Writer writer, final TaxYearLineItem item) throws IOException {
+            writer.write(JSON.writeValueAsString(new JsonLine(
+                    item.type().name(),
+                    item.id().toString(),
+                    item.date().toString(),
+                    item.description(),
+                    item.category(),
+                    item.status(),
+                    item.amount().amount().toPlainString(),
+                    item.amount().currency()
+            )));
+            writer.write('\n');
+        }
+    };
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private final String contentType;
+    private final String fileExtension;
+
+    LineItemExportFormat(final String contentType, final String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public static LineItemExportFormat of(final String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Export format cannot be null or blank");
+        }
+        for (final LineItemExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported export format: " + value);
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String fileExtension() {
+        return fileExtension;
+    }
+
+    abstract void writeHeader(Writer writer) throws IOException;
+
+    abstract void writeLine(Writer writer, TaxYearLineItem item) throws IOException;
+
+    private static void writeCsvField(final Writer writer, final String field) throws IOException {
+        if (field == null) {
+            return;
+        }
+        final String value = startsFormula(field) ? "'" + field : field;
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            final char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static boolean startsFormula(final String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        final char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+
+    record JsonLine(
+            String type,
+            String id,
+            String date,
+            String description,
+            String category,
+            String status,
+            String amount,
+            String currency
+    ) {
+    }
+}
@@ -0,0 +1,9 @@
+package org.creatorledger.reporting.infrastructure.web;
+
+import java.util.UUID;
+
+public record RebuildTaxYearTotalsRequest(
+    UUID userId,
+    Integer taxYear
+) {
+}
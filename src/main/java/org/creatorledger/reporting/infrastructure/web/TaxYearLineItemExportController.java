@@ -0,0 +1,122 @@
+package org.creatorledger.reporting.infrastructure.web;
+
+import org.creatorledger.reporting.application.ExportTaxYearLineItemsCommand;
+import org.creatorledger.reporting.application.TaxYearLineItemExportApplicationService;
+import org.creatorledger.reporting.domain.TaxYear;
+import org.creatorledger.user.api.UserId;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams the income and expense lines behind a tax year summary as CSV or
+ * NDJSON.
+ * <p>
+ * The body is written as rows are read from the database and flushed every
+ * {@value #FLUSH_EVERY_ROWS} rows, so the first bytes arrive quickly and the
+ * server never holds the whole export. Responses are gzipped on the fly when
+ * the client accepts it.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/tax-year-summaries")
+public class TaxYearLineItemExportController {
+
+    static final int FLUSH_EVERY_ROWS = 500;
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final TaxYearLineItemExportApplicationService exportApplicationService;
+
+    public TaxYearLineItemExportController(final TaxYearLineItemExportApplicationService exportApplicationService) {
+        this.exportApplicationService = exportApplicationService;
+    }
+
+    @GetMapping("/line-items")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam final String userId,
+            @RequestParam final Integer taxYear,
+            @RequestParam(defaultValue = "csv") final String format,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding
+    ) {
+        try {
+            final ExportTaxYearLineItemsCommand command = new ExportTaxYearLineItemsCommand(
+                    UserId.of(UUID.fromString(userId)),
+                    TaxYear.of(taxYear)
+            );
+            final LineItemExportFormat exportFormat = LineItemExportFormat.of(format);
+            final boolean gzip = acceptsGzip(acceptEncoding);
+
+            final StreamingResponseBody body = outputStream -> write(command, exportFormat, gzip, outputStream);
+
+            final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(exportFormat.contentType() + ";charset=UTF-8"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename("line-items-%s-%d.%s".formatted(userId, taxYear, exportFormat.fileExtension()))
+                            .build()
+                            .toString())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (gzip) {
+                response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            return response.body(body);
+        } catch (final IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private void write(
+            final ExportTaxYearLineItemsCommand command,
+            final LineItemExportFormat format,
+            final boolean gzip,
+            final OutputStream outputStream
+    ) throws IOException {
+        final OutputStream target = gzip ? new GZIPOutputStream(outputStream, BUFFER_SIZE, true) : outputStream;
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            format.writeHeader(writer);
+            writer.flush();
+            final long[] rows = {0};
+            exportApplicationService.export(command, item -> {
+                try {
+                    format.writeLine(writer, item);
+                    if (++rows[0] % FLUSH_EVERY_ROWS == 0) {
+                        writer.flush();
+                    }
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static boolean acceptsGzip(final String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (final String encoding : acceptEncoding.split(",")) {
+            final String[] parts = encoding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").equalsIgnoreCase("q=0");
+            }
+        }
+        return false;
+    }
+}
@@ -2,9 +2,16 @@ package org.creatorledger.reporting.infrastructure.web;
 
 import org.creatorledger.reporting.api.TaxYearSummaryId;
 import org.creatorledger.reporting.application.GenerateTaxYearSummaryCommand;
+import org.creatorledger.reporting.application.RebuildTaxYearTotalsCommand;
 import org.creatorledger.reporting.application.TaxYearSummaryApplicationService;
+import org.creatorledger.reporting.application.TaxYearSummaryJob;
+import org.creatorledger.reporting.application.TaxYearSummaryJobId;
+import org.creatorledger.reporting.application.TaxYearSummaryJobRejectedException;
+import org.creatorledger.reporting.application.TaxYearSummaryJobApplicationService;
 import org.creatorledger.reporting.domain.TaxYear;
 import org.creatorledger.user.api.UserId;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,10 +22,17 @@ import java.util.UUID;
 @RequestMapping("/api/tax-year-summaries")
 public class TaxYearSummaryController {
 
+    private static final String JOB_RETRY_AFTER_SECONDS = "5";
+
     private final TaxYearSummaryApplicationService taxYearSummaryApplicationService;
+    private final TaxYearSummaryJobApplicationService taxYearSummaryJobApplicationService;
 
-    public TaxYearSummaryController(final TaxYearSummaryApplicationService taxYearSummaryApplicationService) {
+    public TaxYearSummaryController(
+            final TaxYearSummaryApplicationService taxYearSummaryApplicationService,
+            final TaxYearSummaryJobApplicationService taxYearSummaryJobApplicationService
+    ) {
         this.taxYearSummaryApplicationService = taxYearSummaryApplicationService;
+        this.taxYearSummaryJobApplicationService = taxYearSummaryJobApplicationService;
     }
 
     @PostMapping
@@ -37,6 +51,55 @@ public class TaxYearSummaryController {
         }
     }
 
+    @PostMapping("/jobs")
+    public ResponseEntity<TaxYearSummaryJobResponse> submitJob(@RequestBody final GenerateTaxYearSummaryRequest request) {
+        try {
+            final GenerateTaxYearSummaryCommand command = new GenerateTaxYearSummaryCommand(
+                    UserId.of(request.userId()),
+                    TaxYear.of(request.taxYear())
+            );
+            final TaxYearSummaryJob job = taxYearSummaryJobApplicationService.submit(command);
+
+            final URI location = URI.create("/api/tax-year-summaries/jobs/" + job.id().value());
+            return ResponseEntity.accepted().location(location).body(TaxYearSummaryJobResponse.from(job));
+        } catch (final TaxYearSummaryJobRejectedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, JOB_RETRY_AFTER_SECONDS)
+                    .build();
+        } catch (final IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<TaxYearSummaryJobResponse> getJob(@PathVariable final String id) {
+        try {
+            final TaxYearSummaryJobId jobId = TaxYearSummaryJobId.of(UUID.fromString(id));
+
+            return taxYearSummaryJobApplicationService.findById(jobId)
+                    .map(TaxYearSummaryJobResponse::from)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (final IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/totals/rebuild")
+    public ResponseEntity<Void> rebuildTotals(@RequestBody final RebuildTaxYearTotalsRequest request) {
+        try {
+            final RebuildTaxYearTotalsCommand command = new RebuildTaxYearTotalsCommand(
+                    UserId.of(request.userId()),
+                    TaxYear.of(request.taxYear())
+            );
+            taxYearSummaryApplicationService.rebuildTotals(command);
+
+            return ResponseEntity.noContent().build();
+        } catch (final IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<TaxYearSummaryResponse> getSummary(@PathVariable final String id) {
         try {
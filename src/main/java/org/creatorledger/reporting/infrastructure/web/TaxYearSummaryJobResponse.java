@@ -0,0 +1,40 @@
+package org.creatorledger.reporting.infrastructure.web;
+
+import org.creatorledger.reporting.application.TaxYearSummaryJob;
+
+import java.time.Instant;
+
+public record TaxYearSummaryJobResponse(
+    String id,
+    String userId,
+    Integer taxYear,
+    String status,
+    String summaryId,
+    String summaryLocation,
+    String failure,
+    Instant submittedAt,
+    Instant completedAt
+) {
+
+    public static TaxYearSummaryJobResponse from(final TaxYearSummaryJob job) {
+        if (job == null) {
+            throw new IllegalArgumentException("Tax year summary job cannot be null");
+        }
+
+        final String summaryId = job.generatedSummaryId()
+                .map(id -> id.value().toString())
+                .orElse(null);
+
+        return new TaxYearSummaryJobResponse(
+                job.id().value().toString(),
+                job.userId().value().toString(),
+                job.taxYear().startYear(),
+                job.status().name(),
+                summaryId,
+                summaryId != null ? "/api/tax-year-summaries/" + summaryId : null,
+                job.failure(),
+                job.submittedAt(),
+                job.completedAt()
+        );
+    }
+}
@@ -16,10 +16,19 @@
  *   <li>{@code user::api} - UserId for report ownership</li>
  *   <li>{@code income::api} - IncomeQueryService for aggregation</li>
  *   <li>{@code expense::api} - ExpenseQueryService and ExpenseCategory</li>
+ *   <li>{@code income::events} - IncomeRecorded and IncomeUpdated, which feed the tax year totals projection</li>
+ *   <li>{@code expense::events} - ExpenseRecorded, ExpenseUpdated and ExpensesImported, which feed the tax year totals projection</li>
  * </ul>
  */
 @org.springframework.modulith.ApplicationModule(
     displayName = "Reporting",
-    allowedDependencies = {"common", "user :: api", "income :: api", "expense :: api"}
+    allowedDependencies = {
+        "common",
+        "user :: api",
+        "income :: api",
+        "income :: events",
+        "expense :: api",
+        "expense :: events"
+    }
 )
 package org.creatorledger.reporting;
@@ -1,5 +1,7 @@
 package org.creatorledger.user.api;
 
+import org.creatorledger.common.UuidV7;
+
 import java.util.UUID;
 
 /**
@@ -23,12 +25,12 @@ public record UserId(UUID value) {
     }
 
     /**
-     * Generates a new UserId with a random UUID.
+     * Generates a new UserId with a time-ordered UUID.
      *
      * @return a new UserId with a generated UUID
      */
     public static UserId generate() {
-        return new UserId(UUID.randomUUID());
+        return new UserId(UuidV7.generate());
     }
 
     @Override
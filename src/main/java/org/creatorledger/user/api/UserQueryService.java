@@ -0,0 +1,25 @@
+package org.creatorledger.user.api;
+
+import java.util.List;
+
+/**
+ * Public API for querying user data across module boundaries.
+ * <p>
+ * This interface is part of the user module's published language,
+ * allowing other modules (e.g., reporting) to enumerate users
+ * without violating Spring Modulith module boundaries.
+ * </p>
+ */
+public interface UserQueryService {
+
+    /**
+     * Find the IDs of all registered users.
+     * <p>
+     * Only the identifiers are loaded, ordered by ID so callers can
+     * partition them into stable chunks.
+     * </p>
+     *
+     * @return list of user IDs
+     */
+    List<UserId> findAllIds();
+}
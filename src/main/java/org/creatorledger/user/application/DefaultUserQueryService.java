@@ -0,0 +1,22 @@
+package org.creatorledger.user.application;
+
+import org.creatorledger.user.api.UserId;
+import org.creatorledger.user.api.UserQueryService;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class DefaultUserQueryService implements UserQueryService {
+
+    private final UserRepository userRepository;
+
+    public DefaultUserQueryService(final UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public List<UserId> findAllIds() {
+        return userRepository.findAllIds();
+    }
+}
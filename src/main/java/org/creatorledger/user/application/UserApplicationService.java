@@ -42,7 +42,7 @@ public class UserApplicationService {
         Email email = Email.of(command.email());
         User user = User.register(email);
 
-        userRepository.save(user);
+        userRepository.add(user);
 
         // Publish domain event
         final UserRegistered event = UserRegistered.of(user.id(), user.email());
@@ -3,6 +3,7 @@ package org.creatorledger.user.application;
 import org.creatorledger.user.domain.User;
 import org.creatorledger.user.api.UserId;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,8 +15,22 @@ import java.util.Optional;
  * </p>
  */
 public interface UserRepository {
+    /**
+     * Inserts a newly created user.
+     * <p>
+     * Unlike {@link #save}, this does not first check whether the user is
+     * already stored, so it costs a single INSERT. Use it only for users that
+     * have just been created.
+     * </p>
+     */
+    void add(User user);
+
+    /**
+     * Stores changes to an existing user, inserting it if it is not stored yet.
+     */
     User save(User user);
     Optional<User> findById(UserId id);
     boolean existsById(UserId id);
     void delete(User user);
+    List<UserId> findAllIds();
 }
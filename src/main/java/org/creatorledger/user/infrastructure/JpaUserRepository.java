@@ -5,6 +5,7 @@ import org.creatorledger.user.domain.User;
 import org.creatorledger.user.api.UserId;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,10 +26,16 @@ public class JpaUserRepository implements UserRepository {
     }
 
     @Override
-    public User save(User user) {
-        UserJpaEntity entity = UserEntityMapper.toEntity(user);
-        UserJpaEntity saved = springDataRepository.save(entity);
-        return UserEntityMapper.toDomain(saved);
+    public void add(final User user) {
+        springDataRepository.save(UserEntityMapper.toEntity(user));
+    }
+
+    @Override
+    public User save(final User user) {
+        final UserJpaEntity entity = UserEntityMapper.toEntity(user);
+        entity.markNotNew();
+        springDataRepository.save(entity);
+        return user;
     }
 
     @Override
@@ -46,4 +53,12 @@ public class JpaUserRepository implements UserRepository {
     public void delete(User user) {
         springDataRepository.deleteById(user.id().value());
     }
+
+    @Override
+    public List<UserId> findAllIds() {
+        return springDataRepository.findAllIds()
+                .stream()
+                .map(UserId::of)
+                .toList();
+    }
 }
@@ -1,7 +1,9 @@
 package org.creatorledger.user.infrastructure;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -11,4 +13,7 @@ import java.util.UUID;
  * </p>
  */
 interface SpringDataUserRepository extends JpaRepository<UserJpaEntity, UUID> {
+
+    @Query("SELECT u.id FROM UserJpaEntity u ORDER BY u.id")
+    List<UUID> findAllIds();
 }
@@ -3,13 +3,17 @@ package org.creatorledger.user.infrastructure;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
 
 import java.util.UUID;
 
 @Entity
 @Table(name = "users")
-public class UserJpaEntity {
+public class UserJpaEntity implements Persistable<UUID> {
 
     @Id
     @Column(name = "id", nullable = false)
@@ -18,6 +22,10 @@ public class UserJpaEntity {
     @Column(name = "email", nullable = false, unique = true, length = 255)
     private String email;
 
+    /** New until loaded or persisted; see {@code IncomeJpaEntity#isNew}. */
+    @Transient
+    private boolean isNew = true;
+
     protected UserJpaEntity() {
     }
 
@@ -41,4 +49,19 @@ public class UserJpaEntity {
     public void setEmail(String email) {
         this.email = email;
     }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * Marks this entity as already stored, so saving it updates the existing
+     * row instead of inserting.
+     */
+    @PostLoad
+    @PrePersist
+    void markNotNew() {
+        this.isNew = false;
+    }
 }
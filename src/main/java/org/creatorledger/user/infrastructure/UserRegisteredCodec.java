@@ -0,0 +1,53 @@
+package org.creatorledger.user.infrastructure;
+
+import org.creatorledger.common.EventCodec;
+import org.creatorledger.common.EventInput;
+import org.creatorledger.common.EventOutput;
+import org.creatorledger.user.api.UserId;
+import org.creatorledger.user.domain.Email;
+import org.creatorledger.user.domain.UserRegistered;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binary codec for {@link UserRegistered}, type id {@value #TYPE_ID}.
+ */
+@Component
+public class UserRegisteredCodec implements EventCodec<UserRegistered> {
+
+    static final int TYPE_ID = 1;
+    private static final int SCHEMA_VERSION = 1;
+
+    @Override
+    public Class<UserRegistered> eventType() {
+        return UserRegistered.class;
+    }
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public int schemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    public void write(final UserRegistered event, final EventOutput output) {
+        output.writeUuid(event.userId().value())
+                .writeString(event.email().value())
+                .writeInstant(event.occurredAt());
+    }
+
+    @Override
+    public UserRegistered read(final int schemaVersion, final EventInput input) {
+        if (schemaVersion != SCHEMA_VERSION) {
+            throw new IllegalArgumentException("Unknown UserRegistered schema version " + schemaVersion);
+        }
+        return new UserRegistered(
+                UserId.of(input.readUuid()),
+                new Email(input.readString()),
+                input.readInstant()
+        );
+    }
+}
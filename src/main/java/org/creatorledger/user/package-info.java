@@ -6,7 +6,7 @@
  * </p>
  * <p>
  * <strong>Public API:</strong> The {@code api} package contains {@code UserId}
- * which other modules can safely depend on.
+ * and {@code UserQueryService} which other modules can safely depend on.
  * </p>
  * <p>
  * <strong>Dependencies:</strong> None - this is a foundation module.
@@ -0,0 +1,5 @@
+-- The overdue sweeper reads PENDING income in received_date order. Only a
+-- small share of income is ever pending, so a partial index over those rows
+-- stays small and selective, unlike an index on status, which income no
+-- longer has since it was partitioned.
+CREATE INDEX IF NOT EXISTS idx_income_pending_received_date ON income(received_date) WHERE status = 'PENDING';
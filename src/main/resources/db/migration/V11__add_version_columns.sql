@@ -0,0 +1,7 @@
+-- Optimistic concurrency for edits. Each conditional update checks the
+-- version the client read and increments it, so a concurrent edit is
+-- rejected instead of silently overwritten. Adding a column with a constant
+-- default does not rewrite the tables.
+ALTER TABLE income ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE expenses ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE events ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
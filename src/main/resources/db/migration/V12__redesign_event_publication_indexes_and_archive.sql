@@ -0,0 +1,81 @@
+-- Keeps the event publication registry small and cheap to write to.
+--
+-- The B-tree over serialized_event made every publication pay to index its
+-- whole payload, and failed for payloads over the B-tree row size limit. The
+-- registry only looks up incomplete publications, by listener or in
+-- publication order, so a partial index over those rows replaces it. The
+-- completion_date index becomes partial too: it only serves the archival job.
+--
+-- Completed publications are moved in batches by EventPublicationArchiver
+-- into event_publication_archive, which is range-partitioned by month of
+-- completion so old months are purged by dropping their partition.
+
+DROP INDEX idx_event_publication_serialized_event;
+DROP INDEX idx_event_publication_completion_date;
+
+CREATE INDEX idx_event_publication_incomplete
+    ON event_publication(listener_id, publication_date)
+    WHERE completion_date IS NULL;
+
+CREATE INDEX idx_event_publication_completed
+    ON event_publication(completion_date)
+    WHERE completion_date IS NOT NULL;
+
+CREATE TABLE event_publication_archive (
+    id UUID NOT NULL,
+    event_type VARCHAR(512) NOT NULL,
+    listener_id VARCHAR(512) NOT NULL,
+    publication_date TIMESTAMP NOT NULL,
+    serialized_event TEXT NOT NULL,
+    completion_date TIMESTAMP NOT NULL,
+    CONSTRAINT event_publication_archive_pkey PRIMARY KEY (id, completion_date)
+) PARTITION BY RANGE (completion_date);
+
+CREATE TABLE event_publication_archive_default PARTITION OF event_publication_archive DEFAULT;
+
+-- Creates the archive partition for the month starting on month_start, named
+-- like event_publication_archive_2026_10. Returns false if it already exists.
+-- Rows are only archived into months that have a partition, so the DEFAULT
+-- partition stays empty and never has to be split.
+CREATE OR REPLACE FUNCTION create_event_publication_archive_partition(month_start DATE) RETURNS BOOLEAN
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    range_start    DATE := date_trunc('month', month_start)::DATE;
+    partition_name TEXT := 'event_publication_archive_' || to_char(range_start, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I PARTITION OF event_publication_archive FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, range_start, (range_start + INTERVAL '1 month')::DATE);
+    RETURN TRUE;
+END
+$$;
+
+-- Drops the archive partitions of months that ended on or before cutoff and
+-- returns how many were dropped.
+CREATE OR REPLACE FUNCTION drop_event_publication_archive_partitions(cutoff DATE) RETURNS INTEGER
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    partition_name TEXT;
+    dropped        INTEGER := 0;
+BEGIN
+    FOR partition_name IN
+        SELECT child.relname
+        FROM pg_inherits
+                 JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+                 JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+        WHERE parent.relname = 'event_publication_archive'
+          AND child.relname ~ '^event_publication_archive_[0-9]{4}_[0-9]{2}$'
+        LOOP
+            IF (to_date(right(partition_name, 7), 'YYYY_MM') + INTERVAL '1 month')::DATE <= cutoff THEN
+                EXECUTE format('DROP TABLE %I', partition_name);
+                dropped := dropped + 1;
+            END IF;
+        END LOOP;
+    RETURN dropped;
+END
+$$;
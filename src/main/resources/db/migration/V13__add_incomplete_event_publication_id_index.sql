@@ -0,0 +1,5 @@
+-- Lets startup resubmission page through incomplete publications in id order
+-- without reading past the completed rows still held by the registry.
+CREATE INDEX idx_event_publication_incomplete_id
+    ON event_publication(id)
+    WHERE completion_date IS NULL;
@@ -0,0 +1,18 @@
+-- State of the asynchronous summary generation jobs. Jobs run on the
+-- instance that accepted them, but their state is stored here so a job can be
+-- polled through any instance. Finished jobs are deleted after the retention
+-- period, found through the partial index on completed_at.
+CREATE TABLE IF NOT EXISTS tax_year_summary_jobs (
+    id UUID PRIMARY KEY,
+    user_id UUID NOT NULL,
+    tax_year_start INTEGER NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    summary_id UUID,
+    failure TEXT,
+    submitted_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    completed_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX idx_tax_year_summary_jobs_completed_at
+    ON tax_year_summary_jobs(completed_at)
+    WHERE completed_at IS NOT NULL;
@@ -0,0 +1,38 @@
+-- Running totals projection per user, UK tax year, line type and currency.
+-- Maintained incrementally by the reporting module from income and expense events.
+-- Income rows use an empty category; expense rows hold the ExpenseCategory name.
+CREATE TABLE IF NOT EXISTS tax_year_totals (
+    id UUID PRIMARY KEY,
+    user_id UUID NOT NULL,
+    tax_year_start INTEGER NOT NULL,
+    line_type VARCHAR(10) NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    total_amount DECIMAL(19, 2) NOT NULL,
+    CONSTRAINT uk_tax_year_totals_line UNIQUE (user_id, tax_year_start, line_type, category, currency)
+);
+
+-- Backfill from existing data. A UK tax year starts on 6 April.
+INSERT INTO tax_year_totals (id, user_id, tax_year_start, line_type, category, currency, total_amount)
+SELECT gen_random_uuid(), user_id, tax_year_start, 'INCOME', '', currency, SUM(amount)
+FROM (
+    SELECT user_id, currency, amount,
+           CASE WHEN received_date < make_date(EXTRACT(YEAR FROM received_date)::INTEGER, 4, 6)
+                THEN EXTRACT(YEAR FROM received_date)::INTEGER - 1
+                ELSE EXTRACT(YEAR FROM received_date)::INTEGER
+           END AS tax_year_start
+    FROM income
+) AS dated_income
+GROUP BY user_id, tax_year_start, currency;
+
+INSERT INTO tax_year_totals (id, user_id, tax_year_start, line_type, category, currency, total_amount)
+SELECT gen_random_uuid(), user_id, tax_year_start, 'EXPENSE', category, currency, SUM(amount)
+FROM (
+    SELECT user_id, category, currency, amount,
+           CASE WHEN incurred_date < make_date(EXTRACT(YEAR FROM incurred_date)::INTEGER, 4, 6)
+                THEN EXTRACT(YEAR FROM incurred_date)::INTEGER - 1
+                ELSE EXTRACT(YEAR FROM incurred_date)::INTEGER
+           END AS tax_year_start
+    FROM expenses
+) AS dated_expenses
+GROUP BY user_id, tax_year_start, category, currency;
@@ -0,0 +1,6 @@
+-- Keyset pagination of a user's income seeks on (received_date, id), so the
+-- listing reads one index range however deep the page is.
+CREATE INDEX IF NOT EXISTS idx_income_user_received_date_id ON income(user_id, received_date, id);
+
+-- Superseded by the composite index, which leads with user_id.
+DROP INDEX IF EXISTS idx_income_user_id;
@@ -0,0 +1,17 @@
+-- Indexes for expense search. Every search is scoped to one user, so each
+-- index leads with user_id.
+
+-- Date range filters and the (incurred_date, id) keyset order.
+CREATE INDEX IF NOT EXISTS idx_expense_user_incurred_date_id ON expenses(user_id, incurred_date, id);
+
+-- Category filters and the per-category counts, which group by category.
+CREATE INDEX IF NOT EXISTS idx_expense_user_category_incurred_date ON expenses(user_id, category, incurred_date);
+
+-- Case-insensitive substring search on the description.
+-- pg_trgm is a trusted extension, so the schema owner can create it.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_expense_description_trgm ON expenses USING gin (lower(description) gin_trgm_ops);
+
+-- Superseded by the composite indexes above.
+DROP INDEX IF EXISTS idx_expense_user_id;
+DROP INDEX IF EXISTS idx_expense_category;
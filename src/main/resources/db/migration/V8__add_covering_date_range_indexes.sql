@@ -0,0 +1,15 @@
+-- Covering indexes for the per-user date-range reads.
+--
+-- Every hot income and expense query filters on user_id and a date range.
+-- The aggregations read only amount, currency and category or status, so
+-- these are INCLUDEd. Totals are then answered by an index-only scan, with no
+-- heap visits. id stays in the key so the keyset listings from V6 and V7
+-- still seek on (date, id).
+
+CREATE INDEX IF NOT EXISTS idx_income_user_received_date_covering
+    ON income(user_id, received_date, id) INCLUDE (amount, currency, status);
+DROP INDEX IF EXISTS idx_income_user_received_date_id;
+
+CREATE INDEX IF NOT EXISTS idx_expense_user_incurred_date_covering
+    ON expenses(user_id, incurred_date, id) INCLUDE (amount, currency, category);
+DROP INDEX IF EXISTS idx_expense_user_incurred_date_id;
@@ -0,0 +1,165 @@
+-- Range-partitions income and expenses by UK tax year (6 April to 5 April).
+--
+-- Every report targets one tax year, so the planner prunes to a single
+-- partition, and an old year can be vacuumed, detached or archived on its own.
+-- Dates outside the created years land in a DEFAULT partition. Future years
+-- are created ahead of time by IncomePartitionScheduler and
+-- ExpensePartitionScheduler through create_tax_year_partition.
+--
+-- A partitioned table's primary key must include the partition column, so the
+-- keys become (id, received_date) and (id, incurred_date), and the database
+-- only keeps an id unique within one partition. Ids are time-ordered UUIDv7
+-- values generated by the application, so a repeat across partitions is not
+-- checked for; a lookup by id alone probes the key index of every partition.
+--
+-- The indexes of the old tables are recreated on the partitioned ones, except
+-- the index on status alone, which the partial index on pending income in the
+-- next migration replaces.
+
+-- The start year of the tax year containing a date.
+CREATE OR REPLACE FUNCTION tax_year_start_year(value_date DATE) RETURNS INTEGER
+    LANGUAGE sql IMMUTABLE AS
+$$
+SELECT CASE
+           WHEN value_date < make_date(EXTRACT(YEAR FROM value_date)::INTEGER, 4, 6)
+               THEN EXTRACT(YEAR FROM value_date)::INTEGER - 1
+           ELSE EXTRACT(YEAR FROM value_date)::INTEGER
+       END
+$$;
+
+-- Creates the partition of a table for the tax year starting in start_year,
+-- named like income_2025_26. Rows already held for that year by the DEFAULT
+-- partition are moved into it. Returns false if the partition already exists.
+-- Calls for the same table are serialized by a transaction-level advisory
+-- lock, so instances starting together do not race to create a partition.
+CREATE OR REPLACE FUNCTION create_tax_year_partition(parent TEXT, start_year INTEGER) RETURNS BOOLEAN
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    partition_name TEXT := format('%s_%s_%s', parent, start_year, lpad(((start_year + 1) % 100)::TEXT, 2, '0'));
+    default_name   TEXT := parent || '_default';
+    range_start    DATE := make_date(start_year, 4, 6);
+    range_end      DATE := make_date(start_year + 1, 4, 6);
+    date_column    TEXT;
+    has_default    BOOLEAN;
+    misplaced_rows BOOLEAN := FALSE;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('create_tax_year_partition'), hashtext(parent));
+
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    SELECT a.attname
+    INTO date_column
+    FROM pg_partitioned_table p
+             JOIN pg_attribute a ON a.attrelid = p.partrelid AND a.attnum = p.partattrs[0]
+    WHERE p.partrelid = parent::REGCLASS;
+
+    has_default := to_regclass(default_name) IS NOT NULL;
+    IF has_default THEN
+        EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I WHERE %I >= %L AND %I < %L)',
+                       default_name, date_column, range_start, date_column, range_end)
+            INTO misplaced_rows;
+    END IF;
+
+    IF misplaced_rows THEN
+        EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent, default_name);
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, parent, range_start, range_end);
+
+    IF misplaced_rows THEN
+        EXECUTE format('WITH moved AS (DELETE FROM %I WHERE %I >= %L AND %I < %L RETURNING *) '
+                           || 'INSERT INTO %I SELECT * FROM moved',
+                       default_name, date_column, range_start, date_column, range_end, parent);
+        EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I DEFAULT', parent, default_name);
+    END IF;
+
+    RETURN TRUE;
+END
+$$;
+
+-- Creates the DEFAULT partition and one partition per tax year from the
+-- earliest row (at most ten years back, matching TaxYear) to next tax year.
+CREATE OR REPLACE FUNCTION create_initial_tax_year_partitions(parent TEXT, earliest DATE) RETURNS VOID
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    current_year INTEGER := tax_year_start_year(CURRENT_DATE);
+    first_year   INTEGER := LEAST(GREATEST(COALESCE(tax_year_start_year(earliest), current_year), current_year - 10),
+                                  current_year);
+BEGIN
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I DEFAULT', parent || '_default', parent);
+    FOR start_year IN first_year..current_year + 1
+        LOOP
+            PERFORM create_tax_year_partition(parent, start_year);
+        END LOOP;
+END
+$$;
+
+-- Income
+
+ALTER TABLE income RENAME TO income_unpartitioned;
+ALTER TABLE income_unpartitioned RENAME CONSTRAINT income_pkey TO income_unpartitioned_pkey;
+
+CREATE TABLE income (
+    id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    event_id UUID NOT NULL,
+    amount DECIMAL(19, 2) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    description VARCHAR(1000) NOT NULL,
+    received_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    CONSTRAINT income_pkey PRIMARY KEY (id, received_date),
+    CONSTRAINT fk_income_user FOREIGN KEY (user_id) REFERENCES users(id),
+    CONSTRAINT fk_income_event FOREIGN KEY (event_id) REFERENCES events(id)
+) PARTITION BY RANGE (received_date);
+
+SELECT create_initial_tax_year_partitions('income', (SELECT MIN(received_date) FROM income_unpartitioned));
+
+INSERT INTO income (id, user_id, event_id, amount, currency, description, received_date, status)
+SELECT id, user_id, event_id, amount, currency, description, received_date, status
+FROM income_unpartitioned;
+
+DROP TABLE income_unpartitioned;
+
+CREATE INDEX idx_income_event_id ON income(event_id);
+CREATE INDEX idx_income_received_date ON income(received_date);
+CREATE INDEX idx_income_user_received_date_covering
+    ON income(user_id, received_date, id) INCLUDE (amount, currency, status);
+
+-- Expenses
+
+ALTER TABLE expenses RENAME TO expenses_unpartitioned;
+ALTER TABLE expenses_unpartitioned RENAME CONSTRAINT expenses_pkey TO expenses_unpartitioned_pkey;
+
+CREATE TABLE expenses (
+    id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    amount DECIMAL(19, 2) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    description VARCHAR(1000) NOT NULL,
+    incurred_date DATE NOT NULL,
+    CONSTRAINT expenses_pkey PRIMARY KEY (id, incurred_date),
+    CONSTRAINT fk_expense_user FOREIGN KEY (user_id) REFERENCES users(id)
+) PARTITION BY RANGE (incurred_date);
+
+SELECT create_initial_tax_year_partitions('expenses', (SELECT MIN(incurred_date) FROM expenses_unpartitioned));
+
+INSERT INTO expenses (id, user_id, amount, currency, category, description, incurred_date)
+SELECT id, user_id, amount, currency, category, description, incurred_date
+FROM expenses_unpartitioned;
+
+DROP TABLE expenses_unpartitioned;
+
+CREATE INDEX idx_expense_incurred_date ON expenses(incurred_date);
+CREATE INDEX idx_expense_user_category_incurred_date ON expenses(user_id, category, incurred_date);
+CREATE INDEX idx_expense_description_trgm ON expenses USING gin (lower(description) gin_trgm_ops);
+CREATE INDEX idx_expense_user_incurred_date_covering
+    ON expenses(user_id, incurred_date, id) INCLUDE (amount, currency, category);
+
+DROP FUNCTION create_initial_tax_year_partitions(TEXT, DATE);
@@ -1,7 +1,10 @@
 package org.creatorledger
 
+import org.creatorledger.publication.infrastructure.CompactEventSerializer
+import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.context.SpringBootTest
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection
+import org.springframework.modulith.events.core.EventSerializer
 import org.testcontainers.containers.PostgreSQLContainer
 import org.testcontainers.spock.Testcontainers
 import spock.lang.Specification
@@ -13,8 +16,16 @@ class CreatorLedgerApplicationSpec extends Specification {
     @ServiceConnection
     static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine")
 
+    @Autowired
+    EventSerializer eventSerializer
+
     def "should load application context"() {
         expect: "the application context loads successfully"
         true
     }
+
+    def "should store event publications in the compact format"() {
+        expect: "the registry uses the compact serializer instead of the Jackson default"
+        eventSerializer instanceof CompactEventSerializer
+    }
 }
@@ -54,6 +54,7 @@ class ModularitySpec extends Specification {
         moduleNames.contains("expense")
         moduleNames.contains("reporting")
         moduleNames.contains("common")
+        moduleNames.contains("publication")
     }
 
     def "should not have circular dependencies"() {
@@ -0,0 +1,222 @@
+package org.creatorledger
+
+import org.flywaydb.core.Flyway
+import org.testcontainers.containers.PostgreSQLContainer
+import org.testcontainers.spock.Testcontainers
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.sql.Connection
+import java.sql.DriverManager
+
+/**
+ * Guards the query plans of the hot per-user date-range queries.
+ * <p>
+ * The schema is built by the real Flyway migrations, filled with enough rows
+ * for the planner to prefer indexes, and vacuumed so index-only scans are
+ * possible. Each query is then explained, and the spec fails if the plan
+ * falls back to a sequential scan, misses the per-user index, or reads tax
+ * year partitions the query cannot match. Reads of whole rows may fetch a
+ * user's few rows in a year with a bitmap heap scan, which is the cheaper
+ * plan for rows scattered over the heap; totals must not touch the heap at
+ * all, and a keyset page over a long history must be read in index order.
+ * </p>
+ */
+@Testcontainers
+class QueryPlanIntegrationSpec extends Specification {
+
+    static final int USERS = 200
+    static final int ROWS_PER_USER = 100
+    static final int HEAVY_USER_ROWS = 5_000
+    static final List<Integer> SEEDED_TAX_YEARS = [2024, 2025]
+
+    @Shared
+    PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+
+    @Shared
+    Connection connection
+
+    @Shared
+    String userId
+
+    @Shared
+    String heavyUserId
+
+    def setupSpec() {
+        Flyway.configure()
+                .dataSource(postgres.jdbcUrl, postgres.username, postgres.password)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate()
+
+        connection = DriverManager.getConnection(postgres.jdbcUrl, postgres.username, postgres.password)
+        ["income", "expenses"].each { table ->
+            SEEDED_TAX_YEARS.each { year -> execute("SELECT create_tax_year_partition('${table}', ${year})") }
+        }
+        execute("""
+            INSERT INTO users (id, email)
+            SELECT gen_random_uuid(), 'user' || n || '@example.com' FROM generate_series(1, ${USERS}) AS n
+            """)
+        execute("""
+            INSERT INTO events (id, event_date, client_name, description)
+            VALUES ('00000000-0000-0000-0000-000000000001', DATE '2025-06-01', 'Client', 'Gig')
+            """)
+        execute("""
+            INSERT INTO income (id, user_id, event_id, amount, currency, description, received_date, status)
+            SELECT gen_random_uuid(), u.id, '00000000-0000-0000-0000-000000000001',
+                   (random() * 1000)::NUMERIC(19, 2), 'GBP', 'Invoice ' || n,
+                   DATE '2024-04-06' + (random() * 730)::INTEGER,
+                   (ARRAY['PENDING', 'PAID', 'OVERDUE'])[1 + (n % 3)]
+            FROM users u, generate_series(1, ${ROWS_PER_USER}) AS n
+            """)
+        execute("""
+            INSERT INTO expenses (id, user_id, amount, currency, category, description, incurred_date)
+            SELECT gen_random_uuid(), u.id, (random() * 500)::NUMERIC(19, 2), 'GBP',
+                   (ARRAY['EQUIPMENT', 'SOFTWARE', 'TRAVEL', 'OTHER'])[1 + (n % 4)], 'Expense ' || n,
+                   DATE '2024-04-06' + (random() * 730)::INTEGER
+            FROM users u, generate_series(1, ${ROWS_PER_USER}) AS n
+            """)
+        execute("""
+            INSERT INTO users (id, email) VALUES ('00000000-0000-0000-0000-0000000000aa', 'heavy@example.com')
+            """)
+        execute("""
+            INSERT INTO income (id, user_id, event_id, amount, currency, description, received_date, status)
+            SELECT gen_random_uuid(), '00000000-0000-0000-0000-0000000000aa', '00000000-0000-0000-0000-000000000001',
+                   (random() * 1000)::NUMERIC(19, 2), 'GBP', 'Invoice ' || n,
+                   DATE '2024-04-06' + (random() * 730)::INTEGER, 'PAID'
+            FROM generate_series(1, ${HEAVY_USER_ROWS}) AS n
+            """)
+        execute("VACUUM ANALYZE income")
+        execute("VACUUM ANALYZE expenses")
+
+        def users = connection.createStatement().executeQuery("SELECT id FROM users WHERE email = 'user1@example.com'")
+        users.next()
+        userId = users.getString(1)
+        heavyUserId = '00000000-0000-0000-0000-0000000000aa'
+    }
+
+    def cleanupSpec() {
+        connection?.close()
+    }
+
+    def "income date-range read should touch only that tax year's partition"() {
+        when:
+        def plan = explain("""
+            SELECT * FROM income
+            WHERE user_id = '${userId}' AND received_date BETWEEN DATE '2025-04-06' AND DATE '2026-04-05'
+            ORDER BY received_date, id
+            """)
+
+        then:
+        avoidsSeqScans(plan, "income")
+        usesIndex(plan, "income_2025_26_user_id_received_date_id")
+        !plan.contains("income_2024_25")
+        !plan.contains("income_default")
+    }
+
+    def "income total should be an index-only scan"() {
+        when:
+        def plan = explain("""
+            SELECT currency, SUM(amount) FROM income
+            WHERE user_id = '${userId}' AND received_date BETWEEN DATE '2025-04-06' AND DATE '2026-04-05'
+            GROUP BY currency
+            """)
+
+        then:
+        avoidsHeapScans(plan, "income")
+        plan.contains("Index Only Scan using income_2025_26_user_id_received_date_id")
+    }
+
+    def "expense date-range read should touch only that tax year's partition"() {
+        when:
+        def plan = explain("""
+            SELECT * FROM expenses
+            WHERE user_id = '${userId}' AND incurred_date BETWEEN DATE '2025-04-06' AND DATE '2026-04-05'
+            ORDER BY incurred_date, id
+            """)
+
+        then:
+        avoidsSeqScans(plan, "expenses")
+        usesIndex(plan, "expenses_2025_26_user_id_incurred_date_id")
+        !plan.contains("expenses_2024_25")
+        !plan.contains("expenses_default")
+    }
+
+    def "expense category totals should be an index-only scan"() {
+        when:
+        def plan = explain("""
+            SELECT category, currency, SUM(amount) FROM expenses
+            WHERE user_id = '${userId}' AND incurred_date BETWEEN DATE '2025-04-06' AND DATE '2026-04-05'
+            GROUP BY category, currency
+            """)
+
+        then:
+        avoidsHeapScans(plan, "expenses")
+        plan.contains("Index Only Scan using expenses_2025_26_user_id_incurred_date_id")
+    }
+
+    def "income keyset page over a long history should be read in index order without a sort"() {
+        when:
+        def plan = explain("""
+            SELECT * FROM income
+            WHERE user_id = '${heavyUserId}' AND (received_date, id) > (DATE '2025-01-01', '00000000-0000-0000-0000-000000000000')
+            ORDER BY received_date, id
+            LIMIT 51
+            """)
+
+        then:
+        avoidsHeapScans(plan, "income")
+        usesIndex(plan, "income_2025_26_user_id_received_date_id")
+        !(plan =~ /Sort\s+\(cost/)
+    }
+
+    private void execute(final String sql) {
+        connection.createStatement().withCloseable { it.execute(sql) }
+    }
+
+    private String explain(final String sql) {
+        def lines = []
+        connection.createStatement().withCloseable { statement ->
+            def result = statement.executeQuery("EXPLAIN " + sql)
+            while (result.next()) {
+                lines << result.getString(1)
+            }
+        }
+        lines.join("\n")
+    }
+
+    /**
+     * Checks the seeded partitions of a table are not read sequentially.
+     * Empty partitions are left out, as the planner may scan those directly.
+     */
+    private static boolean avoidsSeqScans(final String plan, final String table) {
+        seededPartitions(table).each { partition ->
+            assert !plan.contains("Seq Scan on ${partition}"), plan
+        }
+        true
+    }
+
+    /**
+     * Checks the seeded partitions of a table are read in index order, with
+     * neither a sequential nor a bitmap heap scan.
+     */
+    private static boolean avoidsHeapScans(final String plan, final String table) {
+        avoidsSeqScans(plan, table)
+        seededPartitions(table).each { partition ->
+            assert !plan.contains("Bitmap Heap Scan on ${partition}"), plan
+        }
+        true
+    }
+
+    /**
+     * Checks the plan reads through the index whose name starts with the prefix.
+     */
+    private static boolean usesIndex(final String plan, final String indexPrefix) {
+        assert plan =~ /(using|Bitmap Index Scan on) ${indexPrefix}/, plan
+        true
+    }
+
+    private static List<String> seededPartitions(final String table) {
+        SEEDED_TAX_YEARS.collect { year -> "${table}_${year}_${(year + 1) % 100}".toString() }
+    }
+}
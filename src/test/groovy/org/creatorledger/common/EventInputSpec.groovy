@@ -0,0 +1,102 @@
+package org.creatorledger.common
+
+import spock.lang.Specification
+
+class EventInputSpec extends Specification {
+
+    def "should reject a null buffer"() {
+        when: "reading from null"
+        new EventInput(null, 0)
+
+        then: "an exception is thrown"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Buffer cannot be null"
+    }
+
+    def "should reject an offset outside the buffer"() {
+        when: "starting past the end"
+        new EventInput(new byte[2], 3)
+
+        then: "an exception is thrown"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Offset out of range: 3"
+    }
+
+    def "should start reading at the offset"() {
+        given: "a buffer with a prefix"
+        byte[] bytes = [9, 9, 42]
+
+        expect: "the prefix is skipped"
+        new EventInput(bytes, 2).readByte() == 42
+    }
+
+    def "should reject a truncated id"() {
+        when: "reading an id from eight bytes"
+        new EventInput(new byte[8], 0).readUuid()
+
+        then: "an exception is thrown"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Event is truncated at byte 8"
+    }
+
+    def "should reject a string longer than the bytes left"() {
+        given: "a length of 5 followed by two bytes"
+        byte[] bytes = [5, 0x61, 0x62]
+
+        when: "reading the string"
+        new EventInput(bytes, 0).readString()
+
+        then: "an exception is thrown"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Event is truncated at byte 1"
+    }
+
+    def "should reject a variable-length int that does not fit an int"() {
+        given: "a long encoded where an int is expected"
+        def bytes = new EventOutput().writeLong(Long.MAX_VALUE).toByteArray()
+
+        when: "reading it as an int"
+        new EventInput(bytes, 0).readVarInt()
+
+        then: "an exception is thrown"
+        thrown(IllegalArgumentException)
+    }
+
+    def "should reject a variable-length integer that never ends"() {
+        given: "eleven continuation bytes"
+        def bytes = new byte[11]
+        Arrays.fill(bytes, (byte) 0x80)
+
+        when: "reading it"
+        new EventInput(bytes, 0).readLong()
+
+        then: "an exception is thrown"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Variable-length integer is too long"
+    }
+
+    def "should not see later changes to the buffer"() {
+        given: "an input over a buffer"
+        byte[] bytes = [1]
+        def input = new EventInput(bytes, 0)
+
+        when: "the buffer changes"
+        bytes[0] = 2
+
+        then: "the input reads the original"
+        input.readByte() == 1
+    }
+
+    def "should report when every byte is read"() {
+        given: "a two-byte input"
+        byte[] bytes = [1, 2]
+        def input = new EventInput(bytes, 0)
+
+        expect: "it is exhausted only after both reads"
+        !input.isExhausted()
+        input.readByte() == 1
+        !input.isExhausted()
+        input.readByte() == 2
+        input.isExhausted()
+    }
+}
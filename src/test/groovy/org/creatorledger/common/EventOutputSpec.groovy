@@ -0,0 +1,116 @@
+package org.creatorledger.common
+
+import spock.lang.Specification
+
+import java.time.Instant
+import java.time.LocalDate
+
+class EventOutputSpec extends Specification {
+
+    def "should write small ints in one byte and larger ones in more"() {
+        when: "writing a variable-length int"
+        def output = new EventOutput().writeVarInt(value)
+
+        then: "it takes as few bytes as its magnitude needs"
+        output.size() == bytes
+
+        where:
+        value             | bytes
+        0                 | 1
+        127               | 1
+        128               | 2
+        16_383            | 2
+        Integer.MAX_VALUE | 5
+    }
+
+    def "should reject a negative variable-length int"() {
+        when: "writing a negative int"
+        new EventOutput().writeVarInt(-1)
+
+        then: "an exception is thrown"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Variable-length int cannot be negative: -1"
+    }
+
+    def "should write small negative longs in one byte"() {
+        expect: "zigzag encoding keeps small magnitudes short"
+        new EventOutput().writeLong(-1).size() == 1
+        new EventOutput().writeLong(-64).size() == 1
+    }
+
+    def "should write an id as its 16 raw bytes"() {
+        given: "an id"
+        def uuid = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8057")
+
+        when: "writing it"
+        def bytes = new EventOutput().writeUuid(uuid).toByteArray()
+
+        then: "the bytes are the id, most significant first"
+        bytes.length == 16
+        bytes[0] == (byte) 0x01
+        bytes[15] == (byte) 0x57
+    }
+
+    def "should write money as its currency and minor units"() {
+        when: "writing £1,234.56"
+        def bytes = new EventOutput().writeMoney(Money.of(new BigDecimal("1234.56"), "GBP")).toByteArray()
+
+        then: "it takes the currency code and a three-byte amount"
+        bytes.length == 1 + 3 + 3
+    }
+
+    def "should write an amount without its currency"() {
+        given: "an amount written alone"
+        def bytes = new EventOutput().writeAmount(Money.of(new BigDecimal("12.34"), "USD")).toByteArray()
+
+        expect: "it reads back in the currency given"
+        bytes.length == 2
+        new EventInput(bytes, 0).readAmount("USD") == Money.of(new BigDecimal("12.34"), "USD")
+    }
+
+    def "should grow past its initial capacity"() {
+        given: "a small output"
+        def output = new EventOutput(16)
+
+        when: "writing more than fits"
+        def text = "x" * 1000
+        output.writeString(text)
+
+        then: "everything is kept"
+        output.size() == 2 + 1000
+        new EventInput(output.toByteArray(), 0).readString() == text
+    }
+
+    def "should read back every field it writes"() {
+        given: "fields of every kind"
+        def uuid = UuidV7.generate()
+        def money = Money.of(new BigDecimal("42.10"), "EUR")
+        def instant = Instant.parse("2026-10-17T09:15:30.123456789Z")
+        def date = LocalDate.of(2026, 4, 6)
+
+        when: "writing them and reading them back"
+        def output = new EventOutput()
+                .writeByte(0xFE)
+                .writeVarInt(300)
+                .writeLong(Long.MIN_VALUE)
+                .writeBoolean(true)
+                .writeUuid(uuid)
+                .writeString("Café £ 🎤")
+                .writeLocalDate(date)
+                .writeInstant(instant)
+                .writeMoney(money)
+        def input = new EventInput(output.toByteArray(), 0)
+
+        then: "each field is unchanged"
+        input.readByte() == 0xFE
+        input.readVarInt() == 300
+        input.readLong() == Long.MIN_VALUE
+        input.readBoolean()
+        input.readUuid() == uuid
+        input.readString() == "Café £ 🎤"
+        input.readLocalDate() == date
+        input.readInstant() == instant
+        input.readMoney() == money
+        input.isExhausted()
+    }
+}
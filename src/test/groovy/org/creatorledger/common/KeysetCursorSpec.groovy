@@ -0,0 +1,47 @@
+package org.creatorledger.common
+
+import spock.lang.Specification
+
+import java.time.LocalDate
+
+class KeysetCursorSpec extends Specification {
+
+    def "should round-trip through an opaque token"() {
+        given:
+        def cursor = new KeysetCursor(LocalDate.of(2026, 1, 15), UUID.randomUUID())
+
+        when:
+        def token = cursor.encode()
+
+        then:
+        KeysetCursor.decode(token) == cursor
+        !token.contains("2026")
+        token ==~ /[A-Za-z0-9_-]+/
+    }
+
+    def "should reject a token that is not a cursor"() {
+        when:
+        KeysetCursor.decode(token)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        token << [null, "", "not base64!", Base64.urlEncoder.encodeToString("2026-01-15".bytes),
+                  Base64.urlEncoder.encodeToString("yesterday|${UUID.randomUUID()}".toString().bytes),
+                  Base64.urlEncoder.encodeToString("2026-01-15|not-a-uuid".bytes)]
+    }
+
+    def "should reject missing fields"() {
+        when:
+        new KeysetCursor(date, id)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        date                      | id
+        null                      | UUID.randomUUID()
+        LocalDate.of(2026, 1, 15) | null
+    }
+}
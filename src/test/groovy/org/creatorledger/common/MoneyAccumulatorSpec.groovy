@@ -0,0 +1,133 @@
+package org.creatorledger.common
+
+import spock.lang.Specification
+
+class MoneyAccumulatorSpec extends Specification {
+
+    def "should start at zero"() {
+        when: "creating a GBP accumulator"
+        def accumulator = MoneyAccumulator.gbp()
+
+        then: "it is empty"
+        accumulator.isZero()
+        accumulator.minorUnits() == 0L
+        accumulator.currency() == "GBP"
+        accumulator.toMoney() == Money.gbp("0.00")
+    }
+
+    def "should sum amounts in minor units"() {
+        given: "an accumulator"
+        def accumulator = MoneyAccumulator.gbp()
+
+        when: "adding several amounts"
+        accumulator.add(Money.gbp("100.50"))
+                .add(Money.gbp("0.25"))
+                .add(Money.gbp("49.25"))
+
+        then: "the total matches Money addition"
+        accumulator.minorUnits() == 15000L
+        accumulator.toMoney() == Money.gbp("100.50").add(Money.gbp("0.25")).add(Money.gbp("49.25"))
+    }
+
+    def "should agree with Money addition over many amounts"() {
+        given: "a thousand amounts"
+        def amounts = (1..1000).collect { Money.gbp(BigDecimal.valueOf(it * 137L, 2)) }
+
+        when: "accumulating them"
+        def accumulator = MoneyAccumulator.gbp()
+        amounts.each { accumulator.add(it) }
+
+        then: "the result matches reduce"
+        accumulator.toMoney() == amounts.inject(Money.gbp("0.00")) { total, amount -> total.add(amount) }
+    }
+
+    def "should add raw minor units"() {
+        given: "an accumulator"
+        def accumulator = MoneyAccumulator.of("gbp")
+
+        when: "adding pence directly"
+        accumulator.addMinorUnits(1999L).addMinorUnits(1L)
+
+        then: "the total is in pounds"
+        accumulator.currency() == "GBP"
+        accumulator.toMoney() == Money.gbp("20.00")
+    }
+
+    def "should combine accumulators"() {
+        given: "two accumulators"
+        def first = MoneyAccumulator.gbp().add(Money.gbp("10.00"))
+        def second = MoneyAccumulator.gbp().add(Money.gbp("2.50"))
+
+        when: "adding one to the other"
+        first.add(second)
+
+        then: "the totals are combined"
+        first.toMoney() == Money.gbp("12.50")
+        second.toMoney() == Money.gbp("2.50")
+    }
+
+    def "should reset to zero"() {
+        given: "an accumulator with a total"
+        def accumulator = MoneyAccumulator.gbp().add(Money.gbp("10.00"))
+
+        when: "resetting it"
+        accumulator.reset()
+
+        then: "it is zero"
+        accumulator.isZero()
+    }
+
+    def "should reject different currencies"() {
+        given: "a GBP accumulator"
+        def accumulator = MoneyAccumulator.gbp()
+
+        when: "adding USD"
+        accumulator.add(Money.of(new BigDecimal("10.00"), "USD"))
+
+        then: "an exception is thrown"
+        def ex = thrown(IllegalArgumentException)
+        ex.message == "Cannot perform operation on different currencies: GBP and USD"
+    }
+
+    def "should reject null money"() {
+        when: "adding null"
+        MoneyAccumulator.gbp().add((Money) null)
+
+        then: "an exception is thrown"
+        def ex = thrown(IllegalArgumentException)
+        ex.message == "Money cannot be null"
+    }
+
+    def "should reject blank currency"() {
+        when: "creating with a blank currency"
+        MoneyAccumulator.of(" ")
+
+        then: "an exception is thrown"
+        def ex = thrown(IllegalArgumentException)
+        ex.message == "Currency cannot be null or blank"
+    }
+
+    def "should detect overflow"() {
+        given: "an accumulator near the limit"
+        def accumulator = MoneyAccumulator.gbp().addMinorUnits(Long.MAX_VALUE)
+
+        when: "adding one more penny"
+        accumulator.addMinorUnits(1L)
+
+        then: "an exception is thrown"
+        thrown(ArithmeticException)
+    }
+
+    def "should convert amounts to minor units with Money rounding"() {
+        expect:
+        MoneyAccumulator.toMinorUnits(new BigDecimal(amount)) == minorUnits
+
+        where:
+        amount    || minorUnits
+        "1"       || 100L
+        "1.5"     || 150L
+        "1.23"    || 123L
+        "1.235"   || 123L
+        "1.236"   || 124L
+    }
+}
@@ -129,6 +129,22 @@ class MoneySpec extends Specification {
         !Money.gbp("0.01").isZero()
     }
 
+    def "should return cached zero per currency"() {
+        expect: "zero is shared and equal to an explicit zero"
+        Money.zero("GBP").is(Money.zero("GBP"))
+        Money.zero("GBP") == Money.gbp("0.00")
+        Money.zero("usd") == Money.of(BigDecimal.ZERO, "USD")
+    }
+
+    def "should reject blank currency for zero"() {
+        when: "requesting zero without a currency"
+        Money.zero("")
+
+        then: "an exception is thrown"
+        def ex = thrown(IllegalArgumentException)
+        ex.message == "Currency cannot be null or blank"
+    }
+
     def "should check if Money is positive"() {
         expect: "correct positive checks"
         Money.gbp("100.00").isPositive()
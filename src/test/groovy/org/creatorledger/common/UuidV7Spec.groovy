@@ -0,0 +1,85 @@
+package org.creatorledger.common
+
+import spock.lang.Specification
+
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.function.LongSupplier
+
+class UuidV7Spec extends Specification {
+
+    def "should generate version 7 UUIDs with the RFC variant"() {
+        when: "generating a UUID"
+        def uuid = UuidV7.generate()
+
+        then: "it should be version 7, variant 2"
+        uuid.version() == 7
+        uuid.variant() == 2
+    }
+
+    def "should put the clock's milliseconds in the first 48 bits"() {
+        given: "a generator on a fixed clock"
+        def millis = 1_767_225_600_000L
+        def generator = new UuidV7({ millis } as LongSupplier)
+
+        when: "generating a UUID"
+        def uuid = generator.next()
+
+        then: "the timestamp is the clock time"
+        uuid.mostSignificantBits >>> 16 == millis
+    }
+
+    def "should sort each UUID after the one before within a millisecond"() {
+        given: "a generator on a clock that does not move"
+        def generator = new UuidV7({ 1_000L } as LongSupplier)
+
+        when: "generating more UUIDs than the counter can hold"
+        def uuids = (1..10_000).collect { generator.next() }
+
+        then: "they are strictly increasing"
+        uuids.collate(2, 1, false).every { it[0] < it[1] }
+    }
+
+    def "should stay ordered when the clock steps back"() {
+        given: "a clock that goes back one second"
+        def times = [5_000L, 4_000L, 4_000L] as LinkedList
+        def generator = new UuidV7({ times.poll() } as LongSupplier)
+
+        when: "generating three UUIDs"
+        def first = generator.next()
+        def second = generator.next()
+        def third = generator.next()
+
+        then: "each sorts after the one before"
+        first < second
+        second < third
+    }
+
+    def "should generate unique UUIDs in order per thread across threads"() {
+        given: "several threads sharing one generator"
+        def generator = new UuidV7({ System.currentTimeMillis() } as LongSupplier)
+        def threads = 8
+        def perThread = 20_000
+        def sequences = new ConcurrentLinkedQueue<List<UUID>>()
+        def start = new CountDownLatch(1)
+        def executor = Executors.newFixedThreadPool(threads)
+
+        when: "each thread generates a run of UUIDs"
+        def futures = (1..threads).collect {
+            executor.submit {
+                start.await()
+                sequences << (1..perThread).collect { generator.next() }
+            }
+        }
+        start.countDown()
+        futures*.get()
+        executor.shutdown()
+
+        then: "no UUID repeats"
+        sequences.collectMany { it }.toSet().size() == threads * perThread
+
+        and: "each thread saw its UUIDs increase"
+        sequences.every { run -> run.collate(2, 1, false).every { it[0] < it[1] } }
+    }
+}
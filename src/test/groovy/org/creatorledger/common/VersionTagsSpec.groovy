@@ -0,0 +1,42 @@
+package org.creatorledger.common
+
+import spock.lang.Specification
+
+class VersionTagsSpec extends Specification {
+
+    def "should format a version as a strong entity tag"() {
+        expect: "the version in double quotes"
+        VersionTags.of(7L) == '"7"'
+    }
+
+    def "should read the version from an If-Match value"() {
+        expect: "quoted, weak and bare tags are read"
+        VersionTags.parse(tag) == version
+
+        where:
+        tag       | version
+        '"7"'     | 7L
+        'W/"7"'   | 7L
+        ' "12" '  | 12L
+        '3'       | 3L
+    }
+
+    def "should treat an absent or wildcard If-Match as no expected version"() {
+        expect: "no version"
+        VersionTags.parse(tag) == null
+
+        where:
+        tag << [null, "", "  ", "*"]
+    }
+
+    def "should reject a value that is not a version tag"() {
+        when: "parsing a malformed tag"
+        VersionTags.parse(tag)
+
+        then: "it should throw IllegalArgumentException"
+        thrown(IllegalArgumentException)
+
+        where:
+        tag << ['"abc"', '"-1"', '"1", "2"', '""']
+    }
+}
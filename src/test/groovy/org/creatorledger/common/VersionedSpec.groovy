@@ -0,0 +1,33 @@
+package org.creatorledger.common
+
+import spock.lang.Specification
+
+class VersionedSpec extends Specification {
+
+    def "should hold a value with its version"() {
+        when: "creating a versioned value"
+        def versioned = new Versioned<>("value", 3L)
+
+        then: "it should expose both"
+        versioned.value() == "value"
+        versioned.version() == 3L
+    }
+
+    def "should reject a null value"() {
+        when: "creating a versioned null"
+        new Versioned<>(null, 0L)
+
+        then: "it should throw IllegalArgumentException"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Value cannot be null"
+    }
+
+    def "should reject a negative version"() {
+        when: "creating a versioned value with a negative version"
+        new Versioned<>("value", -1L)
+
+        then: "it should throw IllegalArgumentException"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Version cannot be negative"
+    }
+}
@@ -1,5 +1,6 @@
 package org.creatorledger.event.application
 
+import org.creatorledger.common.Versioned
 import org.creatorledger.event.domain.ClientName
 import org.creatorledger.event.domain.Event
 import org.creatorledger.event.domain.EventCreated
@@ -7,6 +8,7 @@ import org.creatorledger.event.domain.EventDate
 import org.creatorledger.event.domain.EventUpdated
 import org.creatorledger.event.api.EventId
 import org.springframework.context.ApplicationEventPublisher
+import org.springframework.dao.OptimisticLockingFailureException
 import spock.lang.Specification
 import java.time.LocalDate
 
@@ -34,12 +36,11 @@ class EventApplicationServiceSpec extends Specification {
         def eventId = service.create(command)
 
         then: "the event is saved via repository"
-        1 * eventRepository.save(_) >> { Event event ->
+        1 * eventRepository.add(_) >> { Event event ->
             assert event != null
             assert event.date() == EventDate.of(LocalDate.of(2026, 3, 15))
             assert event.clientName() == ClientName.of("Acme Corporation")
             assert event.description() == "Website redesign workshop"
-            return event
         }
 
         and: "the event ID is returned"
@@ -58,7 +59,7 @@ class EventApplicationServiceSpec extends Specification {
         service.create(command)
 
         then: "the event is saved"
-        1 * eventRepository.save(_) >> { Event event -> event }
+        1 * eventRepository.add(_)
 
         and: "EventCreated event is published"
         1 * eventPublisher.publishEvent(_) >> { arguments ->
@@ -80,7 +81,7 @@ class EventApplicationServiceSpec extends Specification {
     }
 
     def "should update an existing event"() {
-        given: "an existing event"
+        given: "an existing event at version 3"
         def eventId = EventId.generate()
         def existingEvent = Event.create(
             eventId,
@@ -89,8 +90,8 @@ class EventApplicationServiceSpec extends Specification {
             "Original description"
         )
 
-        and: "repository returns the existing event"
-        eventRepository.findById(eventId) >> Optional.of(existingEvent)
+        and: "repository returns the existing event with its version"
+        eventRepository.findVersionedById(eventId) >> Optional.of(new Versioned<>(existingEvent, 3L))
 
         and: "an update command"
         def command = new UpdateEventCommand(
@@ -101,46 +102,71 @@ class EventApplicationServiceSpec extends Specification {
         )
 
         when: "updating the event"
-        service.update(command)
+        def version = service.update(command)
 
-        then: "the event is saved with updated details"
-        1 * eventRepository.save(_) >> { Event event ->
-            assert event.id() == eventId
-            assert event.date() == EventDate.of(LocalDate.of(2026, 4, 20))
-            assert event.clientName() == ClientName.of("Beta Industries")
-            assert event.description() == "Updated description"
-            return event
-        }
+        then: "the event is updated if still at version 3"
+        1 * eventRepository.updateIfVersion(
+            eventId,
+            3L,
+            EventDate.of(LocalDate.of(2026, 4, 20)),
+            ClientName.of("Beta Industries"),
+            "Updated description"
+        ) >> Optional.of(4L)
+        0 * eventRepository.save(_)
+
+        and: "the new version is returned"
+        version == 4L
     }
 
-    def "should publish EventUpdated event when updating event"() {
-        given: "an existing event"
+    def "should update an event at the expected version without reading it first"() {
+        given: "an update command carrying the version the client read"
         def eventId = EventId.generate()
-        def existingEvent = Event.create(
+        def command = new UpdateEventCommand(
             eventId,
-            EventDate.of(LocalDate.of(2026, 3, 15)),
-            ClientName.of("Acme Corporation"),
-            "Original description"
+            LocalDate.of(2026, 4, 20),
+            "Beta Industries",
+            "  Updated description  ",
+            7L
         )
 
-        and: "repository returns the existing event"
-        eventRepository.findById(eventId) >> Optional.of(existingEvent)
+        when: "updating the event"
+        def version = service.update(command)
+
+        then: "the event is not read"
+        0 * eventRepository.findVersionedById(_)
+        0 * eventRepository.findById(_)
+
+        and: "the update is conditional on the expected version"
+        1 * eventRepository.updateIfVersion(
+            eventId,
+            7L,
+            EventDate.of(LocalDate.of(2026, 4, 20)),
+            ClientName.of("Beta Industries"),
+            "Updated description"
+        ) >> Optional.of(8L)
+
+        and: "the new version is returned"
+        version == 8L
+    }
+
+    def "should publish EventUpdated event when updating event"() {
+        given: "an event at version 0"
+        def eventId = EventId.generate()
+        eventRepository.updateIfVersion(eventId, 0L, _, _, _) >> Optional.of(1L)
 
         and: "an update command"
         def command = new UpdateEventCommand(
             eventId,
             LocalDate.of(2026, 4, 20),
             "Beta Industries",
-            "Updated description"
+            "Updated description",
+            0L
         )
 
         when: "updating the event"
         service.update(command)
 
-        then: "the event is saved"
-        1 * eventRepository.save(_) >> { Event event -> event }
-
-        and: "EventUpdated event is published"
+        then: "EventUpdated event is published"
         1 * eventPublisher.publishEvent(_) >> { arguments ->
             def event = arguments[0]
             assert event instanceof EventUpdated
@@ -151,6 +177,31 @@ class EventApplicationServiceSpec extends Specification {
         }
     }
 
+    def "should reject a stale update without publishing an event"() {
+        given: "an event that moved past the expected version"
+        def eventId = EventId.generate()
+        eventRepository.updateIfVersion(eventId, 2L, _, _, _) >> Optional.empty()
+        eventRepository.existsById(eventId) >> true
+
+        and: "an update command"
+        def command = new UpdateEventCommand(
+            eventId,
+            LocalDate.of(2026, 4, 20),
+            "Beta Industries",
+            "Updated description",
+            2L
+        )
+
+        when: "updating the event"
+        service.update(command)
+
+        then: "it throws OptimisticLockingFailureException"
+        thrown(OptimisticLockingFailureException)
+
+        and: "no event is published"
+        0 * eventPublisher.publishEvent(_)
+    }
+
     def "should reject null command when updating"() {
         when: "updating with null command"
         service.update(null)
@@ -165,7 +216,7 @@ class EventApplicationServiceSpec extends Specification {
         def eventId = EventId.generate()
 
         and: "repository returns empty"
-        eventRepository.findById(eventId) >> Optional.empty()
+        eventRepository.findVersionedById(eventId) >> Optional.empty()
 
         and: "an update command"
         def command = new UpdateEventCommand(
@@ -0,0 +1,48 @@
+package org.creatorledger.event.infrastructure
+
+import org.creatorledger.common.EventInput
+import org.creatorledger.common.EventOutput
+import org.creatorledger.event.api.EventId
+import org.creatorledger.event.domain.ClientName
+import org.creatorledger.event.domain.EventCreated
+import org.creatorledger.event.domain.EventDate
+import spock.lang.Specification
+
+import java.time.Instant
+import java.time.LocalDate
+
+class EventCreatedCodecSpec extends Specification {
+
+    def codec = new EventCreatedCodec()
+
+    def event = new EventCreated(
+            EventId.generate(),
+            new EventDate(LocalDate.of(2012, 6, 30)),
+            ClientName.of("Smith & Jones"),
+            "Wedding",
+            Instant.parse("2026-10-17T09:15:30Z")
+    )
+
+    def "should read back the event it wrote"() {
+        given: "the event written by the codec"
+        def output = new EventOutput()
+        codec.write(event, output)
+
+        when: "reading it back"
+        def input = new EventInput(output.toByteArray(), 0)
+        def read = codec.read(codec.schemaVersion(), input)
+
+        then: "every field is unchanged and nothing is left over"
+        read == event
+        input.isExhausted()
+    }
+
+    def "should reject an unknown schema version"() {
+        when: "reading a version it never wrote"
+        codec.read(99, new EventInput(new byte[0], 0))
+
+        then: "an exception is thrown"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Unknown EventCreated schema version 99"
+    }
+}
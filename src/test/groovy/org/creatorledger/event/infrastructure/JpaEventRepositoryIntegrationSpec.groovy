@@ -1,5 +1,6 @@
 package org.creatorledger.event.infrastructure
 
+import jakarta.persistence.EntityManager
 import org.creatorledger.event.api.EventId
 import org.creatorledger.event.domain.ClientName
 import org.creatorledger.event.domain.Event
@@ -29,6 +30,9 @@ class JpaEventRepositoryIntegrationSpec extends Specification {
     @Autowired
     JpaEventRepository repository
 
+    @Autowired
+    EntityManager entityManager
+
     def "should save and retrieve an event"() {
         given: "a new event"
         def event = Event.create(
@@ -144,4 +148,39 @@ class JpaEventRepositoryIntegrationSpec extends Specification {
         retrieved.get().clientName() == ClientName.of("Updated Corp")
         retrieved.get().description() == "Updated description"
     }
+
+    def "should update an event only at the expected version"() {
+        given: "a stored event at version 0"
+        def event = Event.create(
+            EventDate.of(LocalDate.of(2026, 3, 15)),
+            ClientName.of("Acme Corporation"),
+            "Original description"
+        )
+        repository.save(event)
+        entityManager.flush()
+        entityManager.clear()
+
+        when: "updating it at version 0"
+        def version = repository.updateIfVersion(
+            event.id(), 0L, EventDate.of(LocalDate.of(2026, 4, 20)), ClientName.of("Beta Industries"), "Updated")
+
+        then: "the new version is returned"
+        version == Optional.of(1L)
+
+        and: "the new values are stored at version 1"
+        def stored = repository.findVersionedById(event.id()).get()
+        stored.version() == 1L
+        stored.value().clientName() == ClientName.of("Beta Industries")
+        stored.value().description() == "Updated"
+
+        when: "updating it again at the stale version 0"
+        entityManager.clear()
+        def stale = repository.updateIfVersion(
+            event.id(), 0L, EventDate.of(LocalDate.of(2026, 5, 1)), ClientName.of("Gamma Ltd"), "Stale")
+
+        then: "nothing is updated"
+        stale.isEmpty()
+        repository.findVersionedById(event.id()).get().value().description() == "Updated"
+    }
+
 }
@@ -1,10 +1,12 @@
 package org.creatorledger.event.infrastructure.web
 
+import org.creatorledger.common.Versioned
 import org.creatorledger.event.application.EventApplicationService
 import org.creatorledger.event.domain.ClientName
 import org.creatorledger.event.domain.Event
 import org.creatorledger.event.domain.EventDate
 import org.creatorledger.event.api.EventId
+import org.springframework.dao.OptimisticLockingFailureException
 import org.springframework.http.HttpStatus
 import spock.lang.Specification
 import java.time.LocalDate
@@ -67,13 +69,72 @@ class EventControllerUnitSpec extends Specification {
         )
 
         when: "updating the event"
-        def response = controller.update(eventId.value().toString(), request)
+        def response = controller.update(eventId.value().toString(), null, request)
 
         then: "the application service is called"
-        1 * eventApplicationService.update(_)
+        1 * eventApplicationService.update(_) >> 1L
 
         and: "the response is 204 No Content"
         response.statusCode == HttpStatus.NO_CONTENT
+        response.headers.getETag() == '"1"'
+    }
+
+    def "should update event at the If-Match version"() {
+        given: "an update request and the ETag from a previous read"
+        def eventId = EventId.generate()
+        def request = new UpdateEventRequest(
+            LocalDate.of(2026, 4, 20),
+            "Beta Industries",
+            "Updated description"
+        )
+
+        when: "updating the event with If-Match"
+        def response = controller.update(eventId.value().toString(), '"4"', request)
+
+        then: "the expected version is passed to the application service"
+        1 * eventApplicationService.update({ it.expectedVersion() == 4L }) >> 5L
+
+        and: "the response carries the new version"
+        response.statusCode == HttpStatus.NO_CONTENT
+        response.headers.getETag() == '"5"'
+    }
+
+    def "should return 409 when the event was changed since it was read"() {
+        given: "an update request"
+        def eventId = EventId.generate()
+        def request = new UpdateEventRequest(
+            LocalDate.of(2026, 4, 20),
+            "Beta Industries",
+            "Updated description"
+        )
+
+        and: "the application service reports a concurrent change"
+        eventApplicationService.update(_) >> { throw new OptimisticLockingFailureException("stale") }
+
+        when: "updating the event with a stale If-Match"
+        def response = controller.update(eventId.value().toString(), '"4"', request)
+
+        then: "the response is 409 Conflict"
+        response.statusCode == HttpStatus.CONFLICT
+    }
+
+    def "should return 400 for a malformed If-Match"() {
+        given: "an update request"
+        def eventId = EventId.generate()
+        def request = new UpdateEventRequest(
+            LocalDate.of(2026, 4, 20),
+            "Beta Industries",
+            "Updated description"
+        )
+
+        when: "updating the event with a malformed If-Match"
+        def response = controller.update(eventId.value().toString(), '"abc"', request)
+
+        then: "the application service is not called"
+        0 * eventApplicationService.update(_)
+
+        and: "the response is 400 Bad Request"
+        response.statusCode == HttpStatus.BAD_REQUEST
     }
 
     def "should return 400 when update fails"() {
@@ -89,7 +150,7 @@ class EventControllerUnitSpec extends Specification {
         eventApplicationService.update(_) >> { throw new IllegalStateException("Event not found") }
 
         when: "updating the event"
-        def response = controller.update(eventId.value().toString(), request)
+        def response = controller.update(eventId.value().toString(), null, request)
 
         then: "the response is 400 Bad Request"
         response.statusCode == HttpStatus.BAD_REQUEST
@@ -106,13 +167,14 @@ class EventControllerUnitSpec extends Specification {
         )
 
         and: "the application service returns the event"
-        eventApplicationService.findById(eventId) >> Optional.of(event)
+        eventApplicationService.findVersionedById(eventId) >> Optional.of(new Versioned<>(event, 2L))
 
         when: "getting the event"
         def response = controller.getEvent(eventId.value().toString())
 
         then: "the response is 200 OK with event data"
         response.statusCode == HttpStatus.OK
+        response.headers.getETag() == '"2"'
         response.body.id() == eventId.value().toString()
         response.body.date() == LocalDate.of(2026, 3, 15).toString()
         response.body.clientName() == "Acme Corporation"
@@ -124,7 +186,7 @@ class EventControllerUnitSpec extends Specification {
         def eventId = EventId.generate()
 
         and: "the application service returns empty"
-        eventApplicationService.findById(eventId) >> Optional.empty()
+        eventApplicationService.findVersionedById(eventId) >> Optional.empty()
 
         when: "getting the event"
         def response = controller.getEvent(eventId.value().toString())
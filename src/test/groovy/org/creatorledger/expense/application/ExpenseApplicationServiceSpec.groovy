@@ -1,12 +1,17 @@
 package org.creatorledger.expense.application
 
+import org.creatorledger.common.KeysetCursor
 import org.creatorledger.common.Money
+import org.creatorledger.common.Versioned
 import org.creatorledger.expense.api.ExpenseCategory
+import org.creatorledger.expense.api.ExpenseData
 import org.creatorledger.expense.api.ExpenseId
 import org.creatorledger.expense.domain.Expense
 import org.creatorledger.expense.domain.ExpenseRecorded
+import org.creatorledger.expense.domain.ExpenseUpdated
 import org.creatorledger.user.api.UserId
 import org.springframework.context.ApplicationEventPublisher
+import org.springframework.dao.OptimisticLockingFailureException
 import spock.lang.Specification
 
 import java.time.LocalDate
@@ -39,13 +44,12 @@ class ExpenseApplicationServiceSpec extends Specification {
         def expenseId = service.record(command)
 
         then: "the expense should be saved to repository"
-        1 * expenseRepository.save(_ as Expense) >> { Expense expense ->
+        1 * expenseRepository.add(_ as Expense) >> { Expense expense ->
             assert expense.userId() == userId
             assert expense.amount() == Money.gbp("150.00")
             assert expense.category() == ExpenseCategory.EQUIPMENT
             assert expense.description() == "MacBook Pro laptop"
             assert expense.incurredDate() == LocalDate.of(2026, 1, 15)
-            return expense
         }
         expenseId != null
     }
@@ -66,7 +70,7 @@ class ExpenseApplicationServiceSpec extends Specification {
         service.record(command)
 
         then: "the expense is saved"
-        1 * expenseRepository.save(_ as Expense) >> { Expense expense -> expense }
+        1 * expenseRepository.add(_ as Expense)
 
         and: "ExpenseRecorded event is published"
         1 * eventPublisher.publishEvent(_) >> { arguments ->
@@ -91,7 +95,7 @@ class ExpenseApplicationServiceSpec extends Specification {
     }
 
     def "should update existing expense"() {
-        given: "an existing expense and update command"
+        given: "an existing expense at version 3 and update command"
         def expenseId = ExpenseId.generate()
         def userId = UserId.generate()
         def existingExpense = Expense.record(
@@ -112,23 +116,120 @@ class ExpenseApplicationServiceSpec extends Specification {
         )
 
         when: "updating the expense"
-        service.update(command)
+        def version = service.update(command)
 
-        then: "the existing expense should be retrieved"
-        1 * expenseRepository.findById(expenseId) >> Optional.of(existingExpense)
+        then: "the existing expense should be retrieved with its version"
+        1 * expenseRepository.findVersionedById(expenseId) >> Optional.of(new Versioned<>(existingExpense, 3L))
 
-        and: "the updated expense should be saved"
-        1 * expenseRepository.save(_ as Expense) >> { Expense expense ->
-            assert expense.id() == expenseId
-            assert expense.userId() == userId
-            assert expense.amount() == Money.gbp("200.00")
-            assert expense.category() == ExpenseCategory.SOFTWARE
-            assert expense.description() == "Updated description"
-            assert expense.incurredDate() == LocalDate.of(2026, 2, 20)
-            return expense
+        and: "the expense should be updated if still at version 3"
+        1 * expenseRepository.updateIfVersion(
+                expenseId,
+                3L,
+                Money.gbp("200.00"),
+                ExpenseCategory.SOFTWARE,
+                "Updated description",
+                LocalDate.of(2026, 2, 20)
+        ) >> Optional.of(new ExpenseChange(
+                userId, Money.gbp("150.00"), ExpenseCategory.EQUIPMENT, LocalDate.of(2026, 1, 15), 4L))
+        0 * expenseRepository.save(_)
+
+        and: "the new version should be returned"
+        version == 4L
+    }
+
+    def "should update expense at the expected version without reading it first"() {
+        given: "an update command carrying the version the client read"
+        def expenseId = ExpenseId.generate()
+        def userId = UserId.generate()
+        def command = new UpdateExpenseCommand(
+                expenseId,
+                "200.00",
+                "GBP",
+                ExpenseCategory.SOFTWARE,
+                "  Updated description  ",
+                LocalDate.of(2026, 2, 20),
+                7L
+        )
+
+        when: "updating the expense"
+        def version = service.update(command)
+
+        then: "the expense should not be read"
+        0 * expenseRepository.findVersionedById(_)
+        0 * expenseRepository.findById(_)
+
+        and: "the update should be conditional on the expected version"
+        1 * expenseRepository.updateIfVersion(
+                expenseId,
+                7L,
+                Money.gbp("200.00"),
+                ExpenseCategory.SOFTWARE,
+                "Updated description",
+                LocalDate.of(2026, 2, 20)
+        ) >> Optional.of(new ExpenseChange(
+                userId, Money.gbp("150.00"), ExpenseCategory.EQUIPMENT, LocalDate.of(2026, 1, 15), 8L))
+
+        and: "the new version should be returned"
+        version == 8L
+    }
+
+    def "should publish ExpenseUpdated event with previous values when updating"() {
+        given: "an update that changes amount, category and date"
+        def expenseId = ExpenseId.generate()
+        def userId = UserId.generate()
+        expenseRepository.updateIfVersion(expenseId, 0L, _, _, _, _) >> Optional.of(new ExpenseChange(
+                userId, Money.gbp("150.00"), ExpenseCategory.EQUIPMENT, LocalDate.of(2026, 1, 15), 1L))
+        def command = new UpdateExpenseCommand(
+                expenseId,
+                "200.00",
+                "GBP",
+                ExpenseCategory.SOFTWARE,
+                "Updated description",
+                LocalDate.of(2026, 2, 20),
+                0L
+        )
+
+        when: "updating the expense"
+        service.update(command)
+
+        then: "ExpenseUpdated event is published"
+        1 * eventPublisher.publishEvent(_ as ExpenseUpdated) >> { ExpenseUpdated event ->
+            assert event.expenseId() == expenseId
+            assert event.userId() == userId
+            assert event.previousAmount() == Money.gbp("150.00")
+            assert event.previousCategory() == ExpenseCategory.EQUIPMENT
+            assert event.previousIncurredDate() == LocalDate.of(2026, 1, 15)
+            assert event.amount() == Money.gbp("200.00")
+            assert event.category() == ExpenseCategory.SOFTWARE
+            assert event.incurredDate() == LocalDate.of(2026, 2, 20)
         }
     }
 
+    def "should reject a stale update without publishing an event"() {
+        given: "an expense that moved past the expected version"
+        def expenseId = ExpenseId.generate()
+        expenseRepository.updateIfVersion(expenseId, 2L, _, _, _, _) >> Optional.empty()
+        expenseRepository.existsById(expenseId) >> true
+        def command = new UpdateExpenseCommand(
+                expenseId,
+                "200.00",
+                "GBP",
+                ExpenseCategory.SOFTWARE,
+                "Updated description",
+                LocalDate.of(2026, 2, 20),
+                2L
+        )
+
+        when: "updating the expense"
+        service.update(command)
+
+        then: "it should throw OptimisticLockingFailureException"
+        thrown(OptimisticLockingFailureException)
+
+        and: "no event should be published"
+        0 * eventPublisher.publishEvent(_)
+    }
+
     def "should reject null command when updating"() {
         when: "updating with null command"
         service.update(null)
@@ -154,13 +255,36 @@ class ExpenseApplicationServiceSpec extends Specification {
         service.update(command)
 
         then: "it should look for the expense"
-        1 * expenseRepository.findById(expenseId) >> Optional.empty()
+        1 * expenseRepository.findVersionedById(expenseId) >> Optional.empty()
 
         and: "it should throw IllegalStateException"
         def exception = thrown(IllegalStateException)
         exception.message == "Expense not found: " + expenseId
     }
 
+    def "should throw when updating non-existent expense at an expected version"() {
+        given: "a command for non-existent expense"
+        def expenseId = ExpenseId.generate()
+        expenseRepository.updateIfVersion(expenseId, 0L, _, _, _, _) >> Optional.empty()
+        expenseRepository.existsById(expenseId) >> false
+        def command = new UpdateExpenseCommand(
+                expenseId,
+                "200.00",
+                "GBP",
+                ExpenseCategory.SOFTWARE,
+                "Description",
+                LocalDate.now(),
+                0L
+        )
+
+        when: "updating"
+        service.update(command)
+
+        then: "it should throw IllegalStateException"
+        def exception = thrown(IllegalStateException)
+        exception.message == "Expense not found: " + expenseId
+    }
+
     def "should find expense by ID"() {
         given: "an existing expense"
         def expenseId = ExpenseId.generate()
@@ -211,4 +335,40 @@ class ExpenseApplicationServiceSpec extends Specification {
         def exception = thrown(IllegalArgumentException)
         exception.message == "Expense ID cannot be null"
     }
+
+    def "should search a page of expenses with category counts"() {
+        given: "a query for two expenses and a repository with three matches"
+        def userId = UserId.generate()
+        def query = new SearchExpensesQuery(userId, null, null, null, null, null, null, null, 2)
+        def rows = (1..3).collect {
+            new ExpenseData(ExpenseId.generate(), userId, Money.gbp("10.00"), ExpenseCategory.SOFTWARE,
+                    "Subscription ${it}", LocalDate.of(2026, 1, it))
+        }
+        def counts = [(ExpenseCategory.SOFTWARE): 3L]
+
+        when: "searching"
+        def result = service.search(query)
+
+        then: "one extra row is read and the counts come from one grouped query"
+        1 * expenseRepository.search(query, 3) >> rows
+        1 * expenseRepository.countByCategory(query) >> counts
+
+        and: "the result holds the page, the next cursor and the counts"
+        result.items() == rows.take(2)
+        result.next() == new KeysetCursor(rows[1].incurredDate(), rows[1].id().value())
+        result.categoryCounts() == counts
+    }
+
+    def "should return the last search page without a cursor"() {
+        given:
+        def query = new SearchExpensesQuery(UserId.generate(), null, null, null, null, null, null, null, 2)
+        expenseRepository.search(query, 3) >> []
+        expenseRepository.countByCategory(query) >> [:]
+
+        when:
+        def result = service.search(query)
+
+        then:
+        !result.hasNext()
+    }
 }
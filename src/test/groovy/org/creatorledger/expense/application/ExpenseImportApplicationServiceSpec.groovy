@@ -0,0 +1,219 @@
+package org.creatorledger.expense.application
+
+import org.creatorledger.common.Money
+import org.creatorledger.expense.api.ExpenseCategory
+import org.creatorledger.expense.domain.Expense
+import org.creatorledger.expense.domain.ExpensesImported
+import org.creatorledger.expense.infrastructure.web.ExpenseImportFormat
+import org.creatorledger.user.api.UserId
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.transaction.support.TransactionOperations
+import spock.lang.Specification
+
+import java.time.LocalDate
+
+class ExpenseImportApplicationServiceSpec extends Specification {
+
+    ExpenseRepository expenseRepository
+    ApplicationEventPublisher eventPublisher
+    TransactionOperations transactionOperations
+    ExpenseImportApplicationService service
+    UserId userId
+
+    def setup() {
+        expenseRepository = Mock(ExpenseRepository)
+        eventPublisher = Mock(ApplicationEventPublisher)
+        transactionOperations = Spy(TransactionOperations.withoutTransaction())
+        service = new ExpenseImportApplicationService(expenseRepository, eventPublisher, transactionOperations)
+        userId = UserId.generate()
+    }
+
+    def "should import valid CSV rows in one batch and publish one event"() {
+        given: "a CSV file with three expenses"
+        def csv = """\
+            amount,currency,category,description,incurredDate
+            150.00,GBP,EQUIPMENT,Camera lens,2026-01-15
+            50.00,GBP,EQUIPMENT,"Tripod, carbon",2026-01-15
+            12.99,GBP,software,Editing subscription,2026-01-16
+            """.stripIndent()
+
+        when: "importing the file"
+        def result = service.importExpenses(new ImportExpensesCommand(userId, ExpenseImportFormat.CSV), new StringReader(csv))
+
+        then: "every row is inserted in a single batch in one transaction"
+        1 * transactionOperations.executeWithoutResult(_)
+        1 * expenseRepository.addAll({ List<Expense> expenses ->
+            expenses.size() == 3 &&
+                    expenses.every { it.userId() == userId } &&
+                    expenses[1].description() == "Tripod, carbon" &&
+                    expenses[2].category() == ExpenseCategory.SOFTWARE
+        })
+
+        and: "one event carries the daily totals"
+        1 * eventPublisher.publishEvent({ ExpensesImported event ->
+            event.userId() == userId &&
+                    event.expenseCount() == 3 &&
+                    event.dailyTotals() == [
+                            new ExpensesImported.DailyTotal(LocalDate.of(2026, 1, 15), ExpenseCategory.EQUIPMENT, Money.gbp("200.00")),
+                            new ExpensesImported.DailyTotal(LocalDate.of(2026, 1, 16), ExpenseCategory.SOFTWARE, Money.gbp("12.99"))
+                    ]
+        })
+
+        and: "the result reports every row imported"
+        result.importedCount() == 3
+        result.rejectedCount() == 0
+        result.errors().isEmpty()
+    }
+
+    def "should report invalid rows by line number without aborting the import"() {
+        given: "an NDJSON file with one valid and three invalid rows"
+        def ndjson = """\
+            {"amount":"150.00","currency":"GBP","category":"EQUIPMENT","description":"Camera lens","incurredDate":"2026-01-15"}
+            {"amount":"abc","currency":"GBP","category":"EQUIPMENT","description":"Bad amount","incurredDate":"2026-01-15"}
+
+            {"amount":"10.00","currency":"GBP","category":"FOOD","description":"Unknown category","incurredDate":"2026-01-15"}
+            not json
+            """.stripIndent()
+
+        when: "importing the file"
+        def result = service.importExpenses(new ImportExpensesCommand(userId, ExpenseImportFormat.NDJSON), new StringReader(ndjson))
+
+        then: "only the valid row is inserted"
+        1 * expenseRepository.addAll({ it.size() == 1 })
+        1 * eventPublisher.publishEvent({ ExpensesImported event -> event.expenseCount() == 1 })
+
+        and: "each rejected row is reported against its line"
+        result.importedCount() == 1
+        result.rejectedCount() == 3
+        result.errors()*.lineNumber() == [2L, 4L, 5L]
+        result.errors()[1].message() == "Unknown category: FOOD"
+    }
+
+    def "should write large files in one transaction and one event per chunk"() {
+        given: "a CSV file larger than one chunk"
+        def rows = ExpenseImportApplicationService.CHUNK_SIZE + 1
+        def csv = new StringBuilder(ExpenseImportFormat.CSV_HEADER).append('\n')
+        rows.times { csv.append("1.00,GBP,OTHER,Row ${it},2026-01-15\n") }
+
+        when: "importing the file"
+        def result = service.importExpenses(new ImportExpensesCommand(userId, ExpenseImportFormat.CSV), new StringReader(csv.toString()))
+
+        then: "a full chunk is written and published in its own transaction"
+        1 * transactionOperations.executeWithoutResult(_)
+        1 * expenseRepository.addAll({ it.size() == ExpenseImportApplicationService.CHUNK_SIZE })
+        1 * eventPublisher.publishEvent({ ExpensesImported event ->
+            event.expenseCount() == ExpenseImportApplicationService.CHUNK_SIZE &&
+                    event.dailyTotals()*.amount() == [Money.gbp("1000.00")]
+        })
+
+        then: "the remainder follows in another"
+        1 * transactionOperations.executeWithoutResult(_)
+        1 * expenseRepository.addAll({ it.size() == 1 })
+        1 * eventPublisher.publishEvent({ ExpensesImported event ->
+            event.expenseCount() == 1 && event.dailyTotals()*.amount() == [Money.gbp("1.00")]
+        })
+        result.importedCount() == rows
+    }
+
+    def "should say where to resume when a chunk fails after earlier chunks were committed"() {
+        given: "a CSV file with an invalid row and more than one chunk of valid rows"
+        def rows = ExpenseImportApplicationService.CHUNK_SIZE + 1
+        def csv = new StringBuilder(ExpenseImportFormat.CSV_HEADER).append('\n')
+        csv.append("oops,GBP,OTHER,Bad row,2026-01-15\n")
+        rows.times { csv.append("1.00,GBP,OTHER,Row ${it},2026-01-15\n") }
+
+        and: "the second chunk cannot be written"
+        expenseRepository.addAll({ it.size() == 1 }) >> { throw new IllegalStateException("Database unavailable") }
+
+        when: "importing the file"
+        service.importExpenses(new ImportExpensesCommand(userId, ExpenseImportFormat.CSV), new StringReader(csv.toString()))
+
+        then: "the failure reports what was committed and the first line that was not"
+        def e = thrown(ExpenseImportIncompleteException)
+        e.importedCount() == ExpenseImportApplicationService.CHUNK_SIZE
+        e.rejectedCount() == 1
+        e.resumeFromLine() == ExpenseImportApplicationService.CHUNK_SIZE + 3
+        e.cause instanceof IllegalStateException
+    }
+
+    def "should rethrow a failure in the first chunk unchanged"() {
+        given: "a file whose only chunk cannot be written"
+        expenseRepository.addAll(_) >> { throw new IllegalStateException("Database unavailable") }
+
+        when: "importing the file"
+        service.importExpenses(
+                new ImportExpensesCommand(userId, ExpenseImportFormat.CSV),
+                new StringReader(ExpenseImportFormat.CSV_HEADER + "\n1.00,GBP,OTHER,Row,2026-01-15\n")
+        )
+
+        then: "nothing was committed, so there is nothing to resume from"
+        thrown(IllegalStateException)
+    }
+
+    def "should cap the number of reported errors"() {
+        given: "more invalid rows than are reported"
+        def rows = ExpenseImportApplicationService.MAX_REPORTED_ERRORS + 5
+        def csv = new StringBuilder(ExpenseImportFormat.CSV_HEADER).append('\n')
+        rows.times { csv.append("oops,GBP,OTHER,Row ${it},2026-01-15\n") }
+
+        when: "importing the file"
+        def result = service.importExpenses(new ImportExpensesCommand(userId, ExpenseImportFormat.CSV), new StringReader(csv.toString()))
+
+        then: "nothing is written or published"
+        0 * transactionOperations.executeWithoutResult(_)
+        0 * expenseRepository.addAll(_)
+        0 * eventPublisher.publishEvent(_)
+
+        and: "every row is counted but only the first errors are listed"
+        result.rejectedCount() == rows
+        result.errors().size() == ExpenseImportApplicationService.MAX_REPORTED_ERRORS
+    }
+
+    def "should reject a CSV file without the expected header"() {
+        when: "importing a file that starts with data"
+        service.importExpenses(
+                new ImportExpensesCommand(userId, ExpenseImportFormat.CSV),
+                new StringReader("150.00,GBP,EQUIPMENT,Camera lens,2026-01-15\n")
+        )
+
+        then: "the import is rejected"
+        thrown(IllegalArgumentException)
+        0 * expenseRepository.addAll(_)
+    }
+
+    def "should reject null command"() {
+        when:
+        service.importExpenses(null, new StringReader(""))
+
+        then:
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Command cannot be null"
+    }
+
+    def "should reject null repository"() {
+        when:
+        new ExpenseImportApplicationService(null, eventPublisher, transactionOperations)
+
+        then:
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Expense repository cannot be null"
+    }
+
+    def "should reject null event publisher"() {
+        when:
+        new ExpenseImportApplicationService(expenseRepository, null, transactionOperations)
+
+        then:
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Event publisher cannot be null"
+    }
+
+    def "should reject null transaction operations"() {
+        when:
+        new ExpenseImportApplicationService(expenseRepository, eventPublisher, null)
+
+        then:
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Transaction operations cannot be null"
+    }
+}
@@ -0,0 +1,48 @@
+package org.creatorledger.expense.application
+
+import org.creatorledger.expense.api.ExpenseCategory
+import org.creatorledger.user.api.UserId
+import spock.lang.Specification
+
+import java.time.LocalDate
+
+class SearchExpensesQuerySpec extends Specification {
+
+    def "should default categories and drop blank text"() {
+        when:
+        def query = new SearchExpensesQuery(UserId.generate(), null, null, null, null, null, "  ", null, 50)
+
+        then:
+        query.categories() == [] as Set
+        query.text() == null
+    }
+
+    def "should copy categories and trim text"() {
+        given:
+        def categories = [ExpenseCategory.TRAVEL] as Set
+
+        when:
+        def query = new SearchExpensesQuery(UserId.generate(), null, null, categories, null, null, " train ", null, 50)
+        categories.add(ExpenseCategory.OTHER)
+
+        then:
+        query.categories() == [ExpenseCategory.TRAVEL] as Set
+        query.text() == "train"
+    }
+
+    def "should reject invalid queries"() {
+        when:
+        new SearchExpensesQuery(userId, from, to, null, minAmount, maxAmount, null, null, limit)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        userId            | from                     | to                       | minAmount             | maxAmount             | limit
+        null              | null                     | null                     | null                  | null                  | 50
+        UserId.generate() | LocalDate.of(2026, 2, 1) | LocalDate.of(2026, 1, 1) | null                  | null                  | 50
+        UserId.generate() | null                     | null                     | new BigDecimal("10") | new BigDecimal("5")  | 50
+        UserId.generate() | null                     | null                     | null                  | null                  | 0
+        UserId.generate() | null                     | null                     | null                  | null                  | SearchExpensesQuery.MAX_LIMIT + 1
+    }
+}
@@ -133,4 +133,16 @@ class UpdateExpenseCommandSpec extends Specification {
         def exception = thrown(IllegalArgumentException)
         exception.message == "Incurred date cannot be null"
     }
+
+    def "should reject a negative expected version"() {
+        given: "a negative expected version"
+        def expenseId = ExpenseId.generate()
+
+        when: "creating command with the negative version"
+        new UpdateExpenseCommand(expenseId, "200.00", "GBP", ExpenseCategory.SOFTWARE, "Description", LocalDate.now(), -1L)
+
+        then: "it should throw IllegalArgumentException"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Expected version cannot be negative"
+    }
 }
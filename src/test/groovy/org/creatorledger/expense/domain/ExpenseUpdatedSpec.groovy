@@ -0,0 +1,93 @@
+package org.creatorledger.expense.domain
+
+import org.creatorledger.common.Money
+import org.creatorledger.expense.api.ExpenseCategory
+import org.creatorledger.expense.api.ExpenseId
+import org.creatorledger.user.api.UserId
+import spock.lang.Specification
+
+import java.time.Instant
+import java.time.LocalDate
+
+class ExpenseUpdatedSpec extends Specification {
+
+    def "should create ExpenseUpdated event with previous and new values"() {
+        given: "expense details before and after the update"
+        def expenseId = ExpenseId.generate()
+        def userId = UserId.generate()
+        def occurredAt = Instant.now()
+
+        when: "creating an ExpenseUpdated event"
+        def event = new ExpenseUpdated(
+                expenseId,
+                userId,
+                Money.gbp("150.00"),
+                ExpenseCategory.EQUIPMENT,
+                LocalDate.of(2026, 1, 15),
+                Money.gbp("200.00"),
+                ExpenseCategory.SOFTWARE,
+                "Updated description",
+                LocalDate.of(2026, 4, 20),
+                occurredAt
+        )
+
+        then: "it should contain all the data"
+        event.expenseId() == expenseId
+        event.userId() == userId
+        event.previousAmount() == Money.gbp("150.00")
+        event.previousCategory() == ExpenseCategory.EQUIPMENT
+        event.previousIncurredDate() == LocalDate.of(2026, 1, 15)
+        event.amount() == Money.gbp("200.00")
+        event.category() == ExpenseCategory.SOFTWARE
+        event.description() == "Updated description"
+        event.incurredDate() == LocalDate.of(2026, 4, 20)
+        event.occurredAt() == occurredAt
+    }
+
+    def "should create ExpenseUpdated event with current timestamp"() {
+        given: "the time before creation"
+        def before = Instant.now()
+
+        when: "creating an ExpenseUpdated event without timestamp"
+        def event = ExpenseUpdated.of(
+                ExpenseId.generate(),
+                UserId.generate(),
+                Money.gbp("150.00"),
+                ExpenseCategory.EQUIPMENT,
+                LocalDate.of(2026, 1, 15),
+                Money.gbp("200.00"),
+                ExpenseCategory.SOFTWARE,
+                "Updated description",
+                LocalDate.of(2026, 4, 20)
+        )
+        def after = Instant.now()
+
+        then: "it should have a timestamp between before and after"
+        !event.occurredAt().isBefore(before)
+        !event.occurredAt().isAfter(after)
+    }
+
+    def "should have meaningful toString"() {
+        given: "an ExpenseUpdated event"
+        def expenseId = ExpenseId.generate()
+        def event = ExpenseUpdated.of(
+                expenseId,
+                UserId.generate(),
+                Money.gbp("150.00"),
+                ExpenseCategory.EQUIPMENT,
+                LocalDate.of(2026, 1, 15),
+                Money.gbp("200.00"),
+                ExpenseCategory.SOFTWARE,
+                "Updated description",
+                LocalDate.of(2026, 4, 20)
+        )
+
+        when: "converting to string"
+        def result = event.toString()
+
+        then: "it should contain key information"
+        result.contains(expenseId.toString())
+        result.contains("EQUIPMENT")
+        result.contains("SOFTWARE")
+    }
+}
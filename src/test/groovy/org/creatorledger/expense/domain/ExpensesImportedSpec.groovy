@@ -0,0 +1,42 @@
+package org.creatorledger.expense.domain
+
+import org.creatorledger.common.Money
+import org.creatorledger.expense.api.ExpenseCategory
+import org.creatorledger.user.api.UserId
+import spock.lang.Specification
+
+import java.time.LocalDate
+
+class ExpensesImportedSpec extends Specification {
+
+    def "should create ExpensesImported event with current timestamp"() {
+        given: "daily totals for an import"
+        def userId = UserId.generate()
+        def dailyTotals = [
+                new ExpensesImported.DailyTotal(LocalDate.of(2026, 1, 15), ExpenseCategory.EQUIPMENT, Money.gbp("200.00"))
+        ]
+
+        when: "creating the event"
+        def event = ExpensesImported.of(userId, 2, dailyTotals)
+
+        then: "it contains the import summary"
+        event.userId() == userId
+        event.expenseCount() == 2
+        event.dailyTotals() == dailyTotals
+        event.occurredAt() != null
+    }
+
+    def "should not expose a mutable list of daily totals"() {
+        given:
+        def dailyTotals = [
+                new ExpensesImported.DailyTotal(LocalDate.of(2026, 1, 15), ExpenseCategory.EQUIPMENT, Money.gbp("200.00"))
+        ]
+        def event = ExpensesImported.of(UserId.generate(), 1, dailyTotals)
+
+        when:
+        dailyTotals.clear()
+
+        then:
+        event.dailyTotals().size() == 1
+    }
+}
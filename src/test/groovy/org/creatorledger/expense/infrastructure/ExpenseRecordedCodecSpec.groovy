@@ -0,0 +1,51 @@
+package org.creatorledger.expense.infrastructure
+
+import org.creatorledger.common.EventInput
+import org.creatorledger.common.EventOutput
+import org.creatorledger.common.Money
+import org.creatorledger.expense.api.ExpenseCategory
+import org.creatorledger.expense.api.ExpenseId
+import org.creatorledger.expense.domain.ExpenseRecorded
+import org.creatorledger.user.api.UserId
+import spock.lang.Specification
+
+import java.time.Instant
+import java.time.LocalDate
+
+class ExpenseRecordedCodecSpec extends Specification {
+
+    def codec = new ExpenseRecordedCodec()
+
+    def event = new ExpenseRecorded(
+            ExpenseId.generate(),
+            UserId.generate(),
+            Money.of(new BigDecimal("89.99"), "GBP"),
+            ExpenseCategory.SOFTWARE,
+            "Editing software",
+            LocalDate.of(2026, 9, 14),
+            Instant.parse("2026-10-17T09:15:30Z")
+    )
+
+    def "should read back the event it wrote"() {
+        given: "the event written by the codec"
+        def output = new EventOutput()
+        codec.write(event, output)
+
+        when: "reading it back"
+        def input = new EventInput(output.toByteArray(), 0)
+        def read = codec.read(codec.schemaVersion(), input)
+
+        then: "every field is unchanged and nothing is left over"
+        read == event
+        input.isExhausted()
+    }
+
+    def "should reject an unknown schema version"() {
+        when: "reading a version it never wrote"
+        codec.read(99, new EventInput(new byte[0], 0))
+
+        then: "an exception is thrown"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Unknown ExpenseRecorded schema version 99"
+    }
+}
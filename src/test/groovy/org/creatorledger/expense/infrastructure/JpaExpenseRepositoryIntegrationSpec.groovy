@@ -1,8 +1,10 @@
 package org.creatorledger.expense.infrastructure
 
+import org.creatorledger.common.KeysetCursor
 import org.creatorledger.common.Money
 import org.creatorledger.expense.api.ExpenseCategory
 import org.creatorledger.expense.api.ExpenseId
+import org.creatorledger.expense.application.SearchExpensesQuery
 import org.creatorledger.expense.domain.Expense
 import org.creatorledger.user.api.UserId
 import org.springframework.beans.factory.annotation.Autowired
@@ -149,4 +151,172 @@ class JpaExpenseRepositoryIntegrationSpec extends Specification {
         then: "the expense is no longer found"
         result.isEmpty()
     }
+
+    def "should sum expenses per category within a date range"() {
+        given: "expenses for a user across categories and dates"
+        def userId = UserId.generate()
+        repository.save(Expense.record(userId, Money.gbp("100.00"), ExpenseCategory.EQUIPMENT, "Camera", LocalDate.of(2026, 1, 10)))
+        repository.save(Expense.record(userId, Money.gbp("50.25"), ExpenseCategory.EQUIPMENT, "Tripod", LocalDate.of(2026, 2, 10)))
+        repository.save(Expense.record(userId, Money.gbp("20.00"), ExpenseCategory.SOFTWARE, "Editing app", LocalDate.of(2026, 3, 10)))
+
+        and: "expenses outside the range or for another user"
+        repository.save(Expense.record(userId, Money.gbp("999.00"), ExpenseCategory.EQUIPMENT, "Too late", LocalDate.of(2026, 6, 1)))
+        repository.save(Expense.record(UserId.generate(), Money.gbp("999.00"), ExpenseCategory.SOFTWARE, "Other user", LocalDate.of(2026, 2, 1)))
+
+        when: "summing per category"
+        def totals = repository.totalsByCategoryForUserIdAndDateRange(userId, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 31))
+
+        then: "only matching expenses are summed"
+        totals.size() == 2
+        totals[ExpenseCategory.EQUIPMENT] == Money.gbp("150.25")
+        totals[ExpenseCategory.SOFTWARE] == Money.gbp("20.00")
+    }
+
+    def "should return no category totals when there are no expenses in range"() {
+        when: "summing per category for a user without expenses"
+        def totals = repository.totalsByCategoryForUserIdAndDateRange(UserId.generate(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 31))
+
+        then: "the result is empty"
+        totals.isEmpty()
+    }
+
+    def "should sum expenses per category for several users in one query"() {
+        given: "expenses for two users"
+        def firstUser = UserId.generate()
+        def secondUser = UserId.generate()
+        repository.save(Expense.record(firstUser, Money.gbp("100.00"), ExpenseCategory.EQUIPMENT, "Camera", LocalDate.of(2026, 1, 10)))
+        repository.save(Expense.record(firstUser, Money.gbp("20.00"), ExpenseCategory.SOFTWARE, "Editing app", LocalDate.of(2026, 2, 10)))
+        repository.save(Expense.record(secondUser, Money.gbp("50.25"), ExpenseCategory.EQUIPMENT, "Tripod", LocalDate.of(2026, 3, 10)))
+
+        when: "summing per category for both users and one without expenses"
+        def totals = repository.totalsByCategoryForUserIdsAndDateRange(
+                [firstUser, secondUser, UserId.generate()],
+                LocalDate.of(2026, 1, 1),
+                LocalDate.of(2026, 3, 31)
+        )
+
+        then: "each user with expenses has their own category totals"
+        totals.size() == 2
+        totals[firstUser][ExpenseCategory.EQUIPMENT] == Money.gbp("100.00")
+        totals[firstUser][ExpenseCategory.SOFTWARE] == Money.gbp("20.00")
+        totals[secondUser] == [(ExpenseCategory.EQUIPMENT): Money.gbp("50.25")]
+    }
+
+    def "should stream expense data within a date range in date order"() {
+        given: "expenses for a user across dates"
+        def userId = UserId.generate()
+        repository.save(Expense.record(userId, Money.gbp("50.25"), ExpenseCategory.EQUIPMENT, "Tripod", LocalDate.of(2026, 2, 10)))
+        repository.save(Expense.record(userId, Money.gbp("100.00"), ExpenseCategory.EQUIPMENT, "Camera", LocalDate.of(2026, 1, 10)))
+
+        and: "expenses outside the range or for another user"
+        repository.save(Expense.record(userId, Money.gbp("999.00"), ExpenseCategory.EQUIPMENT, "Too late", LocalDate.of(2026, 6, 1)))
+        repository.save(Expense.record(UserId.generate(), Money.gbp("999.00"), ExpenseCategory.SOFTWARE, "Other user", LocalDate.of(2026, 2, 1)))
+
+        when: "streaming the range"
+        def descriptions = repository.streamDataByUserIdAndDateRange(userId, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 31))
+                .withCloseable { stream -> stream.map { it.description() }.toList() }
+
+        then: "only matching expenses are returned, oldest first"
+        descriptions == ["Camera", "Tripod"]
+    }
+
+    def "should read expense data for a date range through the projection"() {
+        given: "an expense in range and one outside it"
+        def userId = UserId.generate()
+        def camera = repository.save(Expense.record(userId, Money.gbp("100.00"), ExpenseCategory.EQUIPMENT, "Camera", LocalDate.of(2026, 1, 10)))
+        repository.save(Expense.record(userId, Money.gbp("999.00"), ExpenseCategory.EQUIPMENT, "Too late", LocalDate.of(2026, 6, 1)))
+
+        when: "reading the range as data"
+        def data = repository.findDataByUserIdAndDateRange(userId, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 31))
+
+        then: "only the matching expense is returned"
+        data.size() == 1
+        data[0].id() == camera.id()
+        data[0].category() == ExpenseCategory.EQUIPMENT
+        data[0].amount() == Money.gbp("100.00")
+    }
+
+    def "should add expenses in a batch"() {
+        given: "several newly recorded expenses"
+        def userId = UserId.generate()
+        def expenses = (1..3).collect {
+            Expense.record(userId, Money.gbp("${it}0.00"), ExpenseCategory.SOFTWARE, "Subscription ${it}", LocalDate.of(2026, 1, it))
+        }
+
+        when: "adding them in one batch"
+        repository.addAll(expenses)
+
+        then: "each expense can be retrieved"
+        expenses.every { repository.findById(it.id()).get().amount() == it.amount() }
+        repository.findDataByUserIdAndDateRange(userId, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)).size() == 3
+    }
+
+    def "should search expenses by every filter and page through the results"() {
+        given: "a user's expenses across categories and another user's expense"
+        def userId = UserId.generate()
+        def train = Expense.record(userId, Money.gbp("45.00"), ExpenseCategory.TRAVEL, "Train to London", LocalDate.of(2026, 1, 10))
+        def taxi = Expense.record(userId, Money.gbp("25.00"), ExpenseCategory.TRAVEL, "Taxi from station", LocalDate.of(2026, 1, 11))
+        def trainAgain = Expense.record(userId, Money.gbp("55.00"), ExpenseCategory.TRAVEL, "TRAIN to Leeds", LocalDate.of(2026, 1, 12))
+        def course = Expense.record(userId, Money.gbp("50.00"), ExpenseCategory.PROFESSIONAL_SERVICES, "Training course 100%", LocalDate.of(2026, 1, 13))
+        repository.addAll([train, taxi, trainAgain, course])
+        repository.add(Expense.record(UserId.generate(), Money.gbp("45.00"), ExpenseCategory.TRAVEL, "Train", LocalDate.of(2026, 1, 10)))
+
+        when: "searching travel over 30.00 mentioning 'train', one at a time"
+        def query = new SearchExpensesQuery(userId, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31),
+                [ExpenseCategory.TRAVEL] as Set, new BigDecimal("30.00"), null, "train", null, 1)
+        def first = repository.search(query, 1)
+        def second = repository.search(new SearchExpensesQuery(query.userId(), query.from(), query.to(), query.categories(),
+                query.minAmount(), query.maxAmount(), query.text(),
+                new KeysetCursor(first[0].incurredDate(), first[0].id().value()), 1), 1)
+
+        then: "matches are returned in date order across pages"
+        first*.id() == [train.id()]
+        second*.id() == [trainAgain.id()]
+
+        and: "category counts ignore the category filter"
+        def counts = repository.countByCategory(query)
+        counts[ExpenseCategory.TRAVEL] == 2L
+        counts[ExpenseCategory.PROFESSIONAL_SERVICES] == 1L
+        counts[ExpenseCategory.SOFTWARE] == 0L
+
+        and: "LIKE wildcards in the text are matched literally"
+        repository.search(new SearchExpensesQuery(userId, null, null, null, null, null, "100%", null, 10), 10)*.id() == [course.id()]
+        repository.search(new SearchExpensesQuery(userId, null, null, null, null, null, "_", null, 10), 10).isEmpty()
+    }
+
+    def "should update an expense only at the expected version and return the previous values"() {
+        given: "a stored expense at version 0"
+        def userId = UserId.generate()
+        def expense = Expense.record(
+            userId, Money.gbp("100.00"), ExpenseCategory.EQUIPMENT, "Original", LocalDate.of(2026, 1, 10))
+        repository.add(expense)
+
+        when: "updating it at version 0"
+        def change = repository.updateIfVersion(
+            expense.id(), 0L, Money.gbp("250.00"), ExpenseCategory.SOFTWARE, "Updated", LocalDate.of(2026, 2, 20))
+
+        then: "the previous values and the new version are returned"
+        change.isPresent()
+        change.get().userId() == userId
+        change.get().previousAmount() == Money.gbp("100.00")
+        change.get().previousCategory() == ExpenseCategory.EQUIPMENT
+        change.get().previousIncurredDate() == LocalDate.of(2026, 1, 10)
+        change.get().version() == 1L
+
+        and: "the new values are stored at version 1"
+        def stored = repository.findVersionedById(expense.id()).get()
+        stored.version() == 1L
+        stored.value().amount() == Money.gbp("250.00")
+        stored.value().category() == ExpenseCategory.SOFTWARE
+        stored.value().incurredDate() == LocalDate.of(2026, 2, 20)
+
+        when: "updating it again at the stale version 0"
+        def stale = repository.updateIfVersion(
+            expense.id(), 0L, Money.gbp("300.00"), ExpenseCategory.TRAVEL, "Stale", LocalDate.of(2026, 2, 20))
+
+        then: "nothing is updated"
+        stale.isEmpty()
+        repository.findVersionedById(expense.id()).get().value().description() == "Updated"
+    }
+
 }
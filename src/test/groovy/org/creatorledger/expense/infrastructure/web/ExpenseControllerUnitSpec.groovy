@@ -1,11 +1,13 @@
 package org.creatorledger.expense.infrastructure.web
 
 import org.creatorledger.common.Money
+import org.creatorledger.common.Versioned
 import org.creatorledger.expense.api.ExpenseCategory
 import org.creatorledger.expense.api.ExpenseId
 import org.creatorledger.expense.application.ExpenseApplicationService
 import org.creatorledger.expense.domain.Expense
 import org.creatorledger.user.api.UserId
+import org.springframework.dao.OptimisticLockingFailureException
 import org.springframework.http.HttpStatus
 import spock.lang.Specification
 
@@ -77,13 +79,78 @@ class ExpenseControllerUnitSpec extends Specification {
         )
 
         when: "updating the expense"
-        def response = controller.update(expenseId.value().toString(), request)
+        def response = controller.update(expenseId.value().toString(), null, request)
 
         then: "the application service is called"
-        1 * expenseApplicationService.update(_)
+        1 * expenseApplicationService.update(_) >> 1L
 
         and: "the response is 204 No Content"
         response.statusCode == HttpStatus.NO_CONTENT
+        response.headers.getETag() == '"1"'
+    }
+
+    def "should update expense at the If-Match version"() {
+        given: "an update request and the ETag from a previous read"
+        def expenseId = ExpenseId.generate()
+        def request = new UpdateExpenseRequest(
+            "200.00",
+            "GBP",
+            ExpenseCategory.SOFTWARE,
+            "Updated description",
+            LocalDate.of(2026, 2, 20)
+        )
+
+        when: "updating the expense with If-Match"
+        def response = controller.update(expenseId.value().toString(), '"4"', request)
+
+        then: "the expected version is passed to the application service"
+        1 * expenseApplicationService.update({ it.expectedVersion() == 4L }) >> 5L
+
+        and: "the response carries the new version"
+        response.statusCode == HttpStatus.NO_CONTENT
+        response.headers.getETag() == '"5"'
+    }
+
+    def "should return 409 when the expense was changed since it was read"() {
+        given: "an update request"
+        def expenseId = ExpenseId.generate()
+        def request = new UpdateExpenseRequest(
+            "200.00",
+            "GBP",
+            ExpenseCategory.SOFTWARE,
+            "Updated description",
+            LocalDate.of(2026, 2, 20)
+        )
+
+        and: "the application service reports a concurrent change"
+        expenseApplicationService.update(_) >> { throw new OptimisticLockingFailureException("stale") }
+
+        when: "updating the expense with a stale If-Match"
+        def response = controller.update(expenseId.value().toString(), '"4"', request)
+
+        then: "the response is 409 Conflict"
+        response.statusCode == HttpStatus.CONFLICT
+    }
+
+    def "should return 400 for a malformed If-Match"() {
+        given: "an update request"
+        def expenseId = ExpenseId.generate()
+        def request = new UpdateExpenseRequest(
+            "200.00",
+            "GBP",
+            ExpenseCategory.SOFTWARE,
+            "Updated description",
+            LocalDate.of(2026, 2, 20)
+        )
+
+        when: "updating the expense with a malformed If-Match"
+        def response = controller.update(expenseId.value().toString(), '"abc"', request)
+
+        then: "the application service is not called"
+        0 * expenseApplicationService.update(_)
+
+        and: "the response is 400 Bad Request"
+        response.statusCode == HttpStatus.BAD_REQUEST
     }
 
     def "should return 400 when update fails"() {
@@ -101,7 +168,7 @@ class ExpenseControllerUnitSpec extends Specification {
         expenseApplicationService.update(_) >> { throw new IllegalStateException("Expense not found") }
 
         when: "updating the expense"
-        def response = controller.update(expenseId.value().toString(), request)
+        def response = controller.update(expenseId.value().toString(), null, request)
 
         then: "the response is 400 Bad Request"
         response.statusCode == HttpStatus.BAD_REQUEST
@@ -120,13 +187,14 @@ class ExpenseControllerUnitSpec extends Specification {
         )
 
         and: "the application service returns the expense"
-        expenseApplicationService.findById(expenseId) >> Optional.of(expense)
+        expenseApplicationService.findVersionedById(expenseId) >> Optional.of(new Versioned<>(expense, 2L))
 
         when: "getting the expense"
         def response = controller.getExpense(expenseId.value().toString())
 
         then: "the response is 200 OK with expense data"
         response.statusCode == HttpStatus.OK
+        response.headers.getETag() == '"2"'
         response.body.id == expenseId.value().toString()
         response.body.amount == "150.00"
         response.body.category == "EQUIPMENT"
@@ -138,7 +206,7 @@ class ExpenseControllerUnitSpec extends Specification {
         def expenseId = ExpenseId.generate()
 
         and: "the application service returns empty"
-        expenseApplicationService.findById(expenseId) >> Optional.empty()
+        expenseApplicationService.findVersionedById(expenseId) >> Optional.empty()
 
         when: "getting the expense"
         def response = controller.getExpense(expenseId.value().toString())
@@ -0,0 +1,100 @@
+package org.creatorledger.expense.infrastructure.web
+
+import org.creatorledger.expense.application.ExpenseImportApplicationService
+import org.creatorledger.expense.application.ExpenseImportError
+import org.creatorledger.expense.application.ExpenseImportIncompleteException
+import org.creatorledger.expense.application.ExpenseImportResult
+import org.creatorledger.user.api.UserId
+import org.springframework.http.HttpStatus
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class ExpenseImportControllerUnitSpec extends Specification {
+
+    ExpenseImportApplicationService importApplicationService
+    ExpenseImportController controller
+
+    def setup() {
+        importApplicationService = Mock(ExpenseImportApplicationService)
+        controller = new ExpenseImportController(importApplicationService)
+    }
+
+    def "should import a CSV body and report the result"() {
+        given: "a CSV upload"
+        def userId = UUID.randomUUID()
+        def body = new ByteArrayInputStream("amount,currency,category,description,incurredDate\n".getBytes(StandardCharsets.UTF_8))
+
+        when: "importing"
+        def response = controller.importExpenses(userId.toString(), "text/csv", body)
+
+        then: "the service receives the user and CSV format"
+        1 * importApplicationService.importExpenses({
+            it.userId() == UserId.of(userId) && it.parser() == ExpenseImportFormat.CSV
+        }, _ as Reader) >> new ExpenseImportResult(2, 1, [new ExpenseImportError(3, "Unknown category: FOOD")])
+
+        and: "the response is 200 OK with the counts and errors"
+        response.statusCode == HttpStatus.OK
+        response.body.imported() == 2
+        response.body.rejected() == 1
+        response.body.errors() == [new ExpenseImportResponse.RowError(3, "Unknown category: FOOD")]
+    }
+
+    def "should choose NDJSON from the content type"() {
+        when:
+        controller.importExpenses(UUID.randomUUID().toString(), "application/x-ndjson;charset=UTF-8", new ByteArrayInputStream(new byte[0]))
+
+        then:
+        1 * importApplicationService.importExpenses({ it.parser() == ExpenseImportFormat.NDJSON }, _) >> new ExpenseImportResult(0, 0, [])
+    }
+
+    def "should return 400 when the file is rejected"() {
+        given:
+        importApplicationService.importExpenses(_, _) >> { throw new IllegalArgumentException("CSV header must be: ...") }
+
+        when:
+        def response = controller.importExpenses(UUID.randomUUID().toString(), "text/csv", new ByteArrayInputStream(new byte[0]))
+
+        then:
+        response.statusCode == HttpStatus.BAD_REQUEST
+    }
+
+    def "should report the committed counts and the resume line when the import stops part-way"() {
+        given:
+        importApplicationService.importExpenses(_, _) >> {
+            throw new ExpenseImportIncompleteException(1000, 2, 1004, new IllegalArgumentException("Bad JSON"))
+        }
+
+        when:
+        def response = controller.importExpenses(UUID.randomUUID().toString(), "application/x-ndjson", new ByteArrayInputStream(new byte[0]))
+
+        then:
+        response.statusCode == HttpStatus.BAD_REQUEST
+        response.body.imported() == 1000
+        response.body.rejected() == 2
+        response.body.resumeFromLine() == 1004L
+    }
+
+    def "should return 500 with the resume line when a later chunk cannot be written"() {
+        given:
+        importApplicationService.importExpenses(_, _) >> {
+            throw new ExpenseImportIncompleteException(1000, 0, 1002, new RuntimeException("Database unavailable"))
+        }
+
+        when:
+        def response = controller.importExpenses(UUID.randomUUID().toString(), "text/csv", new ByteArrayInputStream(new byte[0]))
+
+        then:
+        response.statusCode == HttpStatus.INTERNAL_SERVER_ERROR
+        response.body.resumeFromLine() == 1002L
+    }
+
+    def "should return 400 for an invalid user ID"() {
+        when:
+        def response = controller.importExpenses("not-a-uuid", "text/csv", new ByteArrayInputStream(new byte[0]))
+
+        then:
+        response.statusCode == HttpStatus.BAD_REQUEST
+        0 * importApplicationService._
+    }
+}
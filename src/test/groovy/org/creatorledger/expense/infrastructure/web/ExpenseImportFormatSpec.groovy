@@ -0,0 +1,58 @@
+package org.creatorledger.expense.infrastructure.web
+
+import org.creatorledger.expense.application.ExpenseImportRow
+import spock.lang.Specification
+
+class ExpenseImportFormatSpec extends Specification {
+
+    def "should parse a CSV line with quoted fields"() {
+        when:
+        def row = ExpenseImportFormat.CSV.parse('25.00,GBP,OTHER,"Cables, ""braided""",2026-02-01')
+
+        then:
+        row == new ExpenseImportRow("25.00", "GBP", "OTHER", 'Cables, "braided"', "2026-02-01")
+    }
+
+    def "should reject a CSV line with the wrong number of columns"() {
+        when:
+        ExpenseImportFormat.CSV.parse("25.00,GBP,OTHER")
+
+        then:
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Expected 5 columns but found 3"
+    }
+
+    def "should reject a CSV line with an unterminated quote"() {
+        when:
+        ExpenseImportFormat.CSV.parse('25.00,GBP,OTHER,"Cables,2026-02-01')
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "should accept the CSV header in any case"() {
+        when:
+        ExpenseImportFormat.CSV.checkHeader("Amount,Currency,Category,Description,IncurredDate")
+
+        then:
+        noExceptionThrown()
+    }
+
+    def "should parse an NDJSON line with a numeric amount"() {
+        when:
+        def row = ExpenseImportFormat.NDJSON.parse(
+                '{"amount":25.5,"currency":"GBP","category":"OTHER","description":"Cables","incurredDate":"2026-02-01"}')
+
+        then:
+        row == new ExpenseImportRow("25.5", "GBP", "OTHER", "Cables", "2026-02-01")
+    }
+
+    def "should reject a malformed NDJSON line"() {
+        when:
+        ExpenseImportFormat.NDJSON.parse('{"amount":')
+
+        then:
+        def exception = thrown(IllegalArgumentException)
+        exception.message.startsWith("Malformed JSON")
+    }
+}
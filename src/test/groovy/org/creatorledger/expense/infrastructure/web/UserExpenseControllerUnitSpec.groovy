@@ -0,0 +1,81 @@
+package org.creatorledger.expense.infrastructure.web
+
+import org.creatorledger.common.KeysetCursor
+import org.creatorledger.common.Money
+import org.creatorledger.expense.api.ExpenseCategory
+import org.creatorledger.expense.api.ExpenseData
+import org.creatorledger.expense.api.ExpenseId
+import org.creatorledger.expense.application.ExpenseApplicationService
+import org.creatorledger.expense.application.ExpenseSearchResult
+import org.creatorledger.user.api.UserId
+import org.springframework.http.HttpStatus
+import spock.lang.Specification
+
+import java.time.LocalDate
+
+class UserExpenseControllerUnitSpec extends Specification {
+
+    ExpenseApplicationService expenseApplicationService
+    UserExpenseController controller
+
+    def setup() {
+        expenseApplicationService = Mock(ExpenseApplicationService)
+        controller = new UserExpenseController(expenseApplicationService)
+    }
+
+    def "should search with every filter and return items, cursor and category counts"() {
+        given: "a matching expense"
+        def userId = UUID.randomUUID()
+        def expense = new ExpenseData(ExpenseId.generate(), UserId.of(userId), Money.gbp("45.00"),
+                ExpenseCategory.TRAVEL, "Train to London", LocalDate.of(2026, 1, 15))
+        def next = new KeysetCursor(expense.incurredDate(), expense.id().value())
+
+        when: "searching"
+        def response = controller.search(userId.toString(), "2026-01-01", "2026-03-31", ["TRAVEL", "OTHER"],
+                "10.00", "100.00", "train", null, 1)
+
+        then: "the query carries every filter"
+        1 * expenseApplicationService.search({
+            it.userId() == UserId.of(userId) &&
+                    it.from() == LocalDate.of(2026, 1, 1) &&
+                    it.to() == LocalDate.of(2026, 3, 31) &&
+                    it.categories() == [ExpenseCategory.TRAVEL, ExpenseCategory.OTHER] as Set &&
+                    it.minAmount() == new BigDecimal("10.00") &&
+                    it.maxAmount() == new BigDecimal("100.00") &&
+                    it.text() == "train" &&
+                    it.limit() == 1
+        }) >> new ExpenseSearchResult([expense], next, [(ExpenseCategory.TRAVEL): 3L, (ExpenseCategory.OTHER): 0L])
+
+        and: "the response holds the page and the counts"
+        response.statusCode == HttpStatus.OK
+        response.body.items()*.description() == ["Train to London"]
+        response.body.next() == next.encode()
+        response.body.categoryCounts() == [TRAVEL: 3L, OTHER: 0L]
+    }
+
+    def "should use the default limit when none is given"() {
+        when:
+        def response = controller.search(UUID.randomUUID().toString(), null, null, null, null, null, null, null, null)
+
+        then:
+        1 * expenseApplicationService.search({ it.limit() == UserExpenseController.DEFAULT_LIMIT && it.categories().isEmpty() }) >>
+                new ExpenseSearchResult([], null, [:])
+        response.statusCode == HttpStatus.OK
+        response.body.next() == null
+    }
+
+    def "should return 400 for invalid parameters"() {
+        when:
+        def response = controller.search(UUID.randomUUID().toString(), from, null, categories, minAmount, null, null, null, null)
+
+        then:
+        response.statusCode == HttpStatus.BAD_REQUEST
+        0 * expenseApplicationService._
+
+        where:
+        from         | categories | minAmount
+        "2026-13-01" | null       | null
+        null         | ["FOOD"]   | null
+        null         | null       | "ten"
+    }
+}
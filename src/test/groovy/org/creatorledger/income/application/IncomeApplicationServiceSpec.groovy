@@ -1,13 +1,20 @@
 package org.creatorledger.income.application
 
+import org.creatorledger.common.KeysetCursor
 import org.creatorledger.event.api.EventId
+import org.creatorledger.income.api.IncomeData
 import org.creatorledger.income.api.IncomeId
 import org.creatorledger.income.domain.Income
 import org.creatorledger.income.domain.IncomeRecorded
+import org.creatorledger.income.domain.IncomeStatusChanged
+import org.creatorledger.income.domain.IncomeUpdated
+import org.creatorledger.income.domain.PaymentStatusTransition
 import org.creatorledger.income.api.PaymentStatus
 import org.creatorledger.common.Money
+import org.creatorledger.common.Versioned
 import org.creatorledger.user.api.UserId
 import org.springframework.context.ApplicationEventPublisher
+import org.springframework.dao.OptimisticLockingFailureException
 import spock.lang.Specification
 import java.time.LocalDate
 
@@ -38,12 +45,11 @@ class IncomeApplicationServiceSpec extends Specification {
         def incomeId = service.record(command)
 
         then: "the income is saved via repository"
-        1 * incomeRepository.save(_) >> { Income income ->
+        1 * incomeRepository.add(_) >> { Income income ->
             assert income != null
             assert income.amount() == Money.gbp("500.00")
             assert income.description() == "Website design project"
             assert income.status() == PaymentStatus.PENDING
-            return income
         }
 
         and: "the income ID is returned"
@@ -67,7 +73,7 @@ class IncomeApplicationServiceSpec extends Specification {
         service.record(command)
 
         then: "the income is saved"
-        1 * incomeRepository.save(_) >> { Income income -> income }
+        1 * incomeRepository.add(_)
 
         and: "IncomeRecorded event is published"
         1 * eventPublisher.publishEvent(_) >> { arguments ->
@@ -91,20 +97,115 @@ class IncomeApplicationServiceSpec extends Specification {
         exception.message == "Command cannot be null"
     }
 
+    def "should record a batch of income in one insert and return IDs in order"() {
+        given: "two record income commands"
+        def userId = UserId.generate()
+        def eventId = EventId.generate()
+        def commands = [
+            new RecordIncomeCommand(userId, eventId, "500.00", "GBP", "Invoice 1", LocalDate.of(2026, 1, 15)),
+            new RecordIncomeCommand(userId, eventId, "250.00", "GBP", "Invoice 2", LocalDate.of(2026, 1, 20))
+        ]
+        List<Income> inserted = null
+
+        when: "recording the batch"
+        def incomeIds = service.recordAll(commands)
+
+        then: "all lines are inserted in a single call"
+        1 * incomeRepository.addAll(_) >> { args -> inserted = args[0] }
+        0 * incomeRepository.add(_)
+
+        and: "one IncomeRecorded event is published per line"
+        2 * eventPublisher.publishEvent(_ as IncomeRecorded)
+
+        and: "the IDs match the inserted lines in order"
+        incomeIds == inserted*.id()
+        inserted*.description() == ["Invoice 1", "Invoice 2"]
+    }
+
+    def "should reject the whole batch when one line is invalid"() {
+        given: "a batch with an invalid amount on the second line"
+        def userId = UserId.generate()
+        def eventId = EventId.generate()
+        def commands = [
+            new RecordIncomeCommand(userId, eventId, "500.00", "GBP", "Invoice 1", LocalDate.of(2026, 1, 15)),
+            new RecordIncomeCommand(userId, eventId, "abc", "GBP", "Invoice 2", LocalDate.of(2026, 1, 20))
+        ]
+
+        when: "recording the batch"
+        service.recordAll(commands)
+
+        then: "nothing is inserted or published"
+        def exception = thrown(IllegalArgumentException)
+        exception.message.startsWith("Line 2:")
+        0 * incomeRepository.addAll(_)
+        0 * eventPublisher.publishEvent(_)
+    }
+
+    def "should reject an empty or oversized batch"() {
+        given:
+        def command = new RecordIncomeCommand(UserId.generate(), EventId.generate(), "1.00", "GBP", "Invoice", LocalDate.of(2026, 1, 15))
+
+        when:
+        service.recordAll(commands.call(command))
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        commands << [
+            { c -> [] },
+            { c -> [c] * (IncomeApplicationService.MAX_BATCH_SIZE + 1) }
+        ]
+    }
+
+    def "should return a page with a cursor when more income follows"() {
+        given: "a query for two lines and a repository with three"
+        def userId = UserId.generate()
+        def query = new ListIncomeQuery(userId, null, null, null, null, 2)
+        def rows = (1..3).collect {
+            new IncomeData(IncomeId.generate(), userId, EventId.generate(), Money.gbp("100.00"),
+                    "Invoice ${it}", LocalDate.of(2026, 1, it), PaymentStatus.PENDING)
+        }
+
+        when: "listing the page"
+        def page = service.listByUser(query)
+
+        then: "one extra row is read to detect the next page"
+        1 * incomeRepository.findPage(query, 3) >> rows
+
+        and: "the page holds the limit and points after its last line"
+        page.items() == rows.take(2)
+        page.next() == new KeysetCursor(rows[1].receivedDate(), rows[1].id().value())
+    }
+
+    def "should return the last page without a cursor"() {
+        given:
+        def query = new ListIncomeQuery(UserId.generate(), null, null, null, null, 2)
+        incomeRepository.findPage(query, 3) >> []
+
+        when:
+        def page = service.listByUser(query)
+
+        then:
+        page.items().isEmpty()
+        !page.hasNext()
+    }
+
     def "should update existing income"() {
-        given: "an existing income"
+        given: "an existing income at version 3"
         def incomeId = IncomeId.generate()
+        def userId = UserId.generate()
         def existingIncome = Income.record(
             incomeId,
-            UserId.generate(),
+            userId,
             EventId.generate(),
             Money.gbp("500.00"),
             "Original description",
             LocalDate.of(2026, 1, 15)
         )
 
-        and: "repository returns the existing income"
-        incomeRepository.findById(incomeId) >> Optional.of(existingIncome)
+        and: "repository returns the existing income with its version"
+        incomeRepository.findVersionedById(incomeId) >> Optional.of(new Versioned<>(existingIncome, 3L))
 
         and: "an update command"
         def command = new UpdateIncomeCommand(
@@ -115,19 +216,105 @@ class IncomeApplicationServiceSpec extends Specification {
             LocalDate.of(2026, 2, 20)
         )
 
+        when: "updating the income"
+        def version = service.update(command)
+
+        then: "the income is updated if still at version 3"
+        1 * incomeRepository.updateIfVersion(
+            incomeId, 3L, Money.gbp("750.00"), "Updated description", LocalDate.of(2026, 2, 20)
+        ) >> Optional.of(new IncomeChange(userId, Money.gbp("500.00"), LocalDate.of(2026, 1, 15), 4L))
+        0 * incomeRepository.save(_)
+
+        and: "the new version is returned"
+        version == 4L
+    }
+
+    def "should update income at the expected version without reading it first"() {
+        given: "an update command carrying the version the client read"
+        def incomeId = IncomeId.generate()
+        def userId = UserId.generate()
+        def command = new UpdateIncomeCommand(
+            incomeId,
+            "750.00",
+            "GBP",
+            "  Updated description  ",
+            LocalDate.of(2026, 2, 20),
+            7L
+        )
+
+        when: "updating the income"
+        def version = service.update(command)
+
+        then: "the income is not read"
+        0 * incomeRepository.findVersionedById(_)
+        0 * incomeRepository.findById(_)
+
+        and: "the update is conditional on the expected version"
+        1 * incomeRepository.updateIfVersion(
+            incomeId, 7L, Money.gbp("750.00"), "Updated description", LocalDate.of(2026, 2, 20)
+        ) >> Optional.of(new IncomeChange(userId, Money.gbp("500.00"), LocalDate.of(2026, 1, 15), 8L))
+
+        and: "the new version is returned"
+        version == 8L
+    }
+
+    def "should publish IncomeUpdated event with previous values when updating"() {
+        given: "an update that changes amount and received date"
+        def incomeId = IncomeId.generate()
+        def userId = UserId.generate()
+        incomeRepository.updateIfVersion(incomeId, 0L, _, _, _) >>
+            Optional.of(new IncomeChange(userId, Money.gbp("500.00"), LocalDate.of(2026, 1, 15), 1L))
+
+        and: "an update command"
+        def command = new UpdateIncomeCommand(
+            incomeId,
+            "750.00",
+            "GBP",
+            "Updated description",
+            LocalDate.of(2026, 4, 20),
+            0L
+        )
+
         when: "updating the income"
         service.update(command)
 
-        then: "the income is saved with updated details"
-        1 * incomeRepository.save(_) >> { Income income ->
-            assert income.id() == incomeId
-            assert income.amount() == Money.gbp("750.00")
-            assert income.description() == "Updated description"
-            assert income.receivedDate() == LocalDate.of(2026, 2, 20)
-            return income
+        then: "IncomeUpdated event is published"
+        1 * eventPublisher.publishEvent(_ as IncomeUpdated) >> { IncomeUpdated event ->
+            assert event.incomeId() == incomeId
+            assert event.userId() == userId
+            assert event.previousAmount() == Money.gbp("500.00")
+            assert event.previousReceivedDate() == LocalDate.of(2026, 1, 15)
+            assert event.amount() == Money.gbp("750.00")
+            assert event.receivedDate() == LocalDate.of(2026, 4, 20)
         }
     }
 
+    def "should reject a stale update without publishing an event"() {
+        given: "an income that moved past the expected version"
+        def incomeId = IncomeId.generate()
+        incomeRepository.updateIfVersion(incomeId, 2L, _, _, _) >> Optional.empty()
+        incomeRepository.existsById(incomeId) >> true
+
+        and: "an update command"
+        def command = new UpdateIncomeCommand(
+            incomeId,
+            "750.00",
+            "GBP",
+            "Updated description",
+            LocalDate.of(2026, 2, 20),
+            2L
+        )
+
+        when: "updating the income"
+        service.update(command)
+
+        then: "it throws OptimisticLockingFailureException"
+        thrown(OptimisticLockingFailureException)
+
+        and: "no event is published"
+        0 * eventPublisher.publishEvent(_)
+    }
+
     def "should reject null command when updating"() {
         when: "updating with null command"
         service.update(null)
@@ -142,7 +329,7 @@ class IncomeApplicationServiceSpec extends Specification {
         def incomeId = IncomeId.generate()
 
         and: "repository returns empty"
-        incomeRepository.findById(incomeId) >> Optional.empty()
+        incomeRepository.findVersionedById(incomeId) >> Optional.empty()
 
         and: "an update command"
         def command = new UpdateIncomeCommand(
@@ -161,6 +348,30 @@ class IncomeApplicationServiceSpec extends Specification {
         exception.message == "Income not found: " + incomeId
     }
 
+    def "should throw exception when updating non-existent income at an expected version"() {
+        given: "a non-existent income ID"
+        def incomeId = IncomeId.generate()
+        incomeRepository.updateIfVersion(incomeId, 0L, _, _, _) >> Optional.empty()
+        incomeRepository.existsById(incomeId) >> false
+
+        and: "an update command"
+        def command = new UpdateIncomeCommand(
+            incomeId,
+            "750.00",
+            "GBP",
+            "Updated description",
+            LocalDate.of(2026, 2, 20),
+            0L
+        )
+
+        when: "updating the income"
+        service.update(command)
+
+        then: "it throws IllegalStateException"
+        def exception = thrown(IllegalStateException)
+        exception.message == "Income not found: " + incomeId
+    }
+
     def "should mark income as paid"() {
         given: "an existing income with PENDING status"
         def incomeId = IncomeId.generate()
@@ -179,12 +390,9 @@ class IncomeApplicationServiceSpec extends Specification {
         when: "marking as paid"
         service.markAsPaid(incomeId)
 
-        then: "the income is saved with PAID status"
-        1 * incomeRepository.save(_) >> { Income income ->
-            assert income.id() == incomeId
-            assert income.status() == PaymentStatus.PAID
-            return income
-        }
+        then: "its status moves from PENDING to PAID with a conditional update"
+        1 * incomeRepository.updateStatus([incomeId], [PaymentStatus.PENDING] as Set, PaymentStatus.PAID) >> [incomeId]
+        0 * incomeRepository.save(_)
     }
 
     def "should throw exception when marking non-existent income as paid"() {
@@ -220,12 +428,9 @@ class IncomeApplicationServiceSpec extends Specification {
         when: "marking as overdue"
         service.markAsOverdue(incomeId)
 
-        then: "the income is saved with OVERDUE status"
-        1 * incomeRepository.save(_) >> { Income income ->
-            assert income.id() == incomeId
-            assert income.status() == PaymentStatus.OVERDUE
-            return income
-        }
+        then: "its status moves from PENDING to OVERDUE with a conditional update"
+        1 * incomeRepository.updateStatus([incomeId], [PaymentStatus.PENDING] as Set, PaymentStatus.OVERDUE) >> [incomeId]
+        0 * incomeRepository.save(_)
     }
 
     def "should cancel income"() {
@@ -246,12 +451,32 @@ class IncomeApplicationServiceSpec extends Specification {
         when: "cancelling the income"
         service.cancel(incomeId)
 
-        then: "the income is saved with CANCELLED status"
-        1 * incomeRepository.save(_) >> { Income income ->
-            assert income.id() == incomeId
-            assert income.status() == PaymentStatus.CANCELLED
-            return income
-        }
+        then: "its status moves from PENDING to CANCELLED with a conditional update"
+        1 * incomeRepository.updateStatus([incomeId], [PaymentStatus.PENDING] as Set, PaymentStatus.CANCELLED) >> [incomeId]
+        0 * incomeRepository.save(_)
+    }
+
+    def "should reject a status change when the status changed since it was read"() {
+        given: "a PENDING income"
+        def incomeId = IncomeId.generate()
+        def existingIncome = Income.record(
+            incomeId,
+            UserId.generate(),
+            EventId.generate(),
+            Money.gbp("500.00"),
+            "Payment changed concurrently",
+            LocalDate.now()
+        )
+        incomeRepository.findById(incomeId) >> Optional.of(existingIncome)
+
+        and: "another request changes its status first"
+        incomeRepository.updateStatus([incomeId], [PaymentStatus.PENDING] as Set, PaymentStatus.PAID) >> []
+
+        when: "marking as paid"
+        service.markAsPaid(incomeId)
+
+        then: "it throws OptimisticLockingFailureException"
+        thrown(OptimisticLockingFailureException)
     }
 
     def "should find income by ID when exists"() {
@@ -336,4 +561,54 @@ class IncomeApplicationServiceSpec extends Specification {
         def exception = thrown(IllegalArgumentException)
         exception.message == "Income ID cannot be null"
     }
+    def "should transition the status of many incomes in one update"() {
+        given: "three incomes, one of which is not in a source status"
+        def pending = IncomeId.generate()
+        def overdue = IncomeId.generate()
+        def alreadyPaid = IncomeId.generate()
+
+        when: "marking all three as paid, with one repeated"
+        def result = service.transitionStatus(new TransitionIncomeStatusCommand(
+            [pending, overdue, alreadyPaid, pending],
+            PaymentStatusTransition.MARK_AS_PAID
+        ))
+
+        then: "one conditional update runs for the distinct IDs"
+        1 * incomeRepository.updateStatus([pending, overdue, alreadyPaid],
+            [PaymentStatus.PENDING, PaymentStatus.OVERDUE] as Set, PaymentStatus.PAID) >> [overdue, pending]
+        0 * incomeRepository.findById(_)
+        0 * incomeRepository.save(_)
+
+        and: "one event lists the changed incomes in request order"
+        1 * eventPublisher.publishEvent({ IncomeStatusChanged event ->
+            event.incomeIds() == [pending, overdue] && event.status() == PaymentStatus.PAID
+        })
+
+        and: "the result splits changed from unchanged"
+        result.changed() == [pending, overdue]
+        result.unchanged() == [alreadyPaid]
+    }
+
+    def "should not publish an event when no status changed"() {
+        given: "an income that is already cancelled"
+        def incomeId = IncomeId.generate()
+        incomeRepository.updateStatus(*_) >> []
+
+        when: "cancelling it again"
+        def result = service.transitionStatus(new TransitionIncomeStatusCommand([incomeId], PaymentStatusTransition.CANCEL))
+
+        then: "nothing is published and the income is reported unchanged"
+        0 * eventPublisher.publishEvent(_)
+        result.changed().isEmpty()
+        result.unchanged() == [incomeId]
+    }
+
+    def "should reject a null status transition command"() {
+        when:
+        service.transitionStatus(null)
+
+        then:
+        def ex = thrown(IllegalArgumentException)
+        ex.message == "Command cannot be null"
+    }
 }
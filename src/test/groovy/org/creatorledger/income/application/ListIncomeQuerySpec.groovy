@@ -0,0 +1,32 @@
+package org.creatorledger.income.application
+
+import org.creatorledger.user.api.UserId
+import spock.lang.Specification
+
+import java.time.LocalDate
+
+class ListIncomeQuerySpec extends Specification {
+
+    def "should accept a query with only a user and limit"() {
+        when:
+        def query = new ListIncomeQuery(UserId.generate(), null, null, null, null, 50)
+
+        then:
+        query.limit() == 50
+    }
+
+    def "should reject invalid queries"() {
+        when:
+        new ListIncomeQuery(userId, from, to, null, null, limit)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        userId            | from                      | to                        | limit
+        null              | null                      | null                      | 50
+        UserId.generate() | LocalDate.of(2026, 2, 1)  | LocalDate.of(2026, 1, 1)  | 50
+        UserId.generate() | null                      | null                      | 0
+        UserId.generate() | null                      | null                      | ListIncomeQuery.MAX_LIMIT + 1
+    }
+}
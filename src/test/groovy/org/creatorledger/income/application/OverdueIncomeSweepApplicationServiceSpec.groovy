@@ -0,0 +1,106 @@
+package org.creatorledger.income.application
+
+import org.creatorledger.income.api.IncomeId
+import org.creatorledger.income.api.PaymentStatus
+import org.creatorledger.income.domain.IncomeStatusChanged
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.transaction.support.TransactionOperations
+import spock.lang.Specification
+
+import java.time.LocalDate
+
+class OverdueIncomeSweepApplicationServiceSpec extends Specification {
+
+    IncomeRepository incomeRepository
+    ApplicationEventPublisher eventPublisher
+    TransactionOperations transactionOperations
+    OverdueIncomeSweepApplicationService service
+
+    def setup() {
+        incomeRepository = Mock(IncomeRepository)
+        eventPublisher = Mock(ApplicationEventPublisher)
+        transactionOperations = Spy(TransactionOperations.withoutTransaction())
+        service = new OverdueIncomeSweepApplicationService(incomeRepository, eventPublisher, transactionOperations)
+    }
+
+    def "should sweep in chunks until a chunk comes back short"() {
+        given: "five due incomes swept two at a time"
+        def cutoff = LocalDate.of(2026, 1, 1)
+        def ids = (1..5).collect { IncomeId.generate() }
+
+        when: "sweeping"
+        def marked = service.sweep(new SweepOverdueIncomeCommand(cutoff, 2))
+
+        then: "three chunks run, each in its own transaction"
+        3 * transactionOperations.execute(_)
+        3 * incomeRepository.markPendingOverdue(cutoff, 2) >>> [ids[0..1], ids[2..3], ids[4..4]]
+
+        and: "one event is published per chunk"
+        3 * eventPublisher.publishEvent({ IncomeStatusChanged event -> event.status() == PaymentStatus.OVERDUE })
+
+        and: "every income is counted"
+        marked == 5
+    }
+
+    def "should not publish an event when nothing is due"() {
+        given:
+        incomeRepository.markPendingOverdue(*_) >> []
+
+        when:
+        def marked = service.sweep(new SweepOverdueIncomeCommand(LocalDate.of(2026, 1, 1), 500))
+
+        then:
+        marked == 0
+        0 * eventPublisher.publishEvent(_)
+    }
+
+    def "should run one more chunk when the last full chunk emptied the backlog"() {
+        given:
+        def ids = [IncomeId.generate(), IncomeId.generate()]
+
+        when:
+        def marked = service.sweep(new SweepOverdueIncomeCommand(LocalDate.of(2026, 1, 1), 2))
+
+        then:
+        2 * incomeRepository.markPendingOverdue(*_) >>> [ids, []]
+        1 * eventPublisher.publishEvent(_)
+        marked == 2
+    }
+
+    def "should reject a null command"() {
+        when:
+        service.sweep(null)
+
+        then:
+        def ex = thrown(IllegalArgumentException)
+        ex.message == "Command cannot be null"
+    }
+
+    def "should reject #reason in the command"() {
+        when:
+        new SweepOverdueIncomeCommand(receivedBefore, chunkSize)
+
+        then:
+        def ex = thrown(IllegalArgumentException)
+        ex.message == message
+
+        where:
+        reason          | receivedBefore            | chunkSize || message
+        "a null date"   | null                      | 10        || "Received before date cannot be null"
+        "an empty chunk" | LocalDate.of(2026, 1, 1) | 0         || "Chunk size must be at least 1"
+    }
+
+    def "should reject null dependencies"() {
+        when:
+        new OverdueIncomeSweepApplicationService(repository, publisher, transactions)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        repository             | publisher                       | transactions
+        null                   | Mock(ApplicationEventPublisher) | TransactionOperations.withoutTransaction()
+        Mock(IncomeRepository) | null                            | TransactionOperations.withoutTransaction()
+        Mock(IncomeRepository) | Mock(ApplicationEventPublisher) | null
+    }
+}
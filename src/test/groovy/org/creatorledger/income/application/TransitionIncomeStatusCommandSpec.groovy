@@ -0,0 +1,25 @@
+package org.creatorledger.income.application
+
+import org.creatorledger.income.api.IncomeId
+import org.creatorledger.income.domain.PaymentStatusTransition
+import spock.lang.Specification
+
+class TransitionIncomeStatusCommandSpec extends Specification {
+
+    def "should reject #reason"() {
+        when:
+        new TransitionIncomeStatusCommand(incomeIds, transition)
+
+        then:
+        def ex = thrown(IllegalArgumentException)
+        ex.message == message
+
+        where:
+        reason              | incomeIds                          | transition                           || message
+        "null IDs"          | null                               | PaymentStatusTransition.CANCEL       || "Income IDs cannot be null or empty"
+        "no IDs"            | []                                 | PaymentStatusTransition.CANCEL       || "Income IDs cannot be null or empty"
+        "a null ID"         | [IncomeId.generate(), null]        | PaymentStatusTransition.CANCEL       || "Income IDs cannot contain null"
+        "too many IDs"      | (0..500).collect { IncomeId.generate() } | PaymentStatusTransition.CANCEL || "Cannot transition more than 500 incomes at once"
+        "a null transition" | [IncomeId.generate()]              | null                                 || "Transition cannot be null"
+    }
+}
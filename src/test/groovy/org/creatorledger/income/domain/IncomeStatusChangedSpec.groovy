@@ -0,0 +1,33 @@
+package org.creatorledger.income.domain
+
+import org.creatorledger.income.api.IncomeId
+import org.creatorledger.income.api.PaymentStatus
+import spock.lang.Specification
+
+class IncomeStatusChangedSpec extends Specification {
+
+    def "should create IncomeStatusChanged event for the changed incomes"() {
+        given: "two changed incomes"
+        def incomeIds = [IncomeId.generate(), IncomeId.generate()]
+
+        when: "creating the event"
+        def event = IncomeStatusChanged.of(incomeIds, PaymentStatus.PAID)
+
+        then: "it holds the incomes, the new status and a timestamp"
+        event.incomeIds() == incomeIds
+        event.status() == PaymentStatus.PAID
+        event.occurredAt() != null
+    }
+
+    def "should copy the income IDs"() {
+        given:
+        def incomeIds = [IncomeId.generate()]
+        def event = IncomeStatusChanged.of(incomeIds, PaymentStatus.CANCELLED)
+
+        when:
+        incomeIds << IncomeId.generate()
+
+        then:
+        event.incomeIds().size() == 1
+    }
+}
@@ -0,0 +1,83 @@
+package org.creatorledger.income.domain
+
+import org.creatorledger.income.api.IncomeId
+import org.creatorledger.common.Money
+import org.creatorledger.user.api.UserId
+import spock.lang.Specification
+import java.time.Instant
+import java.time.LocalDate
+
+class IncomeUpdatedSpec extends Specification {
+
+    def "should create IncomeUpdated event with previous and new values"() {
+        given: "income details before and after the update"
+        def incomeId = IncomeId.generate()
+        def userId = UserId.generate()
+        def occurredAt = Instant.now()
+
+        when: "creating an IncomeUpdated event"
+        def event = new IncomeUpdated(
+            incomeId,
+            userId,
+            Money.gbp("500.00"),
+            LocalDate.of(2026, 1, 15),
+            Money.gbp("750.00"),
+            "Updated description",
+            LocalDate.of(2026, 4, 20),
+            occurredAt
+        )
+
+        then: "it should contain all the data"
+        event.incomeId() == incomeId
+        event.userId() == userId
+        event.previousAmount() == Money.gbp("500.00")
+        event.previousReceivedDate() == LocalDate.of(2026, 1, 15)
+        event.amount() == Money.gbp("750.00")
+        event.description() == "Updated description"
+        event.receivedDate() == LocalDate.of(2026, 4, 20)
+        event.occurredAt() == occurredAt
+    }
+
+    def "should create IncomeUpdated event with current timestamp"() {
+        given: "the time before creation"
+        def before = Instant.now()
+
+        when: "creating an IncomeUpdated event without timestamp"
+        def event = IncomeUpdated.of(
+            IncomeId.generate(),
+            UserId.generate(),
+            Money.gbp("500.00"),
+            LocalDate.of(2026, 1, 15),
+            Money.gbp("750.00"),
+            "Updated description",
+            LocalDate.of(2026, 4, 20)
+        )
+        def after = Instant.now()
+
+        then: "it should have a timestamp between before and after"
+        !event.occurredAt().isBefore(before)
+        !event.occurredAt().isAfter(after)
+    }
+
+    def "should have meaningful toString"() {
+        given: "an IncomeUpdated event"
+        def incomeId = IncomeId.generate()
+        def event = IncomeUpdated.of(
+            incomeId,
+            UserId.generate(),
+            Money.gbp("500.00"),
+            LocalDate.of(2026, 1, 15),
+            Money.gbp("750.00"),
+            "Updated description",
+            LocalDate.of(2026, 4, 20)
+        )
+
+        when: "converting to string"
+        def result = event.toString()
+
+        then: "it should contain key information"
+        result.contains(incomeId.toString())
+        result.contains("500.00")
+        result.contains("750.00")
+    }
+}
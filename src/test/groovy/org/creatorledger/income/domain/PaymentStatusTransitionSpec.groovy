@@ -0,0 +1,26 @@
+package org.creatorledger.income.domain
+
+import org.creatorledger.income.api.PaymentStatus
+import spock.lang.Specification
+
+class PaymentStatusTransitionSpec extends Specification {
+
+    def "#transition should move #sourceStatuses to #targetStatus"() {
+        expect:
+        transition.targetStatus() == targetStatus
+        transition.sourceStatuses() == sourceStatuses as Set
+
+        where:
+        transition                               | targetStatus            | sourceStatuses
+        PaymentStatusTransition.MARK_AS_PAID     | PaymentStatus.PAID      | [PaymentStatus.PENDING, PaymentStatus.OVERDUE]
+        PaymentStatusTransition.MARK_AS_OVERDUE  | PaymentStatus.OVERDUE   | [PaymentStatus.PENDING]
+        PaymentStatusTransition.CANCEL           | PaymentStatus.CANCELLED | [PaymentStatus.PENDING, PaymentStatus.OVERDUE]
+    }
+
+    def "should not apply to settled incomes"() {
+        expect:
+        PaymentStatusTransition.values().every { transition ->
+            !transition.appliesTo(PaymentStatus.PAID) && !transition.appliesTo(PaymentStatus.CANCELLED)
+        }
+    }
+}
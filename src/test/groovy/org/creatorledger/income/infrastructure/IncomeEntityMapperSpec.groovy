@@ -120,4 +120,50 @@ class IncomeEntityMapperSpec extends Specification {
         entity.status == "PAID"
         reconstituted.status() == PaymentStatus.PAID
     }
+
+    def "should map projection row straight to income data"() {
+        given: "a projection row"
+        def row = new IncomeDataRow(
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            new BigDecimal("300.00"),
+            "GBP",
+            "Overdue income",
+            LocalDate.of(2026, 1, 15),
+            "OVERDUE"
+        )
+
+        when: "converting to income data"
+        def data = IncomeEntityMapper.toData(row)
+
+        then: "all fields are mapped"
+        data.id() == IncomeId.of(row.id())
+        data.userId() == UserId.of(row.userId())
+        data.eventId() == EventId.of(row.eventId())
+        data.amount() == Money.gbp("300.00")
+        data.description() == "Overdue income"
+        data.receivedDate() == LocalDate.of(2026, 1, 15)
+        data.status() == PaymentStatus.OVERDUE
+    }
+
+    def "should mark mapped entities as new until they are loaded or persisted"() {
+        given: "an entity mapped from a domain income"
+        def entity = IncomeEntityMapper.toEntity(Income.record(
+            UserId.generate(),
+            EventId.generate(),
+            Money.gbp("500.00"),
+            "Website design project",
+            LocalDate.of(2026, 1, 15)
+        ))
+
+        expect: "the entity is new"
+        entity.isNew()
+
+        when: "the entity is marked as stored"
+        entity.markNotNew()
+
+        then: "the entity is no longer new"
+        !entity.isNew()
+    }
 }
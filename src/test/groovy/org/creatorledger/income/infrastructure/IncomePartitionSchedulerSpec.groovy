@@ -0,0 +1,75 @@
+package org.creatorledger.income.infrastructure
+
+import org.springframework.dao.DataAccessResourceFailureException
+import org.springframework.jdbc.core.JdbcOperations
+import spock.lang.Specification
+
+import java.time.LocalDate
+import java.time.ZoneId
+
+class IncomePartitionSchedulerSpec extends Specification {
+
+    JdbcOperations jdbcOperations = Mock(JdbcOperations)
+
+    def "should create partitions for the current and upcoming tax years"() {
+        given: "a scheduler creating two years ahead"
+        def scheduler = new IncomePartitionScheduler(jdbcOperations, "Europe/London", 2)
+
+        when: "the schedule fires"
+        scheduler.createUpcomingPartitions()
+
+        then: "the current tax year is read for today"
+        1 * jdbcOperations.queryForObject(IncomePartitionScheduler.CURRENT_TAX_YEAR_SQL, Integer,
+                LocalDate.now(ZoneId.of("Europe/London"))) >> 2026
+
+        and: "the income table gets the current year and the two after it"
+        (2026..2028).each { startYear ->
+            1 * jdbcOperations.queryForObject(IncomePartitionScheduler.CREATE_PARTITION_SQL, Boolean, "income", startYear) >> true
+        }
+        0 * jdbcOperations._
+    }
+
+    def "should tolerate partitions that already exist"() {
+        given: "a scheduler creating only the current year"
+        def scheduler = new IncomePartitionScheduler(jdbcOperations, "Europe/London", 0)
+        jdbcOperations.queryForObject(IncomePartitionScheduler.CURRENT_TAX_YEAR_SQL, Integer, _) >> 2026
+
+        when: "the schedule fires and the partition exists"
+        scheduler.createUpcomingPartitions()
+
+        then: "it is checked once without error"
+        1 * jdbcOperations.queryForObject(IncomePartitionScheduler.CREATE_PARTITION_SQL, Boolean, "income", 2026) >> false
+        noExceptionThrown()
+    }
+
+    def "should keep creating the remaining partitions when one fails"() {
+        given: "a scheduler creating one year ahead"
+        def scheduler = new IncomePartitionScheduler(jdbcOperations, "Europe/London", 1)
+        jdbcOperations.queryForObject(IncomePartitionScheduler.CURRENT_TAX_YEAR_SQL, Integer, _) >> 2026
+
+        when: "the schedule fires and the current year's partition cannot be created"
+        scheduler.createUpcomingPartitions()
+
+        then: "the failure is not propagated and next year's partition is still created"
+        1 * jdbcOperations.queryForObject(IncomePartitionScheduler.CREATE_PARTITION_SQL, Boolean, "income", 2026) >> {
+            throw new DataAccessResourceFailureException("connection lost")
+        }
+        1 * jdbcOperations.queryForObject(IncomePartitionScheduler.CREATE_PARTITION_SQL, Boolean, "income", 2027) >> true
+        noExceptionThrown()
+    }
+
+    def "should skip the run when the current tax year cannot be read"() {
+        given: "a scheduler and an unreachable database"
+        def scheduler = new IncomePartitionScheduler(jdbcOperations, "Europe/London", 2)
+        jdbcOperations.queryForObject(IncomePartitionScheduler.CURRENT_TAX_YEAR_SQL, Integer, _) >> {
+            throw new DataAccessResourceFailureException("connection lost")
+        }
+
+        when: "the schedule fires"
+        scheduler.createUpcomingPartitions()
+
+        then: "no partition is attempted and nothing is propagated"
+        0 * jdbcOperations.queryForObject(IncomePartitionScheduler.CREATE_PARTITION_SQL, *_)
+        noExceptionThrown()
+    }
+}
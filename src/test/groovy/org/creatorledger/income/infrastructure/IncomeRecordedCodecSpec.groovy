@@ -0,0 +1,51 @@
+package org.creatorledger.income.infrastructure
+
+import org.creatorledger.common.EventInput
+import org.creatorledger.common.EventOutput
+import org.creatorledger.common.Money
+import org.creatorledger.event.api.EventId
+import org.creatorledger.income.api.IncomeId
+import org.creatorledger.income.domain.IncomeRecorded
+import org.creatorledger.user.api.UserId
+import spock.lang.Specification
+
+import java.time.Instant
+import java.time.LocalDate
+
+class IncomeRecordedCodecSpec extends Specification {
+
+    def codec = new IncomeRecordedCodec()
+
+    def event = new IncomeRecorded(
+            IncomeId.generate(),
+            UserId.generate(),
+            EventId.generate(),
+            Money.of(new BigDecimal("1500.00"), "GBP"),
+            "Wedding photography",
+            LocalDate.of(2026, 10, 1),
+            Instant.parse("2026-10-17T09:15:30.123Z")
+    )
+
+    def "should read back the event it wrote"() {
+        given: "the event written by the codec"
+        def output = new EventOutput()
+        codec.write(event, output)
+
+        when: "reading it back"
+        def input = new EventInput(output.toByteArray(), 0)
+        def read = codec.read(codec.schemaVersion(), input)
+
+        then: "every field is unchanged and nothing is left over"
+        read == event
+        input.isExhausted()
+    }
+
+    def "should reject an unknown schema version"() {
+        when: "reading a version it never wrote"
+        codec.read(99, new EventInput(new byte[0], 0))
+
+        then: "an exception is thrown"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Unknown IncomeRecorded schema version 99"
+    }
+}
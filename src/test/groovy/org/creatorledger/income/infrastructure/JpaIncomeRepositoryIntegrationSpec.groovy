@@ -1,9 +1,11 @@
 package org.creatorledger.income.infrastructure
 
+import org.creatorledger.common.KeysetCursor
 import org.creatorledger.common.Money
 import org.creatorledger.event.api.EventId
 import org.creatorledger.income.api.IncomeId
 import org.creatorledger.income.api.PaymentStatus
+import org.creatorledger.income.application.ListIncomeQuery
 import org.creatorledger.income.domain.Income
 import org.creatorledger.user.api.UserId
 import org.springframework.beans.factory.annotation.Autowired
@@ -160,6 +162,26 @@ class JpaIncomeRepositoryIntegrationSpec extends Specification {
         retrieved.get().receivedDate() == LocalDate.of(2026, 2, 20)
     }
 
+    def "should increment the version on every change to a stored income"() {
+        given: "an income added at version 0"
+        def income = Income.record(UserId.generate(), EventId.generate(), Money.gbp("500.00"), "Versioned", LocalDate.of(2026, 1, 15))
+        repository.add(income)
+
+        when: "saving it paid"
+        repository.save(income.markAsPaid())
+
+        then: "it is at version 1"
+        repository.findVersionedById(income.id()).get().version() == 1L
+
+        when: "changing its status with a conditional update"
+        repository.updateStatus([income.id()], [PaymentStatus.PAID] as Set, PaymentStatus.CANCELLED)
+
+        then: "it is at version 2 with the new status"
+        def stored = repository.findVersionedById(income.id()).get()
+        stored.version() == 2L
+        stored.value().status() == PaymentStatus.CANCELLED
+    }
+
     def "should persist and retrieve different payment statuses"() {
         given: "an income marked as paid"
         def income = Income.record(
@@ -178,4 +200,232 @@ class JpaIncomeRepositoryIntegrationSpec extends Specification {
         retrieved.isPresent()
         retrieved.get().status() == PaymentStatus.PAID
     }
+
+    def "should sum income within a date range"() {
+        given: "income for a user across dates"
+        def userId = UserId.generate()
+        repository.save(Income.record(userId, EventId.generate(), Money.gbp("500.00"), "January gig", LocalDate.of(2026, 1, 10)))
+        repository.save(Income.record(userId, EventId.generate(), Money.gbp("250.50"), "February gig", LocalDate.of(2026, 2, 10)))
+
+        and: "income outside the range or for another user"
+        repository.save(Income.record(userId, EventId.generate(), Money.gbp("999.00"), "Too late", LocalDate.of(2026, 6, 1)))
+        repository.save(Income.record(UserId.generate(), EventId.generate(), Money.gbp("999.00"), "Other user", LocalDate.of(2026, 2, 1)))
+
+        when: "summing income"
+        def total = repository.totalByUserIdAndDateRange(userId, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 31))
+
+        then: "only matching income is summed"
+        total == Money.gbp("750.50")
+    }
+
+    def "should return zero total when there is no income in range"() {
+        when: "summing income for a user without income"
+        def total = repository.totalByUserIdAndDateRange(UserId.generate(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 31))
+
+        then: "the total is zero"
+        total == Money.gbp("0.00")
+    }
+
+    def "should sum income per user for several users in one query"() {
+        given: "income for two users"
+        def firstUser = UserId.generate()
+        def secondUser = UserId.generate()
+        repository.save(Income.record(firstUser, EventId.generate(), Money.gbp("500.00"), "January gig", LocalDate.of(2026, 1, 10)))
+        repository.save(Income.record(firstUser, EventId.generate(), Money.gbp("250.50"), "February gig", LocalDate.of(2026, 2, 10)))
+        repository.save(Income.record(secondUser, EventId.generate(), Money.gbp("100.00"), "March gig", LocalDate.of(2026, 3, 10)))
+
+        and: "a user without income in range"
+        def idleUser = UserId.generate()
+        repository.save(Income.record(idleUser, EventId.generate(), Money.gbp("999.00"), "Too late", LocalDate.of(2026, 6, 1)))
+
+        when: "summing income for all three users"
+        def totals = repository.totalsByUserIdsAndDateRange(
+            [firstUser, secondUser, idleUser],
+            LocalDate.of(2026, 1, 1),
+            LocalDate.of(2026, 3, 31)
+        )
+
+        then: "each user with income has their own total"
+        totals.size() == 2
+        totals[firstUser] == Money.gbp("750.50")
+        totals[secondUser] == Money.gbp("100.00")
+        !totals.containsKey(idleUser)
+    }
+
+    def "should stream income data within a date range in date order"() {
+        given: "income for a user across dates"
+        def userId = UserId.generate()
+        repository.save(Income.record(userId, EventId.generate(), Money.gbp("250.50"), "February gig", LocalDate.of(2026, 2, 10)))
+        repository.save(Income.record(userId, EventId.generate(), Money.gbp("500.00"), "January gig", LocalDate.of(2026, 1, 10)))
+
+        and: "income outside the range or for another user"
+        repository.save(Income.record(userId, EventId.generate(), Money.gbp("999.00"), "Too late", LocalDate.of(2026, 6, 1)))
+        repository.save(Income.record(UserId.generate(), EventId.generate(), Money.gbp("999.00"), "Other user", LocalDate.of(2026, 2, 1)))
+
+        when: "streaming the range"
+        def descriptions = repository.streamDataByUserIdAndDateRange(userId, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 31))
+                .withCloseable { stream -> stream.map { it.description() }.toList() }
+
+        then: "only matching income is returned, oldest first"
+        descriptions == ["January gig", "February gig"]
+    }
+
+    def "should read income data for a date range through the projection"() {
+        given: "paid income and income outside the range"
+        def userId = UserId.generate()
+        def paid = repository.save(Income.record(userId, EventId.generate(), Money.gbp("500.00"), "January gig", LocalDate.of(2026, 1, 10)).markAsPaid())
+        repository.save(Income.record(userId, EventId.generate(), Money.gbp("999.00"), "Too late", LocalDate.of(2026, 6, 1)))
+
+        when: "reading the range as data"
+        def data = repository.findDataByUserIdAndDateRange(userId, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 31))
+
+        then: "only the matching income is returned with its status"
+        data.size() == 1
+        data[0].id() == paid.id()
+        data[0].amount() == Money.gbp("500.00")
+        data[0].status() == PaymentStatus.PAID
+    }
+
+    def "should add a new income"() {
+        given: "a newly recorded income"
+        def income = Income.record(
+            UserId.generate(),
+            EventId.generate(),
+            Money.gbp("500.00"),
+            "Website design project",
+            LocalDate.of(2026, 1, 15)
+        )
+
+        when: "adding the income"
+        repository.add(income)
+
+        then: "the income can be retrieved"
+        repository.findById(income.id()).get() == income
+    }
+
+    def "should add incomes in a batch"() {
+        given: "several newly recorded incomes"
+        def userId = UserId.generate()
+        def incomes = (1..3).collect {
+            Income.record(userId, EventId.generate(), Money.gbp("${it}00.00"), "Invoice ${it}", LocalDate.of(2026, 1, it))
+        }
+
+        when: "adding them in one batch"
+        repository.addAll(incomes)
+
+        then: "each income can be retrieved"
+        incomes.every { repository.findById(it.id()).get().amount() == it.amount() }
+    }
+
+    def "should page through income by received date and ID"() {
+        given: "five incomes for a user, two on the same day, and one for another user"
+        def userId = UserId.generate()
+        def incomes = [1, 2, 2, 3, 4].collect {
+            Income.record(userId, EventId.generate(), Money.gbp("100.00"), "Invoice", LocalDate.of(2026, 1, it))
+        }
+        repository.addAll(incomes)
+        repository.add(Income.record(UserId.generate(), EventId.generate(), Money.gbp("1.00"), "Other", LocalDate.of(2026, 1, 2)))
+        def expectedOrder = incomes.sort(false) { a, b -> a.receivedDate() <=> b.receivedDate() ?: a.id().value() <=> b.id().value() }*.id()
+
+        when: "reading two pages of two after the first line"
+        def first = repository.findPage(new ListIncomeQuery(userId, null, null, null, null, 2), 2)
+        def second = repository.findPage(new ListIncomeQuery(userId, null, null, null, new KeysetCursor(first[1].receivedDate(), first[1].id().value()), 2), 2)
+
+        then: "the pages follow on without gaps or repeats"
+        (first + second)*.id() == expectedOrder.take(4)
+    }
+
+    def "should filter a page by date range and status"() {
+        given:
+        def userId = UserId.generate()
+        def paid = Income.record(userId, EventId.generate(), Money.gbp("100.00"), "Paid", LocalDate.of(2026, 2, 1)).markAsPaid()
+        repository.addAll([
+            paid,
+            Income.record(userId, EventId.generate(), Money.gbp("100.00"), "Pending", LocalDate.of(2026, 2, 2)),
+            Income.record(userId, EventId.generate(), Money.gbp("100.00"), "Paid too early", LocalDate.of(2025, 12, 1)).markAsPaid()
+        ])
+
+        when:
+        def page = repository.findPage(new ListIncomeQuery(
+                userId, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31), PaymentStatus.PAID, null, 10), 10)
+
+        then:
+        page*.id() == [paid.id()]
+    }
+    def "should update the status of only the incomes in a source status"() {
+        given: "a pending, an overdue and a paid income"
+        def userId = UserId.generate()
+        def pending = Income.record(userId, EventId.generate(), Money.gbp("100.00"), "Pending", LocalDate.of(2026, 1, 1))
+        def overdue = Income.record(userId, EventId.generate(), Money.gbp("100.00"), "Overdue", LocalDate.of(2026, 1, 2)).markAsOverdue()
+        def paid = Income.record(userId, EventId.generate(), Money.gbp("100.00"), "Paid", LocalDate.of(2026, 1, 3)).markAsPaid()
+        repository.addAll([pending, overdue, paid])
+
+        when: "moving pending and overdue incomes to paid"
+        def changed = repository.updateStatus(
+            [pending.id(), overdue.id(), paid.id(), IncomeId.generate()],
+            [PaymentStatus.PENDING, PaymentStatus.OVERDUE] as Set,
+            PaymentStatus.PAID
+        )
+
+        then: "only those two are reported and stored as paid"
+        changed as Set == [pending.id(), overdue.id()] as Set
+        [pending, overdue, paid].every { repository.findById(it.id()).get().status() == PaymentStatus.PAID }
+    }
+
+    def "should mark only due pending income as overdue, oldest first"() {
+        given: "two due pending incomes, one due paid income and one pending income not yet due"
+        def userId = UserId.generate()
+        def older = Income.record(userId, EventId.generate(), Money.gbp("100.00"), "Older", LocalDate.of(2025, 11, 1))
+        def newer = Income.record(userId, EventId.generate(), Money.gbp("100.00"), "Newer", LocalDate.of(2025, 12, 1))
+        def paid = Income.record(userId, EventId.generate(), Money.gbp("100.00"), "Paid", LocalDate.of(2025, 10, 1)).markAsPaid()
+        def notDue = Income.record(userId, EventId.generate(), Money.gbp("100.00"), "Not due", LocalDate.of(2026, 2, 1))
+        repository.addAll([older, newer, paid, notDue])
+
+        when: "sweeping one income received before January"
+        def first = repository.markPendingOverdue(LocalDate.of(2026, 1, 1), 1)
+
+        then: "the oldest pending income is marked"
+        first == [older.id()]
+        repository.findById(older.id()).get().status() == PaymentStatus.OVERDUE
+
+        when: "sweeping again"
+        def second = repository.markPendingOverdue(LocalDate.of(2026, 1, 1), 10)
+
+        then: "only the remaining due pending income is marked"
+        second == [newer.id()]
+        repository.findById(paid.id()).get().status() == PaymentStatus.PAID
+        repository.findById(notDue.id()).get().status() == PaymentStatus.PENDING
+    }
+
+    def "should update an income only at the expected version and return the previous values"() {
+        given: "a stored income at version 0"
+        def userId = UserId.generate()
+        def income = Income.record(userId, EventId.generate(), Money.gbp("100.00"), "Original", LocalDate.of(2026, 1, 10))
+        repository.add(income)
+
+        when: "updating it at version 0"
+        def change = repository.updateIfVersion(income.id(), 0L, Money.gbp("250.00"), "Updated", LocalDate.of(2026, 2, 20))
+
+        then: "the previous values and the new version are returned"
+        change.isPresent()
+        change.get().userId() == userId
+        change.get().previousAmount() == Money.gbp("100.00")
+        change.get().previousReceivedDate() == LocalDate.of(2026, 1, 10)
+        change.get().version() == 1L
+
+        and: "the new values are stored at version 1"
+        def stored = repository.findVersionedById(income.id()).get()
+        stored.version() == 1L
+        stored.value().amount() == Money.gbp("250.00")
+        stored.value().description() == "Updated"
+        stored.value().receivedDate() == LocalDate.of(2026, 2, 20)
+
+        when: "updating it again at the stale version 0"
+        def stale = repository.updateIfVersion(income.id(), 0L, Money.gbp("300.00"), "Stale", LocalDate.of(2026, 2, 20))
+
+        then: "nothing is updated"
+        stale.isEmpty()
+        repository.findVersionedById(income.id()).get().value().description() == "Updated"
+    }
+
 }
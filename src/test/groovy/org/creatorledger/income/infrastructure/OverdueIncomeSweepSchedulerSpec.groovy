@@ -0,0 +1,27 @@
+package org.creatorledger.income.infrastructure
+
+import org.creatorledger.income.application.OverdueIncomeSweepApplicationService
+import spock.lang.Specification
+
+import java.time.LocalDate
+import java.time.ZoneId
+
+class OverdueIncomeSweepSchedulerSpec extends Specification {
+
+    def "should sweep income received before the due window"() {
+        given: "a scheduler with a 30 day window"
+        def sweepApplicationService = Mock(OverdueIncomeSweepApplicationService)
+        def scheduler = new OverdueIncomeSweepScheduler(sweepApplicationService, "Europe/London", 30, 250)
+
+        and: "the expected cutoff"
+        def expectedCutoff = LocalDate.now(ZoneId.of("Europe/London")).minusDays(30)
+
+        when: "the schedule fires"
+        scheduler.markLateIncomeOverdue()
+
+        then: "the sweep runs with the cutoff and chunk size"
+        1 * sweepApplicationService.sweep({
+            it.receivedBefore() == expectedCutoff && it.chunkSize() == 250
+        })
+    }
+}
@@ -1,12 +1,16 @@
 package org.creatorledger.income.infrastructure.web
 
 import org.creatorledger.common.Money
+import org.creatorledger.common.Versioned
 import org.creatorledger.event.api.EventId
 import org.creatorledger.income.api.IncomeId
 import org.creatorledger.income.application.IncomeApplicationService
+import org.creatorledger.income.application.IncomeStatusTransitionResult
 import org.creatorledger.income.domain.Income
+import org.creatorledger.income.domain.PaymentStatusTransition
 import org.creatorledger.income.api.PaymentStatus
 import org.creatorledger.user.api.UserId
+import org.springframework.dao.OptimisticLockingFailureException
 import org.springframework.http.HttpStatus
 import spock.lang.Specification
 import java.time.LocalDate
@@ -76,13 +80,75 @@ class IncomeControllerUnitSpec extends Specification {
         )
 
         when: "updating the income"
-        def response = controller.update(incomeId.value().toString(), request)
+        def response = controller.update(incomeId.value().toString(), null, request)
 
         then: "the application service is called"
-        1 * incomeApplicationService.update(_)
+        1 * incomeApplicationService.update(_) >> 1L
 
         and: "the response is 204 No Content"
         response.statusCode == HttpStatus.NO_CONTENT
+        response.headers.getETag() == '"1"'
+    }
+
+    def "should update income at the If-Match version"() {
+        given: "an update request and the ETag from a previous read"
+        def incomeId = IncomeId.generate()
+        def request = new UpdateIncomeRequest(
+            "750.00",
+            "GBP",
+            "Updated description",
+            LocalDate.of(2026, 2, 20)
+        )
+
+        when: "updating the income with If-Match"
+        def response = controller.update(incomeId.value().toString(), '"4"', request)
+
+        then: "the expected version is passed to the application service"
+        1 * incomeApplicationService.update({ it.expectedVersion() == 4L }) >> 5L
+
+        and: "the response carries the new version"
+        response.statusCode == HttpStatus.NO_CONTENT
+        response.headers.getETag() == '"5"'
+    }
+
+    def "should return 409 when the income was changed since it was read"() {
+        given: "an update request"
+        def incomeId = IncomeId.generate()
+        def request = new UpdateIncomeRequest(
+            "750.00",
+            "GBP",
+            "Updated description",
+            LocalDate.of(2026, 2, 20)
+        )
+
+        and: "the application service reports a concurrent change"
+        incomeApplicationService.update(_) >> { throw new OptimisticLockingFailureException("stale") }
+
+        when: "updating the income with a stale If-Match"
+        def response = controller.update(incomeId.value().toString(), '"4"', request)
+
+        then: "the response is 409 Conflict"
+        response.statusCode == HttpStatus.CONFLICT
+    }
+
+    def "should return 400 for a malformed If-Match"() {
+        given: "an update request"
+        def incomeId = IncomeId.generate()
+        def request = new UpdateIncomeRequest(
+            "750.00",
+            "GBP",
+            "Updated description",
+            LocalDate.of(2026, 2, 20)
+        )
+
+        when: "updating the income with a malformed If-Match"
+        def response = controller.update(incomeId.value().toString(), '"abc"', request)
+
+        then: "the application service is not called"
+        0 * incomeApplicationService.update(_)
+
+        and: "the response is 400 Bad Request"
+        response.statusCode == HttpStatus.BAD_REQUEST
     }
 
     def "should return 400 when update fails"() {
@@ -99,7 +165,7 @@ class IncomeControllerUnitSpec extends Specification {
         incomeApplicationService.update(_) >> { throw new IllegalStateException("Income not found") }
 
         when: "updating the income"
-        def response = controller.update(incomeId.value().toString(), request)
+        def response = controller.update(incomeId.value().toString(), null, request)
 
         then: "the response is 400 Bad Request"
         response.statusCode == HttpStatus.BAD_REQUEST
@@ -120,13 +186,14 @@ class IncomeControllerUnitSpec extends Specification {
         )
 
         and: "the application service returns the income"
-        incomeApplicationService.findById(incomeId) >> Optional.of(income)
+        incomeApplicationService.findVersionedById(incomeId) >> Optional.of(new Versioned<>(income, 2L))
 
         when: "getting the income"
         def response = controller.getIncome(incomeId.value().toString())
 
         then: "the response is 200 OK with income data"
         response.statusCode == HttpStatus.OK
+        response.headers.getETag() == '"2"'
         response.body.id() == incomeId.value().toString()
         response.body.userId() == userId.value().toString()
         response.body.eventId() == eventId.value().toString()
@@ -142,7 +209,7 @@ class IncomeControllerUnitSpec extends Specification {
         def incomeId = IncomeId.generate()
 
         and: "the application service returns empty"
-        incomeApplicationService.findById(incomeId) >> Optional.empty()
+        incomeApplicationService.findVersionedById(incomeId) >> Optional.empty()
 
         when: "getting the income"
         def response = controller.getIncome(incomeId.value().toString())
@@ -217,6 +284,18 @@ class IncomeControllerUnitSpec extends Specification {
         response.statusCode == HttpStatus.BAD_REQUEST
     }
 
+    def "should return 409 when the status changed while marking as paid"() {
+        given: "an income whose status changes concurrently"
+        def incomeId = IncomeId.generate()
+        incomeApplicationService.markAsPaid(_) >> { throw new OptimisticLockingFailureException("changed") }
+
+        when: "marking as paid"
+        def response = controller.markAsPaid(incomeId.value().toString())
+
+        then: "the response is 409 Conflict"
+        response.statusCode == HttpStatus.CONFLICT
+    }
+
     def "should mark income as overdue"() {
         given: "an existing income ID"
         def incomeId = IncomeId.generate()
@@ -244,4 +323,84 @@ class IncomeControllerUnitSpec extends Specification {
         and: "the response is 204 No Content"
         response.statusCode == HttpStatus.NO_CONTENT
     }
+
+    def "should record a batch of income and return the IDs in order"() {
+        given: "two record income requests"
+        def requests = [
+            new RecordIncomeRequest(UUID.randomUUID(), UUID.randomUUID(), "500.00", "GBP", "Invoice 1", LocalDate.of(2026, 1, 15)),
+            new RecordIncomeRequest(UUID.randomUUID(), UUID.randomUUID(), "250.00", "GBP", "Invoice 2", LocalDate.of(2026, 1, 20))
+        ]
+
+        and: "the application service will return two income IDs"
+        def incomeIds = [IncomeId.generate(), IncomeId.generate()]
+        incomeApplicationService.recordAll({ it*.description() == ["Invoice 1", "Invoice 2"] }) >> incomeIds
+
+        when: "recording the batch"
+        def response = controller.recordBatch(requests)
+
+        then: "the response is 201 Created with the IDs in request order"
+        response.statusCode == HttpStatus.CREATED
+        response.body.ids() == incomeIds.collect { it.value().toString() }
+    }
+
+    def "should return 400 when a batch line is invalid"() {
+        given: "the application service rejects the batch"
+        incomeApplicationService.recordAll(_) >> { throw new IllegalArgumentException("Line 1: Invalid amount") }
+
+        when: "recording the batch"
+        def response = controller.recordBatch([
+            new RecordIncomeRequest(UUID.randomUUID(), UUID.randomUUID(), "invalid", "GBP", "Invoice", LocalDate.of(2026, 1, 15))
+        ])
+
+        then: "the response is 400 Bad Request"
+        response.statusCode == HttpStatus.BAD_REQUEST
+    }
+    def "should mark many incomes as paid"() {
+        given: "two income IDs, one of which is already settled"
+        def changed = IncomeId.generate()
+        def unchanged = IncomeId.generate()
+        incomeApplicationService.transitionStatus({
+            it.incomeIds() == [changed, unchanged] && it.transition() == PaymentStatusTransition.MARK_AS_PAID
+        }) >> new IncomeStatusTransitionResult([changed], [unchanged])
+
+        when: "marking them as paid"
+        def response = controller.markAllAsPaid([changed.value().toString(), unchanged.value().toString()])
+
+        then: "the response lists which changed"
+        response.statusCode == HttpStatus.OK
+        response.body.changed() == [changed.value().toString()]
+        response.body.unchanged() == [unchanged.value().toString()]
+    }
+
+    def "should apply the matching transition for overdue and cancel"() {
+        given:
+        def incomeId = IncomeId.generate()
+
+        when:
+        controller.markAllAsOverdue([incomeId.value().toString()])
+        controller.cancelAll([incomeId.value().toString()])
+
+        then:
+        1 * incomeApplicationService.transitionStatus({ it.transition() == PaymentStatusTransition.MARK_AS_OVERDUE }) >>
+            new IncomeStatusTransitionResult([incomeId], [])
+        1 * incomeApplicationService.transitionStatus({ it.transition() == PaymentStatusTransition.CANCEL }) >>
+            new IncomeStatusTransitionResult([], [incomeId])
+    }
+
+    def "should return 400 for a bulk transition with an invalid ID"() {
+        when:
+        def response = controller.markAllAsPaid(["not-a-uuid"])
+
+        then:
+        response.statusCode == HttpStatus.BAD_REQUEST
+        0 * incomeApplicationService.transitionStatus(_)
+    }
+
+    def "should return 400 for an empty bulk transition"() {
+        when:
+        def response = controller.cancelAll([])
+
+        then:
+        response.statusCode == HttpStatus.BAD_REQUEST
+    }
 }
@@ -0,0 +1,80 @@
+package org.creatorledger.income.infrastructure.web
+
+import org.creatorledger.common.KeysetCursor
+import org.creatorledger.common.Money
+import org.creatorledger.event.api.EventId
+import org.creatorledger.income.api.IncomeData
+import org.creatorledger.income.api.IncomeId
+import org.creatorledger.income.api.PaymentStatus
+import org.creatorledger.income.application.IncomeApplicationService
+import org.creatorledger.income.application.IncomePage
+import org.creatorledger.user.api.UserId
+import org.springframework.http.HttpStatus
+import spock.lang.Specification
+
+import java.time.LocalDate
+
+class UserIncomeControllerUnitSpec extends Specification {
+
+    IncomeApplicationService incomeApplicationService
+    UserIncomeController controller
+
+    def setup() {
+        incomeApplicationService = Mock(IncomeApplicationService)
+        controller = new UserIncomeController(incomeApplicationService)
+    }
+
+    def "should list a page of income with the next cursor"() {
+        given: "a user with more income than fits on one page"
+        def userId = UUID.randomUUID()
+        def income = new IncomeData(IncomeId.generate(), UserId.of(userId), EventId.generate(),
+                Money.gbp("500.00"), "Invoice", LocalDate.of(2026, 1, 15), PaymentStatus.PAID)
+        def next = new KeysetCursor(income.receivedDate(), income.id().value())
+        def after = new KeysetCursor(LocalDate.of(2026, 1, 1), UUID.randomUUID())
+
+        when: "listing the page"
+        def response = controller.list(userId.toString(), "2026-01-01", "2026-03-31", "PAID", after.encode(), 1)
+
+        then: "the query carries the filters and cursor"
+        1 * incomeApplicationService.listByUser({
+            it.userId() == UserId.of(userId) &&
+                    it.from() == LocalDate.of(2026, 1, 1) &&
+                    it.to() == LocalDate.of(2026, 3, 31) &&
+                    it.status() == PaymentStatus.PAID &&
+                    it.after() == after &&
+                    it.limit() == 1
+        }) >> new IncomePage([income], next)
+
+        and: "the response holds the items and the next cursor"
+        response.statusCode == HttpStatus.OK
+        response.body.items()*.id() == [income.id().value().toString()]
+        response.body.next() == next.encode()
+    }
+
+    def "should use the default limit and return no cursor on the last page"() {
+        when:
+        def response = controller.list(UUID.randomUUID().toString(), null, null, null, null, null)
+
+        then:
+        1 * incomeApplicationService.listByUser({ it.limit() == UserIncomeController.DEFAULT_LIMIT }) >> new IncomePage([], null)
+        response.statusCode == HttpStatus.OK
+        response.body.next() == null
+    }
+
+    def "should return 400 for invalid parameters"() {
+        when:
+        def response = controller.list(userId, from, null, status, after, limit)
+
+        then:
+        response.statusCode == HttpStatus.BAD_REQUEST
+        0 * incomeApplicationService._
+
+        where:
+        userId                       | from         | status    | after      | limit
+        "not-a-uuid"                 | null         | null      | null       | null
+        UUID.randomUUID().toString() | "15/01/2026" | null      | null       | null
+        UUID.randomUUID().toString() | null         | "UNKNOWN" | null       | null
+        UUID.randomUUID().toString() | null         | null      | "garbage!" | null
+        UUID.randomUUID().toString() | null         | null      | null       | 1000
+    }
+}
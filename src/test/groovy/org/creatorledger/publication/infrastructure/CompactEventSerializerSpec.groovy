@@ -0,0 +1,173 @@
+package org.creatorledger.publication.infrastructure
+
+import org.creatorledger.common.EventCodec
+import org.creatorledger.common.Money
+import org.creatorledger.event.api.EventId
+import org.creatorledger.income.api.IncomeId
+import org.creatorledger.income.domain.IncomeRecorded
+import org.creatorledger.income.infrastructure.IncomeRecordedCodec
+import org.creatorledger.user.api.UserId
+import org.creatorledger.user.domain.Email
+import org.creatorledger.user.domain.UserRegistered
+import spock.lang.Specification
+import tools.jackson.databind.json.JsonMapper
+
+import java.time.Instant
+import java.time.LocalDate
+
+class CompactEventSerializerSpec extends Specification {
+
+    def event = new IncomeRecorded(
+            IncomeId.generate(),
+            UserId.generate(),
+            EventId.generate(),
+            Money.of(new BigDecimal("1500.00"), "GBP"),
+            "Wedding photography",
+            LocalDate.of(2026, 10, 1),
+            Instant.parse("2026-10-17T09:15:30.123Z")
+    )
+
+    CompactEventSerializer serializer(final String format = "binary") {
+        serializer([new IncomeRecordedCodec()], format)
+    }
+
+    CompactEventSerializer serializer(final List<EventCodec<?>> codecs, final String format) {
+        new CompactEventSerializer(codecs, JsonMapper.builder().build(), format)
+    }
+
+    def "should read back an event it wrote"() {
+        given: "a binary serializer"
+        def serializer = serializer()
+
+        when: "writing and reading an event"
+        def serialized = serializer.serialize(event)
+
+        then: "the event is unchanged"
+        serializer.deserialize(serialized, IncomeRecorded) == event
+    }
+
+    def "should write registered events more compactly than JSON"() {
+        when: "writing the same event in both formats"
+        def binary = serializer("binary").serialize(event) as String
+        def json = serializer("json").serialize(event) as String
+
+        then: "the binary form is less than half the size"
+        !binary.startsWith("{")
+        json.startsWith("{")
+        binary.length() * 2 < json.length()
+    }
+
+    def "should read rows written as JSON"() {
+        given: "an event stored as JSON before the binary format"
+        def json = serializer("json").serialize(event)
+
+        expect: "the binary serializer reads it"
+        serializer("binary").deserialize(json, IncomeRecorded) == event
+    }
+
+    def "should read binary rows after switching back to JSON"() {
+        given: "an event stored in binary"
+        def binary = serializer("binary").serialize(event)
+
+        expect: "a serializer writing JSON still reads it"
+        serializer("json").deserialize(binary, IncomeRecorded) == event
+    }
+
+    def "should write events without a codec as JSON"() {
+        given: "an event type with no codec"
+        def registered = UserRegistered.of(UserId.generate(), Email.of("jo@example.com"))
+
+        when: "writing it"
+        def serialized = serializer().serialize(registered) as String
+
+        then: "it is stored as JSON"
+        serialized.startsWith("{")
+    }
+
+    def "should reject a binary event read as another type"() {
+        given: "a stored IncomeRecorded"
+        def serialized = serializer().serialize(event)
+
+        when: "reading it as a different type"
+        serializer().deserialize(serialized, UserRegistered)
+
+        then: "an exception is thrown"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Event type id 3 is a IncomeRecorded, not a UserRegistered"
+    }
+
+    def "should reject an unknown type id"() {
+        given: "an event written by a codec that is no longer registered"
+        def serialized = serializer().serialize(event)
+
+        when: "reading it without that codec"
+        serializer([], "binary").deserialize(serialized, IncomeRecorded)
+
+        then: "an exception is thrown"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Unknown event type id 3"
+    }
+
+    def "should reject an unknown format byte"() {
+        given: "a payload starting with format byte 2"
+        def serialized = Base64.encoder.encodeToString([2, 3, 1] as byte[])
+
+        when: "reading it"
+        serializer().deserialize(serialized, IncomeRecorded)
+
+        then: "an exception is thrown"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Unknown event format 2"
+    }
+
+    def "should reject trailing bytes"() {
+        given: "an event with an extra byte appended"
+        def bytes = Base64.decoder.decode(serializer().serialize(event) as String)
+        def serialized = Base64.encoder.encodeToString(Arrays.copyOf(bytes, bytes.length + 1))
+
+        when: "reading it"
+        serializer().deserialize(serialized, IncomeRecorded)
+
+        then: "an exception is thrown"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Unread bytes after IncomeRecorded"
+    }
+
+    def "should reject two codecs with the same type id"() {
+        given: "a codec claiming the IncomeRecorded type id"
+        def clash = Stub(EventCodec) {
+            typeId() >> 3
+            eventType() >> UserRegistered
+        }
+
+        when: "creating the serializer"
+        serializer([new IncomeRecordedCodec(), clash], "binary")
+
+        then: "an exception is thrown"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Duplicate event type id 3 for ${UserRegistered.name}"
+    }
+
+    def "should reject two codecs for the same event type"() {
+        given: "a second IncomeRecorded codec"
+        def clash = Stub(EventCodec) {
+            typeId() >> 99
+            eventType() >> IncomeRecorded
+        }
+
+        when: "creating the serializer"
+        serializer([new IncomeRecordedCodec(), clash], "binary")
+
+        then: "an exception is thrown"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Duplicate codec for ${IncomeRecorded.name}"
+    }
+
+    def "should reject an unknown format setting"() {
+        when: "configuring an unknown format"
+        serializer("xml")
+
+        then: "an exception is thrown"
+        thrown(IllegalArgumentException)
+    }
+}
@@ -0,0 +1,81 @@
+package org.creatorledger.publication.infrastructure
+
+import org.flywaydb.core.Flyway
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.jdbc.datasource.DataSourceTransactionManager
+import org.springframework.jdbc.datasource.DriverManagerDataSource
+import org.springframework.transaction.support.TransactionTemplate
+import org.testcontainers.containers.PostgreSQLContainer
+import org.testcontainers.spock.Testcontainers
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.sql.Timestamp
+import java.time.Duration
+import java.time.Instant
+import java.time.LocalDateTime
+
+@Testcontainers
+class EventPublicationArchiverIntegrationSpec extends Specification {
+
+    @Shared
+    PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+
+    @Shared
+    JdbcTemplate jdbcTemplate
+
+    @Shared
+    EventPublicationArchiver archiver
+
+    def setupSpec() {
+        Flyway.configure()
+                .dataSource(postgres.jdbcUrl, postgres.username, postgres.password)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate()
+
+        def dataSource = new DriverManagerDataSource(postgres.jdbcUrl, postgres.username, postgres.password)
+        jdbcTemplate = new JdbcTemplate(dataSource)
+        archiver = new EventPublicationArchiver(
+                jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                Duration.ofDays(7),
+                12,
+                2
+        )
+    }
+
+    def "should move old completed publications into monthly archive partitions"() {
+        given: "an incomplete, a recent, two old and one expired completed publication"
+        def now = Instant.now()
+        publish(null)
+        publish(now.minus(Duration.ofDays(1)))
+        def old = [publish(now.minus(Duration.ofDays(40))), publish(now.minus(Duration.ofDays(60)))]
+        publish(now.minus(Duration.ofDays(800)))
+
+        when: "archiving"
+        def archived = archiver.archive(now)
+
+        then: "the old publications are archived"
+        archived == 2
+        jdbcTemplate.queryForList("SELECT id FROM event_publication_archive", UUID) as Set == old as Set
+
+        and: "the registry keeps the incomplete and recent ones"
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM event_publication", Long) == 2L
+
+        and: "nothing landed in the default partition"
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM event_publication_archive_default", Long) == 0L
+    }
+
+    private UUID publish(final Instant completedAt) {
+        def id = UUID.randomUUID()
+        def published = completedAt ?: Instant.now()
+        jdbcTemplate.update("""
+                INSERT INTO event_publication
+                    (id, event_type, listener_id, publication_date, serialized_event, completion_date)
+                VALUES (?, 'IncomeRecorded', 'listener', ?, '{}', ?)
+                """,
+                id, Timestamp.from(published), completedAt == null ? null : Timestamp.from(completedAt))
+        id
+    }
+}
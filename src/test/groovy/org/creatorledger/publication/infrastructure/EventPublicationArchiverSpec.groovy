@@ -0,0 +1,88 @@
+package org.creatorledger.publication.infrastructure
+
+import org.springframework.jdbc.core.JdbcOperations
+import org.springframework.transaction.support.TransactionOperations
+import spock.lang.Specification
+
+import java.sql.Timestamp
+import java.time.Duration
+import java.time.LocalDate
+import java.time.LocalDateTime
+import java.time.ZoneId
+
+class EventPublicationArchiverSpec extends Specification {
+
+    JdbcOperations jdbcOperations
+    TransactionOperations transactionOperations
+    EventPublicationArchiver archiver
+
+    // 7 days before this is 10 October 2026
+    def now = LocalDateTime.of(2026, 10, 17, 12, 0).atZone(ZoneId.systemDefault()).toInstant()
+    def archiveBefore = Timestamp.valueOf(LocalDateTime.of(2026, 10, 10, 12, 0))
+    def purgeBefore = LocalDate.of(2025, 10, 1)
+
+    def setup() {
+        jdbcOperations = Mock(JdbcOperations)
+        transactionOperations = Spy(TransactionOperations.withoutTransaction())
+        archiver = new EventPublicationArchiver(jdbcOperations, transactionOperations, Duration.ofDays(7), 12, 2)
+    }
+
+    def "should archive in batches until a batch comes back short"() {
+        given: "nothing to purge and the oldest completed publication in August"
+        jdbcOperations.update(EventPublicationArchiver.DELETE_BATCH_SQL, *_) >> 0
+        jdbcOperations.queryForObject(EventPublicationArchiver.OLDEST_COMPLETED_SQL, Timestamp) >>
+                Timestamp.valueOf(LocalDateTime.of(2026, 8, 20, 9, 0))
+
+        when: "archiving"
+        def archived = archiver.archive(now)
+
+        then: "a partition exists for every month up to the cutoff"
+        1 * jdbcOperations.queryForObject(EventPublicationArchiver.CREATE_PARTITION_SQL, Boolean, LocalDate.of(2026, 8, 1))
+        1 * jdbcOperations.queryForObject(EventPublicationArchiver.CREATE_PARTITION_SQL, Boolean, LocalDate.of(2026, 9, 1))
+        1 * jdbcOperations.queryForObject(EventPublicationArchiver.CREATE_PARTITION_SQL, Boolean, LocalDate.of(2026, 10, 1))
+
+        and: "rows completed before the cutoff are moved two at a time, each batch in its own transaction"
+        3 * jdbcOperations.update(EventPublicationArchiver.ARCHIVE_BATCH_SQL, archiveBefore, 2) >>> [2, 2, 1]
+        4 * transactionOperations.execute(_)
+
+        and: "expired archive months are dropped"
+        1 * jdbcOperations.queryForObject(EventPublicationArchiver.DROP_PARTITIONS_SQL, Integer, purgeBefore) >> 0
+
+        and: "every archived row is counted"
+        archived == 5
+    }
+
+    def "should delete rows older than the archive retention instead of archiving them"() {
+        given: "the oldest completed publication is two years old"
+        jdbcOperations.queryForObject(EventPublicationArchiver.OLDEST_COMPLETED_SQL, Timestamp) >>
+                Timestamp.valueOf(LocalDateTime.of(2024, 10, 1, 0, 0))
+        jdbcOperations.update(EventPublicationArchiver.ARCHIVE_BATCH_SQL, *_) >> 0
+        def months = []
+        jdbcOperations.queryForObject(EventPublicationArchiver.CREATE_PARTITION_SQL, Boolean, _) >> { sql, type, args ->
+            months << args[0]
+            true
+        }
+
+        when: "archiving"
+        archiver.archive(now)
+
+        then: "rows before the first retained month are deleted"
+        2 * jdbcOperations.update(EventPublicationArchiver.DELETE_BATCH_SQL, Timestamp.valueOf(purgeBefore.atStartOfDay()), 2) >>> [2, 0]
+
+        and: "partitions start at the first retained month"
+        months == (0..12).collect { purgeBefore.plusMonths(it) }
+    }
+
+    def "should create no partitions when nothing has completed"() {
+        given: "an empty registry"
+        jdbcOperations.update(*_) >> 0
+        jdbcOperations.queryForObject(EventPublicationArchiver.OLDEST_COMPLETED_SQL, Timestamp) >> null
+
+        when: "archiving"
+        def archived = archiver.archive(now)
+
+        then: "no partition is created"
+        0 * jdbcOperations.queryForObject(EventPublicationArchiver.CREATE_PARTITION_SQL, *_)
+        archived == 0
+    }
+}
@@ -0,0 +1,76 @@
+package org.creatorledger.publication.infrastructure
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.dao.DataAccessResourceFailureException
+import org.springframework.jdbc.core.JdbcOperations
+import spock.lang.Specification
+
+class EventPublicationMetricsSpec extends Specification {
+
+    JdbcOperations jdbcOperations = Mock(JdbcOperations)
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry()
+
+    EventPublicationMetrics metrics
+
+    def setup() {
+        metrics = new EventPublicationMetrics(jdbcOperations, meterRegistry)
+    }
+
+    def "should report the registry size"() {
+        given: "a registry with a backlog"
+        jdbcOperations.queryForObject(EventPublicationMetrics.INCOMPLETE_SQL, Long) >> 12L
+        jdbcOperations.queryForObject(EventPublicationMetrics.ESTIMATED_ROWS_SQL, Long) >> 5_000L
+        jdbcOperations.queryForObject(EventPublicationMetrics.REGISTRY_SIZE_SQL, Long) >> 1_048_576L
+        jdbcOperations.queryForObject(EventPublicationMetrics.ARCHIVE_SIZE_SQL, Long) >> 8_388_608L
+
+        when: "the incomplete count is refreshed"
+        metrics.refreshIncomplete()
+
+        then: "each gauge reads its query"
+        meterRegistry.get("event.publication.incomplete").gauge().value() == 12d
+        meterRegistry.get("event.publication.rows").gauge().value() == 5_000d
+        meterRegistry.get("event.publication.size").tag("table", "event_publication").gauge().value() == 1_048_576d
+        meterRegistry.get("event.publication.size").tag("table", "event_publication_archive").gauge().value() == 8_388_608d
+    }
+
+    def "should read NaN when the query fails"() {
+        given: "the registry table is missing"
+        jdbcOperations.queryForObject(_ as String, Long) >> { throw new DataAccessResourceFailureException("no table") }
+
+        when: "the incomplete count is refreshed"
+        metrics.refreshIncomplete()
+
+        then: "the gauges read NaN"
+        meterRegistry.get("event.publication.incomplete").gauge().value().naN
+        meterRegistry.get("event.publication.rows").gauge().value().naN
+    }
+
+    def "should not count the backlog on every scrape"() {
+        given: "a refreshed backlog of 12"
+        jdbcOperations.queryForObject(EventPublicationMetrics.INCOMPLETE_SQL, Long) >>> [12L, 20L]
+        metrics.refreshIncomplete()
+
+        when: "scraping twice"
+        def first = meterRegistry.get("event.publication.incomplete").gauge().value()
+        def second = meterRegistry.get("event.publication.incomplete").gauge().value()
+
+        then: "both scrapes read the cached count"
+        first == 12d
+        second == 12d
+
+        when: "the count is refreshed again"
+        metrics.refreshIncomplete()
+
+        then: "the gauge reads the new count"
+        meterRegistry.get("event.publication.incomplete").gauge().value() == 20d
+    }
+
+    def "should read NaN before the first refresh"() {
+        when: "scraping before any refresh"
+        def value = meterRegistry.get("event.publication.incomplete").gauge().value()
+
+        then: "the backlog is unknown and no count is run"
+        value.naN
+        0 * jdbcOperations.queryForObject(EventPublicationMetrics.INCOMPLETE_SQL, Long)
+    }
+}
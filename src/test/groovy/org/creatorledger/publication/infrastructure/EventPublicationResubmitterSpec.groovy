@@ -0,0 +1,131 @@
+package org.creatorledger.publication.infrastructure
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.context.ApplicationListener
+import org.springframework.context.PayloadApplicationEvent
+import org.springframework.jdbc.core.JdbcOperations
+import org.springframework.jdbc.core.RowMapper
+import org.springframework.modulith.events.core.EventSerializer
+import org.springframework.transaction.event.TransactionalApplicationListener
+import spock.lang.Specification
+
+import java.sql.Timestamp
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.ZoneOffset
+
+class EventPublicationResubmitterSpec extends Specification {
+
+    static final String LISTENER_ID = "org.creatorledger.reporting.application.TaxYearTotalsProjector.onIncomeRecorded"
+
+    JdbcOperations jdbcOperations = Mock(JdbcOperations)
+    Closure<String> currentFormat = { String event -> event.replace("event", "stored") }
+    EventSerializer eventSerializer = Stub(EventSerializer) {
+        deserialize(_, _) >> { args -> args[0].replace("stored", "event") }
+        serialize(_) >> { args -> currentFormat(args[0]) }
+    }
+    TransactionalApplicationListener listener = Mock(TransactionalApplicationListener) {
+        getListenerId() >> LISTENER_ID
+    }
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry()
+
+    def startedAt = Instant.parse("2026-10-17T08:00:00Z")
+    def before = Timestamp.from(startedAt)
+    def clock = Clock.fixed(startedAt.plusSeconds(5), ZoneOffset.UTC)
+
+    EventPublicationResubmitter resubmitter(int pageSize = 2) {
+        new EventPublicationResubmitter(jdbcOperations, eventSerializer,
+                { [listener] as List<ApplicationListener<?>> }, meterRegistry,
+                pageSize, 2, 10_000, Duration.ZERO, clock)
+    }
+
+    static UUID uuid(int value) {
+        new UUID(0, value)
+    }
+
+    static EventPublicationResubmitter.Publication publication(int number, String listenerId = LISTENER_ID) {
+        new EventPublicationResubmitter.Publication(uuid(number), listenerId, String.name, "stored " + number)
+    }
+
+    def "should replay the backlog in id-ordered pages and wait for each page to drain"() {
+        given: "three publications left incomplete before startup, read in pages of two"
+        jdbcOperations.queryForObject(EventPublicationResubmitter.COUNT_SQL, Long, before) >> 3L
+        jdbcOperations.query(EventPublicationResubmitter.PAGE_SQL, _ as RowMapper, before, uuid(0), 2) >>
+                [publication(1), publication(2)]
+        jdbcOperations.query(EventPublicationResubmitter.PAGE_SQL, _ as RowMapper, before, uuid(2), 2) >>
+                [publication(3)]
+
+        when: "resubmitting"
+        def resubmitted = resubmitter().resubmit(startedAt)
+
+        then: "each event is handed to its listener"
+        3 * listener.processEvent({ it instanceof PayloadApplicationEvent && it.payload.startsWith("event ") })
+
+        and: "each page is checked for publications its listeners have not completed"
+        1 * jdbcOperations.queryForObject(EventPublicationResubmitter.REMAINING_SQL, Long, before, uuid(1), uuid(2)) >> 0L
+        1 * jdbcOperations.queryForObject(EventPublicationResubmitter.REMAINING_SQL, Long, before, uuid(3), uuid(3)) >> 0L
+
+        and: "rows already in the current format are not rewritten"
+        0 * jdbcOperations.batchUpdate(*_)
+
+        and: "progress reaches the end"
+        resubmitted == 3
+        meterRegistry.get("event.publication.resubmission.remaining").gauge().value() == 0
+        meterRegistry.get("event.publication.resubmission.progress").gauge().value() == 1.0
+    }
+
+    def "should rewrite rows stored in an older format before replaying them"() {
+        given: "a publication stored as JSON, which the serializer now writes in binary"
+        jdbcOperations.queryForObject(EventPublicationResubmitter.COUNT_SQL, Long, before) >> 1L
+        def json = new EventPublicationResubmitter.Publication(uuid(1), LISTENER_ID, String.name, '{"stored":1}')
+        jdbcOperations.query(EventPublicationResubmitter.PAGE_SQL, _ as RowMapper, before, uuid(0), 2) >> [json]
+        jdbcOperations.queryForObject(EventPublicationResubmitter.REMAINING_SQL, Long, *_) >> 0L
+        currentFormat = { String event -> "binary" }
+
+        when: "resubmitting"
+        resubmitter().resubmit(startedAt)
+
+        then: "the row is rewritten in the current format, so the registry can match it on completion"
+        1 * jdbcOperations.batchUpdate(EventPublicationResubmitter.REWRITE_SQL, { List<Object[]> rows ->
+            rows.size() == 1 && rows[0][0] == "binary" && rows[0][1] == uuid(1)
+        })
+
+        then: "the event is replayed"
+        1 * listener.processEvent(_)
+    }
+
+    def "should leave publications incomplete when their listener fails again or is gone"() {
+        given: "one publication whose listener fails, one for an unknown listener and one that succeeds"
+        jdbcOperations.queryForObject(EventPublicationResubmitter.COUNT_SQL, Long, before) >> 3L
+        jdbcOperations.query(EventPublicationResubmitter.PAGE_SQL, _ as RowMapper, before, uuid(0), 5) >>
+                [publication(1), publication(2, "gone"), publication(3)]
+        listener.processEvent({ it.payload == "event 1" }) >> { throw new IllegalStateException("boom") }
+        jdbcOperations.queryForObject(EventPublicationResubmitter.REMAINING_SQL, Long, before, uuid(1), uuid(3)) >> 2L
+
+        when: "resubmitting"
+        def resubmitted = resubmitter(5).resubmit(startedAt)
+
+        then: "no exception escapes and only the publication that succeeded counts as completed"
+        noExceptionThrown()
+        resubmitted == 1
+        0 * listener.processEvent({ it.payload == "event 2" })
+
+        and: "the page still counts towards progress"
+        meterRegistry.get("event.publication.resubmission.progress").gauge().value() == 1.0
+    }
+
+    def "should do nothing without a backlog"() {
+        given: "no incomplete publications"
+        jdbcOperations.queryForObject(EventPublicationResubmitter.COUNT_SQL, Long, before) >> 0L
+
+        when: "resubmitting"
+        def resubmitted = resubmitter().resubmit(startedAt)
+
+        then: "no page is read and nothing is replayed"
+        resubmitted == 0
+        0 * jdbcOperations.query(*_)
+        0 * listener.processEvent(_)
+        meterRegistry.get("event.publication.resubmission.progress").gauge().value() == 1.0
+    }
+}
@@ -0,0 +1,81 @@
+package org.creatorledger.reporting.application
+
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class ConcurrentQueriesSpec extends Specification {
+
+    def "should combine both results"() {
+        when: "running two queries"
+        def result = ConcurrentQueries.both({ 2 }, { 3 }, { a, b -> a * b })
+
+        then: "the results are combined"
+        result == 6
+    }
+
+    def "should run both queries at the same time"() {
+        given: "queries that wait for each other"
+        def bothStarted = new CountDownLatch(2)
+        def query = {
+            bothStarted.countDown()
+            bothStarted.await(5, TimeUnit.SECONDS)
+        }
+
+        when: "running them"
+        def result = ConcurrentQueries.both(query, query, { a, b -> a && b })
+
+        then: "neither timed out waiting for the other"
+        result
+    }
+
+    def "should cancel the other query when one fails"() {
+        given: "a slow query and a failing one"
+        def interrupted = new CountDownLatch(1)
+        def slow = {
+            try {
+                Thread.sleep(10_000)
+            } catch (InterruptedException ignored) {
+                interrupted.countDown()
+            }
+            "late"
+        }
+        def failing = { throw new IllegalArgumentException("bad query") }
+
+        when: "running them"
+        ConcurrentQueries.both(slow, failing, { a, b -> a })
+
+        then: "the failure is rethrown"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "bad query"
+
+        and: "the slow query was interrupted"
+        interrupted.await(5, TimeUnit.SECONDS)
+    }
+
+    def "should wrap checked failures"() {
+        when: "a query throws a checked exception"
+        ConcurrentQueries.both({ throw new IOException("io") }, { 1 }, { a, b -> a })
+
+        then: "it is wrapped in IllegalStateException"
+        def exception = thrown(IllegalStateException)
+        exception.cause instanceof IOException
+    }
+
+    def "should run both queries on the calling thread inside a transaction"() {
+        given: "an active transaction"
+        TransactionSynchronizationManager.setActualTransactionActive(true)
+        def caller = Thread.currentThread()
+
+        when: "running two queries"
+        def result = ConcurrentQueries.both({ Thread.currentThread() }, { Thread.currentThread() }, { a, b -> [a, b] })
+
+        then: "both ran on the caller's thread"
+        result == [caller, caller]
+
+        cleanup:
+        TransactionSynchronizationManager.setActualTransactionActive(false)
+    }
+}
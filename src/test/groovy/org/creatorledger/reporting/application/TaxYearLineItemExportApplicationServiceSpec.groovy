@@ -0,0 +1,103 @@
+package org.creatorledger.reporting.application
+
+import org.creatorledger.common.Money
+import org.creatorledger.event.api.EventId
+import org.creatorledger.expense.api.ExpenseCategory
+import org.creatorledger.expense.api.ExpenseData
+import org.creatorledger.expense.api.ExpenseId
+import org.creatorledger.expense.api.ExpenseQueryService
+import org.creatorledger.income.api.IncomeData
+import org.creatorledger.income.api.IncomeId
+import org.creatorledger.income.api.IncomeQueryService
+import org.creatorledger.income.api.PaymentStatus
+import org.creatorledger.reporting.domain.TaxYear
+import org.creatorledger.user.api.UserId
+import spock.lang.Specification
+
+import java.time.LocalDate
+import java.util.stream.Stream
+
+class TaxYearLineItemExportApplicationServiceSpec extends Specification {
+
+    IncomeQueryService incomeQueryService
+    ExpenseQueryService expenseQueryService
+    TaxYearLineItemExportApplicationService service
+
+    def setup() {
+        incomeQueryService = Mock(IncomeQueryService)
+        expenseQueryService = Mock(ExpenseQueryService)
+        service = new TaxYearLineItemExportApplicationService(incomeQueryService, expenseQueryService)
+    }
+
+    def "should stream income then expenses for the tax year"() {
+        given: "a user and tax year"
+        def userId = UserId.generate()
+        def taxYear = TaxYear.of(2025)
+
+        and: "income and expense lines"
+        def income = new IncomeData(IncomeId.generate(), userId, EventId.generate(), Money.gbp("1000.00"),
+                "Project A", LocalDate.of(2025, 5, 1), PaymentStatus.PAID)
+        def expense = new ExpenseData(ExpenseId.generate(), userId, Money.gbp("300.00"),
+                ExpenseCategory.EQUIPMENT, "Camera", LocalDate.of(2025, 4, 10))
+        def incomeClosed = false
+        def expensesClosed = false
+        incomeQueryService.streamByUserIdAndDateRange(userId, taxYear.startDate(), taxYear.endDate()) >>
+                Stream.of(income).onClose { incomeClosed = true }
+        expenseQueryService.streamByUserIdAndDateRange(userId, taxYear.startDate(), taxYear.endDate()) >>
+                Stream.of(expense).onClose { expensesClosed = true }
+
+        when: "exporting"
+        def lines = []
+        def exported = service.export(new ExportTaxYearLineItemsCommand(userId, taxYear), { lines << it })
+
+        then: "income comes first, then expenses"
+        exported == 2
+        lines*.type() == [TaxYearLineItem.Type.INCOME, TaxYearLineItem.Type.EXPENSE]
+        lines[0].id() == income.id().value()
+        lines[0].status() == "PAID"
+        lines[0].category() == null
+        lines[1].id() == expense.id().value()
+        lines[1].category() == "EQUIPMENT"
+        lines[1].amount() == Money.gbp("300.00")
+
+        and: "both streams are closed"
+        incomeClosed
+        expensesClosed
+    }
+
+    def "should close the income stream when the sink fails"() {
+        given: "an income stream"
+        def userId = UserId.generate()
+        def closed = false
+        incomeQueryService.streamByUserIdAndDateRange(userId, _, _) >> Stream.of(
+                new IncomeData(IncomeId.generate(), userId, EventId.generate(), Money.gbp("1.00"),
+                        "Gig", LocalDate.of(2025, 5, 1), PaymentStatus.PENDING)
+        ).onClose { closed = true }
+
+        when: "the sink throws"
+        service.export(new ExportTaxYearLineItemsCommand(userId, TaxYear.of(2025)), { throw new UncheckedIOException(new IOException("client gone")) })
+
+        then: "the failure propagates and the stream is closed"
+        thrown(UncheckedIOException)
+        closed
+        0 * expenseQueryService.streamByUserIdAndDateRange(_, _, _)
+    }
+
+    def "should reject null command"() {
+        when: "exporting with null command"
+        service.export(null, {})
+
+        then: "it should throw IllegalArgumentException"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Command cannot be null"
+    }
+
+    def "should reject null sink"() {
+        when: "exporting with null sink"
+        service.export(new ExportTaxYearLineItemsCommand(UserId.generate(), TaxYear.of(2025)), null)
+
+        then: "it should throw IllegalArgumentException"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Sink cannot be null"
+    }
+}
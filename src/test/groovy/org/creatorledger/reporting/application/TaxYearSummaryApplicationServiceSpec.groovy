@@ -1,40 +1,49 @@
 package org.creatorledger.reporting.application
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
 import org.creatorledger.common.Money
-import org.creatorledger.event.api.EventId
 import org.creatorledger.expense.api.ExpenseCategory
-import org.creatorledger.expense.api.ExpenseData
 import org.creatorledger.expense.api.ExpenseQueryService
-import org.creatorledger.expense.domain.Expense
-import org.creatorledger.income.api.IncomeData
 import org.creatorledger.income.api.IncomeQueryService
-import org.creatorledger.income.domain.Income
+import org.creatorledger.reporting.api.TaxYearSummaryId
+import org.creatorledger.reporting.domain.CategoryTotals
 import org.creatorledger.reporting.domain.TaxYear
+import org.creatorledger.reporting.domain.TaxYearSummary
 import org.creatorledger.reporting.domain.TaxYearSummaryGenerated
+import org.creatorledger.reporting.domain.TaxYearTotals
 import org.creatorledger.user.api.UserId
 import org.springframework.context.ApplicationEventPublisher
 import spock.lang.Specification
 
-import java.time.LocalDate
-
 class TaxYearSummaryApplicationServiceSpec extends Specification {
 
     IncomeQueryService incomeQueryService
     ExpenseQueryService expenseQueryService
     TaxYearSummaryRepository taxYearSummaryRepository
+    TaxYearTotalsRepository taxYearTotalsRepository
+    TaxYearSummaryCache taxYearSummaryCache
     ApplicationEventPublisher eventPublisher
+    SimpleMeterRegistry meterRegistry
     TaxYearSummaryApplicationService service
 
     def setup() {
         incomeQueryService = Mock(IncomeQueryService)
         expenseQueryService = Mock(ExpenseQueryService)
         taxYearSummaryRepository = Mock(TaxYearSummaryRepository)
+        taxYearTotalsRepository = Mock(TaxYearTotalsRepository)
+        taxYearSummaryCache = Mock(TaxYearSummaryCache)
+        taxYearSummaryCache.findCurrent(_, _) >> Optional.empty()
+        taxYearSummaryCache.findById(_) >> Optional.empty()
         eventPublisher = Mock(ApplicationEventPublisher)
+        meterRegistry = new SimpleMeterRegistry()
         service = new TaxYearSummaryApplicationService(
                 incomeQueryService,
                 expenseQueryService,
                 taxYearSummaryRepository,
-                eventPublisher
+                taxYearTotalsRepository,
+                taxYearSummaryCache,
+                eventPublisher,
+                meterRegistry
         )
     }
 
@@ -44,15 +53,14 @@ class TaxYearSummaryApplicationServiceSpec extends Specification {
         def taxYear = TaxYear.of(2025)
         def command = new GenerateTaxYearSummaryCommand(userId, taxYear)
 
-        and: "some income for the tax year"
-        def income1 = IncomeData.from(Income.record(userId, EventId.generate(), Money.gbp("1000.00"), "Project 1", LocalDate.of(2025, 5, 1)))
-        def income2 = IncomeData.from(Income.record(userId, EventId.generate(), Money.gbp("1500.00"), "Project 2", LocalDate.of(2025, 7, 15)))
-        incomeQueryService.findByUserIdAndDateRange(userId, taxYear.startDate(), taxYear.endDate()) >> [income1, income2]
-
-        and: "some expenses for the tax year"
-        def expense1 = ExpenseData.from(Expense.record(userId, Money.gbp("300.00"), ExpenseCategory.EQUIPMENT, "Laptop", LocalDate.of(2025, 6, 1)))
-        def expense2 = ExpenseData.from(Expense.record(userId, Money.gbp("200.00"), ExpenseCategory.SOFTWARE, "Software license", LocalDate.of(2025, 8, 1)))
-        expenseQueryService.findByUserIdAndDateRange(userId, taxYear.startDate(), taxYear.endDate()) >> [expense1, expense2]
+        and: "the projected totals for the tax year"
+        taxYearTotalsRepository.findByUserIdAndTaxYear(userId, taxYear) >> new TaxYearTotals(
+                Money.gbp("2500.00"),
+                CategoryTotals.of([
+                        (ExpenseCategory.EQUIPMENT): Money.gbp("300.00"),
+                        (ExpenseCategory.SOFTWARE): Money.gbp("200.00")
+                ])
+        )
 
         when: "generating the summary"
         def summaryId = service.generate(command)
@@ -78,13 +86,11 @@ class TaxYearSummaryApplicationServiceSpec extends Specification {
         def taxYear = TaxYear.of(2025)
         def command = new GenerateTaxYearSummaryCommand(userId, taxYear)
 
-        and: "some income for the tax year"
-        def income = IncomeData.from(Income.record(userId, EventId.generate(), Money.gbp("1000.00"), "Project", LocalDate.of(2025, 5, 1)))
-        incomeQueryService.findByUserIdAndDateRange(userId, taxYear.startDate(), taxYear.endDate()) >> [income]
-
-        and: "some expenses for the tax year"
-        def expense = ExpenseData.from(Expense.record(userId, Money.gbp("300.00"), ExpenseCategory.EQUIPMENT, "Laptop", LocalDate.of(2025, 6, 1)))
-        expenseQueryService.findByUserIdAndDateRange(userId, taxYear.startDate(), taxYear.endDate()) >> [expense]
+        and: "the projected totals for the tax year"
+        taxYearTotalsRepository.findByUserIdAndTaxYear(userId, taxYear) >> new TaxYearTotals(
+                Money.gbp("1000.00"),
+                CategoryTotals.of([(ExpenseCategory.EQUIPMENT): Money.gbp("300.00")])
+        )
 
         when: "generating the summary"
         service.generate(command)
@@ -105,17 +111,43 @@ class TaxYearSummaryApplicationServiceSpec extends Specification {
         }
     }
 
+    def "should return the ID the summary is stored under when regenerating"() {
+        given: "a tax year whose summary is already stored"
+        def userId = UserId.generate()
+        def taxYear = TaxYear.of(2025)
+        def storedId = TaxYearSummaryId.generate()
+        taxYearTotalsRepository.findByUserIdAndTaxYear(userId, taxYear) >> new TaxYearTotals(
+                Money.gbp("1000.00"),
+                CategoryTotals.empty()
+        )
+
+        when: "generating it again"
+        def summaryId = service.generate(new GenerateTaxYearSummaryCommand(userId, taxYear))
+
+        then: "the repository keeps the existing ID"
+        1 * taxYearSummaryRepository.save(_) >> { args ->
+            def summary = args[0]
+            TaxYearSummary.generate(storedId, summary.userId(), summary.taxYear(),
+                    summary.totalIncome(), summary.totalExpenses(), summary.categoryTotals())
+        }
+
+        and: "that ID is returned, cached and announced"
+        summaryId == storedId
+        1 * taxYearSummaryCache.putCurrent({ it.id() == storedId })
+        1 * eventPublisher.publishEvent({ it instanceof TaxYearSummaryGenerated && it.summaryId() == storedId })
+    }
+
     def "should generate summary with zero income"() {
         given: "a user and tax year with no income"
         def userId = UserId.generate()
         def taxYear = TaxYear.of(2025)
         def command = new GenerateTaxYearSummaryCommand(userId, taxYear)
 
-        incomeQueryService.findByUserIdAndDateRange(_, _, _) >> []
-
         and: "some expenses"
-        def expense = ExpenseData.from(Expense.record(userId, Money.gbp("100.00"), ExpenseCategory.EQUIPMENT, "Item", LocalDate.of(2025, 6, 1)))
-        expenseQueryService.findByUserIdAndDateRange(_, _, _) >> [expense]
+        taxYearTotalsRepository.findByUserIdAndTaxYear(_, _) >> new TaxYearTotals(
+                Money.gbp("0.00"),
+                CategoryTotals.of([(ExpenseCategory.EQUIPMENT): Money.gbp("100.00")])
+        )
 
         when: "generating the summary"
         service.generate(command)
@@ -136,10 +168,10 @@ class TaxYearSummaryApplicationServiceSpec extends Specification {
         def command = new GenerateTaxYearSummaryCommand(userId, taxYear)
 
         and: "some income"
-        def income = IncomeData.from(Income.record(userId, EventId.generate(), Money.gbp("1000.00"), "Project", LocalDate.of(2025, 5, 1)))
-        incomeQueryService.findByUserIdAndDateRange(_, _, _) >> [income]
-
-        expenseQueryService.findByUserIdAndDateRange(_, _, _) >> []
+        taxYearTotalsRepository.findByUserIdAndTaxYear(_, _) >> new TaxYearTotals(
+                Money.gbp("1000.00"),
+                CategoryTotals.empty()
+        )
 
         when: "generating the summary"
         service.generate(command)
@@ -154,6 +186,181 @@ class TaxYearSummaryApplicationServiceSpec extends Specification {
         }
     }
 
+    def "should read totals from the projection without querying income or expenses"() {
+        given: "a user and tax year"
+        def userId = UserId.generate()
+        def taxYear = TaxYear.of(2025)
+        def command = new GenerateTaxYearSummaryCommand(userId, taxYear)
+
+        when: "generating the summary"
+        service.generate(command)
+
+        then: "only the projection is read"
+        1 * taxYearTotalsRepository.findByUserIdAndTaxYear(userId, taxYear) >> TaxYearTotals.empty()
+        0 * incomeQueryService._
+        0 * expenseQueryService._
+        1 * taxYearSummaryRepository.save(_) >> { args -> args[0] }
+    }
+
+    def "should return the cached summary when nothing has changed since it was generated"() {
+        given: "a current summary in the cache"
+        def userId = UserId.generate()
+        def taxYear = TaxYear.of(2025)
+        def summary = TaxYearSummary.generate(
+                userId,
+                taxYear,
+                Money.gbp("1000.00"),
+                Money.gbp("0.00"),
+                CategoryTotals.empty()
+        )
+
+        when: "generating the summary again"
+        def summaryId = service.generate(new GenerateTaxYearSummaryCommand(userId, taxYear))
+
+        then: "the shared totals still match the cached summary"
+        1 * taxYearTotalsRepository.findByUserIdAndTaxYear(userId, taxYear) >> new TaxYearTotals(
+                Money.gbp("1000.00"),
+                CategoryTotals.empty()
+        )
+        1 * taxYearSummaryCache.findCurrent(userId, taxYear) >> Optional.of(summary)
+
+        and: "the cached summary is returned"
+        summaryId == summary.id()
+
+        and: "nothing is stored or published"
+        0 * taxYearSummaryRepository._
+        0 * eventPublisher._
+    }
+
+    def "should regenerate when the totals changed since the cached summary was generated"() {
+        given: "a current summary in this instance's cache"
+        def userId = UserId.generate()
+        def taxYear = TaxYear.of(2025)
+        def cached = TaxYearSummary.generate(userId, taxYear, Money.gbp("1000.00"), Money.gbp("0.00"), CategoryTotals.empty())
+        taxYearSummaryCache.findCurrent(userId, taxYear) >> Optional.of(cached)
+
+        and: "income recorded on another instance since then"
+        taxYearTotalsRepository.findByUserIdAndTaxYear(userId, taxYear) >> new TaxYearTotals(
+                Money.gbp("1250.00"),
+                CategoryTotals.empty()
+        )
+
+        when: "generating the summary again"
+        service.generate(new GenerateTaxYearSummaryCommand(userId, taxYear))
+
+        then: "a summary with the new totals is stored and announced"
+        1 * taxYearSummaryRepository.save({ it.totalIncome() == Money.gbp("1250.00") }) >> { args -> args[0] }
+        1 * eventPublisher.publishEvent(_ as TaxYearSummaryGenerated)
+    }
+
+    def "should cache the generated summary as current"() {
+        given: "a user and tax year"
+        def userId = UserId.generate()
+        def taxYear = TaxYear.of(2025)
+        taxYearTotalsRepository.findByUserIdAndTaxYear(userId, taxYear) >> TaxYearTotals.empty()
+        def cached = null
+
+        when: "generating the summary"
+        def summaryId = service.generate(new GenerateTaxYearSummaryCommand(userId, taxYear))
+
+        then: "the stored summary is cached"
+        1 * taxYearSummaryRepository.save(_) >> { args -> args[0] }
+        1 * taxYearSummaryCache.putCurrent(_) >> { args -> cached = args[0] }
+        cached.id() == summaryId
+        cached.userId() == userId
+    }
+
+    def "should rebuild totals from income and expense aggregates"() {
+        given: "a user and tax year"
+        def userId = UserId.generate()
+        def taxYear = TaxYear.of(2025)
+        def command = new RebuildTaxYearTotalsCommand(userId, taxYear)
+
+        and: "the source aggregates for the tax year"
+        incomeQueryService.totalByUserIdAndDateRange(userId, taxYear.startDate(), taxYear.endDate()) >> Money.gbp("2500.00")
+        expenseQueryService.totalsByCategoryForUserIdAndDateRange(userId, taxYear.startDate(), taxYear.endDate()) >> [
+                (ExpenseCategory.EQUIPMENT): Money.gbp("300.00")
+        ]
+
+        when: "rebuilding the totals"
+        def totals = service.rebuildTotals(command)
+
+        then: "the projection is replaced with the recomputed totals"
+        1 * taxYearTotalsRepository.replace(userId, taxYear, _) >> { args ->
+            def replaced = args[2] as TaxYearTotals
+            assert replaced.totalIncome() == Money.gbp("2500.00")
+            assert replaced.expenseTotals().totalFor(ExpenseCategory.EQUIPMENT) == Money.gbp("300.00")
+        }
+        totals.totalIncome() == Money.gbp("2500.00")
+        totals.totalExpenses() == Money.gbp("300.00")
+
+        and: "any cached summary for the tax year is evicted"
+        1 * taxYearSummaryCache.evict(userId, taxYear)
+
+        and: "the fetch timings are recorded per source"
+        ["income", "expenses", "all"].every { source ->
+            meterRegistry.get("reporting.totals.fetch").tag("source", source).timer().count() == 1L
+        }
+    }
+
+    def "should fetch income and expense aggregates concurrently"() {
+        given: "a user and tax year"
+        def userId = UserId.generate()
+        def taxYear = TaxYear.of(2025)
+        def bothStarted = new java.util.concurrent.CountDownLatch(2)
+
+        and: "queries that only complete once both have started"
+        incomeQueryService.totalByUserIdAndDateRange(userId, _, _) >> {
+            bothStarted.countDown()
+            assert bothStarted.await(5, java.util.concurrent.TimeUnit.SECONDS)
+            Money.gbp("100.00")
+        }
+        expenseQueryService.totalsByCategoryForUserIdAndDateRange(userId, _, _) >> {
+            bothStarted.countDown()
+            assert bothStarted.await(5, java.util.concurrent.TimeUnit.SECONDS)
+            [:]
+        }
+
+        when: "rebuilding the totals"
+        def totals = service.rebuildTotals(new RebuildTaxYearTotalsCommand(userId, taxYear))
+
+        then: "both results are combined"
+        totals.totalIncome() == Money.gbp("100.00")
+        totals.expenseTotals().isEmpty()
+    }
+
+    def "should fail the rebuild and skip the projection when a query fails"() {
+        given: "a user and tax year"
+        def userId = UserId.generate()
+        def taxYear = TaxYear.of(2025)
+
+        and: "an expense query that fails"
+        incomeQueryService.totalByUserIdAndDateRange(userId, _, _) >> Money.gbp("100.00")
+        expenseQueryService.totalsByCategoryForUserIdAndDateRange(userId, _, _) >> {
+            throw new IllegalStateException("database unavailable")
+        }
+
+        when: "rebuilding the totals"
+        service.rebuildTotals(new RebuildTaxYearTotalsCommand(userId, taxYear))
+
+        then: "the failure is propagated"
+        def exception = thrown(IllegalStateException)
+        exception.message == "database unavailable"
+
+        and: "the projection is left untouched"
+        0 * taxYearTotalsRepository.replace(_, _, _)
+        0 * taxYearSummaryCache.evict(_, _)
+    }
+
+    def "should reject null command when rebuilding totals"() {
+        when: "rebuilding with null command"
+        service.rebuildTotals(null)
+
+        then: "it should throw IllegalArgumentException"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Command cannot be null"
+    }
+
     def "should reject null command"() {
         when: "generating with null command"
         service.generate(null)
@@ -166,7 +373,7 @@ class TaxYearSummaryApplicationServiceSpec extends Specification {
     def "should find summary by ID"() {
         given: "an existing summary"
         def summaryId = org.creatorledger.reporting.api.TaxYearSummaryId.generate()
-        def summary = org.creatorledger.reporting.domain.TaxYearSummary.generate(
+        def summary = TaxYearSummary.generate(
                 summaryId,
                 UserId.generate(),
                 TaxYear.of(2025),
@@ -182,6 +389,28 @@ class TaxYearSummaryApplicationServiceSpec extends Specification {
         1 * taxYearSummaryRepository.findById(summaryId) >> Optional.of(summary)
         result.isPresent()
         result.get() == summary
+
+        and: "the loaded summary is cached"
+        1 * taxYearSummaryCache.put(summary)
+    }
+
+    def "should find summary by ID from the cache"() {
+        given: "a cached summary"
+        def summary = TaxYearSummary.generate(
+                UserId.generate(),
+                TaxYear.of(2025),
+                Money.gbp("2000.00"),
+                Money.gbp("500.00"),
+                CategoryTotals.empty()
+        )
+
+        when: "finding by ID"
+        def result = service.findById(summary.id())
+
+        then: "the cache answers without reaching the repository"
+        1 * taxYearSummaryCache.findById(summary.id()) >> Optional.of(summary)
+        0 * taxYearSummaryRepository._
+        result.get() == summary
     }
 
     def "should reject null ID when finding"() {
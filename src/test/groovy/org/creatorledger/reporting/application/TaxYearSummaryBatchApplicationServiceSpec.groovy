@@ -0,0 +1,239 @@
+package org.creatorledger.reporting.application
+
+import org.creatorledger.common.Money
+import org.creatorledger.expense.api.ExpenseCategory
+import org.creatorledger.expense.api.ExpenseQueryService
+import org.creatorledger.income.api.IncomeQueryService
+import org.creatorledger.reporting.api.TaxYearSummaryId
+import org.creatorledger.reporting.domain.TaxYear
+import org.creatorledger.reporting.domain.TaxYearSummary
+import org.creatorledger.reporting.domain.TaxYearSummaryGenerated
+import org.creatorledger.user.api.UserId
+import org.creatorledger.user.api.UserQueryService
+import org.springframework.context.ApplicationEventPublisher
+import spock.lang.Specification
+
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class TaxYearSummaryBatchApplicationServiceSpec extends Specification {
+
+    UserQueryService userQueryService
+    IncomeQueryService incomeQueryService
+    ExpenseQueryService expenseQueryService
+    TaxYearSummaryRepository taxYearSummaryRepository
+    TaxYearSummaryCache taxYearSummaryCache
+    ApplicationEventPublisher eventPublisher
+    TaxYearSummaryBatchApplicationService service
+
+    def taxYear = TaxYear.of(2025)
+
+    def setup() {
+        userQueryService = Mock(UserQueryService)
+        incomeQueryService = Mock(IncomeQueryService)
+        expenseQueryService = Mock(ExpenseQueryService)
+        taxYearSummaryRepository = Mock(TaxYearSummaryRepository) {
+            saveAll(_) >> { args -> args[0] }
+        }
+        taxYearSummaryCache = Mock(TaxYearSummaryCache)
+        eventPublisher = Mock(ApplicationEventPublisher)
+        service = new TaxYearSummaryBatchApplicationService(
+                userQueryService,
+                incomeQueryService,
+                expenseQueryService,
+                taxYearSummaryRepository,
+                taxYearSummaryCache,
+                eventPublisher
+        )
+    }
+
+    def "should generate summaries for all users with one query per chunk"() {
+        given: "five users"
+        def users = (1..5).collect { UserId.generate() }
+        userQueryService.findAllIds() >> users
+
+        and: "every user has income and equipment expenses"
+        incomeQueryService.totalsByUserIdsAndDateRange(_, taxYear.startDate(), taxYear.endDate()) >> { args ->
+            args[0].collectEntries { [(it): Money.gbp("1000.00")] }
+        }
+        expenseQueryService.totalsByCategoryForUserIdsAndDateRange(_, taxYear.startDate(), taxYear.endDate()) >> { args ->
+            args[0].collectEntries { [(it): [(ExpenseCategory.EQUIPMENT): Money.gbp("200.00")]] }
+        }
+
+        and: "saved summaries are captured"
+        def saved = new ConcurrentLinkedQueue<TaxYearSummary>()
+
+        when: "generating in chunks of two"
+        def result = service.generateForAllUsers(new GenerateTaxYearSummariesCommand(taxYear, 2, 2))
+
+        then: "the users are written in three batches"
+        3 * taxYearSummaryRepository.saveAll(_) >> { args ->
+            saved.addAll(args[0])
+            args[0]
+        }
+
+        and: "each summary is cached as current and announced"
+        5 * taxYearSummaryCache.putCurrent(_)
+        5 * eventPublisher.publishEvent(_ as TaxYearSummaryGenerated)
+
+        and: "every user has a summary with the correct totals"
+        saved*.userId() as Set == users as Set
+        saved.every {
+            it.taxYear() == taxYear &&
+                    it.totalIncome() == Money.gbp("1000.00") &&
+                    it.totalExpenses() == Money.gbp("200.00") &&
+                    it.profit() == Money.gbp("800.00")
+        }
+
+        and: "the result reports the run"
+        result.taxYear() == taxYear
+        result.usersProcessed() == 5
+        result.summariesGenerated() == 5
+        result.usersFailed() == 0
+        result.usersSkipped() == 0
+    }
+
+    def "should skip users without income or expenses in the tax year"() {
+        given: "a user with income, a user with expenses and an inactive user"
+        def earner = UserId.generate()
+        def spender = UserId.generate()
+        def inactive = UserId.generate()
+        userQueryService.findAllIds() >> [earner, spender, inactive]
+        incomeQueryService.totalsByUserIdsAndDateRange(_, _, _) >> [(earner): Money.gbp("500.00")]
+        expenseQueryService.totalsByCategoryForUserIdsAndDateRange(_, _, _) >> [
+                (spender): [(ExpenseCategory.SOFTWARE): Money.gbp("50.00")]
+        ]
+
+        when: "generating the batch"
+        def result = service.generateForAllUsers(new GenerateTaxYearSummariesCommand(taxYear, 10, 1))
+
+        then: "only active users get a summary"
+        1 * taxYearSummaryRepository.saveAll(_) >> { args ->
+            def summaries = args[0] as List<TaxYearSummary>
+            assert summaries*.userId() == [earner, spender]
+            assert summaries[0].totalExpenses() == Money.gbp("0.00")
+            assert summaries[1].totalIncome() == Money.gbp("0.00")
+            assert summaries[1].categoryTotals().totalFor(ExpenseCategory.SOFTWARE) == Money.gbp("50.00")
+            summaries
+        }
+        result.summariesGenerated() == 2
+        result.usersSkipped() == 1
+    }
+
+    def "should cache and announce summaries under the ID they are stored with"() {
+        given: "one user whose summary for the year is already stored"
+        def userId = UserId.generate()
+        def storedId = TaxYearSummaryId.generate()
+        userQueryService.findAllIds() >> [userId]
+        incomeQueryService.totalsByUserIdsAndDateRange(_, _, _) >> [(userId): Money.gbp("100.00")]
+        expenseQueryService.totalsByCategoryForUserIdsAndDateRange(_, _, _) >> [:]
+
+        when: "generating the batch"
+        service.generateForAllUsers(new GenerateTaxYearSummariesCommand(taxYear, 10, 1))
+
+        then: "the repository keeps the existing ID"
+        1 * taxYearSummaryRepository.saveAll(_) >> { args ->
+            args[0].collect { summary ->
+                TaxYearSummary.generate(storedId, summary.userId(), summary.taxYear(),
+                        summary.totalIncome(), summary.totalExpenses(), summary.categoryTotals())
+            }
+        }
+
+        and: "the cache and the event use that ID"
+        1 * taxYearSummaryCache.putCurrent({ it.id() == storedId })
+        1 * eventPublisher.publishEvent({ it instanceof TaxYearSummaryGenerated && it.summaryId() == storedId })
+    }
+
+    def "should carry on with other chunks when one fails"() {
+        given: "four users in two chunks"
+        def users = (1..4).collect { UserId.generate() }
+        userQueryService.findAllIds() >> users
+
+        and: "the first chunk's income query fails"
+        incomeQueryService.totalsByUserIdsAndDateRange(_, _, _) >> { args ->
+            if (args[0].contains(users[0])) {
+                throw new IllegalStateException("Database unavailable")
+            }
+            args[0].collectEntries { [(it): Money.gbp("100.00")] }
+        }
+        expenseQueryService.totalsByCategoryForUserIdsAndDateRange(_, _, _) >> [:]
+
+        when: "generating the batch"
+        def result = service.generateForAllUsers(new GenerateTaxYearSummariesCommand(taxYear, 2, 2))
+
+        then: "the healthy chunk is still written"
+        1 * taxYearSummaryRepository.saveAll({ it.size() == 2 }) >> { args -> args[0] }
+
+        and: "the failed users are reported"
+        result.usersProcessed() == 4
+        result.summariesGenerated() == 2
+        result.usersFailed() == 2
+    }
+
+    def "should not run more chunks at once than the configured concurrency"() {
+        given: "eight users in chunks of one"
+        userQueryService.findAllIds() >> (1..8).collect { UserId.generate() }
+        expenseQueryService.totalsByCategoryForUserIdsAndDateRange(_, _, _) >> [:]
+
+        and: "an income query that records how many chunks are in flight"
+        def inFlight = new AtomicInteger()
+        def maxInFlight = new AtomicInteger()
+        def started = new CountDownLatch(2)
+        incomeQueryService.totalsByUserIdsAndDateRange(_, _, _) >> { args ->
+            def current = inFlight.incrementAndGet()
+            maxInFlight.accumulateAndGet(current, Math::max)
+            started.countDown()
+            started.await(1, TimeUnit.SECONDS)
+            inFlight.decrementAndGet()
+            args[0].collectEntries { [(it): Money.gbp("1.00")] }
+        }
+
+        when: "generating with a concurrency of two"
+        def result = service.generateForAllUsers(new GenerateTaxYearSummariesCommand(taxYear, 1, 2))
+
+        then: "all chunks complete"
+        result.summariesGenerated() == 8
+
+        and: "chunks ran concurrently but never more than two at a time"
+        maxInFlight.get() == 2
+    }
+
+    def "should handle having no users"() {
+        given: "no registered users"
+        userQueryService.findAllIds() >> []
+
+        when: "generating the batch"
+        def result = service.generateForAllUsers(new GenerateTaxYearSummariesCommand(taxYear, 100, 4))
+
+        then: "nothing is queried or written"
+        0 * incomeQueryService._
+        0 * taxYearSummaryRepository._
+        result.usersProcessed() == 0
+        result.summariesGenerated() == 0
+    }
+
+    def "should reject null command"() {
+        when: "generating with null command"
+        service.generateForAllUsers(null)
+
+        then: "it should throw IllegalArgumentException"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Command cannot be null"
+    }
+
+    def "should reject invalid batch sizes"() {
+        when: "creating a command with a non-positive size"
+        new GenerateTaxYearSummariesCommand(taxYear, chunkSize, maxConcurrency)
+
+        then: "it should throw IllegalArgumentException"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == message
+
+        where:
+        chunkSize | maxConcurrency || message
+        0         | 1              || "Chunk size must be at least 1"
+        1         | 0              || "Max concurrency must be at least 1"
+    }
+}
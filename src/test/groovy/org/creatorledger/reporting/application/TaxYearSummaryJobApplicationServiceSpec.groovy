@@ -0,0 +1,214 @@
+package org.creatorledger.reporting.application
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.creatorledger.reporting.api.TaxYearSummaryId
+import org.creatorledger.reporting.domain.TaxYear
+import org.creatorledger.user.api.UserId
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.ZoneOffset
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class TaxYearSummaryJobApplicationServiceSpec extends Specification {
+
+    TaxYearSummaryApplicationService taxYearSummaryApplicationService
+    Map<TaxYearSummaryJobId, TaxYearSummaryJob> storedJobs
+    TaxYearSummaryJobRepository jobRepository
+    SimpleMeterRegistry meterRegistry
+    TaxYearSummaryJobApplicationService service
+    PollingConditions conditions = new PollingConditions(timeout: 5)
+
+    def setup() {
+        taxYearSummaryApplicationService = Mock(TaxYearSummaryApplicationService)
+        storedJobs = new ConcurrentHashMap<>()
+        jobRepository = Stub(TaxYearSummaryJobRepository) {
+            save(_) >> { TaxYearSummaryJob job -> storedJobs.put(job.id(), job) }
+            findById(_) >> { TaxYearSummaryJobId id -> Optional.ofNullable(storedJobs.get(id)) }
+            deleteById(_) >> { TaxYearSummaryJobId id -> storedJobs.remove(id) }
+            deleteFinishedBefore(_) >> { Instant cutoff ->
+                def finished = storedJobs.values().findAll { it.status().isFinished() && it.completedAt().isBefore(cutoff) }
+                finished.each { storedJobs.remove(it.id()) }
+                finished.size()
+            }
+        }
+        meterRegistry = new SimpleMeterRegistry()
+    }
+
+    def cleanup() {
+        service?.shutdown()
+    }
+
+    private TaxYearSummaryJobApplicationService newService(int workers, int queueCapacity, Clock clock = Clock.systemUTC()) {
+        new TaxYearSummaryJobApplicationService(
+                taxYearSummaryApplicationService,
+                jobRepository,
+                meterRegistry,
+                workers,
+                queueCapacity,
+                Duration.ofHours(1),
+                clock
+        )
+    }
+
+    private static GenerateTaxYearSummaryCommand command() {
+        new GenerateTaxYearSummaryCommand(UserId.generate(), TaxYear.of(2025))
+    }
+
+    def "should queue a job and record the generated summary"() {
+        given: "a job service"
+        service = newService(1, 10)
+        def summaryId = TaxYearSummaryId.generate()
+        taxYearSummaryApplicationService.generate(_) >> summaryId
+
+        when: "submitting a job"
+        def job = service.submit(command())
+
+        then: "the job is accepted as queued"
+        job.status() == TaxYearSummaryJobStatus.QUEUED
+
+        and: "it eventually succeeds with the summary ID"
+        conditions.eventually {
+            def current = service.findById(job.id()).get()
+            assert current.status() == TaxYearSummaryJobStatus.SUCCEEDED
+            assert current.generatedSummaryId() == Optional.of(summaryId)
+            assert current.completedAt() != null
+        }
+    }
+
+    def "should record failed jobs"() {
+        given: "generation that fails"
+        service = newService(1, 10)
+        taxYearSummaryApplicationService.generate(_) >> { throw new IllegalStateException("no totals") }
+
+        when: "submitting a job"
+        def job = service.submit(command())
+
+        then: "it eventually fails with the reason"
+        conditions.eventually {
+            def current = service.findById(job.id()).get()
+            assert current.status() == TaxYearSummaryJobStatus.FAILED
+            assert current.failure() == "no totals"
+        }
+    }
+
+    def "should reject jobs when the queue is full"() {
+        given: "one worker, a queue of one, and a job that blocks the worker"
+        service = newService(1, 1)
+        def release = new CountDownLatch(1)
+        def started = new CountDownLatch(1)
+        taxYearSummaryApplicationService.generate(_) >> {
+            started.countDown()
+            release.await(5, TimeUnit.SECONDS)
+            TaxYearSummaryId.generate()
+        }
+        service.submit(command())
+        started.await(5, TimeUnit.SECONDS)
+        service.submit(command())
+
+        when: "submitting one more job"
+        service.submit(command())
+
+        then: "it is rejected"
+        def exception = thrown(TaxYearSummaryJobRejectedException)
+        exception.message == "Summary job queue is full"
+        meterRegistry.get("reporting.summary.jobs.rejected").counter().count() == 1d
+        meterRegistry.get("reporting.summary.jobs.queued").gauge().value() == 1d
+
+        and: "the rejected job is not kept"
+        storedJobs.size() == 2
+
+        cleanup:
+        release.countDown()
+    }
+
+    def "should forget finished jobs after the retention period"() {
+        given: "a clock that can be moved forward"
+        def now = Instant.parse("2026-01-20T10:00:00Z")
+        def clock = Mock(Clock)
+        clock.instant() >> { now }
+        clock.getZone() >> ZoneOffset.UTC
+        service = newService(1, 10, clock)
+        taxYearSummaryApplicationService.generate(_) >> TaxYearSummaryId.generate()
+
+        and: "a finished job"
+        def job = service.submit(command())
+        conditions.eventually {
+            assert service.findById(job.id()).get().status() == TaxYearSummaryJobStatus.SUCCEEDED
+        }
+
+        and: "a job still within the retention period"
+        now = now.plus(Duration.ofMinutes(90))
+        def recent = service.submit(command())
+        conditions.eventually {
+            assert service.findById(recent.id()).get().status() == TaxYearSummaryJobStatus.SUCCEEDED
+        }
+
+        when: "purging after the first job's retention period"
+        now = now.plus(Duration.ofMinutes(30))
+        def purged = service.purgeFinishedJobs()
+
+        then: "only the old job is gone"
+        purged == 1
+        service.findById(job.id()).isEmpty()
+        service.findById(recent.id()).isPresent()
+    }
+
+    def "should not purge finished jobs on submit"() {
+        given: "a job service with a mocked repository"
+        def repository = Mock(TaxYearSummaryJobRepository)
+        service = new TaxYearSummaryJobApplicationService(
+                taxYearSummaryApplicationService, repository, meterRegistry, 1, 10, Duration.ofHours(1), Clock.systemUTC())
+
+        when: "submitting a job"
+        service.submit(command())
+
+        then: "no finished jobs are deleted"
+        0 * repository.deleteFinishedBefore(_)
+    }
+
+    def "should return empty for unknown jobs"() {
+        given: "a job service"
+        service = newService(1, 10)
+
+        expect: "unknown job IDs are not found"
+        service.findById(TaxYearSummaryJobId.generate()).isEmpty()
+    }
+
+    def "should reject null command"() {
+        given: "a job service"
+        service = newService(1, 10)
+
+        when: "submitting null"
+        service.submit(null)
+
+        then: "it should throw IllegalArgumentException"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Command cannot be null"
+    }
+
+    def "should reject null job repository"() {
+        when: "creating a service without a job repository"
+        new TaxYearSummaryJobApplicationService(
+                taxYearSummaryApplicationService, null, meterRegistry, 1, 10, Duration.ofHours(1), Clock.systemUTC()
+        )
+
+        then: "it should throw IllegalArgumentException"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Job repository cannot be null"
+    }
+
+    def "should reject invalid pool settings"() {
+        when: "creating a service without workers"
+        newService(0, 10)
+
+        then: "it should throw IllegalArgumentException"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Workers must be at least 1"
+    }
+}
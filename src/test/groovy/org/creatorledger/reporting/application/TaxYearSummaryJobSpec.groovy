@@ -0,0 +1,65 @@
+package org.creatorledger.reporting.application
+
+import org.creatorledger.reporting.api.TaxYearSummaryId
+import org.creatorledger.reporting.domain.TaxYear
+import org.creatorledger.user.api.UserId
+import spock.lang.Specification
+
+import java.time.Instant
+
+class TaxYearSummaryJobSpec extends Specification {
+
+    def command = new GenerateTaxYearSummaryCommand(UserId.generate(), TaxYear.of(2025))
+    def submittedAt = Instant.parse("2026-01-20T10:00:00Z")
+
+    def "should create a queued job"() {
+        when: "queuing a job"
+        def job = TaxYearSummaryJob.queued(command, submittedAt)
+
+        then: "it is queued for the command's user and tax year"
+        job.id() != null
+        job.userId() == command.userId()
+        job.taxYear() == command.taxYear()
+        job.status() == TaxYearSummaryJobStatus.QUEUED
+        job.generatedSummaryId().isEmpty()
+        job.completedAt() == null
+    }
+
+    def "should move through running to succeeded"() {
+        given: "a queued job"
+        def job = TaxYearSummaryJob.queued(command, submittedAt)
+        def summaryId = TaxYearSummaryId.generate()
+        def finishedAt = submittedAt.plusSeconds(2)
+
+        when: "it runs and succeeds"
+        def running = job.running()
+        def succeeded = running.succeeded(summaryId, finishedAt)
+
+        then: "each snapshot reflects its state"
+        running.status() == TaxYearSummaryJobStatus.RUNNING
+        succeeded.status() == TaxYearSummaryJobStatus.SUCCEEDED
+        succeeded.status().isFinished()
+        succeeded.generatedSummaryId() == Optional.of(summaryId)
+        succeeded.completedAt() == finishedAt
+        succeeded.id() == job.id()
+    }
+
+    def "should record failure reason"() {
+        when: "a job fails"
+        def failed = TaxYearSummaryJob.queued(command, submittedAt).failed("boom", submittedAt.plusSeconds(1))
+
+        then: "the reason is kept"
+        failed.status() == TaxYearSummaryJobStatus.FAILED
+        failed.failure() == "boom"
+        failed.generatedSummaryId().isEmpty()
+    }
+
+    def "should reject missing summary ID on success"() {
+        when: "succeeding without a summary"
+        TaxYearSummaryJob.queued(command, submittedAt).succeeded(null, submittedAt)
+
+        then: "it should throw IllegalArgumentException"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Summary ID cannot be null"
+    }
+}
@@ -0,0 +1,171 @@
+package org.creatorledger.reporting.application
+
+import org.creatorledger.common.Money
+import org.creatorledger.event.api.EventId
+import org.creatorledger.expense.api.ExpenseCategory
+import org.creatorledger.expense.api.ExpenseId
+import org.creatorledger.expense.domain.ExpenseRecorded
+import org.creatorledger.expense.domain.ExpenseUpdated
+import org.creatorledger.expense.domain.ExpensesImported
+import org.creatorledger.income.api.IncomeId
+import org.creatorledger.income.domain.IncomeRecorded
+import org.creatorledger.income.domain.IncomeUpdated
+import org.creatorledger.reporting.domain.TaxYear
+import org.creatorledger.user.api.UserId
+import spock.lang.Specification
+
+import java.time.LocalDate
+
+class TaxYearTotalsProjectorSpec extends Specification {
+
+    TaxYearTotalsRepository taxYearTotalsRepository
+    TaxYearSummaryCache taxYearSummaryCache
+    TaxYearTotalsProjector projector
+
+    def setup() {
+        taxYearTotalsRepository = Mock(TaxYearTotalsRepository)
+        taxYearSummaryCache = Mock(TaxYearSummaryCache)
+        projector = new TaxYearTotalsProjector(taxYearTotalsRepository, taxYearSummaryCache)
+    }
+
+    def "should add recorded income to the tax year containing the received date"() {
+        given: "an IncomeRecorded event received before 6 April"
+        def userId = UserId.generate()
+        def event = IncomeRecorded.of(
+                IncomeId.generate(),
+                userId,
+                EventId.generate(),
+                Money.gbp("500.00"),
+                "Website design project",
+                LocalDate.of(2026, 4, 5)
+        )
+
+        when: "the event is handled"
+        projector.onIncomeRecorded(event)
+
+        then: "the income is added to the 2025-26 tax year"
+        1 * taxYearTotalsRepository.addIncome(userId, TaxYear.of(2025), Money.gbp("500.00"))
+
+        then: "the cached summary for that tax year is evicted"
+        1 * taxYearSummaryCache.evict(userId, TaxYear.of(2025))
+    }
+
+    def "should move updated income between tax years"() {
+        given: "an IncomeUpdated event moving income into the next tax year"
+        def userId = UserId.generate()
+        def event = IncomeUpdated.of(
+                IncomeId.generate(),
+                userId,
+                Money.gbp("500.00"),
+                LocalDate.of(2026, 4, 5),
+                Money.gbp("750.00"),
+                "Website design project",
+                LocalDate.of(2026, 4, 6)
+        )
+
+        when: "the event is handled"
+        projector.onIncomeUpdated(event)
+
+        then: "the previous amount is removed from the old tax year"
+        1 * taxYearTotalsRepository.subtractIncome(userId, TaxYear.of(2025), Money.gbp("500.00"))
+
+        then: "the new amount is added to the new tax year"
+        1 * taxYearTotalsRepository.addIncome(userId, TaxYear.of(2026), Money.gbp("750.00"))
+
+        then: "cached summaries for both tax years are evicted"
+        1 * taxYearSummaryCache.evict(userId, TaxYear.of(2025))
+        1 * taxYearSummaryCache.evict(userId, TaxYear.of(2026))
+    }
+
+    def "should add recorded expense to its category"() {
+        given: "an ExpenseRecorded event"
+        def userId = UserId.generate()
+        def event = ExpenseRecorded.of(
+                ExpenseId.generate(),
+                userId,
+                Money.gbp("150.00"),
+                ExpenseCategory.EQUIPMENT,
+                "New microphone",
+                LocalDate.of(2026, 1, 15)
+        )
+
+        when: "the event is handled"
+        projector.onExpenseRecorded(event)
+
+        then: "the expense is added to its category in the tax year"
+        1 * taxYearTotalsRepository.addExpense(userId, TaxYear.of(2025), ExpenseCategory.EQUIPMENT, Money.gbp("150.00"))
+
+        then: "the cached summary for that tax year is evicted"
+        1 * taxYearSummaryCache.evict(userId, TaxYear.of(2025))
+    }
+
+    def "should move updated expense between categories"() {
+        given: "an ExpenseUpdated event changing category"
+        def userId = UserId.generate()
+        def event = ExpenseUpdated.of(
+                ExpenseId.generate(),
+                userId,
+                Money.gbp("150.00"),
+                ExpenseCategory.EQUIPMENT,
+                LocalDate.of(2026, 1, 15),
+                Money.gbp("200.00"),
+                ExpenseCategory.SOFTWARE,
+                "Editing software",
+                LocalDate.of(2026, 1, 15)
+        )
+
+        when: "the event is handled"
+        projector.onExpenseUpdated(event)
+
+        then: "the previous amount is removed from the old category"
+        1 * taxYearTotalsRepository.subtractExpense(userId, TaxYear.of(2025), ExpenseCategory.EQUIPMENT, Money.gbp("150.00"))
+
+        then: "the new amount is added to the new category"
+        1 * taxYearTotalsRepository.addExpense(userId, TaxYear.of(2025), ExpenseCategory.SOFTWARE, Money.gbp("200.00"))
+
+        then: "the cached summary for the unchanged tax year is evicted once"
+        1 * taxYearSummaryCache.evict(userId, TaxYear.of(2025))
+    }
+
+    def "should add imported expenses once per tax year and category"() {
+        given: "an ExpensesImported event spanning the 6 April boundary"
+        def userId = UserId.generate()
+        def event = ExpensesImported.of(userId, 5, [
+                new ExpensesImported.DailyTotal(LocalDate.of(2026, 4, 5), ExpenseCategory.EQUIPMENT, Money.gbp("100.00")),
+                new ExpensesImported.DailyTotal(LocalDate.of(2026, 4, 5), ExpenseCategory.SOFTWARE, Money.gbp("10.00")),
+                new ExpensesImported.DailyTotal(LocalDate.of(2026, 4, 6), ExpenseCategory.EQUIPMENT, Money.gbp("50.00")),
+                new ExpensesImported.DailyTotal(LocalDate.of(2026, 4, 7), ExpenseCategory.EQUIPMENT, Money.gbp("25.00"))
+        ])
+
+        when: "the event is handled"
+        projector.onExpensesImported(event)
+
+        then: "each tax year and category is updated once with its summed total"
+        1 * taxYearTotalsRepository.addExpense(userId, TaxYear.of(2025), ExpenseCategory.EQUIPMENT, Money.gbp("100.00"))
+        1 * taxYearTotalsRepository.addExpense(userId, TaxYear.of(2025), ExpenseCategory.SOFTWARE, Money.gbp("10.00"))
+        1 * taxYearTotalsRepository.addExpense(userId, TaxYear.of(2026), ExpenseCategory.EQUIPMENT, Money.gbp("75.00"))
+        0 * taxYearTotalsRepository._
+
+        and: "the cached summary for each tax year is evicted"
+        1 * taxYearSummaryCache.evict(userId, TaxYear.of(2025))
+        1 * taxYearSummaryCache.evict(userId, TaxYear.of(2026))
+    }
+
+    def "should reject null repository"() {
+        when: "creating the projector without a repository"
+        new TaxYearTotalsProjector(null, taxYearSummaryCache)
+
+        then: "it throws IllegalArgumentException"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Tax year totals repository cannot be null"
+    }
+
+    def "should reject null cache"() {
+        when: "creating the projector without a cache"
+        new TaxYearTotalsProjector(taxYearTotalsRepository, null)
+
+        then: "it throws IllegalArgumentException"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Tax year summary cache cannot be null"
+    }
+}
@@ -3,6 +3,7 @@ package org.creatorledger.reporting.domain
 import org.creatorledger.common.Money
 import org.creatorledger.expense.api.ExpenseCategory
 import spock.lang.Specification
+import tools.jackson.databind.json.JsonMapper
 
 class CategoryTotalsSpec extends Specification {
 
@@ -162,4 +163,104 @@ class CategoryTotalsSpec extends Specification {
         result.contains("EQUIPMENT")
         result.contains("SOFTWARE")
     }
+
+    def "should accumulate expenses per category"() {
+        given: "an accumulator"
+        def accumulator = CategoryTotals.accumulator()
+
+        when: "adding several expenses"
+        accumulator.add(ExpenseCategory.EQUIPMENT, Money.gbp("1000.00"))
+                .add(ExpenseCategory.SOFTWARE, Money.gbp("20.00"))
+                .add(ExpenseCategory.EQUIPMENT, Money.gbp("0.50"))
+                .addMinorUnits(ExpenseCategory.SOFTWARE, 1999L)
+        def totals = accumulator.toCategoryTotals()
+
+        then: "each category is summed"
+        totals.totalFor(ExpenseCategory.EQUIPMENT) == Money.gbp("1000.50")
+        totals.totalFor(ExpenseCategory.SOFTWARE) == Money.gbp("39.99")
+        totals.totalFor(ExpenseCategory.TRAVEL) == Money.gbp("0.00")
+        totals.overallTotal() == Money.gbp("1040.49")
+        totals.categories() == [ExpenseCategory.EQUIPMENT, ExpenseCategory.SOFTWARE] as Set
+    }
+
+    def "should equal totals built from a map"() {
+        given: "the same expenses via the accumulator and a map"
+        def accumulated = CategoryTotals.accumulator()
+                .add(ExpenseCategory.TRAVEL, Money.gbp("100.00"))
+                .add(ExpenseCategory.TRAVEL, Money.gbp("50.25"))
+                .toCategoryTotals()
+        def mapped = CategoryTotals.of([(ExpenseCategory.TRAVEL): Money.gbp("150.25")])
+
+        expect: "they are equal"
+        accumulated == mapped
+        accumulated.hashCode() == mapped.hashCode()
+        accumulated.totals() == [(ExpenseCategory.TRAVEL): Money.gbp("150.25")]
+    }
+
+    def "should be empty when nothing is accumulated"() {
+        when: "building without adding"
+        def totals = CategoryTotals.accumulator().toCategoryTotals()
+
+        then: "it is empty"
+        totals.isEmpty()
+        totals == CategoryTotals.empty()
+        totals.overallTotal() == Money.gbp("0.00")
+    }
+
+    def "should reject a different currency when accumulating"() {
+        when: "adding a USD expense to GBP totals"
+        CategoryTotals.accumulator().add(ExpenseCategory.TRAVEL, Money.of(new BigDecimal("10.00"), "USD"))
+
+        then: "it throws IllegalArgumentException"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Cannot perform operation on different currencies: GBP and USD"
+    }
+
+    def "should reject null category when accumulating"() {
+        when: "adding to a null category"
+        CategoryTotals.accumulator().add(null, Money.gbp("10.00"))
+
+        then: "it throws IllegalArgumentException"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Category cannot be null"
+    }
+
+    def "should not expose mutable totals"() {
+        given: "category totals"
+        def totals = CategoryTotals.of([(ExpenseCategory.EQUIPMENT): Money.gbp("1000.00")])
+
+        when: "modifying the returned map"
+        totals.totals().put(ExpenseCategory.SOFTWARE, Money.gbp("1.00"))
+
+        then: "it is rejected"
+        thrown(UnsupportedOperationException)
+    }
+
+    def "should keep its JSON shape and read back from JSON"() {
+        given: "category totals and a JSON mapper"
+        def totals = CategoryTotals.of([
+                (ExpenseCategory.EQUIPMENT): Money.gbp("1000.00"),
+                (ExpenseCategory.SOFTWARE): Money.gbp("500.00")
+        ])
+        def jsonMapper = JsonMapper.builder().build()
+
+        when: "writing them as JSON"
+        def json = jsonMapper.writeValueAsString(totals)
+
+        then: "the totals map is written under totals"
+        def tree = jsonMapper.readTree(json)
+        tree.get("totals").get("EQUIPMENT").get("amount").decimalValue() == 1000.00G
+        tree.get("totals").get("SOFTWARE").get("currency").asString() == "GBP"
+
+        and: "reading the JSON back gives equal totals"
+        jsonMapper.readValue(json, CategoryTotals) == totals
+    }
+
+    def "should read empty totals back from JSON"() {
+        given: "a JSON mapper"
+        def jsonMapper = JsonMapper.builder().build()
+
+        expect: "empty totals round-trip"
+        jsonMapper.readValue(jsonMapper.writeValueAsString(CategoryTotals.empty()), CategoryTotals).isEmpty()
+    }
 }
@@ -88,6 +88,26 @@ class TaxYearSpec extends Specification {
         exception.message.contains("must be within")
     }
 
+    def "should find the tax year containing a date"() {
+        expect: "the tax year runs from 6 April to 5 April"
+        TaxYear.containing(date) == TaxYear.of(startYear)
+
+        where:
+        date                       || startYear
+        LocalDate.of(2025, 4, 5)   || 2024
+        LocalDate.of(2025, 4, 6)   || 2025
+        LocalDate.of(2025, 12, 31) || 2025
+        LocalDate.of(2026, 1, 31)  || 2025
+    }
+
+    def "should reject null date when finding containing tax year"() {
+        when: "finding the tax year for a null date"
+        TaxYear.containing(null)
+
+        then: "it throws IllegalArgumentException"
+        thrown(IllegalArgumentException)
+    }
+
     def "should provide readable toString format"() {
         given: "a tax year 2024-25"
         def taxYear = TaxYear.of(2024)
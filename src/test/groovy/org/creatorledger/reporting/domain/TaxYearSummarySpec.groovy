@@ -257,4 +257,21 @@ class TaxYearSummarySpec extends Specification {
         result.contains("TaxYearSummary")
         result.contains("2024")
     }
+
+    def "should match only the totals it was built from"() {
+        given: "a summary built from income and software expenses"
+        def categoryTotals = CategoryTotals.of([(ExpenseCategory.SOFTWARE): Money.gbp("500.00")])
+        def summary = TaxYearSummary.generate(
+                UserId.generate(),
+                TaxYear.of(2024),
+                Money.gbp("2000.00"),
+                categoryTotals.overallTotal(),
+                categoryTotals
+        )
+
+        expect: "the same totals match and changed totals do not"
+        summary.hasTotals(new TaxYearTotals(Money.gbp("2000.00"), categoryTotals))
+        !summary.hasTotals(new TaxYearTotals(Money.gbp("2100.00"), categoryTotals))
+        !summary.hasTotals(new TaxYearTotals(Money.gbp("2000.00"), CategoryTotals.empty()))
+    }
 }
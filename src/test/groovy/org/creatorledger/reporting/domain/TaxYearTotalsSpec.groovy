@@ -0,0 +1,52 @@
+package org.creatorledger.reporting.domain
+
+import org.creatorledger.common.Money
+import org.creatorledger.expense.api.ExpenseCategory
+import spock.lang.Specification
+
+class TaxYearTotalsSpec extends Specification {
+
+    def "should create totals with income and expense totals"() {
+        given: "income and expense totals"
+        def expenseTotals = CategoryTotals.of([
+                (ExpenseCategory.EQUIPMENT): Money.gbp("300.00"),
+                (ExpenseCategory.SOFTWARE): Money.gbp("200.00")
+        ])
+
+        when: "creating the totals"
+        def totals = new TaxYearTotals(Money.gbp("2500.00"), expenseTotals)
+
+        then: "the totals are available"
+        totals.totalIncome() == Money.gbp("2500.00")
+        totals.expenseTotals() == expenseTotals
+        totals.totalExpenses() == Money.gbp("500.00")
+    }
+
+    def "should create empty totals"() {
+        when: "creating empty totals"
+        def totals = TaxYearTotals.empty()
+
+        then: "income and expenses are zero"
+        totals.totalIncome() == Money.gbp("0.00")
+        totals.totalExpenses() == Money.gbp("0.00")
+        totals.expenseTotals().isEmpty()
+    }
+
+    def "should reject null total income"() {
+        when: "creating totals with null income"
+        new TaxYearTotals(null, CategoryTotals.empty())
+
+        then: "it throws IllegalArgumentException"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Total income cannot be null"
+    }
+
+    def "should reject null expense totals"() {
+        when: "creating totals with null expense totals"
+        new TaxYearTotals(Money.gbp("0.00"), null)
+
+        then: "it throws IllegalArgumentException"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Expense totals cannot be null"
+    }
+}
@@ -0,0 +1,128 @@
+package org.creatorledger.reporting.infrastructure
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.creatorledger.common.Money
+import org.creatorledger.reporting.domain.CategoryTotals
+import org.creatorledger.reporting.domain.TaxYear
+import org.creatorledger.reporting.domain.TaxYearSummary
+import org.creatorledger.user.api.UserId
+import spock.lang.Specification
+
+import java.time.Duration
+
+class CaffeineTaxYearSummaryCacheSpec extends Specification {
+
+    SimpleMeterRegistry meterRegistry
+    CaffeineTaxYearSummaryCache cache
+
+    def setup() {
+        meterRegistry = new SimpleMeterRegistry()
+        cache = new CaffeineTaxYearSummaryCache(meterRegistry, 100, Duration.ofMinutes(30))
+    }
+
+    def "should find a current summary by ID and by user and tax year"() {
+        given: "a current summary"
+        def summary = summaryFor(UserId.generate(), TaxYear.of(2025))
+        cache.putCurrent(summary)
+
+        expect: "it can be found both ways"
+        cache.findById(summary.id()) == Optional.of(summary)
+        cache.findCurrent(summary.userId(), summary.taxYear()) == Optional.of(summary)
+    }
+
+    def "should only serve loaded summaries by ID"() {
+        given: "a summary loaded from storage"
+        def summary = summaryFor(UserId.generate(), TaxYear.of(2025))
+        cache.put(summary)
+
+        expect: "it is found by ID"
+        cache.findById(summary.id()) == Optional.of(summary)
+
+        and: "it is not treated as current"
+        cache.findCurrent(summary.userId(), summary.taxYear()).isEmpty()
+    }
+
+    def "should keep a current summary current when the same summary is loaded again"() {
+        given: "a current summary"
+        def summary = summaryFor(UserId.generate(), TaxYear.of(2025))
+        cache.putCurrent(summary)
+
+        when: "the same summary is loaded by ID"
+        cache.put(summary)
+
+        then: "it is still current"
+        cache.findCurrent(summary.userId(), summary.taxYear()) == Optional.of(summary)
+    }
+
+    def "should stop serving a summary once it is superseded"() {
+        given: "two summaries generated for the same user and tax year"
+        def userId = UserId.generate()
+        def first = summaryFor(userId, TaxYear.of(2025))
+        def second = summaryFor(userId, TaxYear.of(2025))
+
+        when: "both are cached in turn"
+        cache.putCurrent(first)
+        cache.putCurrent(second)
+
+        then: "only the newer summary is served"
+        cache.findById(first.id()).isEmpty()
+        cache.findById(second.id()) == Optional.of(second)
+        cache.findCurrent(userId, TaxYear.of(2025)) == Optional.of(second)
+    }
+
+    def "should evict only the given user and tax year"() {
+        given: "current summaries for two tax years"
+        def userId = UserId.generate()
+        def evicted = summaryFor(userId, TaxYear.of(2025))
+        def kept = summaryFor(userId, TaxYear.of(2024))
+        cache.putCurrent(evicted)
+        cache.putCurrent(kept)
+
+        when: "evicting one tax year"
+        cache.evict(userId, TaxYear.of(2025))
+
+        then: "that summary is gone"
+        cache.findById(evicted.id()).isEmpty()
+        cache.findCurrent(userId, TaxYear.of(2025)).isEmpty()
+
+        and: "the other is untouched"
+        cache.findCurrent(userId, TaxYear.of(2024)) == Optional.of(kept)
+    }
+
+    def "should record hits, misses and evictions"() {
+        given: "a current summary"
+        def summary = summaryFor(UserId.generate(), TaxYear.of(2025))
+        cache.putCurrent(summary)
+
+        when: "looking it up, missing once and evicting it"
+        cache.findById(summary.id())
+        cache.findCurrent(summary.userId(), summary.taxYear())
+        cache.findCurrent(UserId.generate(), TaxYear.of(2025))
+        cache.evict(summary.userId(), summary.taxYear())
+
+        then: "the meters reflect the activity"
+        counter("cache.gets", "result", "hit") == 2
+        counter("cache.gets", "result", "miss") == 1
+        counter("cache.evictions", "cause", "explicit") == 1
+        meterRegistry.get("cache.size").tag("cache", "taxYearSummaries").gauge().value() == 0
+    }
+
+    def "should bound the number of entries"() {
+        given: "a cache holding a single entry"
+        def smallCache = new CaffeineTaxYearSummaryCache(meterRegistry, 1, Duration.ofMinutes(30))
+
+        when: "caching summaries for several users"
+        (1..5).each { smallCache.putCurrent(summaryFor(UserId.generate(), TaxYear.of(2025))) }
+
+        then: "entries beyond the bound are evicted"
+        counter("cache.evictions", "cause", "size") >= 4
+    }
+
+    private double counter(final String name, final String tagKey, final String tagValue) {
+        meterRegistry.get(name).tag("cache", "taxYearSummaries").tag(tagKey, tagValue).counter().count()
+    }
+
+    private static TaxYearSummary summaryFor(final UserId userId, final TaxYear taxYear) {
+        TaxYearSummary.generate(userId, taxYear, Money.gbp("1000.00"), Money.gbp("250.00"), CategoryTotals.empty())
+    }
+}
@@ -0,0 +1,84 @@
+package org.creatorledger.reporting.infrastructure
+
+import org.creatorledger.reporting.api.TaxYearSummaryId
+import org.creatorledger.reporting.application.GenerateTaxYearSummaryCommand
+import org.creatorledger.reporting.application.TaxYearSummaryJob
+import org.creatorledger.reporting.application.TaxYearSummaryJobId
+import org.creatorledger.reporting.application.TaxYearSummaryJobStatus
+import org.creatorledger.reporting.domain.TaxYear
+import org.creatorledger.user.api.UserId
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection
+import org.springframework.transaction.annotation.Transactional
+import org.testcontainers.containers.PostgreSQLContainer
+import org.testcontainers.spock.Testcontainers
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.time.Duration
+import java.time.Instant
+
+@SpringBootTest
+@Transactional
+@Testcontainers
+class JpaTaxYearSummaryJobRepositoryIntegrationSpec extends Specification {
+
+    static final Instant SUBMITTED_AT = Instant.parse("2026-01-20T10:00:00Z")
+
+    @Shared
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test")
+
+    @Autowired
+    JpaTaxYearSummaryJobRepository repository
+
+    def "should store each state of a job under its ID"() {
+        given: "a queued job"
+        def queued = queuedJob()
+        repository.save(queued)
+
+        when: "it runs and succeeds"
+        def summaryId = TaxYearSummaryId.generate()
+        repository.save(queued.running())
+        repository.save(queued.succeeded(summaryId, SUBMITTED_AT.plusSeconds(5)))
+
+        then: "the latest state is read back"
+        def stored = repository.findById(queued.id()).get()
+        stored.status() == TaxYearSummaryJobStatus.SUCCEEDED
+        stored.generatedSummaryId() == Optional.of(summaryId)
+        stored.userId() == queued.userId()
+        stored.taxYear() == queued.taxYear()
+        stored.submittedAt() == SUBMITTED_AT
+        stored.completedAt() == SUBMITTED_AT.plusSeconds(5)
+    }
+
+    def "should delete only the jobs that finished before the cutoff"() {
+        given: "an old finished job, a recent finished job and an unfinished job"
+        def old = queuedJob().failed("no totals", SUBMITTED_AT.plusSeconds(1))
+        def recent = queuedJob().failed("no totals", SUBMITTED_AT.plus(Duration.ofHours(2)))
+        def running = queuedJob().running()
+        [old, recent, running].each { repository.save(it) }
+
+        when: "deleting jobs finished more than an hour after submission"
+        def deleted = repository.deleteFinishedBefore(SUBMITTED_AT.plus(Duration.ofHours(1)))
+
+        then: "only the old job is gone"
+        deleted == 1
+        repository.findById(old.id()).isEmpty()
+        repository.findById(recent.id()).isPresent()
+        repository.findById(running.id()).isPresent()
+    }
+
+    def "should return empty for unknown jobs"() {
+        expect:
+        repository.findById(TaxYearSummaryJobId.generate()).isEmpty()
+    }
+
+    private static TaxYearSummaryJob queuedJob() {
+        TaxYearSummaryJob.queued(new GenerateTaxYearSummaryCommand(UserId.generate(), TaxYear.of(2025)), SUBMITTED_AT)
+    }
+}
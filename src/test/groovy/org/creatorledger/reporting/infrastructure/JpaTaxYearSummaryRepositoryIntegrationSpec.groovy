@@ -0,0 +1,80 @@
+package org.creatorledger.reporting.infrastructure
+
+import org.creatorledger.common.Money
+import org.creatorledger.expense.api.ExpenseCategory
+import org.creatorledger.reporting.domain.CategoryTotals
+import org.creatorledger.reporting.domain.TaxYear
+import org.creatorledger.reporting.domain.TaxYearSummary
+import org.creatorledger.user.api.UserId
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection
+import org.springframework.transaction.annotation.Transactional
+import org.testcontainers.containers.PostgreSQLContainer
+import org.testcontainers.spock.Testcontainers
+import spock.lang.Shared
+import spock.lang.Specification
+
+@SpringBootTest
+@Transactional
+@Testcontainers
+class JpaTaxYearSummaryRepositoryIntegrationSpec extends Specification {
+
+    @Shared
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test")
+
+    @Autowired
+    JpaTaxYearSummaryRepository repository
+
+    def "should save and retrieve a summary"() {
+        given: "a new summary"
+        def summary = summary(UserId.generate(), "1000.00", "300.00")
+
+        when: "saving it"
+        def saved = repository.save(summary)
+
+        then: "it is stored under its own ID"
+        saved == summary
+        repository.findById(summary.id()).get() == summary
+    }
+
+    def "should keep the stored ID when a summary is regenerated"() {
+        given: "a stored summary"
+        def userId = UserId.generate()
+        def first = repository.save(summary(userId, "1000.00", "300.00"))
+
+        when: "a new summary for the same user and tax year is saved"
+        def regenerated = summary(userId, "1500.00", "400.00")
+        def saved = repository.save(regenerated)
+
+        then: "the stored row keeps the first ID and holds the new totals"
+        saved.id() == first.id()
+        saved.totalIncome() == Money.gbp("1500.00")
+        repository.findById(first.id()).get().totalIncome() == Money.gbp("1500.00")
+        !repository.existsById(regenerated.id())
+    }
+
+    def "should return a batch in order with the IDs it is stored under"() {
+        given: "one user with a stored summary and two without"
+        def users = (1..3).collect { UserId.generate() }
+        def stored = repository.save(summary(users[1], "100.00", "0.00"))
+        def batch = users.collect { summary(it, "200.00", "50.00") }
+
+        when: "saving the batch"
+        def saved = repository.saveAll(batch)
+
+        then: "new summaries keep their IDs and the replaced one keeps the stored ID"
+        saved*.userId() == users
+        saved*.id() == [batch[0].id(), stored.id(), batch[2].id()]
+        saved.every { repository.findById(it.id()).get().totalIncome() == Money.gbp("200.00") }
+    }
+
+    private static TaxYearSummary summary(final UserId userId, final String income, final String software) {
+        def categoryTotals = CategoryTotals.of([(ExpenseCategory.SOFTWARE): Money.gbp(software)])
+        TaxYearSummary.generate(userId, TaxYear.of(2025), Money.gbp(income), categoryTotals.overallTotal(), categoryTotals)
+    }
+}
@@ -0,0 +1,80 @@
+package org.creatorledger.reporting.infrastructure
+
+import org.creatorledger.reporting.application.TaxYearSummaryBatchApplicationService
+import org.creatorledger.reporting.domain.TaxYear
+import org.springframework.jdbc.core.ConnectionCallback
+import org.springframework.jdbc.core.JdbcOperations
+import spock.lang.Specification
+
+import java.sql.Connection
+import java.sql.PreparedStatement
+import java.sql.ResultSet
+import java.time.LocalDate
+import java.time.ZoneId
+
+class TaxYearSummaryBatchSchedulerSpec extends Specification {
+
+    TaxYearSummaryBatchApplicationService batchApplicationService = Mock()
+    JdbcOperations jdbcOperations = Mock()
+    Connection connection = Mock()
+    TaxYearSummaryBatchScheduler scheduler
+
+    def setup() {
+        jdbcOperations.execute(_ as ConnectionCallback) >> { ConnectionCallback callback -> callback.doInConnection(connection) }
+        scheduler = new TaxYearSummaryBatchScheduler(batchApplicationService, jdbcOperations, "Europe/London", 250, 3)
+    }
+
+    def "should generate summaries for the last completed tax year while holding the lock"() {
+        given: "the lock is free"
+        connection.prepareStatement(TaxYearSummaryBatchScheduler.TRY_LOCK_SQL) >> statementReturning(true)
+
+        and: "the tax year before the current one"
+        def expectedTaxYear = TaxYear.of(TaxYear.containing(LocalDate.now(ZoneId.of("Europe/London"))).startYear() - 1)
+
+        when: "the schedule fires"
+        scheduler.generateForLastCompletedTaxYear()
+
+        then: "the batch runs with the configured sizes"
+        1 * batchApplicationService.generateForAllUsers({
+            it.taxYear() == expectedTaxYear && it.chunkSize() == 250 && it.maxConcurrency() == 3
+        })
+
+        then: "the lock is released"
+        1 * connection.prepareStatement(TaxYearSummaryBatchScheduler.UNLOCK_SQL) >> statementReturning(true)
+    }
+
+    def "should release the lock when the batch fails"() {
+        given: "the lock is free and the batch fails"
+        connection.prepareStatement(TaxYearSummaryBatchScheduler.TRY_LOCK_SQL) >> statementReturning(true)
+        batchApplicationService.generateForAllUsers(_) >> { throw new IllegalStateException("database unavailable") }
+
+        when: "the schedule fires"
+        scheduler.generateForLastCompletedTaxYear()
+
+        then: "the failure propagates after the lock is released"
+        1 * connection.prepareStatement(TaxYearSummaryBatchScheduler.UNLOCK_SQL) >> statementReturning(true)
+        thrown(IllegalStateException)
+    }
+
+    def "should skip the run when another instance holds the lock"() {
+        given: "the lock is taken"
+        connection.prepareStatement(TaxYearSummaryBatchScheduler.TRY_LOCK_SQL) >> statementReturning(false)
+
+        when: "the schedule fires"
+        scheduler.generateForLastCompletedTaxYear()
+
+        then: "no batch runs and no lock is released"
+        0 * batchApplicationService.generateForAllUsers(_)
+        0 * connection.prepareStatement(TaxYearSummaryBatchScheduler.UNLOCK_SQL)
+    }
+
+    private PreparedStatement statementReturning(final boolean value) {
+        def resultSet = Stub(ResultSet) {
+            next() >> true
+            getBoolean(1) >> value
+        }
+        Stub(PreparedStatement) {
+            executeQuery() >> resultSet
+        }
+    }
+}
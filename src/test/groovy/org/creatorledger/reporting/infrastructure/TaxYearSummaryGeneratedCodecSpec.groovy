@@ -0,0 +1,74 @@
+package org.creatorledger.reporting.infrastructure
+
+import org.creatorledger.common.EventInput
+import org.creatorledger.common.EventOutput
+import org.creatorledger.common.Money
+import org.creatorledger.expense.api.ExpenseCategory
+import org.creatorledger.reporting.api.TaxYearSummaryId
+import org.creatorledger.reporting.domain.CategoryTotals
+import org.creatorledger.reporting.domain.TaxYear
+import org.creatorledger.reporting.domain.TaxYearSummaryGenerated
+import org.creatorledger.user.api.UserId
+import spock.lang.Specification
+
+import java.time.Instant
+import java.time.LocalDate
+
+class TaxYearSummaryGeneratedCodecSpec extends Specification {
+
+    def codec = new TaxYearSummaryGeneratedCodec()
+
+    def event = new TaxYearSummaryGenerated(
+            TaxYearSummaryId.generate(),
+            UserId.generate(),
+            new TaxYear(2025),
+            Money.gbp(new BigDecimal("42000.00")),
+            Money.gbp(new BigDecimal("3100.50")),
+            Money.gbp(new BigDecimal("38899.50")),
+            CategoryTotals.of([
+                    (ExpenseCategory.EQUIPMENT): Money.gbp(new BigDecimal("2500.00")),
+                    (ExpenseCategory.TRAVEL)   : Money.gbp(new BigDecimal("600.50"))
+            ]),
+            Instant.parse("2026-10-17T09:15:30Z")
+    )
+
+    def "should read back the event it wrote"() {
+        given: "the event written by the codec"
+        def output = new EventOutput()
+        codec.write(event, output)
+
+        when: "reading it back"
+        def input = new EventInput(output.toByteArray(), 0)
+        def read = codec.read(codec.schemaVersion(), input)
+
+        then: "every field is unchanged and nothing is left over"
+        read == event
+        input.isExhausted()
+    }
+
+    def "should read back empty category totals"() {
+        given: "a summary without expenses"
+        def noExpenses = new TaxYearSummaryGenerated(event.summaryId(), event.userId(), event.taxYear(),
+                event.totalIncome(), Money.gbp("0.00"), event.totalIncome(), CategoryTotals.empty(), event.occurredAt())
+        def output = new EventOutput()
+        codec.write(noExpenses, output)
+
+        when: "reading it back"
+        def input = new EventInput(output.toByteArray(), 0)
+        def read = codec.read(codec.schemaVersion(), input)
+
+        then: "the totals are still empty"
+        read == noExpenses
+        read.categoryTotals().isEmpty()
+        input.isExhausted()
+    }
+
+    def "should reject an unknown schema version"() {
+        when: "reading a version it never wrote"
+        codec.read(99, new EventInput(new byte[0], 0))
+
+        then: "an exception is thrown"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Unknown TaxYearSummaryGenerated schema version 99"
+    }
+}
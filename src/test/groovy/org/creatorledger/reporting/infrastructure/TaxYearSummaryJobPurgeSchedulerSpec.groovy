@@ -0,0 +1,19 @@
+package org.creatorledger.reporting.infrastructure
+
+import org.creatorledger.reporting.application.TaxYearSummaryJobApplicationService
+import spock.lang.Specification
+
+class TaxYearSummaryJobPurgeSchedulerSpec extends Specification {
+
+    def "should purge finished jobs when the schedule fires"() {
+        given: "a scheduler"
+        def jobApplicationService = Mock(TaxYearSummaryJobApplicationService)
+        def scheduler = new TaxYearSummaryJobPurgeScheduler(jobApplicationService)
+
+        when: "the schedule fires"
+        scheduler.purgeFinishedJobs()
+
+        then: "finished jobs past their retention are purged"
+        1 * jobApplicationService.purgeFinishedJobs() >> 3
+    }
+}
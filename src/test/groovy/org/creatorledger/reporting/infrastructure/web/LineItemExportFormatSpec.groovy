@@ -0,0 +1,98 @@
+package org.creatorledger.reporting.infrastructure.web
+
+import org.creatorledger.common.Money
+import org.creatorledger.reporting.application.TaxYearLineItem
+import spock.lang.Specification
+
+import java.time.LocalDate
+
+class LineItemExportFormatSpec extends Specification {
+
+    static final UUID ID = UUID.fromString("0b7c1d6e-2f55-4b5a-9d1c-6f0a7a3e9b21")
+
+    def "should write CSV header and lines"() {
+        given: "an expense line"
+        def item = new TaxYearLineItem(TaxYearLineItem.Type.EXPENSE, ID, LocalDate.of(2025, 4, 10),
+                "Camera", "EQUIPMENT", null, Money.gbp("300.00"))
+        def writer = new StringWriter()
+
+        when: "writing CSV"
+        LineItemExportFormat.CSV.writeHeader(writer)
+        LineItemExportFormat.CSV.writeLine(writer, item)
+
+        then: "the header and row are written"
+        writer.toString() == "type,id,date,description,category,status,amount,currency\n" +
+                "EXPENSE,${ID},2025-04-10,Camera,EQUIPMENT,,300.00,GBP\n"
+    }
+
+    def "should quote CSV fields that need it"() {
+        given: "an income line with commas, quotes and newlines"
+        def item = new TaxYearLineItem(TaxYearLineItem.Type.INCOME, ID, LocalDate.of(2025, 5, 1),
+                'Shoot, "director\'s cut"\nday 2', null, "PAID", Money.gbp("1000.00"))
+        def writer = new StringWriter()
+
+        when: "writing CSV"
+        LineItemExportFormat.CSV.writeLine(writer, item)
+
+        then: "the description is quoted with doubled quotes"
+        writer.toString() == "INCOME,${ID},2025-05-01,\"Shoot, \"\"director's cut\"\"\nday 2\",,PAID,1000.00,GBP\n"
+    }
+
+    def "should prefix CSV text cells that a spreadsheet would read as a formula"() {
+        given: "a line whose description starts with a formula character"
+        def item = new TaxYearLineItem(TaxYearLineItem.Type.EXPENSE, ID, LocalDate.of(2025, 4, 10),
+                description, "OTHER", null, Money.gbp("5.00"))
+        def writer = new StringWriter()
+
+        when: "writing CSV"
+        LineItemExportFormat.CSV.writeLine(writer, item)
+
+        then: "the description is written as text"
+        writer.toString() == "EXPENSE,${ID},2025-04-10,${written},OTHER,,5.00,GBP\n"
+
+        where:
+        description          || written
+        "=HYPERLINK(\"x\")"  || "\"'=HYPERLINK(\"\"x\"\")\""
+        "+1"                 || "'+1"
+        "-1"                 || "'-1"
+        "@SUM(A1)"           || "'@SUM(A1)"
+        "\tTabbed"           || "'\tTabbed"
+        "Plain = text"       || "Plain = text"
+    }
+
+    def "should write NDJSON lines with escaping"() {
+        given: "an income line with characters that need escaping"
+        def item = new TaxYearLineItem(TaxYearLineItem.Type.INCOME, ID, LocalDate.of(2025, 5, 1),
+                'Say "hi"\\now\n\u0001', null, "PENDING", Money.gbp("12.50"))
+        def writer = new StringWriter()
+
+        when: "writing NDJSON"
+        LineItemExportFormat.NDJSON.writeHeader(writer)
+        LineItemExportFormat.NDJSON.writeLine(writer, item)
+
+        then: "one JSON object is written per line"
+        writer.toString() == '{"type":"INCOME","id":"' + ID + '","date":"2025-05-01",' +
+                '"description":"Say \\"hi\\"\\\\now\\n\\u0001","category":null,"status":"PENDING",' +
+                '"amount":"12.50","currency":"GBP"}\n'
+    }
+
+    def "should parse formats case-insensitively"() {
+        expect:
+        LineItemExportFormat.of(value) == format
+
+        where:
+        value    || format
+        "csv"    || LineItemExportFormat.CSV
+        "NDJSON" || LineItemExportFormat.NDJSON
+        " Csv "  || LineItemExportFormat.CSV
+    }
+
+    def "should reject unsupported formats"() {
+        when: "parsing an unknown format"
+        LineItemExportFormat.of("xlsx")
+
+        then: "it should throw IllegalArgumentException"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Unsupported export format: xlsx"
+    }
+}
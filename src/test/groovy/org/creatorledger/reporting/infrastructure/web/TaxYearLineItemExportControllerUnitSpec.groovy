@@ -0,0 +1,106 @@
+package org.creatorledger.reporting.infrastructure.web
+
+import org.creatorledger.common.Money
+import org.creatorledger.reporting.application.TaxYearLineItem
+import org.creatorledger.reporting.application.TaxYearLineItemExportApplicationService
+import org.creatorledger.reporting.domain.TaxYear
+import org.creatorledger.user.api.UserId
+import org.springframework.http.HttpHeaders
+import org.springframework.http.HttpStatus
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.time.LocalDate
+import java.util.function.Consumer
+import java.util.zip.GZIPInputStream
+
+class TaxYearLineItemExportControllerUnitSpec extends Specification {
+
+    TaxYearLineItemExportApplicationService exportApplicationService
+    TaxYearLineItemExportController controller
+
+    def setup() {
+        exportApplicationService = Mock(TaxYearLineItemExportApplicationService)
+        controller = new TaxYearLineItemExportController(exportApplicationService)
+    }
+
+    private static TaxYearLineItem line(int i) {
+        new TaxYearLineItem(TaxYearLineItem.Type.INCOME, UUID.randomUUID(), LocalDate.of(2025, 5, 1),
+                "Gig ${i}", null, "PAID", Money.gbp("10.00"))
+    }
+
+    def "should stream CSV lines"() {
+        given: "a user with two lines"
+        def userId = UUID.randomUUID()
+        exportApplicationService.export({ it.userId() == UserId.of(userId) && it.taxYear() == TaxYear.of(2025) }, _) >> { args ->
+            def sink = args[1] as Consumer<TaxYearLineItem>
+            sink.accept(line(1))
+            sink.accept(line(2))
+            2L
+        }
+
+        when: "exporting as CSV"
+        def response = controller.export(userId.toString(), 2025, "csv", null)
+        def output = new ByteArrayOutputStream()
+        response.body.writeTo(output)
+
+        then: "the response is a CSV attachment"
+        response.statusCode == HttpStatus.OK
+        response.headers.getContentType().toString() == "text/csv;charset=UTF-8"
+        response.headers.getFirst(HttpHeaders.CONTENT_DISPOSITION).contains("line-items-${userId}-2025.csv")
+        !response.headers.containsHeader(HttpHeaders.CONTENT_ENCODING)
+
+        and: "the body has the header and one row per line"
+        def rows = output.toString(StandardCharsets.UTF_8).readLines()
+        rows.size() == 3
+        rows[0].startsWith("type,id,date")
+        rows[1].contains("Gig 1")
+        rows[2].contains("Gig 2")
+    }
+
+    def "should gzip NDJSON when the client accepts it"() {
+        given: "many lines"
+        def userId = UUID.randomUUID()
+        def count = TaxYearLineItemExportController.FLUSH_EVERY_ROWS * 2 + 1
+        exportApplicationService.export(_, _) >> { args ->
+            def sink = args[1] as Consumer<TaxYearLineItem>
+            (1..count).each { sink.accept(line(it)) }
+            (long) count
+        }
+
+        when: "exporting as NDJSON with gzip accepted"
+        def response = controller.export(userId.toString(), 2025, "ndjson", "br;q=1.0, gzip;q=0.8")
+        def output = new ByteArrayOutputStream()
+        response.body.writeTo(output)
+
+        then: "the response is gzip encoded NDJSON"
+        response.headers.getFirst(HttpHeaders.CONTENT_ENCODING) == "gzip"
+        response.headers.getContentType().toString() == "application/x-ndjson;charset=UTF-8"
+
+        and: "it decompresses to one JSON object per line"
+        def rows = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))
+                .getText(StandardCharsets.UTF_8.name())
+                .readLines()
+        rows.size() == count
+        rows.every { it.startsWith('{"type":"INCOME"') }
+    }
+
+    def "should not gzip when the client refuses it"() {
+        when: "exporting with gzip;q=0"
+        def response = controller.export(UUID.randomUUID().toString(), 2025, "csv", "gzip;q=0")
+
+        then: "the response is not encoded"
+        !response.headers.containsHeader(HttpHeaders.CONTENT_ENCODING)
+    }
+
+    def "should return 400 for invalid parameters"() {
+        expect:
+        controller.export(userId, taxYear, format, null).statusCode == HttpStatus.BAD_REQUEST
+
+        where:
+        userId                        | taxYear | format
+        "not-a-uuid"                  | 2025    | "csv"
+        UUID.randomUUID().toString()  | 1900    | "csv"
+        UUID.randomUUID().toString()  | 2025    | "xlsx"
+    }
+}
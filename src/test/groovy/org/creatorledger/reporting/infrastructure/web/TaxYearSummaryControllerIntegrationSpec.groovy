@@ -133,6 +133,12 @@ class TaxYearSummaryControllerIntegrationSpec extends Specification {
                 LocalDate.of(2025, 6, 1)
         ))
 
+        and: "the totals projection rebuilt within the test transaction"
+        mockMvc.perform(post("/api/tax-year-summaries/totals/rebuild")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RebuildTaxYearTotalsRequest(userId.value(), 2025))))
+                .andExpect(status().isNoContent())
+
         and: "a generated summary"
         def generateRequest = new GenerateTaxYearSummaryRequest(userId.value(), 2025)
         def requestJson = objectMapper.writeValueAsString(generateRequest)
@@ -187,4 +193,24 @@ class TaxYearSummaryControllerIntegrationSpec extends Specification {
         mockMvc.perform(get("/api/tax-year-summaries/not-a-uuid"))
                 .andExpect(status().isBadRequest())
     }
+
+    def "should accept a summary job and report it by ID"() {
+        given: "a generate request"
+        def request = [userId: UserId.generate().value().toString(), taxYear: 2025]
+
+        when: "submitting a summary job"
+        def result = mockMvc.perform(post("/api/tax-year-summaries/jobs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andReturn()
+
+        then: "the job location is returned"
+        def location = result.response.getHeader("Location")
+        location.startsWith("/api/tax-year-summaries/jobs/")
+
+        and: "the job can be polled"
+        mockMvc.perform(get(location))
+                .andExpect(status().isOk())
+    }
 }
@@ -3,22 +3,112 @@ package org.creatorledger.reporting.infrastructure.web
 import org.creatorledger.common.Money
 import org.creatorledger.expense.api.ExpenseCategory
 import org.creatorledger.reporting.api.TaxYearSummaryId
+import org.creatorledger.reporting.application.GenerateTaxYearSummaryCommand
 import org.creatorledger.reporting.application.TaxYearSummaryApplicationService
+import org.creatorledger.reporting.application.TaxYearSummaryJob
+import org.creatorledger.reporting.application.TaxYearSummaryJobId
+import org.creatorledger.reporting.application.TaxYearSummaryJobRejectedException
+import org.creatorledger.reporting.application.TaxYearSummaryJobApplicationService
 import org.creatorledger.reporting.domain.CategoryTotals
 import org.creatorledger.reporting.domain.TaxYear
 import org.creatorledger.reporting.domain.TaxYearSummary
 import org.creatorledger.user.api.UserId
+import org.springframework.http.HttpHeaders
 import org.springframework.http.HttpStatus
 import spock.lang.Specification
 
 class TaxYearSummaryControllerUnitSpec extends Specification {
 
     TaxYearSummaryApplicationService taxYearSummaryApplicationService
+    TaxYearSummaryJobApplicationService taxYearSummaryJobApplicationService
     TaxYearSummaryController controller
 
     def setup() {
         taxYearSummaryApplicationService = Mock(TaxYearSummaryApplicationService)
-        controller = new TaxYearSummaryController(taxYearSummaryApplicationService)
+        taxYearSummaryJobApplicationService = Mock(TaxYearSummaryJobApplicationService)
+        controller = new TaxYearSummaryController(taxYearSummaryApplicationService, taxYearSummaryJobApplicationService)
+    }
+
+    def "should accept a summary job"() {
+        given: "a generate request"
+        def userId = UUID.randomUUID()
+        def request = new GenerateTaxYearSummaryRequest(userId, 2025)
+
+        and: "the job service queues the job"
+        def job = TaxYearSummaryJob.queued(
+                new GenerateTaxYearSummaryCommand(UserId.of(userId), TaxYear.of(2025)),
+                java.time.Instant.now()
+        )
+        taxYearSummaryJobApplicationService.submit(_) >> job
+
+        when: "submitting the job"
+        def response = controller.submitJob(request)
+
+        then: "the response is 202 Accepted with the job location"
+        response.statusCode == HttpStatus.ACCEPTED
+        response.headers.getLocation().toString() == "/api/tax-year-summaries/jobs/${job.id().value()}"
+        response.body.id() == job.id().value().toString()
+        response.body.status() == "QUEUED"
+        response.body.summaryLocation() == null
+    }
+
+    def "should return 429 when the job queue is full"() {
+        given: "a full job queue"
+        taxYearSummaryJobApplicationService.submit(_) >> { throw new TaxYearSummaryJobRejectedException("Summary job queue is full") }
+
+        when: "submitting a job"
+        def response = controller.submitJob(new GenerateTaxYearSummaryRequest(UUID.randomUUID(), 2025))
+
+        then: "the response is 429 with a retry hint"
+        response.statusCode == HttpStatus.TOO_MANY_REQUESTS
+        response.headers.getFirst(HttpHeaders.RETRY_AFTER) == "5"
+    }
+
+    def "should return 400 when submitting a job with invalid data"() {
+        when: "submitting a job for an invalid tax year"
+        def response = controller.submitJob(new GenerateTaxYearSummaryRequest(UUID.randomUUID(), 1900))
+
+        then: "the response is 400 Bad Request"
+        response.statusCode == HttpStatus.BAD_REQUEST
+        0 * taxYearSummaryJobApplicationService.submit(_)
+    }
+
+    def "should report a finished job with a link to its summary"() {
+        given: "a succeeded job"
+        def summaryId = TaxYearSummaryId.generate()
+        def job = TaxYearSummaryJob.queued(
+                new GenerateTaxYearSummaryCommand(UserId.generate(), TaxYear.of(2025)),
+                java.time.Instant.now()
+        ).succeeded(summaryId, java.time.Instant.now())
+        taxYearSummaryJobApplicationService.findById(job.id()) >> Optional.of(job)
+
+        when: "polling the job"
+        def response = controller.getJob(job.id().value().toString())
+
+        then: "the response links to the summary"
+        response.statusCode == HttpStatus.OK
+        response.body.status() == "SUCCEEDED"
+        response.body.summaryId() == summaryId.value().toString()
+        response.body.summaryLocation() == "/api/tax-year-summaries/${summaryId.value()}"
+    }
+
+    def "should return 404 for an unknown job"() {
+        given: "no such job"
+        taxYearSummaryJobApplicationService.findById(_) >> Optional.empty()
+
+        when: "polling the job"
+        def response = controller.getJob(UUID.randomUUID().toString())
+
+        then: "the response is 404 Not Found"
+        response.statusCode == HttpStatus.NOT_FOUND
+    }
+
+    def "should return 400 for a malformed job ID"() {
+        when: "polling with an invalid ID"
+        def response = controller.getJob("not-a-uuid")
+
+        then: "the response is 400 Bad Request"
+        response.statusCode == HttpStatus.BAD_REQUEST
     }
 
     def "should generate new tax year summary"() {
@@ -52,6 +142,35 @@ class TaxYearSummaryControllerUnitSpec extends Specification {
         response.statusCode == HttpStatus.BAD_REQUEST
     }
 
+    def "should rebuild tax year totals"() {
+        given: "a rebuild request"
+        def userId = UUID.randomUUID()
+        def request = new RebuildTaxYearTotalsRequest(userId, 2025)
+
+        when: "rebuilding the totals"
+        def response = controller.rebuildTotals(request)
+
+        then: "the application service rebuilds the requested tax year"
+        1 * taxYearSummaryApplicationService.rebuildTotals({
+            it.userId() == UserId.of(userId) && it.taxYear() == TaxYear.of(2025)
+        })
+
+        and: "the response is 204 No Content"
+        response.statusCode == HttpStatus.NO_CONTENT
+    }
+
+    def "should return 400 when rebuild request has invalid tax year"() {
+        given: "a request with a tax year out of range"
+        def request = new RebuildTaxYearTotalsRequest(UUID.randomUUID(), 1900)
+
+        when: "rebuilding the totals"
+        def response = controller.rebuildTotals(request)
+
+        then: "the response is 400 Bad Request"
+        response.statusCode == HttpStatus.BAD_REQUEST
+        0 * taxYearSummaryApplicationService.rebuildTotals(_)
+    }
+
     def "should retrieve tax year summary by ID"() {
         given: "an existing summary"
         def summaryId = TaxYearSummaryId.generate()
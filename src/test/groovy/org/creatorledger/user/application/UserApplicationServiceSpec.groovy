@@ -27,10 +27,9 @@ class UserApplicationServiceSpec extends Specification {
         def userId = service.register(command)
 
         then: "the user is saved via repository"
-        1 * userRepository.save(_) >> { User user ->
+        1 * userRepository.add(_) >> { User user ->
             assert user != null
             assert user.email() == Email.of("user@example.com")
-            return user
         }
 
         and: "the user ID is returned"
@@ -45,7 +44,7 @@ class UserApplicationServiceSpec extends Specification {
         service.register(command)
 
         then: "the user is saved"
-        1 * userRepository.save(_) >> { User user -> user }
+        1 * userRepository.add(_)
 
         and: "UserRegistered event is published"
         1 * eventPublisher.publishEvent(_) >> { arguments ->
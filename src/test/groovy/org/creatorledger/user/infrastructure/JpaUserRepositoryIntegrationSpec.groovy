@@ -114,4 +114,16 @@ class JpaUserRepositoryIntegrationSpec extends Specification {
         retrieved.isPresent()
         retrieved.get().email() == Email.of("updated@example.com")
     }
+
+    def "should find all user IDs"() {
+        given: "two saved users"
+        def first = repository.save(User.register(Email.of("first@example.com")))
+        def second = repository.save(User.register(Email.of("second@example.com")))
+
+        when: "finding all user IDs"
+        def ids = repository.findAllIds()
+
+        then: "both users are included"
+        ids.containsAll([first.id(), second.id()])
+    }
 }
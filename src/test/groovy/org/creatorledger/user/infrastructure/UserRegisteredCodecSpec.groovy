@@ -0,0 +1,40 @@
+package org.creatorledger.user.infrastructure
+
+import org.creatorledger.common.EventInput
+import org.creatorledger.common.EventOutput
+import org.creatorledger.user.api.UserId
+import org.creatorledger.user.domain.Email
+import org.creatorledger.user.domain.UserRegistered
+import spock.lang.Specification
+
+import java.time.Instant
+
+class UserRegisteredCodecSpec extends Specification {
+
+    def codec = new UserRegisteredCodec()
+
+    def event = new UserRegistered(UserId.generate(), Email.of("jo@example.com"), Instant.parse("2026-10-17T09:15:30Z"))
+
+    def "should read back the event it wrote"() {
+        given: "the event written by the codec"
+        def output = new EventOutput()
+        codec.write(event, output)
+
+        when: "reading it back"
+        def input = new EventInput(output.toByteArray(), 0)
+        def read = codec.read(codec.schemaVersion(), input)
+
+        then: "every field is unchanged and nothing is left over"
+        read == event
+        input.isExhausted()
+    }
+
+    def "should reject an unknown schema version"() {
+        when: "reading a version it never wrote"
+        codec.read(99, new EventInput(new byte[0], 0))
+
+        then: "an exception is thrown"
+        def exception = thrown(IllegalArgumentException)
+        exception.message == "Unknown UserRegistered schema version 99"
+    }
+}